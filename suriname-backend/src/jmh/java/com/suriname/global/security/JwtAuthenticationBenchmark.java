@@ -0,0 +1,110 @@
+package com.suriname.global.security;
+
+import com.suriname.SurinameApplication;
+import com.suriname.employee.entity.Employee;
+import com.suriname.employee.repository.EmployeeRepository;
+import com.suriname.global.security.cache.JwtAuthenticationCache;
+import com.suriname.global.security.principal.EmployeeDetails;
+import com.suriname.global.security.principal.JwtAuthenticationToken;
+import com.suriname.global.security.provider.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.Authentication;
+
+import java.security.Key;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 의 인증 처리 비용 비교 (./gradlew jmh)
+ * - legacy: 변경 전 코드 (검증용 파싱 + 조회용 파싱, 매번 파서 생성, 직원 조회)
+ * - singleParse: 파싱 1회 + 직원 조회 (캐시 미스 경로)
+ * - cached: JwtAuthenticationCache 적중 경로
+ * H2(test 프로파일) 위에서 실행하므로 조회 비용은 실제 MySQL 왕복보다 작게 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache jwtAuthenticationCache;
+    private EmployeeRepository employeeRepository;
+    private Key key;
+    private Employee employee;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SurinameApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        jwtAuthenticationCache = context.getBean(JwtAuthenticationCache.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(context.getEnvironment().getProperty("jwt.secret")));
+
+        String loginId = "bench-" + UUID.randomUUID().toString().substring(0, 8);
+        employee = employeeRepository.save(Employee.builder()
+                .loginId(loginId).password("bench").name("벤치").email("bench@suriname.com")
+                .address("서울시").phone("010-0000-0000").birth(LocalDate.of(1990, 1, 1))
+                .role(Employee.Role.STAFF)
+                .build());
+        token = jwtTokenProvider.createToken(loginId, Employee.Role.STAFF.name());
+        jwtAuthenticationCache.authenticate(token);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        employeeRepository.delete(employee);
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        try {
+            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        String loginId = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody().getSubject();
+        Employee found = employeeRepository.findByLoginId(loginId).orElseThrow();
+        EmployeeDetails details = EmployeeDetails.of(found);
+        return new JwtAuthenticationToken(details, null, details.getAuthorities());
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        return jwtTokenProvider.toAuthentication(jwtTokenProvider.loadEmployeeDetails(claims.getSubject()));
+    }
+
+    @Benchmark
+    public Authentication cached() {
+        return jwtAuthenticationCache.authenticate(token);
+    }
+}
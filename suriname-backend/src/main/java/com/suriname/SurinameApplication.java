@@ -1,5 +1,6 @@
 package com.suriname;
 
+import com.suriname.global.startup.StartupRecording;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -17,7 +18,9 @@ public class SurinameApplication {
     private static final String STARTED_AT = Instant.now().toString();
 
     public static void main(String[] args) {
-        SpringApplication.run(SurinameApplication.class, args);
+        SpringApplication application = new SpringApplication(SurinameApplication.class);
+        application.setApplicationStartup(StartupRecording.applicationStartup(args));
+        application.run(args);
     }
 
     @PostConstruct
@@ -1,5 +1,6 @@
 package com.suriname.admin;
 
+import com.suriname.global.cache.DashboardCaches;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 public class MainService {
 
     private final MainRepository repo;
+    private final DashboardCaches dashboardCaches;
     private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter HHMM = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -39,6 +41,14 @@ public class MainService {
     }
 
     public TodayResponse getToday() {
+        return dashboardCaches.get(DashboardCaches.MAIN_TODAY, this::loadToday);
+    }
+
+    public WeekResponse getWeek() {
+        return dashboardCaches.get(DashboardCaches.MAIN_WEEK, this::loadWeek);
+    }
+
+    private TodayResponse loadToday() {
         LocalDateTime start = startOfToday();
         LocalDateTime end = endOfDay(start);
 
@@ -75,7 +85,7 @@ public class MainService {
                 .build();
     }
 
-    public WeekResponse getWeek() {
+    private WeekResponse loadWeek() {
         LocalDateTime start = startOfThisWeekMonday();
         LocalDateTime end   = startOfNextWeekMonday();
 
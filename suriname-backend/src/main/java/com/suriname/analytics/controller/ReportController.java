@@ -0,0 +1,47 @@
+package com.suriname.analytics.controller;
+
+import com.suriname.analytics.dto.ReportArchiveDTO;
+import com.suriname.analytics.service.ReportSchedulerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+// 보관된 일일 통계 리포트 조회/다운로드 (요청 시 다시 생성하지 않음)
+@RestController
+@RequestMapping("/api/analytics/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    private final ReportSchedulerService reportSchedulerService;
+
+    // 보관 목록 (최신 일자 순)
+    @GetMapping
+    public ResponseEntity<List<ReportArchiveDTO>> getReports() {
+        return ResponseEntity.ok(reportSchedulerService.findAll());
+    }
+
+    // 일자별 리포트 PDF 다운로드
+    @GetMapping("/{date}")
+    public ResponseEntity<Resource> download(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return reportSchedulerService.findArchivedFile(date)
+                .<ResponseEntity<Resource>>map(path -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_PDF)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(path.getFileName().toString(), StandardCharsets.UTF_8)
+                                .build().toString())
+                        .body(new FileSystemResource(path)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
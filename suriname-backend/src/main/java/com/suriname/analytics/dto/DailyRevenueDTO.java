@@ -0,0 +1,8 @@
+package com.suriname.analytics.dto;
+
+import java.time.LocalDate;
+
+public record DailyRevenueDTO(
+        LocalDate date,
+        long revenue
+) {}
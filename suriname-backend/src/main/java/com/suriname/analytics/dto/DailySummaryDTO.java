@@ -0,0 +1,10 @@
+package com.suriname.analytics.dto;
+
+// 일일 리포트 요약 (해당 일자 접수 건 기준, 상태는 현재 상태)
+public record DailySummaryDTO(
+        long receivedCount,
+        long uncompletedCount,
+        double completedRatio,
+        long revenue,
+        double averageRepairCost
+) {}
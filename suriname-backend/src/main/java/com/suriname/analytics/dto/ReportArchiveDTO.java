@@ -0,0 +1,19 @@
+package com.suriname.analytics.dto;
+
+import com.suriname.analytics.entity.ReportArchive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record ReportArchiveDTO(
+        LocalDate reportDate,
+        long fileSize,
+        long requestCount,
+        int pageCount,
+        LocalDateTime generatedAt
+) {
+    public static ReportArchiveDTO from(ReportArchive archive) {
+        return new ReportArchiveDTO(archive.getReportDate(), archive.getFileSize(),
+                archive.getRequestCount(), archive.getPageCount(), archive.getGeneratedAt());
+    }
+}
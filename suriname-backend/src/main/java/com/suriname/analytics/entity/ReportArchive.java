@@ -0,0 +1,54 @@
+package com.suriname.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 생성된 일일 리포트 PDF 보관 목록 (일자당 1건, 재생성 시 갱신)
+@Entity
+@Table(name = "report_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_archive_date", columnNames = "report_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReportArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long reportId;
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    // 보관 디렉터리 기준 상대 경로 (yyyy/MM/report_yyyy-MM-dd.pdf)
+    @Column(name = "file_path", nullable = false, length = 255)
+    private String filePath;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // 리포트에 포함된 해당 일자 접수 건수
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    @Column(name = "page_count", nullable = false)
+    private int pageCount;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    public ReportArchive(LocalDate reportDate) {
+        this.reportDate = reportDate;
+    }
+
+    public void update(String filePath, long fileSize, long requestCount, int pageCount) {
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.requestCount = requestCount;
+        this.pageCount = pageCount;
+        this.generatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,50 @@
+package com.suriname.analytics.entity;
+
+import com.suriname.request.entity.Request;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 접수일(created_at 기준) x 현재 상태별 요청 건수 / 매출 집계
+@Entity
+@Table(name = "request_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_date_status", columnNames = {"stat_date", "status"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RequestDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Request.Status status;
+
+    // 해당 일자에 접수되어 현재 이 상태인 요청 수
+    @Column(name = "request_count", nullable = false)
+    private long requestCount;
+
+    // 완료 요청의 수리비 합계 (COMPLETED 행에만 쌓임)
+    @Column(nullable = false)
+    private long revenue;
+
+    // 수리비 내역이 있는 완료 요청 수 (평균 수리비 계산용)
+    @Column(name = "revenue_request_count", nullable = false)
+    private long revenueRequestCount;
+
+    public RequestDailyRollup(LocalDate statDate, Request.Status status,
+                              long requestCount, long revenue, long revenueRequestCount) {
+        this.statDate = statDate;
+        this.status = status;
+        this.requestCount = requestCount;
+        this.revenue = revenue;
+        this.revenueRequestCount = revenueRequestCount;
+    }
+}
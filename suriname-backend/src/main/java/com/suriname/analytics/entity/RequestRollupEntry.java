@@ -0,0 +1,53 @@
+package com.suriname.analytics.entity;
+
+import com.suriname.request.entity.Request;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 요청 1건이 request_daily_rollup 에 현재 반영된 값 (상태가 바뀌거나 삭제될 때 이 값만큼 정확히 되돌림)
+@Entity
+@Table(name = "request_rollup_entry")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RequestRollupEntry {
+
+    // request 삭제 후에도 되돌릴 수 있도록 FK 없이 id 만 보관
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Request.Status status;
+
+    // 완료 상태로 들어올 때 더한 수리비
+    @Column(nullable = false)
+    private long revenue;
+
+    // 수리비 내역이 있어 평균 수리비에 포함되었는지
+    @Column(nullable = false)
+    private boolean costed;
+
+    public RequestRollupEntry(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    public boolean sameAs(LocalDate statDate, Request.Status status, long revenue, boolean costed) {
+        return statDate.equals(this.statDate) && status == this.status
+                && revenue == this.revenue && costed == this.costed;
+    }
+
+    public void update(LocalDate statDate, Request.Status status, long revenue, boolean costed) {
+        this.statDate = statDate;
+        this.status = status;
+        this.revenue = revenue;
+        this.costed = costed;
+    }
+}
@@ -0,0 +1,56 @@
+package com.suriname.analytics.listener;
+
+import com.suriname.analytics.service.RequestRollupService;
+import com.suriname.request.entity.RequestStatusChangedEvent;
+import com.suriname.request.entity.RequestsDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 집계 갱신 실패가 요청 처리 트랜잭션을 롤백시키지 않도록 커밋 이후 별도 트랜잭션에서 반영
+// (누락분은 RequestRollupScheduler 의 재집계로 보정)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestRollupListener {
+
+    // 같은 일자/상태 행을 동시에 처음 만들거나 같은 요청을 동시에 반영할 때의 충돌 재시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RequestRollupService requestRollupService;
+
+    // 대시보드 캐시 무효화(DashboardCacheInvalidator)보다 먼저 반영
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RequestStatusChangedEvent e) {
+        reconcile(e.requestId());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RequestsDeletedEvent e) {
+        e.requestIds().forEach(this::reconcile);
+    }
+
+    private void reconcile(Long requestId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                requestRollupService.reconcile(requestId);
+                return;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException ex) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("요청 일자별 집계 반영 실패 requestId={} ({}회 충돌)", requestId, attempt, ex);
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("요청 일자별 집계 반영 실패 requestId={}", requestId, ex);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.suriname.analytics.report;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 리포트용 한글 폰트.
+ * PdfFont 는 문서에 묶이므로 문서마다 새로 만들지만, 파싱한 폰트 프로그램은 한 번만 읽어 재사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportFontCache {
+
+    // font-asian 에 포함된 한글 CJK 폰트 (임베드하지 않음)
+    private static final String FALLBACK_FONT = "HYGoThic-Medium";
+    private static final String FALLBACK_ENCODING = "UniKS-UCS2-H";
+
+    private final ReportProperties properties;
+
+    private volatile FontProgram fontProgram;
+    private volatile String encoding;
+
+    public PdfFont newFont() throws IOException {
+        FontProgram program = fontProgram;
+        if (program == null) {
+            program = load();
+        }
+        return PdfFontFactory.createFont(program, encoding, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+    }
+
+    private synchronized FontProgram load() throws IOException {
+        if (fontProgram != null) return fontProgram;
+
+        byte[] bytes = readFont(properties.getFontPath());
+        if (bytes != null) {
+            encoding = PdfEncodings.IDENTITY_H;
+            fontProgram = FontProgramFactory.createFont(bytes);
+        } else {
+            log.warn("리포트 폰트를 찾을 수 없어 내장 한글 폰트를 사용합니다: {}", properties.getFontPath());
+            encoding = FALLBACK_ENCODING;
+            fontProgram = FontProgramFactory.createFont(FALLBACK_FONT);
+        }
+        return fontProgram;
+    }
+
+    private static byte[] readFont(String location) throws IOException {
+        Path path = Path.of(location);
+        if (Files.isRegularFile(path)) {
+            return Files.readAllBytes(path);
+        }
+        ClassPathResource resource = new ClassPathResource(location);
+        if (resource.exists()) {
+            try (InputStream in = resource.getInputStream()) {
+                return in.readAllBytes();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.suriname.analytics.report;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "report")
+public class ReportProperties {
+
+    // 리포트 보관 디렉터리 ({archive-dir}/yyyy/MM/report_yyyy-MM-dd.pdf)
+    private String archiveDir = "reports";
+
+    // 한글 TTF 폰트 (파일 경로 또는 클래스패스), 없으면 iText 내장 한글 폰트 사용
+    private String fontPath = "fonts/NotoSansKR-Regular.ttf";
+
+    // 요청 목록을 DB 에서 읽어 올 때의 fetch size (MySQL 은 StreamingFetchSize 로 한 행씩 스트리밍)
+    private int fetchSize = 1000;
+
+    // 요청 목록 표를 이 행 수마다 페이지로 내보내고 메모리에서 비움
+    private int flushRows = 500;
+}
@@ -0,0 +1,194 @@
+package com.suriname.analytics.report;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
+import com.suriname.analytics.dto.CategoryAsCountDTO;
+import com.suriname.analytics.dto.DailyRevenueDTO;
+import com.suriname.analytics.dto.DailySummaryDTO;
+import com.suriname.analytics.dto.EmployeeStatsDTO;
+import com.suriname.analytics.service.AnalyticsService;
+import com.suriname.global.jdbc.StreamingFetchSize;
+import com.suriname.request.entity.Request;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 일일 통계 리포트 PDF 렌더러.
+ * 요약/기사별/매출/카테고리 표는 해당 일자(매출은 그 일자까지 최근 REVENUE_DAYS 일) 접수분만 집계하므로
+ * 지난 일자를 다시 만들어도 그 뒤 접수분이 섞이지 않는다. 해당 일자 접수 목록은 DB 에서 한 행씩 읽어
+ * iText 대용량 표(largeTable)에 추가한 뒤 flushRows 마다 페이지로 내보내므로 건수가 늘어도 메모리가 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportRenderer {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int REVENUE_DAYS = 30;
+
+    private final EntityManager em;
+    private final AnalyticsService analyticsService;
+    private final ReportFontCache reportFontCache;
+    private final ReportProperties properties;
+    private final StreamingFetchSize streamingFetchSize;
+
+    public record Result(long requestCount, int pageCount) {}
+
+    @Transactional(readOnly = true)
+    public Result render(LocalDate date, OutputStream out) throws IOException {
+        PdfDocument pdf = new PdfDocument(new PdfWriter(out, new WriterProperties().setFullCompressionMode(true)));
+        // immediateFlush: 배치가 끝난 페이지는 바로 출력 스트림으로 내보냄
+        try (Document document = new Document(pdf, PageSize.A4.rotate(), true)) {
+            document.setFont(reportFontCache.newFont());
+            document.setFontSize(9);
+
+            document.add(new Paragraph("통합 통계 리포트 (" + date + ")").setBold().setFontSize(18));
+            summary(document, analyticsService.getDailySummary(date));
+            engineers(document, analyticsService.getEmployeeStats(date));
+            revenue(document, analyticsService.getDailyRevenue(date.minusDays(REVENUE_DAYS - 1), date));
+            categories(document, analyticsService.getCategoryAsCount(date));
+
+            document.add(new AreaBreak());
+            long count = requests(document, date);
+            return new Result(count, pdf.getNumberOfPages());
+        }
+    }
+
+    private void summary(Document document, DailySummaryDTO stats) {
+        Table table = table(new float[]{1, 1, 1, 1, 1},
+                "접수", "미완료", "완료율", "매출", "평균 수리비");
+        table.addCell(String.valueOf(stats.receivedCount()));
+        table.addCell(String.valueOf(stats.uncompletedCount()));
+        table.addCell(String.format("%.1f%%", stats.completedRatio()));
+        table.addCell(String.format("%,d", stats.revenue()));
+        table.addCell(String.format("%,.0f", stats.averageRepairCost()));
+        document.add(table);
+    }
+
+    private void engineers(Document document, List<EmployeeStatsDTO> rows) {
+        document.add(new Paragraph("수리 기사별 성과 (당일 접수)").setBold().setFontSize(12));
+        Table table = table(new float[]{3, 2, 2, 2, 2, 2},
+                "기사", "배정", "완료", "완료율", "평균 처리 시간(h)", "평균 평점");
+        for (EmployeeStatsDTO row : rows) {
+            table.addCell(text(row.employeeName()));
+            table.addCell(String.valueOf(row.assignedCount()));
+            table.addCell(String.valueOf(row.completedCount()));
+            // 기사별 완료율은 0~1 비율
+            table.addCell(String.format("%.1f%%", row.completionRate() * 100));
+            table.addCell(String.format("%.1f", row.averageCompletionHours()));
+            table.addCell(row.averageRating() != null ? String.format("%.2f", row.averageRating()) : "-");
+        }
+        document.add(table);
+    }
+
+    private void revenue(Document document, List<DailyRevenueDTO> rows) {
+        document.add(new Paragraph("일별 매출 (최근 " + REVENUE_DAYS + "일 접수분)").setBold().setFontSize(12));
+        Table table = table(new float[]{1, 3}, "접수일", "매출");
+        for (DailyRevenueDTO row : rows) {
+            table.addCell(row.date().toString());
+            table.addCell(String.format("%,d", row.revenue()));
+        }
+        document.add(table);
+    }
+
+    private void categories(Document document, List<CategoryAsCountDTO> rows) {
+        document.add(new Paragraph("제품별 A/S 건수 (당일 접수)").setBold().setFontSize(12));
+        Table table = table(new float[]{3, 1}, "카테고리", "건수");
+        for (CategoryAsCountDTO row : rows) {
+            table.addCell(text(row.category()));
+            table.addCell(String.valueOf(row.count()));
+        }
+        document.add(table);
+    }
+
+    // 해당 일자 접수 목록 (DB 커서로 읽으며 flushRows 마다 표를 내보냄)
+    private long requests(Document document, LocalDate date) {
+        document.add(new Paragraph(date + " 접수 목록").setBold().setFontSize(12));
+        Table table = new Table(UnitValue.createPercentArray(new float[]{3, 2, 1, 2, 3, 2, 2, 2}), true)
+                .setWidth(UnitValue.createPercentValue(100));
+        for (String header : List.of("접수번호", "접수일시", "상태", "고객명", "제품명", "모델코드", "담당 기사", "완료일시")) {
+            table.addHeaderCell(new Cell().add(new Paragraph(header).setBold()));
+        }
+        document.add(table);
+
+        long count = 0;
+        try (Stream<Tuple> rows = em.createQuery("""
+                        select r.requestNo, r.createdAt, r.status, c.name, p.productName, p.modelCode,
+                               e.name, r.completedAt
+                        from Request r
+                          join r.customer c
+                          join r.customerProduct cp
+                          join cp.product p
+                          left join r.employee e
+                        where r.createdAt >= :from and r.createdAt < :to
+                        order by r.requestId
+                        """, Tuple.class)
+                .setParameter("from", date.atStartOfDay())
+                .setParameter("to", date.plusDays(1).atStartOfDay())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize.of(properties.getFetchSize()))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Tuple row : (Iterable<Tuple>) rows::iterator) {
+                table.addCell(text(row.get(0)));
+                table.addCell(dateTime(row.get(1, LocalDateTime.class)));
+                table.addCell(statusLabel(row.get(2, Request.Status.class)));
+                table.addCell(text(row.get(3)));
+                table.addCell(text(row.get(4)));
+                table.addCell(text(row.get(5)));
+                table.addCell(text(row.get(6)));
+                table.addCell(dateTime(row.get(7, LocalDateTime.class)));
+                if (++count % properties.getFlushRows() == 0) {
+                    table.flush();
+                }
+            }
+        }
+        table.complete();
+        return count;
+    }
+
+    private static Table table(float[] widths, String... headers) {
+        Table table = new Table(UnitValue.createPercentArray(widths)).setWidth(UnitValue.createPercentValue(100));
+        for (String header : headers) {
+            table.addHeaderCell(new Cell().add(new Paragraph(header).setBold()));
+        }
+        return table;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "-";
+    }
+
+    private static String dateTime(LocalDateTime value) {
+        return value != null ? value.format(DATE_TIME) : "-";
+    }
+
+    private static String statusLabel(Request.Status status) {
+        if (status == null) return "-";
+        return switch (status) {
+            case RECEIVED -> "접수";
+            case REPAIRING -> "수리중";
+            case WAITING_FOR_PAYMENT -> "입금대기";
+            case WAITING_FOR_DELIVERY -> "배송대기";
+            case COMPLETED -> "완료";
+        };
+    }
+}
@@ -16,6 +16,11 @@ import java.util.List;
 @Repository
 public interface CustomAnalyticsRepository extends JpaRepository<Request, Long> {
 
+    interface CategoryCountRow {
+        String getCategory();
+        Long getCount();
+    }
+
     Long countByStatus(Request.Status status);
 
     // 전체 접수 건수
@@ -150,4 +155,37 @@ public interface CustomAnalyticsRepository extends JpaRepository<Request, Long>
         ORDER BY assignedCount DESC;
         """, nativeQuery = true)
     List<Object[]> getEmployeeStatsRaw();
+
+    // 일일 리포트 - 카테고리별 A/S 건수 (from <= 접수일시 < to)
+    @Query(value = """
+        SELECT c.name AS category, COUNT(r.request_id) AS count
+        FROM request r
+        JOIN customer_product cp ON r.customer_product_id = cp.customer_product_id
+        JOIN product p ON cp.product_id = p.product_id
+        JOIN category c ON p.category_id = c.category_id
+        WHERE r.created_at >= :from AND r.created_at < :to
+        GROUP BY c.category_id, c.name
+        ORDER BY count DESC
+        """, nativeQuery = true)
+    List<CategoryCountRow> getCategoryAsCountBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 일일 리포트 - 기사별 성과 (from <= 접수일시 < to 에 접수된 요청, 처리 시간은 접수 ~ 완료)
+    @Query(value = """
+        SELECT
+            e.employee_id AS employeeId,
+            e.name AS employeeName,
+            COUNT(r.request_id) AS assignedCount,
+            SUM(CASE WHEN r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount,
+            ROUND(SUM(CASE WHEN r.status = 'COMPLETED' THEN 1 ELSE 0 END) * 1.0 / COUNT(r.request_id), 2) AS completionRate,
+            COALESCE(AVG(CASE WHEN r.status = 'COMPLETED' AND r.completed_at IS NOT NULL
+                              THEN TIMESTAMPDIFF(HOUR, r.created_at, r.completed_at) END), 0) AS averageCompletionHours,
+            ROUND(AVG(s.rating), 2) AS averageRating
+        FROM request r
+        JOIN employee e ON e.employee_id = r.employee_id
+        LEFT JOIN satisfaction s ON r.request_id = s.request_id
+        WHERE r.created_at >= :from AND r.created_at < :to
+        GROUP BY e.employee_id, e.name
+        ORDER BY assignedCount DESC
+        """, nativeQuery = true)
+    List<Object[]> getEmployeeStatsRawBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
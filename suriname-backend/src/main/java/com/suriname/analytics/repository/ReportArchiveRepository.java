@@ -0,0 +1,17 @@
+package com.suriname.analytics.repository;
+
+import com.suriname.analytics.entity.ReportArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportArchiveRepository extends JpaRepository<ReportArchive, Long> {
+
+    Optional<ReportArchive> findByReportDate(LocalDate reportDate);
+
+    List<ReportArchive> findAllByOrderByReportDateDesc();
+}
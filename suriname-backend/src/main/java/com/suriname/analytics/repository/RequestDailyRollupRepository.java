@@ -0,0 +1,174 @@
+package com.suriname.analytics.repository;
+
+import com.suriname.analytics.entity.RequestDailyRollup;
+import com.suriname.request.entity.Request;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RequestDailyRollupRepository extends JpaRepository<RequestDailyRollup, Long> {
+
+    interface SummaryRow {
+        Long getTotal();
+        Long getToday();
+        Long getUncompleted();
+        Long getCompleted();
+        Long getRevenue();
+        Long getRevenueRequests();
+    }
+
+    interface DaySummaryRow {
+        Long getReceived();
+        Long getUncompleted();
+        Long getCompleted();
+        Long getRevenue();
+        Long getRevenueRequests();
+    }
+
+    interface DailyRevenueRow {
+        LocalDate getStatDate();
+        Long getRevenue();
+    }
+
+    interface StatusRow {
+        String getStatus();
+        Long getCount();
+    }
+
+    interface RevenueRow {
+        Integer getLabel();
+        BigDecimal getRevenue();
+    }
+
+    interface RepairCostRow {
+        Long getDetailCount();
+        Long getTotalCost();
+    }
+
+    // 상태 전이 반영 (행이 없으면 0 반환 → 호출 측에서 insert)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update RequestDailyRollup r
+           set r.requestCount = r.requestCount + :countDelta,
+               r.revenue = r.revenue + :revenueDelta,
+               r.revenueRequestCount = r.revenueRequestCount + :revenueCountDelta
+         where r.statDate = :statDate
+           and r.status = :status
+    """)
+    int increment(@Param("statDate") LocalDate statDate,
+                  @Param("status") Request.Status status,
+                  @Param("countDelta") long countDelta,
+                  @Param("revenueDelta") long revenueDelta,
+                  @Param("revenueCountDelta") long revenueCountDelta);
+
+    // 카드형 통계
+    @Query(value = """
+        SELECT
+            COALESCE(SUM(request_count), 0) AS total,
+            COALESCE(SUM(CASE WHEN stat_date = :today THEN request_count ELSE 0 END), 0) AS today,
+            COALESCE(SUM(CASE WHEN status <> 'COMPLETED' THEN request_count ELSE 0 END), 0) AS uncompleted,
+            COALESCE(SUM(CASE WHEN status = 'COMPLETED' THEN request_count ELSE 0 END), 0) AS completed,
+            COALESCE(SUM(revenue), 0) AS revenue,
+            COALESCE(SUM(revenue_request_count), 0) AS revenueRequests
+        FROM request_daily_rollup
+        """, nativeQuery = true)
+    SummaryRow getSummary(@Param("today") LocalDate today);
+
+    // 일일 리포트 요약 (해당 일자 접수분만)
+    @Query(value = """
+        SELECT
+            COALESCE(SUM(request_count), 0) AS received,
+            COALESCE(SUM(CASE WHEN status <> 'COMPLETED' THEN request_count ELSE 0 END), 0) AS uncompleted,
+            COALESCE(SUM(CASE WHEN status = 'COMPLETED' THEN request_count ELSE 0 END), 0) AS completed,
+            COALESCE(SUM(revenue), 0) AS revenue,
+            COALESCE(SUM(revenue_request_count), 0) AS revenueRequests
+        FROM request_daily_rollup
+        WHERE stat_date = :date
+        """, nativeQuery = true)
+    DaySummaryRow getSummaryOn(@Param("date") LocalDate date);
+
+    // 일일 리포트 매출 추이 (from ~ to 접수분, 일자별)
+    @Query("""
+        select r.statDate as statDate, sum(r.revenue) as revenue
+        from RequestDailyRollup r
+        where r.status = com.suriname.request.entity.Request.Status.COMPLETED
+          and r.revenueRequestCount > 0
+          and r.statDate between :from and :to
+        group by r.statDate
+        order by r.statDate
+    """)
+    List<DailyRevenueRow> getDailyRevenueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 도넛 그래프 (처리 단계별 현황)
+    @Query(value = """
+        SELECT status, SUM(request_count) AS count
+        FROM request_daily_rollup
+        GROUP BY status
+        """, nativeQuery = true)
+    List<StatusRow> getStatusDistribution();
+
+    // 매출 추이 - 일별
+    @Query(value = """
+        SELECT DAY(stat_date) AS label, COALESCE(SUM(revenue), 0) AS revenue
+        FROM request_daily_rollup
+        WHERE status = 'COMPLETED' AND revenue_request_count > 0
+        GROUP BY stat_date
+        ORDER BY stat_date ASC
+        """, nativeQuery = true)
+    List<RevenueRow> getDailyRevenue();
+
+    // 매출 추이 - 월별
+    @Query(value = """
+        SELECT MONTH(stat_date) AS label, COALESCE(SUM(revenue), 0) AS revenue
+        FROM request_daily_rollup
+        WHERE status = 'COMPLETED' AND revenue_request_count > 0
+        GROUP BY YEAR(stat_date), MONTH(stat_date)
+        ORDER BY YEAR(stat_date) ASC, MONTH(stat_date) ASC
+        """, nativeQuery = true)
+    List<RevenueRow> getMonthlyRevenue();
+
+    // 매출 추이 - 연별 (최근 5년)
+    @Query(value = """
+        SELECT YEAR(stat_date) AS label, COALESCE(SUM(revenue), 0) AS revenue
+        FROM request_daily_rollup
+        WHERE status = 'COMPLETED' AND revenue_request_count > 0
+          AND stat_date >= DATE_SUB(CURDATE(), INTERVAL 5 YEAR)
+        GROUP BY YEAR(stat_date)
+        ORDER BY YEAR(stat_date)
+        """, nativeQuery = true)
+    List<RevenueRow> getYearlyRevenue();
+
+    // 단건 요청의 수리비 합계
+    @Query(value = """
+        SELECT COUNT(*) AS detailCount, COALESCE(SUM(rd.cost), 0) AS totalCost
+        FROM request_detail rd
+        WHERE rd.requests_id = :requestId
+        """, nativeQuery = true)
+    RepairCostRow getRepairCost(@Param("requestId") Long requestId);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_daily_rollup", nativeQuery = true)
+    void deleteAllRows();
+
+    // 요청별 반영값(request_rollup_entry)으로부터 전체 재집계
+    @Modifying
+    @Query(value = """
+        INSERT INTO request_daily_rollup (stat_date, status, request_count, revenue, revenue_request_count)
+        SELECT
+            stat_date,
+            status,
+            COUNT(*),
+            COALESCE(SUM(revenue), 0),
+            COUNT(CASE WHEN costed THEN 1 END)
+        FROM request_rollup_entry
+        GROUP BY stat_date, status
+        """, nativeQuery = true)
+    int rebuildFromEntries();
+}
@@ -0,0 +1,45 @@
+package com.suriname.analytics.repository;
+
+import com.suriname.analytics.entity.RequestRollupEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RequestRollupEntryRepository extends JpaRepository<RequestRollupEntry, Long> {
+
+    // 같은 요청의 반영을 순서대로 처리하도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from RequestRollupEntry e where e.requestId = :requestId")
+    Optional<RequestRollupEntry> findForUpdate(@Param("requestId") Long requestId);
+
+    @Modifying
+    @Query(value = "DELETE FROM request_rollup_entry", nativeQuery = true)
+    void deleteAllRows();
+
+    // request / request_detail 원본으로부터 요청별 반영값 재생성
+    @Modifying
+    @Query(value = """
+        INSERT INTO request_rollup_entry (request_id, stat_date, status, revenue, costed)
+        SELECT
+            r.request_id,
+            CAST(r.created_at AS DATE),
+            r.status,
+            CASE WHEN r.status = 'COMPLETED' THEN COALESCE(d.total_cost, 0) ELSE 0 END,
+            CASE WHEN r.status = 'COMPLETED' AND d.requests_id IS NOT NULL THEN TRUE ELSE FALSE END
+        FROM request r
+        LEFT JOIN (
+            SELECT requests_id, SUM(cost) AS total_cost
+            FROM request_detail
+            GROUP BY requests_id
+        ) d ON d.requests_id = r.request_id
+        WHERE r.created_at IS NOT NULL
+        """, nativeQuery = true)
+    int rebuildFromRequests();
+}
@@ -2,24 +2,29 @@ package com.suriname.analytics.scheduler;
 
 import com.suriname.analytics.service.EmailService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.suriname.analytics.service.ReportSchedulerService;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReportScheduler {
     private final ReportSchedulerService reportSchedulerService;
     private final EmailService emailService;
 
-    // 매일 오전 9시에 PDF 생성
+    // 매일 오전 9시에 전날 PDF 생성
     @Scheduled(cron = "0 0 9 * * ?")
     // 테스트용 2분 간격 스케줄링
 //    @Scheduled(cron = "0 */2 * * * ?")
     public void generateDailyReport() {
-        reportSchedulerService.createStatisticsReportPdf();
-        String filePath = "report_" + java.time.LocalDate.now() + ".pdf";
-//        emailService.sendReportEmail(filePath, "[받는 쪽 메일 주소]");
+        try {
+            reportSchedulerService.createStatisticsReportPdf();
+//            emailService.sendReportEmail(reportSchedulerService.findArchivedFile(LocalDate.now().minusDays(1)).orElseThrow().toString(), "[받는 쪽 메일 주소]");
+        } catch (Exception e) {
+            log.error("PDF 리포트 생성 중 오류 발생", e);
+        }
     }
 }
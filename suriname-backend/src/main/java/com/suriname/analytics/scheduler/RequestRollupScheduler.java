@@ -0,0 +1,30 @@
+package com.suriname.analytics.scheduler;
+
+import com.suriname.analytics.repository.RequestDailyRollupRepository;
+import com.suriname.analytics.service.RequestRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RequestRollupScheduler {
+    private final RequestRollupService requestRollupService;
+    private final RequestDailyRollupRepository rollupRepository;
+
+    // 최초 기동 시 집계 테이블이 비어 있으면 백필
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            requestRollupService.rebuild();
+        }
+    }
+
+    // 매일 새벽 3시 30분 전체 재집계 (이벤트 누락·수리비 사후 변경 보정)
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void rebuildNightly() {
+        requestRollupService.rebuild();
+    }
+}
@@ -2,25 +2,38 @@ package com.suriname.analytics.service;
 
 import com.suriname.analytics.dto.*;
 import com.suriname.analytics.repository.CustomAnalyticsRepository;
+import com.suriname.analytics.repository.RequestDailyRollupRepository;
+import com.suriname.global.cache.DashboardCaches;
 import com.suriname.request.entity.Request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AnalyticsService {
     private final CustomAnalyticsRepository customAnalyticsRepository;
+    private final RequestDailyRollupRepository rollupRepository;
+    private final DashboardCaches dashboardCaches;
 
-    // 카드형 통계
+    // 카드형 통계 (일자별 집계 테이블 1회 조회)
     public StatisticResponseDTO getStatistic() {
-        long totalRequestCount = customAnalyticsRepository.countAll();
-        long todayRequestCount = customAnalyticsRepository.countTodayRequests();
-        long uncompletedCount = customAnalyticsRepository.countUncompleteRequests();
-        double completedRatio = customAnalyticsRepository.getOverallCompletionRate();
-        long totalRevenue = customAnalyticsRepository.getTotalRevenue();
-        double averageRepairCost = customAnalyticsRepository.getAverageRepairCost();
+        return dashboardCaches.get(DashboardCaches.ANALYTICS_STATISTICS, this::loadStatistic);
+    }
+
+    private StatisticResponseDTO loadStatistic() {
+        RequestDailyRollupRepository.SummaryRow summary = rollupRepository.getSummary(LocalDate.now());
+
+        long totalRequestCount = summary.getTotal();
+        long todayRequestCount = summary.getToday();
+        long uncompletedCount = summary.getUncompleted();
+        double completedRatio = totalRequestCount == 0 ? 0.0 : summary.getCompleted() * 100.0 / totalRequestCount;
+        long totalRevenue = summary.getRevenue();
+        double averageRepairCost = summary.getRevenueRequests() == 0
+                ? 0.0 : (double) summary.getRevenue() / summary.getRevenueRequests();
 
         return new StatisticResponseDTO(
                 totalRequestCount, todayRequestCount, uncompletedCount, completedRatio,
@@ -30,7 +43,14 @@ public class AnalyticsService {
 
     // 도넛형 그래프(처리 단계별 현황)
     public StatusCountDTO getStatusCount() {
-        List<StatusCountResultDTO> statusResults = customAnalyticsRepository.getStatusDistribution();
+        return dashboardCaches.get(DashboardCaches.ANALYTICS_STATUS_COUNT, this::loadStatusCount);
+    }
+
+    // 캐시를 거치지 않는 조회 (실시간 스트림 스냅샷용)
+    public StatusCountDTO loadStatusCount() {
+        List<StatusCountResultDTO> statusResults = rollupRepository.getStatusDistribution().stream()
+                .map(row -> new StatusCountResultDTO(row.getStatus(), row.getCount()))
+                .toList();
 
         long receivedCount = 0;
         long repairingCount = 0;
@@ -67,21 +87,74 @@ public class AnalyticsService {
 
     // 제품별 A/S 건수 (TOP 6)
     public List<CategoryAsCountDTO> getCategoryAsCount() {
+        return dashboardCaches.get(DashboardCaches.ANALYTICS_CATEGORY_AS_COUNT, this::loadCategoryAsCount);
+    }
+
+    private List<CategoryAsCountDTO> loadCategoryAsCount() {
         return customAnalyticsRepository.getCategoryAsCount();
     }
 
     // 매출 추이
     public List<RevenueDTO> getRevenueTrend(String period) {
-        return switch (period) {
-            case "daily" -> customAnalyticsRepository.getDailyRevenue();
-            case "yearly" -> customAnalyticsRepository.getYearlyRevenue();
-            default -> customAnalyticsRepository.getMonthlyRevenue();
+        // 알 수 없는 기간은 월별과 같은 결과이므로 같은 키로 모은다
+        String key = "daily".equals(period) || "yearly".equals(period) ? period : "monthly";
+        return dashboardCaches.get(DashboardCaches.ANALYTICS_REVENUE_TREND, key, () -> loadRevenueTrend(key));
+    }
+
+    private List<RevenueDTO> loadRevenueTrend(String period) {
+        List<RequestDailyRollupRepository.RevenueRow> rows = switch (period) {
+            case "daily" -> rollupRepository.getDailyRevenue();
+            case "yearly" -> rollupRepository.getYearlyRevenue();
+            default -> rollupRepository.getMonthlyRevenue();
         };
+        return rows.stream()
+                .map(row -> new RevenueDTO(row.getLabel(), row.getRevenue()))
+                .toList();
+    }
+
+    // 일일 리포트용 집계 (해당 일자 접수분만, 캐시하지 않음)
+    public DailySummaryDTO getDailySummary(LocalDate date) {
+        RequestDailyRollupRepository.DaySummaryRow summary = rollupRepository.getSummaryOn(date);
+
+        long received = summary.getReceived();
+        double completedRatio = received == 0 ? 0.0 : summary.getCompleted() * 100.0 / received;
+        double averageRepairCost = summary.getRevenueRequests() == 0
+                ? 0.0 : (double) summary.getRevenue() / summary.getRevenueRequests();
+
+        return new DailySummaryDTO(received, summary.getUncompleted(), completedRatio,
+                summary.getRevenue(), averageRepairCost);
+    }
+
+    // from ~ to 일자별 매출 (일일 리포트 매출 추이)
+    public List<DailyRevenueDTO> getDailyRevenue(LocalDate from, LocalDate to) {
+        return rollupRepository.getDailyRevenueBetween(from, to).stream()
+                .map(row -> new DailyRevenueDTO(row.getStatDate(), row.getRevenue()))
+                .toList();
+    }
+
+    public List<CategoryAsCountDTO> getCategoryAsCount(LocalDate date) {
+        return customAnalyticsRepository.getCategoryAsCountBetween(date.atStartOfDay(), nextDay(date)).stream()
+                .map(row -> new CategoryAsCountDTO(row.getCategory(), row.getCount()))
+                .toList();
+    }
+
+    public List<EmployeeStatsDTO> getEmployeeStats(LocalDate date) {
+        return toEmployeeStats(customAnalyticsRepository.getEmployeeStatsRawBetween(date.atStartOfDay(), nextDay(date)));
+    }
+
+    private static LocalDateTime nextDay(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
     }
 
     public List<EmployeeStatsDTO> getEmployeeStats() {
-        List<Object[]> rawData = customAnalyticsRepository.getEmployeeStatsRaw();
+        return dashboardCaches.get(DashboardCaches.ANALYTICS_EMPLOYEES, this::loadEmployeeStats);
+    }
+
+    private List<EmployeeStatsDTO> loadEmployeeStats() {
+        return toEmployeeStats(customAnalyticsRepository.getEmployeeStatsRaw());
+    }
 
+    private static List<EmployeeStatsDTO> toEmployeeStats(List<Object[]> rawData) {
         return rawData.stream().map(row -> new EmployeeStatsDTO(
                 ((Number) row[0]).longValue(),      // employeeId
                 (String) row[1],                    // employeeName
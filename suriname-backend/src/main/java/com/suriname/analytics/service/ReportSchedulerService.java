@@ -1,19 +1,23 @@
 package com.suriname.analytics.service;
 
-import com.itextpdf.io.font.FontProgramFactory;
-import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.layout.Document;
+import com.suriname.analytics.dto.ReportArchiveDTO;
+import com.suriname.analytics.entity.ReportArchive;
+import com.suriname.analytics.report.ReportProperties;
+import com.suriname.analytics.report.ReportRenderer;
+import com.suriname.analytics.repository.ReportArchiveRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import com.itextpdf.layout.element.Paragraph;
-
-import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.net.URL;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
@@ -22,46 +26,66 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ReportSchedulerService {
 
-    private final AnalyticsService analyticsService;
+    private static final DateTimeFormatter MONTH_DIR = DateTimeFormatter.ofPattern("yyyy/MM");
+
+    private final ReportRenderer reportRenderer;
+    private final ReportProperties reportProperties;
+    private final ReportArchiveRepository reportArchiveRepository;
+
+    // 전날 하루치 리포트 (매일 09시 스케줄에서 호출)
+    public ReportArchive createStatisticsReportPdf() {
+        return generate(LocalDate.now().minusDays(1));
+    }
 
-    public void createStatisticsReportPdf() {
+    // 리포트를 임시 파일에 쓴 뒤 보관 경로로 옮기고 보관 목록을 갱신 (같은 일자는 덮어씀)
+    public ReportArchive generate(LocalDate date) {
+        Path root = Path.of(reportProperties.getArchiveDir());
+        String relative = date.format(MONTH_DIR) + "/report_" + date + ".pdf";
+        Path target = root.resolve(relative);
+        Path temp = null;
         try {
-            String filePath = "report_" + java.time.LocalDate.now() + ".pdf";
-            PdfWriter writer = new PdfWriter(new FileOutputStream(filePath));
-            PdfDocument pdf = new PdfDocument(writer);
-            Document document = new Document(pdf);
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), "report_" + date, ".tmp");
+
+            ReportRenderer.Result result;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                result = reportRenderer.render(date, out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 
-            // 한글 폰트 적용
-            String fontPath = "fonts/NotoSansKR-Regular.ttf";
-            PdfFont koreanFont = PdfFontFactory.createFont(fontPath, "Identity-H");
-            document.setFont(koreanFont);
+            ReportArchive archive = reportArchiveRepository.findByReportDate(date)
+                    .orElseGet(() -> new ReportArchive(date));
+            archive.update(relative, Files.size(target), result.requestCount(), result.pageCount());
+            reportArchiveRepository.save(archive);
 
-            // 예시: 통계 데이터 가져오기
-            var stats = analyticsService.getStatistic();
-            var employeeStats = analyticsService.getEmployeeStats();
+            log.info("PDF 리포트 생성 완료: {} (요청 {}건, {}쪽)", target, result.requestCount(), result.pageCount());
+            return archive;
+        } catch (IOException e) {
+            throw new UncheckedIOException("PDF 리포트 생성 실패: " + date, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
 
-            // PDF에 내용 추가
-            document.add(new Paragraph("통합 통계 리포트").setBold().setFontSize(18));
-            document.add(new Paragraph("총 요청: " + stats.totalRequestCount()));
-            document.add(new Paragraph("오늘 요청: " + stats.todayRequestCount()));
-            document.add(new Paragraph("미완료 요청: " + stats.uncompletedCount()));
-            document.add(new Paragraph("완료율: " + String.format("%.1f%%", stats.completedRatio() * 100)));
-            document.add(new Paragraph("총 매출: " + stats.totalRevenue()));
-            document.add(new Paragraph("평균 수리비: " + stats.averageRepairCost()));
+    public List<ReportArchiveDTO> findAll() {
+        return reportArchiveRepository.findAllByOrderByReportDateDesc().stream()
+                .map(ReportArchiveDTO::from)
+                .toList();
+    }
 
-            document.add(new Paragraph("\n직원별 성과"));
-            for (var emp : employeeStats) {
-                document.add(new Paragraph(
-                    emp.employeeName() + " - 배정: " + emp.assignedCount() +
-                    ", 완료: " + emp.completedCount() +
-                    ", 완료율: " + String.format("%.1f%%", emp.completionRate() * 100)
-                ));
-            }
+    // 보관된 리포트 파일 (다시 생성하지 않음)
+    public Optional<Path> findArchivedFile(LocalDate date) {
+        return reportArchiveRepository.findByReportDate(date)
+                .map(archive -> Path.of(reportProperties.getArchiveDir()).resolve(archive.getFilePath()))
+                .filter(Files::isRegularFile);
+    }
 
-            document.close();
-            log.info("PDF 리포트 생성 완료: " + filePath);
-        } catch (Exception e) {
-            log.error("PDF 리포트 생성 중 오류 발생", e);
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 리포트 파일 삭제 실패: {}", path, e);
         }
     }
 }
@@ -0,0 +1,89 @@
+package com.suriname.analytics.service;
+
+import com.suriname.analytics.entity.RequestDailyRollup;
+import com.suriname.analytics.entity.RequestRollupEntry;
+import com.suriname.analytics.repository.RequestDailyRollupRepository;
+import com.suriname.analytics.repository.RequestRollupEntryRepository;
+import com.suriname.request.entity.Request;
+import com.suriname.request.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestRollupService {
+    private final RequestDailyRollupRepository rollupRepository;
+    private final RequestRollupEntryRepository entryRepository;
+    private final RequestRepository requestRepository;
+
+    /**
+     * 요청 1건의 현재 상태를 일자별 집계에 맞춘다.
+     * 이전에 반영한 값(request_rollup_entry)을 그대로 빼고 현재 값을 더하므로
+     * 수리비가 그 사이 바뀌었거나 요청이 삭제되었어도 집계가 어긋나지 않고, 같은 요청을 여러 번 맞춰도 결과는 같다.
+     * 커밋 이후 리스너에서 호출되므로 항상 새 트랜잭션으로 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reconcile(Long requestId) {
+        RequestRollupEntry entry = entryRepository.findForUpdate(requestId).orElse(null);
+        Request request = requestRepository.findById(requestId).orElse(null);
+
+        if (request == null || request.getCreatedAt() == null) {
+            if (entry != null) {
+                subtract(entry);
+                entryRepository.delete(entry);
+            }
+            return;
+        }
+
+        LocalDate statDate = request.getCreatedAt().toLocalDate();
+        Request.Status status = request.getStatus();
+        long revenue = 0;
+        boolean costed = false;
+        if (status == Request.Status.COMPLETED) {
+            RequestDailyRollupRepository.RepairCostRow row = rollupRepository.getRepairCost(requestId);
+            revenue = row.getTotalCost();
+            costed = row.getDetailCount() > 0;
+        }
+
+        if (entry != null && entry.sameAs(statDate, status, revenue, costed)) return;
+
+        if (entry != null) {
+            subtract(entry);
+        } else {
+            entry = new RequestRollupEntry(requestId);
+        }
+        add(statDate, status, 1, revenue, costed ? 1 : 0);
+        entry.update(statDate, status, revenue, costed);
+        // 새 반영값은 바로 insert 해서 동시 반영과의 충돌을 이 트랜잭션 안에서 드러냄 (호출 측에서 재시도)
+        entryRepository.saveAndFlush(entry);
+    }
+
+    // 전체 재집계 (백필 / 드리프트 보정용)
+    @Transactional
+    public int rebuild() {
+        rollupRepository.deleteAllRows();
+        entryRepository.deleteAllRows();
+        int entries = entryRepository.rebuildFromRequests();
+        int rows = rollupRepository.rebuildFromEntries();
+        log.info("요청 일자별 집계 재생성 완료: 요청 {}건, {}행", entries, rows);
+        return rows;
+    }
+
+    private void subtract(RequestRollupEntry entry) {
+        add(entry.getStatDate(), entry.getStatus(), -1, -entry.getRevenue(), entry.isCosted() ? -1 : 0);
+    }
+
+    // 행이 없으면 insert (같은 일자/상태를 동시에 처음 insert 하면 유니크 키 충돌 → 호출 측에서 재시도)
+    private void add(LocalDate statDate, Request.Status status, long countDelta, long revenueDelta, long revenueCountDelta) {
+        int updated = rollupRepository.increment(statDate, status, countDelta, revenueDelta, revenueCountDelta);
+        if (updated == 0) {
+            rollupRepository.save(new RequestDailyRollup(statDate, status, countDelta, revenueDelta, revenueCountDelta));
+        }
+    }
+}
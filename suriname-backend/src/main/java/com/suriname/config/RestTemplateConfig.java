@@ -1,5 +1,6 @@
 package com.suriname.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -12,10 +13,9 @@ public class RestTemplateConfig {
 
     @Bean
     @Primary
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(clientHttpRequestFactory());
-        return restTemplate;
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        // RestTemplateBuilder 로 만들어야 외부 호출 지표(http.client.requests)가 기록됨
+        return builder.requestFactory(this::clientHttpRequestFactory).build();
     }
 
     @Bean
@@ -30,6 +30,9 @@ import com.suriname.customer.dto.CustomerSearchDto;
 import com.suriname.customer.service.CustomerExcelService;
 import com.suriname.customer.service.CustomerService;
 import com.suriname.customer.service.CustomerTemplateService;
+import com.suriname.importjob.controller.ImportJobResponses;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.service.ImportJobService;
 import com.suriname.product.repository.CustomerProductRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -43,6 +46,7 @@ public class CustomerController {
     private final CustomerExcelService customerExcelService;
     private final CustomerProductRepository customerProductRepository;
     private final CustomerTemplateService customerTemplateService;
+    private final ImportJobService importJobService;
 
     
     // 등록
@@ -124,6 +128,16 @@ public class CustomerController {
         }
     }
 
+    // 액셀 일괄 등록 (비동기 작업, 진행 상황은 /api/import-jobs/{jobId})
+    @PostMapping(
+        value = "/register/excel/jobs",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> submitExcelImport(@RequestParam("file") MultipartFile file) {
+        return ImportJobResponses.submit(importJobService, ImportJob.Type.CUSTOMER, file);
+    }
+
     
     // 자동완성
     @GetMapping("/autocomplete")
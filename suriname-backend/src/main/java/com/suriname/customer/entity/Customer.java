@@ -12,8 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.suriname.product.entity.CustomerProduct;
+import com.suriname.global.search.SearchIndexEntityListener;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "customer")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
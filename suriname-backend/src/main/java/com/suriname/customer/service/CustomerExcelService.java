@@ -1,20 +1,23 @@
 package com.suriname.customer.service;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 
 import com.suriname.customer.dto.CustomerRegisterDto;
+import com.suriname.global.excel.ExcelImportResult;
+import com.suriname.global.excel.ExcelRow;
+import com.suriname.global.excel.ExcelRowReader;
 import com.suriname.product.dto.CustomerProductDto;
 
 import lombok.RequiredArgsConstructor;
@@ -25,87 +28,91 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CustomerExcelService {
 
-    private final CustomerService customerService;
-    private static final DataFormatter FMT = new DataFormatter();
+    private final CustomerImportWriter customerImportWriter;
 
-    public ResponseEntity<?> importFromExcel(MultipartFile file) throws IOException {
-        List<Map<String, String>> failures = new ArrayList<>();
-        int success = 0;
-        int total = 0;
-
-        try (InputStream is = file.getInputStream();
-             Workbook workbook = WorkbookFactory.create(is)) { 
-            Sheet sheet = workbook.getSheetAt(0);
-
-            final int START_ROW = 1; 
-            for (int r = START_ROW; r <= sheet.getLastRowNum(); r++) {
-                Row row = sheet.getRow(r);
-                if (row == null || isRowEmpty(row)) continue;
-
-                total++; 
-                try {
-                    CustomerRegisterDto dto = parseRow(row);
-                    if (dto == null) {
-                        failures.add(fail(r, "제품 정보(제품명/모델코드) 중 최소 1개는 필수"));
-                        continue;
-                    }
-                    customerService.registerCustomer(dto);
-                    success++;
-                } catch (IllegalArgumentException e) {
-                    failures.add(fail(r, e.getMessage()));
-                } catch (Exception e) {
-                    failures.add(fail(r, "알 수 없는 오류"));
-                }
-            }
-        }
+    @Value("${excel.import.batch-size:500}")
+    private int batchSize;
 
-        int failureCount = failures.size();
+    private static final int START_ROW = 1;
+
+    // 시트를 한 행씩 읽어 batchSize 단위로 저장 (CustomerImportWriter)
+    public ResponseEntity<?> importFromExcel(MultipartFile file) throws IOException {
+        ExcelImportResult result = importRows(file);
 
         return ResponseEntity.ok(Map.of(
             "status", 200,
-            "message", failureCount == 0 ? "등록 성공" : "일부 항목 등록 실패",
-            "data", Map.of(
-                "totalCount", total,
-                "successCount", success,
-                "failureCount", failureCount,
-                "failures", failures
-            )
+            "message", result.getFailureCount() == 0 ? "등록 성공" : "일부 항목 등록 실패",
+            "data", result.toData()
         ));
     }
 
-    private Map<String, String> fail(int rowIndex0Based, String reason) {
-        Map<String, String> m = new HashMap<>();
-        m.put("row", String.valueOf(rowIndex0Based + 1)); 
-        m.put("reason", reason);
-        return m;
+    public ExcelImportResult importRows(MultipartFile file) throws IOException {
+        return importRows(handler -> ExcelRowReader.read(file, START_ROW, handler), result -> {});
     }
 
-    private CustomerRegisterDto parseRow(Row row) {
-        CustomerRegisterDto dto = new CustomerRegisterDto();
+    // 비동기 가져오기 작업용: 디스크에 보관한 파일을 읽고 배치마다 진행 상황을 알림
+    public ExcelImportResult importRows(File file, Consumer<ExcelImportResult> onProgress) throws IOException {
+        return importRows(handler -> ExcelRowReader.read(file, START_ROW, handler), onProgress);
+    }
 
-        dto.setName(getCellValue(row, 0));
+    private ExcelImportResult importRows(ExcelRowReader.Source source, Consumer<ExcelImportResult> onProgress) throws IOException {
+        ExcelImportResult result = new ExcelImportResult();
+        CustomerImportWriter.Session session = customerImportWriter.open();
+        List<CustomerImportWriter.ImportRow> buffer = new ArrayList<>(batchSize);
 
-        LocalDate birth = extractBirth(row.getCell(1));
-        if (birth == null) {
-            String raw = getCellValue(row, 1);
-            if (raw != null && !raw.isBlank()) {
-                throw new IllegalArgumentException(
-                    "생년월일 형식 오류(허용: yyyy-MM-dd, yyyy/M/d, yyyy.M.d, yyyyMMdd)"
-                );
+        source.read(row -> {
+            if (row.isEmpty()) return;
+
+            result.countRow();
+            try {
+                CustomerRegisterDto dto = parseRow(row);
+                if (dto == null) {
+                    result.fail(row.rowIndex(), "제품 정보(제품명/모델코드) 중 최소 1개는 필수");
+                    return;
+                }
+                buffer.add(new CustomerImportWriter.ImportRow(row.rowIndex(), dto));
+            } catch (IllegalArgumentException e) {
+                result.fail(row.rowIndex(), e.getMessage());
+            } catch (Exception e) {
+                result.fail(row.rowIndex(), "알 수 없는 오류");
+            }
+
+            if (buffer.size() >= batchSize) {
+                session.write(buffer, result);
+                buffer.clear();
+                onProgress.accept(result);
             }
+        });
+        session.write(buffer, result);
+        onProgress.accept(result);
+
+        return result;
+    }
+
+    private CustomerRegisterDto parseRow(ExcelRow row) {
+        CustomerRegisterDto dto = new CustomerRegisterDto();
+
+        dto.setName(row.get(0));
+
+        String rawBirth = row.get(1);
+        LocalDate birth = extractBirth(rawBirth);
+        if (birth == null && !rawBirth.isBlank()) {
+            throw new IllegalArgumentException(
+                "생년월일 형식 오류(허용: yyyy-MM-dd, yyyy/M/d, yyyy.M.d, yyyyMMdd)"
+            );
         }
         dto.setBirth(birth);
 
-        dto.setPhone(getCellValue(row, 2));
-        dto.setEmail(getCellValue(row, 3));
-        dto.setAddress(getCellValue(row, 4));
+        dto.setPhone(row.get(2));
+        dto.setEmail(row.get(3));
+        dto.setAddress(row.get(4));
 
         CustomerProductDto product = new CustomerProductDto();
-        product.setCategoryName(getCellValue(row, 5));
-        product.setProductName(getCellValue(row, 6));
-        product.setProductBrand(getCellValue(row, 7));
-        product.setModelCode(getCellValue(row, 8));
-        product.setSerialNumber(getCellValue(row, 9));
+        product.setCategoryName(row.get(5));
+        product.setProductName(row.get(6));
+        product.setProductBrand(row.get(7));
+        product.setModelCode(row.get(8));
+        product.setSerialNumber(row.get(9));
         dto.setProduct(product);
 
         boolean isValidProduct =
@@ -116,38 +123,18 @@ public class CustomerExcelService {
         return dto;
     }
 
-    
-    private String getCellValue(Row row, int idx) {
-        if (row == null || idx < 0 || idx >= row.getLastCellNum()) return "";
-        Cell cell = row.getCell(idx);
-        if (cell == null) return "";
-        if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-            return cell.getLocalDateTimeCellValue().toLocalDate().toString();
-        }
-        return FMT.formatCellValue(cell).trim();
-    }
-
-    private boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null && !FMT.formatCellValue(cell).trim().isEmpty()) return false;
-        }
-        return true;
-    }
-
-    private LocalDate extractBirth(Cell cell) {
-        if (cell == null) return null;
+    // 날짜 서식 셀은 ExcelRowReader 가 yyyy-MM-dd 로 넘기고,
+    // 서식 없이 숫자(엑셀 일련번호)로 들어온 값은 날짜로 변환
+    private LocalDate extractBirth(String value) {
+        if (value == null || value.isBlank()) return null;
         try {
-            if (cell.getCellType() == CellType.NUMERIC) {
-                double v = cell.getNumericCellValue();
-                if (DateUtil.isCellDateFormatted(cell) || DateUtil.isValidExcelDate(v)) {
+            if (value.matches("^\\d{1,7}(\\.\\d+)?$")) {
+                double v = Double.parseDouble(value);
+                if (DateUtil.isValidExcelDate(v)) {
                     return DateUtil.getLocalDateTime(v).toLocalDate();
                 }
-                return parseDateLoose(FMT.formatCellValue(cell).trim());
-            } else {
-                return parseDateLoose(FMT.formatCellValue(cell).trim());
             }
+            return parseDateLoose(value);
         } catch (Exception ignore) {
             return null;
         }
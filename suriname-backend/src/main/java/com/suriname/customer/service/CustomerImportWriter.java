@@ -0,0 +1,163 @@
+package com.suriname.customer.service;
+
+import com.suriname.customer.dto.CustomerRegisterDto;
+import com.suriname.global.excel.ExcelImportChunks;
+import com.suriname.global.algolia.AlgoliaChangeLog;
+import com.suriname.global.excel.ExcelImportResult;
+import com.suriname.global.search.LocalSearchService;
+import com.suriname.product.dto.CustomerProductDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고객 엑셀 일괄 등록용 JDBC 배치 저장
+ * registerCustomer 와 같은 고객 / 제품 / 고객-제품 행을 만들되,
+ * 카테고리는 가져오기 시작 시 한 번 읽어 캐시한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerImportWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalSearchService localSearchService;
+    private final AlgoliaChangeLog algoliaChangeLog;
+
+    public record ImportRow(int rowIndex, CustomerRegisterDto dto) {}
+
+    private record ResolvedRow(ImportRow row, long categoryId) {}
+
+    public Session open() {
+        Map<String, Long> categoryIds = new HashMap<>();
+        jdbcTemplate.query("SELECT category_id, name FROM category",
+                rs -> { categoryIds.putIfAbsent(rs.getString("name"), rs.getLong("category_id")); });
+        return new Session(categoryIds);
+    }
+
+    // 가져오기 1회 동안 유지되는 카테고리 캐시
+    public class Session {
+        private final Map<String, Long> categoryIds;
+
+        private Session(Map<String, Long> categoryIds) {
+            this.categoryIds = categoryIds;
+        }
+
+        public void write(List<ImportRow> rows, ExcelImportResult result) {
+            List<ResolvedRow> valid = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                Long categoryId = categoryIds.get(row.dto().getProduct().getCategoryName());
+                if (categoryId == null) {
+                    result.fail(row.rowIndex(), "카테고리 없음: " + row.dto().getProduct().getCategoryName());
+                    continue;
+                }
+                valid.add(new ResolvedRow(row, categoryId));
+            }
+            // 필수값/길이 등은 registerCustomer 와 같이 DB 제약조건이 판단하고, 걸린 행만 실패로 보고됨
+            ExcelImportChunks.persist(transactionTemplate, valid, r -> r.row().rowIndex(), this::insert, result);
+        }
+
+        private void insert(List<ResolvedRow> rows) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            // 1. 고객
+            List<Long> customerIds = batchInsert(
+                    "INSERT INTO customer (name, email, phone, address, birth, status, is_deleted, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?, 'ACTIVE', false, ?, ?)",
+                    "customer_id", rows.size(), (ps, i) -> {
+                        CustomerRegisterDto dto = rows.get(i).row().dto();
+                        ps.setString(1, dto.getName());
+                        ps.setString(2, dto.getEmail());
+                        ps.setString(3, dto.getPhone());
+                        ps.setString(4, dto.getAddress());
+                        ps.setDate(5, dto.getBirth() != null ? Date.valueOf(dto.getBirth()) : null);
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                    });
+
+            // 2. 제품 (registerCustomer 와 같이 행마다 새로 등록)
+            List<Long> productIds = batchInsert(
+                    "INSERT INTO product (category_id, product_name, product_brand, model_code, memo, " +
+                            "is_visible, is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, NULL, true, false, ?, ?)",
+                    "product_id", rows.size(), (ps, i) -> {
+                        ResolvedRow r = rows.get(i);
+                        CustomerProductDto product = r.row().dto().getProduct();
+                        ps.setLong(1, r.categoryId());
+                        ps.setString(2, product.getProductName());
+                        ps.setString(3, product.getProductBrand());
+                        ps.setString(4, product.getModelCode());
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                    });
+
+            // 3. 고객-제품 (행별 시리얼번호)
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO customer_product (customer_id, product_id, serial_number, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, customerIds.get(i));
+                            ps.setLong(2, productIds.get(i));
+                            ps.setString(3, rows.get(i).row().dto().getProduct().getSerialNumber());
+                            ps.setTimestamp(4, now);
+                            ps.setTimestamp(5, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    });
+
+            // 엔티티 콜백을 거치지 않으므로 검색 색인과 Algolia 변경 기록에 직접 알림
+            localSearchService.customersChanged(customerIds);
+            algoliaChangeLog.customersChanged(customerIds);
+            localSearchService.productsChanged(productIds);
+            algoliaChangeLog.productsChanged(productIds);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    private List<Long> batchInsert(String sql, String keyColumn, int size, RowSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(sql, new String[]{keyColumn}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.set(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
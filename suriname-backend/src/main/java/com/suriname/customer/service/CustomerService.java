@@ -2,9 +2,13 @@ package com.suriname.customer.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +22,7 @@ import com.suriname.customer.dto.CustomerSearchDto;
 import com.suriname.customer.entity.Customer;
 import com.suriname.customer.entity.CustomerSpecification;
 import com.suriname.customer.repository.CustomerRepository;
+import com.suriname.global.search.LocalSearchService;
 import com.suriname.product.dto.CustomerProductDto;
 import com.suriname.product.entity.CustomerProduct;
 import com.suriname.product.entity.Product;
@@ -35,6 +40,7 @@ public class CustomerService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final CustomerProductRepository customerProductRepository;
+    private final LocalSearchService localSearchService;
 
     @Transactional
     public Map<String, Long> registerCustomer(CustomerRegisterDto dto) {
@@ -76,33 +82,17 @@ public class CustomerService {
 
     public Page<CustomerListDto> getAll(Pageable pageable) {
         Page<Customer> customers = customerRepository.findAllByStatus(Customer.Status.ACTIVE, pageable);
+        Map<Long, CustomerProduct> latest = latestCustomerProducts(customers.getContent());
 
-        return customers.map(customer -> {
-            CustomerProduct cp = customerProductRepository.findTopByCustomerOrderByCreatedAtDesc(customer).orElse(null);
-            return new CustomerListDto(
-                    customer.getCustomerId(),
-                    customer.getName(),
-                    customer.getPhone(),
-                    customer.getEmail(),
-                    customer.getBirth() != null ? customer.getBirth().toString() : null,
-                    customer.getAddress(),
-                    cp != null ? cp.getProduct().getProductName() : null,
-                    cp != null ? cp.getProduct().getCategory().getName() : null,
-                    cp != null ? cp.getProduct().getProductBrand() : null,
-                    cp != null ? cp.getProduct().getModelCode() : null,
-                    cp != null ? cp.getSerialNumber() : null
-            );
-        });
+        return customers.map(customer -> toListDto(customer, latest.get(customer.getCustomerId())));
     }
 
     public CustomerDetailDto getDetailDto(Long id) {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("고객을 찾을 수 없습니다."));
 
-        CustomerProductDto productDto = customerProductRepository.findTopByCustomerOrderByCreatedAtDesc(customer).stream()
-                .findFirst()
-                .map(CustomerProductDto::fromEntity)
-                .orElse(null);
+        CustomerProduct cp = latestCustomerProducts(List.of(customer)).get(customer.getCustomerId());
+        CustomerProductDto productDto = cp != null ? CustomerProductDto.fromEntity(cp) : null;
 
         return new CustomerDetailDto(
                 customer.getCustomerId(),
@@ -185,31 +175,36 @@ public class CustomerService {
     }
 
     public Page<CustomerListDto> searchCustomerDtos(CustomerSearchDto dto, Pageable pageable) {
+        // 내장 검색 색인으로 찾을 수 있으면 id 만 받아 해당 페이지만 조회
+        Optional<List<Long>> indexed = pageable.getSort().isUnsorted()
+                ? localSearchService.searchCustomers(dto) : Optional.empty();
+        if (indexed.isPresent()) {
+            List<Long> ids = indexed.get();
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            List<Customer> customers = findAllInOrder(ids.subList(from, Math.min(ids.size(), from + pageable.getPageSize())));
+            Map<Long, CustomerProduct> latest = latestCustomerProducts(customers);
+            List<CustomerListDto> content = customers.stream()
+                    .map(customer -> toListDto(customer, latest.get(customer.getCustomerId())))
+                    .toList();
+            return new PageImpl<>(content, pageable, ids.size());
+        }
+
         Page<Customer> result = customerRepository.findAll(CustomerSpecification.searchWith(dto), pageable);
+        Map<Long, CustomerProduct> latest = latestCustomerProducts(result.getContent());
 
-        return result.map(customer -> {
-            CustomerProduct cp = customerProductRepository.findTopByCustomerOrderByCreatedAtDesc(customer).orElse(null);
-            return new CustomerListDto(
-                    customer.getCustomerId(),
-                    customer.getName(),
-                    customer.getPhone(),
-                    customer.getEmail(),
-                    customer.getBirth() != null ? customer.getBirth().toString() : null,
-                    customer.getAddress(),
-                    cp != null ? cp.getProduct().getProductName() : null,
-                    cp != null ? cp.getProduct().getCategory().getName() : null,
-                    cp != null ? cp.getProduct().getProductBrand() : null,
-                    cp != null ? cp.getProduct().getModelCode() : null,
-                    cp != null ? cp.getSerialNumber() : null
-            );
-        });
+        return result.map(customer -> toListDto(customer, latest.get(customer.getCustomerId())));
     }
 
     public List<CustomerDetailDto> autocompleteCustomers(String keyword) {
-        List<Customer> matched = customerRepository.searchAutoComplete(keyword, Customer.Status.ACTIVE);
+        List<Customer> matched = localSearchService.autocompleteCustomers(keyword)
+                .map(ids -> findAllInOrder(ids).stream()
+                        .filter(customer -> customer.getStatus() == Customer.Status.ACTIVE)
+                        .toList())
+                .orElseGet(() -> customerRepository.searchAutoComplete(keyword, Customer.Status.ACTIVE));
+        Map<Long, CustomerProduct> latest = latestCustomerProducts(matched);
         return matched.stream()
                 .map(customer -> {
-                    CustomerProduct cp = customerProductRepository.findTopByCustomerOrderByCreatedAtDesc(customer).orElse(null);
+                    CustomerProduct cp = latest.get(customer.getCustomerId());
                     CustomerProductDto cpDto = (cp != null) ? CustomerProductDto.fromEntity(cp) : null;
 
                     return new CustomerDetailDto(
@@ -230,4 +225,37 @@ public class CustomerService {
     public boolean existsByName(String name) {
         return customerRepository.findByName(name).isPresent();
     }
+
+    // id 순서대로 고객 조회 (색인 갱신 전 삭제된 고객은 빠짐)
+    private List<Customer> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Customer> byId = customerRepository.findAllById(ids).stream()
+                .filter(customer -> !customer.isDeleted())
+                .collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // 고객별 가장 최근 고객 제품 (고객마다 따로 조회하지 않고 한 번에)
+    private Map<Long, CustomerProduct> latestCustomerProducts(List<Customer> customers) {
+        if (customers.isEmpty()) return Map.of();
+        List<Long> customerIds = customers.stream().map(Customer::getCustomerId).toList();
+        return customerProductRepository.findLatestWithProductByCustomerIds(customerIds).stream()
+                .collect(Collectors.toMap(cp -> cp.getCustomer().getCustomerId(), cp -> cp));
+    }
+
+    private CustomerListDto toListDto(Customer customer, CustomerProduct cp) {
+        return new CustomerListDto(
+                customer.getCustomerId(),
+                customer.getName(),
+                customer.getPhone(),
+                customer.getEmail(),
+                customer.getBirth() != null ? customer.getBirth().toString() : null,
+                customer.getAddress(),
+                cp != null ? cp.getProduct().getProductName() : null,
+                cp != null ? cp.getProduct().getCategory().getName() : null,
+                cp != null ? cp.getProduct().getProductBrand() : null,
+                cp != null ? cp.getProduct().getModelCode() : null,
+                cp != null ? cp.getSerialNumber() : null
+        );
+    }
 } 
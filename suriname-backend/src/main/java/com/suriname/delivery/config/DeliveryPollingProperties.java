@@ -0,0 +1,52 @@
+package com.suriname.delivery.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 택배사 배송 조회 폴링 설정 (delivery.polling.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.polling")
+public class DeliveryPollingProperties {
+
+    // 이 시간 안에 조회한 배송은 다음 주기에서 건너뜀
+    private Duration minInterval = Duration.ofMinutes(20);
+
+    // 상태 변경을 커밋하는 단위
+    private int batchSize = 50;
+
+    // 택배사별 동시 호출 수 (기본값)
+    private int concurrency = 4;
+
+    // 택배사별 초당 호출 수 (기본값)
+    private double ratePerSecond = 10.0;
+
+    // 택배사별 개별 설정 (key: 택배사명)
+    private Map<String, CarrierLimit> carriers = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class CarrierLimit {
+        private Integer concurrency;
+        private Double ratePerSecond;
+    }
+
+    public int concurrencyOf(String carrierName) {
+        CarrierLimit limit = carriers.get(carrierName);
+        return limit != null && limit.getConcurrency() != null ? limit.getConcurrency() : concurrency;
+    }
+
+    public double ratePerSecondOf(String carrierName) {
+        CarrierLimit limit = carriers.get(carrierName);
+        return limit != null && limit.getRatePerSecond() != null ? limit.getRatePerSecond() : ratePerSecond;
+    }
+}
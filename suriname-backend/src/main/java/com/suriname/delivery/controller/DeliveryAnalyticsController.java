@@ -1,11 +1,18 @@
 package com.suriname.delivery.controller;
 
+import com.suriname.analytics.dto.StatusCountDTO;
+import com.suriname.analytics.service.AnalyticsService;
 import com.suriname.delivery.service.DeliveryAnalyticsService;
+import com.suriname.global.cache.DashboardCaches;
+import com.suriname.global.realtime.RealtimeStatusHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -18,6 +25,9 @@ import java.util.Map;
 public class DeliveryAnalyticsController {
 
     private final DeliveryAnalyticsService analyticsService;
+    private final DashboardCaches dashboardCaches;
+    private final RealtimeStatusHub realtimeStatusHub;
+    private final AnalyticsService requestAnalyticsService;
 
     /**
      * 배송 대시보드 데이터 조회
@@ -27,7 +37,7 @@ public class DeliveryAnalyticsController {
         try {
             log.info("배송 대시보드 데이터 요청");
             
-            Map<String, Object> dashboard = analyticsService.getDeliveryDashboard();
+            Map<String, Object> dashboard = cachedDashboard();
             
             return ResponseEntity.ok(Map.of(
                 "status", 200,
@@ -102,7 +112,7 @@ public class DeliveryAnalyticsController {
         try {
             log.info("배송 성과 요약 요청");
             
-            Map<String, Object> dashboard = analyticsService.getDeliveryDashboard();
+            Map<String, Object> dashboard = cachedDashboard();
             
             // 핵심 지표만 추출
             Map<String, Object> summary = Map.of(
@@ -130,24 +140,14 @@ public class DeliveryAnalyticsController {
     }
 
     /**
-     * 실시간 배송 현황 (WebSocket에서도 사용)
+     * 실시간 배송 현황 (스트림을 쓸 수 없는 클라이언트용, 스트림은 /realtime/stream)
      */
     @GetMapping("/realtime")
     public ResponseEntity<?> getRealtimeStatus() {
         try {
             log.info("실시간 배송 현황 요청");
             
-            Map<String, Object> dashboard = analyticsService.getDeliveryDashboard();
-            
-            // 실시간 현황 데이터 추출
-            Map<String, Object> realtime = Map.of(
-                "timestamp", System.currentTimeMillis(),
-                "pendingCount", dashboard.get("pendingCount"),
-                "shippedCount", dashboard.get("shippedCount"),
-                "deliveredCount", dashboard.get("deliveredCount"),
-                "recentDeliveries", dashboard.get("recentDeliveries"),
-                "dailyStats", dashboard.get("dailyStats")
-            );
+            Map<String, Object> realtime = realtimeSnapshot();
             
             return ResponseEntity.ok(Map.of(
                 "status", 200,
@@ -163,4 +163,62 @@ public class DeliveryAnalyticsController {
             ));
         }
     }
+
+    /**
+     * 실시간 배송/요청 상태 스트림 (SSE)
+     * 구독 직후 snapshot 이벤트로 실시간 현황을 한 번 보내고, 이후에는 상태 변경만 delta 이벤트로 보낸다.
+     * 다른 API 와 같이 Authorization 헤더로 인증하므로, 헤더를 보낼 수 없는 EventSource 대신
+     * fetch 로 스트림을 읽는다. (프론트엔드 api/realtimeStream.js)
+     */
+    @GetMapping(value = "/realtime/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRealtimeStatus() {
+        try {
+            return ResponseEntity.ok(realtimeStatusHub.subscribe(this::streamSnapshot));
+        } catch (IllegalStateException e) {
+            log.warn("실시간 스트림 구독 거절: {}", e.getMessage());
+            return ResponseEntity.status(503).build();
+        }
+    }
+
+    // 폴링 응답용 실시간 현황 (캐시된 집계)
+    private Map<String, Object> realtimeSnapshot() {
+        return realtimeSnapshot(cachedDashboard(), requestAnalyticsService.getStatusCount());
+    }
+
+    // 스트림 스냅샷은 캐시를 거치지 않고 읽는다.
+    // 캐시 무효화와 delta 발행 사이에는 순서가 없어서, 캐시된 집계를 보내면 재동기화 중 커밋된 변경이
+    // 스냅샷에도 delta 에도 빠질 수 있다. 스냅샷은 버퍼를 비운 뒤 읽으므로 그 전에 발행된 변경은 모두 반영된다.
+    private Map<String, Object> streamSnapshot() {
+        return realtimeSnapshot(analyticsService.getDeliveryDashboard(), requestAnalyticsService.loadStatusCount());
+    }
+
+    // 실시간 현황 데이터 추출 (폴링 응답과 스트림 스냅샷이 공유)
+    // DELIVERY 변경은 배송 상태별 건수에, REQUEST 변경은 requestStatusCounts 에 반영된다.
+    private Map<String, Object> realtimeSnapshot(Map<String, Object> dashboard, StatusCountDTO statusCount) {
+        return Map.of(
+            "timestamp", System.currentTimeMillis(),
+            "pendingCount", dashboard.get("pendingCount"),
+            "shippedCount", dashboard.get("shippedCount"),
+            "deliveredCount", dashboard.get("deliveredCount"),
+            "recentDeliveries", dashboard.get("recentDeliveries"),
+            "dailyStats", dashboard.get("dailyStats"),
+            "requestStatusCounts", requestStatusCounts(statusCount)
+        );
+    }
+
+    // 수리 요청 상태(Request.Status 이름)별 건수
+    private Map<String, Long> requestStatusCounts(StatusCountDTO count) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("RECEIVED", count.receivedCount());
+        counts.put("REPAIRING", count.repairingCount());
+        counts.put("WAITING_FOR_PAYMENT", count.waitingForPaymentCount());
+        counts.put("WAITING_FOR_DELIVERY", count.waitingForDeliveryCount());
+        counts.put("COMPLETED", count.completedCount());
+        return counts;
+    }
+
+    // 대시보드/요약/실시간 현황이 같은 집계를 공유 (캐시 적중 시 트랜잭션을 열지 않도록 컨트롤러에서 감쌈)
+    private Map<String, Object> cachedDashboard() {
+        return dashboardCaches.get(DashboardCaches.DELIVERY_DASHBOARD, analyticsService::getDeliveryDashboard);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.suriname.delivery.dto;
+
+// 배송 집계 한 그룹 (전체 / 택배사별). completedCount 는 배송완료 + 완료일 있는 건으로 평균 배송시간(시간)과 정시율의 기준
+public record DeliveryGroupStats(
+        String groupKey,
+        Long totalCount,
+        Long pendingCount,
+        Long shippedCount,
+        Long deliveredCount,
+        Long completedCount,
+        Double avgDeliveryHours,
+        Long onTimeCount
+) {}
@@ -0,0 +1,11 @@
+package com.suriname.delivery.dto;
+
+// 기간별 배송 집계 (월별 집계는 day = 1)
+public record DeliveryPeriodStats(
+        Integer year,
+        Integer month,
+        Integer day,
+        Long totalCount,
+        Long deliveredCount,
+        Double avgDeliveryHours
+) {}
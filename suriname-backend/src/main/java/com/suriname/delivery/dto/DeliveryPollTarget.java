@@ -0,0 +1,11 @@
+package com.suriname.delivery.dto;
+
+import com.suriname.delivery.entity.Delivery;
+
+// 폴링 대상 배송 (트랜잭션 밖에서 들고 다니는 최소 정보)
+public record DeliveryPollTarget(
+        Long deliveryId,
+        String carrierName,
+        String trackingNo,
+        Delivery.Status status
+) {}
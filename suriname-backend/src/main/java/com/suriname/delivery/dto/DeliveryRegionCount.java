@@ -0,0 +1,6 @@
+package com.suriname.delivery.dto;
+
+public record DeliveryRegionCount(
+        String region,
+        Long count
+) {}
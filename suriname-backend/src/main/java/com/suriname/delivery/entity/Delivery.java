@@ -1,5 +1,7 @@
 package com.suriname.delivery.entity;
 
+import com.suriname.global.cache.DashboardCacheEntityListener;
+import com.suriname.global.realtime.DeliveryStatusEntityListener;
 import com.suriname.request.entity.Request;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,7 +12,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "delivery")
+@EntityListeners({DashboardCacheEntityListener.class, DeliveryStatusEntityListener.class})
+@Table(name = "delivery", indexes = {
+		@Index(name = "idx_delivery_status_polled", columnList = "status, last_polled_at"),
+		@Index(name = "idx_delivery_created_at", columnList = "created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Delivery {
@@ -54,6 +60,14 @@ public class Delivery {
 	@Column(name = "completed_date")
 	private LocalDateTime completedDate;
 
+	// 택배사 배송 조회 API 마지막 폴링 시각
+	@Column(name = "last_polled_at")
+	private LocalDateTime lastPolledAt;
+
+	// DB 에 마지막으로 반영된 상태 (실시간 스트림에 이전 상태를 함께 보내기 위함)
+	@Transient
+	private Status persistedStatus;
+
 	public enum Status {
 		PENDING, SHIPPED, DELIVERED
 	}
@@ -69,6 +83,13 @@ public class Delivery {
 		this.updatedAt = LocalDateTime.now();
 	}
 
+	@PostLoad
+	@PostPersist
+	@PostUpdate
+	public void syncPersistedStatus() {
+		this.persistedStatus = this.status;
+	}
+
 	@Builder
 	public Delivery(Request request, String name, String phone, String zipcode, String address, String trackingNo,
 			String carrierName, Status status) {
@@ -1,10 +1,15 @@
 package com.suriname.delivery.repository;
 
+import com.suriname.delivery.dto.DeliveryGroupStats;
+import com.suriname.delivery.dto.DeliveryPeriodStats;
+import com.suriname.delivery.dto.DeliveryPollTarget;
+import com.suriname.delivery.dto.DeliveryRegionCount;
 import com.suriname.delivery.entity.Delivery;
 import com.suriname.request.entity.Request;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -39,6 +44,23 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     // 특정 상태 목록에 해당하는 배송 조회 (스케줄러용)
     List<Delivery> findByStatusIn(List<Delivery.Status> statuses);
 
+    // 폴링 대상 조회 (송장번호가 있고 최근에 조회하지 않은 배송 중 항목, 엔티티 대신 필요한 컬럼만)
+    @Query("""
+        SELECT new com.suriname.delivery.dto.DeliveryPollTarget(d.deliveryId, d.carrierName, d.trackingNo, d.status)
+        FROM Delivery d
+        WHERE d.status IN :statuses
+          AND d.trackingNo IS NOT NULL AND d.trackingNo <> ''
+          AND (d.lastPolledAt IS NULL OR d.lastPolledAt < :polledBefore)
+        ORDER BY d.lastPolledAt ASC NULLS FIRST, d.deliveryId ASC
+        """)
+    List<DeliveryPollTarget> findPollTargets(@Param("statuses") List<Delivery.Status> statuses,
+                                             @Param("polledBefore") LocalDateTime polledBefore);
+
+    // 폴링 시각 일괄 갱신
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Delivery d SET d.lastPolledAt = :polledAt WHERE d.deliveryId IN :ids")
+    int markPolled(@Param("ids") List<Long> ids, @Param("polledAt") LocalDateTime polledAt);
+
     // 배송 지연 건 조회 (N일 이상 경과한 배송 중 항목)
     @Query("SELECT d FROM Delivery d WHERE d.status IN ('PENDING', 'SHIPPED') AND d.createdAt < :cutoffDate")
     List<Delivery> findDelayedDeliveries(@Param("cutoffDate") LocalDateTime cutoffDate);
@@ -48,4 +70,77 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
         return findDelayedDeliveries(cutoffDate);
     }
+
+    // === 통계용 집계 쿼리 (엔티티를 읽지 않고 DB 에서 그룹 집계) ===
+
+    // 배송완료 건의 배송시간(시간 단위, 내림)과 3일 이내 완료 여부
+    String DELIVERED_WITH_DATE = "d.status = 'DELIVERED' AND d.completedDate IS NOT NULL";
+    String AVG_DELIVERY_HOURS =
+            "AVG(CASE WHEN " + DELIVERED_WITH_DATE + " THEN FLOOR(((d.completedDate - d.createdAt) BY SECOND) / 3600.0) END)";
+    String ON_TIME_COUNT =
+            "SUM(CASE WHEN " + DELIVERED_WITH_DATE + " AND ((d.completedDate - d.createdAt) BY SECOND) < 345600 THEN 1 ELSE 0 END)";
+    String GROUP_STATS_COLUMNS = "COUNT(d), "
+            + "SUM(CASE WHEN d.status = 'PENDING' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN d.status = 'SHIPPED' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN d.status = 'DELIVERED' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN " + DELIVERED_WITH_DATE + " THEN 1 ELSE 0 END), "
+            + AVG_DELIVERY_HOURS + ", " + ON_TIME_COUNT;
+
+    // 전체 집계 (한 행)
+    @Query("SELECT new com.suriname.delivery.dto.DeliveryGroupStats('ALL', " + GROUP_STATS_COLUMNS + ") FROM Delivery d")
+    DeliveryGroupStats aggregateAll();
+
+    // 택배사별 집계
+    @Query("SELECT new com.suriname.delivery.dto.DeliveryGroupStats(d.carrierName, " + GROUP_STATS_COLUMNS + ") "
+            + "FROM Delivery d WHERE d.carrierName IS NOT NULL GROUP BY d.carrierName")
+    List<DeliveryGroupStats> aggregateByCarrier();
+
+    long countByCreatedAtAfter(LocalDateTime createdAt);
+
+    // 일별 집계
+    @Query("SELECT new com.suriname.delivery.dto.DeliveryPeriodStats("
+            + "YEAR(d.createdAt), MONTH(d.createdAt), DAY(d.createdAt), COUNT(d), "
+            + "SUM(CASE WHEN d.status = 'DELIVERED' THEN 1 ELSE 0 END), " + AVG_DELIVERY_HOURS + ") "
+            + "FROM Delivery d WHERE d.createdAt > :after "
+            + "GROUP BY YEAR(d.createdAt), MONTH(d.createdAt), DAY(d.createdAt)")
+    List<DeliveryPeriodStats> aggregateDaily(@Param("after") LocalDateTime after);
+
+    // 월별 집계
+    @Query("SELECT new com.suriname.delivery.dto.DeliveryPeriodStats("
+            + "YEAR(d.createdAt), MONTH(d.createdAt), 1, COUNT(d), "
+            + "SUM(CASE WHEN d.status = 'DELIVERED' THEN 1 ELSE 0 END), " + AVG_DELIVERY_HOURS + ") "
+            + "FROM Delivery d WHERE d.createdAt > :after "
+            + "GROUP BY YEAR(d.createdAt), MONTH(d.createdAt)")
+    List<DeliveryPeriodStats> aggregateMonthly(@Param("after") LocalDateTime after);
+
+    // 주소의 시/도별 건수 (앞에서부터 처음 일치하는 지역, 없으면 기타)
+    @Query("""
+        SELECT new com.suriname.delivery.dto.DeliveryRegionCount(r.region, COUNT(*))
+        FROM (
+            SELECT CASE
+                WHEN d.address LIKE '%서울%' THEN '서울'
+                WHEN d.address LIKE '%부산%' THEN '부산'
+                WHEN d.address LIKE '%대구%' THEN '대구'
+                WHEN d.address LIKE '%인천%' THEN '인천'
+                WHEN d.address LIKE '%광주%' THEN '광주'
+                WHEN d.address LIKE '%대전%' THEN '대전'
+                WHEN d.address LIKE '%울산%' THEN '울산'
+                WHEN d.address LIKE '%경기%' THEN '경기'
+                WHEN d.address LIKE '%강원%' THEN '강원'
+                WHEN d.address LIKE '%충북%' THEN '충북'
+                WHEN d.address LIKE '%충남%' THEN '충남'
+                WHEN d.address LIKE '%전북%' THEN '전북'
+                WHEN d.address LIKE '%전남%' THEN '전남'
+                WHEN d.address LIKE '%경북%' THEN '경북'
+                WHEN d.address LIKE '%경남%' THEN '경남'
+                WHEN d.address LIKE '%제주%' THEN '제주'
+                ELSE '기타'
+            END AS region
+            FROM Delivery d
+            WHERE d.address IS NOT NULL
+        ) r
+        GROUP BY r.region
+        ORDER BY COUNT(*) DESC
+        """)
+    List<DeliveryRegionCount> countByRegion();
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.suriname.delivery.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 택배사 API 초당 호출 수 제한 (호출 간격을 균등하게 배분)
+ */
+class CarrierRateLimiter {
+
+    private final long intervalNanos;
+    private long nextSlot = System.nanoTime();
+
+    CarrierRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextSlot);
+        nextSlot = slot + intervalNanos;
+        return slot - now;
+    }
+}
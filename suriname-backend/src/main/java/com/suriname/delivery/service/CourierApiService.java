@@ -1,20 +1,21 @@
 package com.suriname.delivery.service;
 
-import lombok.RequiredArgsConstructor;
+import com.suriname.global.http.OutboundCallRejectedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CourierApiService {
 
@@ -27,11 +28,22 @@ public class CourierApiService {
     @Value("${courier.api.lotte.key:dummy-key}")
     private String lotteApiKey;
 
+    // 배송 조회 게이트웨이 주소 (설정 시 택배사 공통 조회 API 호출, 미설정 시 임시 응답)
+    @Value("${courier.api.base-url:}")
+    private String baseUrl;
+
+    public CourierApiService(@Qualifier("courierRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     /**
      * 택배사별 배송 조회 API 호출
      */
     public Map<String, Object> getTrackingInfo(String carrierName, String trackingNo) {
         try {
+            if (StringUtils.hasText(baseUrl)) {
+                return getGatewayTrackingInfo(carrierName, trackingNo);
+            }
             switch (carrierName) {
                 case "CJ대한통운":
                     return getCJTrackingInfo(trackingNo);
@@ -46,12 +58,26 @@ public class CourierApiService {
                 default:
                     return getDefaultTrackingInfo(carrierName, trackingNo);
             }
+        } catch (OutboundCallRejectedException e) {
+            // 게이트웨이 장애로 차단 중이면 스택 트레이스 없이 기록
+            log.warn("택배 조회 생략: {} - {} ({})", carrierName, trackingNo, e.getMessage());
+            return createErrorResponse("배송 조회에 실패했습니다.");
         } catch (Exception e) {
             log.error("택배 조회 API 호출 실패: {} - {}", carrierName, trackingNo, e);
             return createErrorResponse("배송 조회에 실패했습니다.");
         }
     }
 
+    /**
+     * 배송 조회 게이트웨이 호출
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getGatewayTrackingInfo(String carrierName, String trackingNo) {
+        Map<String, Object> body = restTemplate.getForObject(
+                baseUrl + "/carriers/{carrier}/tracking/{trackingNo}", Map.class, carrierName, trackingNo);
+        return body != null ? body : createErrorResponse("배송 조회 응답이 비어 있습니다.");
+    }
+
     /**
      * CJ대한통운 배송 조회
      */
@@ -1,22 +1,25 @@
 package com.suriname.delivery.service;
 
-import com.suriname.delivery.entity.Delivery;
+import com.suriname.delivery.dto.DeliveryGroupStats;
+import com.suriname.delivery.dto.DeliveryPeriodStats;
+import com.suriname.delivery.dto.DeliveryRegionCount;
 import com.suriname.delivery.repository.DeliveryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 배송 분석 및 통계 서비스
+ * 배송 엔티티를 메모리로 읽지 않고 DB 의 그룹 집계 결과(그룹 수만큼의 행)만 받아 응답을 만든다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class DeliveryAnalyticsService {
 
     private final DeliveryRepository deliveryRepository;
@@ -28,37 +31,35 @@ public class DeliveryAnalyticsService {
         try {
             log.info("배송 대시보드 데이터 조회 시작");
             
-            // 전체 배송 데이터 조회
-            List<Delivery> allDeliveries = deliveryRepository.findAll();
-            
+            DeliveryGroupStats total = deliveryRepository.aggregateAll();
+            List<DeliveryGroupStats> carriers = deliveryRepository.aggregateByCarrier();
+
             // 최근 30일 데이터
             LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-            List<Delivery> recentDeliveries = allDeliveries.stream()
-                    .filter(d -> d.getCreatedAt().isAfter(thirtyDaysAgo))
-                    .collect(Collectors.toList());
+            long recentCount = deliveryRepository.countByCreatedAtAfter(thirtyDaysAgo);
 
             Map<String, Object> dashboard = new HashMap<>();
             
             // 1. 기본 통계
-            dashboard.put("totalDeliveries", allDeliveries.size());
-            dashboard.put("recentDeliveries", recentDeliveries.size());
-            dashboard.put("pendingCount", countByStatus(allDeliveries, "PENDING"));
-            dashboard.put("shippedCount", countByStatus(allDeliveries, "SHIPPED"));
-            dashboard.put("deliveredCount", countByStatus(allDeliveries, "DELIVERED"));
+            dashboard.put("totalDeliveries", count(total.totalCount()));
+            dashboard.put("recentDeliveries", recentCount);
+            dashboard.put("pendingCount", count(total.pendingCount()));
+            dashboard.put("shippedCount", count(total.shippedCount()));
+            dashboard.put("deliveredCount", count(total.deliveredCount()));
             
             // 2. 택배사별 통계
-            dashboard.put("carrierStats", getCarrierStatistics(allDeliveries));
+            dashboard.put("carrierStats", getCarrierStatistics(carriers));
             
-            // 3. 일별 배송 현황 (최근 7일)
-            dashboard.put("dailyStats", getDailyStatistics(recentDeliveries));
+            // 3. 일별 배송 현황 (최근 30일)
+            dashboard.put("dailyStats", getDailyStatistics(deliveryRepository.aggregateDaily(thirtyDaysAgo), recentCount));
             
             // 4. 성과 지표
-            dashboard.put("performanceMetrics", getPerformanceMetrics(allDeliveries));
+            dashboard.put("performanceMetrics", getPerformanceMetrics(total));
             
             // 5. 지역별 통계 (상위 10개)
-            dashboard.put("regionStats", getRegionStatistics(allDeliveries));
+            dashboard.put("regionStats", getRegionStatistics(deliveryRepository.countByRegion()));
 
-            log.info("배송 대시보드 데이터 조회 완료: 총 {}건", allDeliveries.size());
+            log.info("배송 대시보드 데이터 조회 완료: 총 {}건", count(total.totalCount()));
             return dashboard;
             
         } catch (Exception e) {
@@ -74,24 +75,16 @@ public class DeliveryAnalyticsService {
         try {
             log.info("택배사 성과 분석 시작");
             
-            List<Delivery> allDeliveries = deliveryRepository.findAll();
-            Map<String, List<Delivery>> carrierGroups = allDeliveries.stream()
-                    .filter(d -> d.getCarrierName() != null)
-                    .collect(Collectors.groupingBy(Delivery::getCarrierName));
-
             Map<String, Object> analysis = new HashMap<>();
             
-            for (Map.Entry<String, List<Delivery>> entry : carrierGroups.entrySet()) {
-                String carrier = entry.getKey();
-                List<Delivery> deliveries = entry.getValue();
-                
+            for (DeliveryGroupStats carrier : deliveryRepository.aggregateByCarrier()) {
                 Map<String, Object> carrierData = new HashMap<>();
-                carrierData.put("totalCount", deliveries.size());
-                carrierData.put("deliveredCount", countByStatus(deliveries, "DELIVERED"));
-                carrierData.put("averageDeliveryTime", calculateAverageDeliveryTime(deliveries));
-                carrierData.put("successRate", calculateSuccessRate(deliveries));
+                carrierData.put("totalCount", count(carrier.totalCount()));
+                carrierData.put("deliveredCount", count(carrier.deliveredCount()));
+                carrierData.put("averageDeliveryTime", hours(carrier.avgDeliveryHours()));
+                carrierData.put("successRate", rate(carrier.deliveredCount(), carrier.totalCount()));
                 
-                analysis.put(carrier, carrierData);
+                analysis.put(carrier.groupKey(), carrierData);
             }
             
             log.info("택배사 성과 분석 완료: {}개 택배사", analysis.size());
@@ -112,28 +105,16 @@ public class DeliveryAnalyticsService {
             
             // 최근 12개월 데이터
             LocalDateTime twelveMonthsAgo = LocalDateTime.now().minusMonths(12);
-            List<Delivery> deliveries = deliveryRepository.findAll().stream()
-                    .filter(d -> d.getCreatedAt().isAfter(twelveMonthsAgo))
-                    .collect(Collectors.toList());
-
-            // 월별 그룹핑
-            Map<String, List<Delivery>> monthlyGroups = deliveries.stream()
-                    .collect(Collectors.groupingBy(d -> 
-                        d.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM"))
-                    ));
 
             Map<String, Object> trends = new HashMap<>();
             
-            for (Map.Entry<String, List<Delivery>> entry : monthlyGroups.entrySet()) {
-                String month = entry.getKey();
-                List<Delivery> monthlyDeliveries = entry.getValue();
-                
+            for (DeliveryPeriodStats monthly : deliveryRepository.aggregateMonthly(twelveMonthsAgo)) {
                 Map<String, Object> monthData = new HashMap<>();
-                monthData.put("totalCount", monthlyDeliveries.size());
-                monthData.put("deliveredCount", countByStatus(monthlyDeliveries, "DELIVERED"));
-                monthData.put("avgDeliveryTime", calculateAverageDeliveryTime(monthlyDeliveries));
+                monthData.put("totalCount", count(monthly.totalCount()));
+                monthData.put("deliveredCount", count(monthly.deliveredCount()));
+                monthData.put("avgDeliveryTime", hours(monthly.avgDeliveryHours()));
                 
-                trends.put(month, monthData);
+                trends.put(String.format("%04d-%02d", monthly.year(), monthly.month()), monthData);
             }
             
             log.info("월별 트렌드 분석 완료: {}개월 데이터", trends.size());
@@ -146,20 +127,12 @@ public class DeliveryAnalyticsService {
     }
 
     // === 내부 유틸리티 메서드들 ===
-    
-    private long countByStatus(List<Delivery> deliveries, String status) {
-        return deliveries.stream()
-                .filter(d -> status.equals(d.getStatus().name()))
-                .count();
-    }
 
-    private Map<String, Object> getCarrierStatistics(List<Delivery> deliveries) {
-        Map<String, Long> carrierCounts = deliveries.stream()
-                .filter(d -> d.getCarrierName() != null)
-                .collect(Collectors.groupingBy(
-                    Delivery::getCarrierName, 
-                    Collectors.counting()
-                ));
+    private Map<String, Object> getCarrierStatistics(List<DeliveryGroupStats> carriers) {
+        Map<String, Long> carrierCounts = new HashMap<>();
+        for (DeliveryGroupStats carrier : carriers) {
+            carrierCounts.put(carrier.groupKey(), count(carrier.totalCount()));
+        }
         
         return Map.of(
             "distribution", carrierCounts,
@@ -167,46 +140,35 @@ public class DeliveryAnalyticsService {
         );
     }
 
-    private Map<String, Object> getDailyStatistics(List<Delivery> deliveries) {
-        Map<String, Long> dailyCounts = deliveries.stream()
-                .collect(Collectors.groupingBy(
-                    d -> d.getCreatedAt().format(DateTimeFormatter.ofPattern("MM-dd")),
-                    Collectors.counting()
-                ));
+    private Map<String, Object> getDailyStatistics(List<DeliveryPeriodStats> daily, long recentCount) {
+        Map<String, Long> dailyCounts = new HashMap<>();
+        for (DeliveryPeriodStats day : daily) {
+            dailyCounts.merge(String.format("%02d-%02d", day.month(), day.day()), count(day.totalCount()), Long::sum);
+        }
         
         return Map.of(
             "dailyCounts", dailyCounts,
-            "averagePerDay", deliveries.size() / Math.max(1, dailyCounts.size())
+            "averagePerDay", recentCount / Math.max(1, dailyCounts.size())
         );
     }
 
-    private Map<String, Object> getPerformanceMetrics(List<Delivery> deliveries) {
-        long totalDeliveries = deliveries.size();
-        long completedDeliveries = countByStatus(deliveries, "DELIVERED");
-        
+    private Map<String, Object> getPerformanceMetrics(DeliveryGroupStats total) {
         return Map.of(
-            "completionRate", totalDeliveries > 0 ? (double) completedDeliveries / totalDeliveries * 100 : 0,
-            "averageDeliveryTime", calculateAverageDeliveryTime(deliveries),
-            "onTimeDeliveryRate", calculateOnTimeRate(deliveries)
+            "completionRate", rate(total.deliveredCount(), total.totalCount()),
+            "averageDeliveryTime", hours(total.avgDeliveryHours()),
+            // 3일 이내 배송을 정시 배송으로 간주
+            "onTimeDeliveryRate", rate(total.onTimeCount(), total.completedCount())
         );
     }
 
-    private Map<String, Long> getRegionStatistics(List<Delivery> deliveries) {
-        return deliveries.stream()
-                .filter(d -> d.getAddress() != null)
-                .collect(Collectors.groupingBy(
-                    d -> extractRegion(d.getAddress()),
-                    Collectors.counting()
-                ))
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(10)
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (e1, e2) -> e1,
-                    LinkedHashMap::new
-                ));
+    private Map<String, Long> getRegionStatistics(List<DeliveryRegionCount> regions) {
+        // 쿼리에서 건수 내림차순으로 정렬됨
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (DeliveryRegionCount region : regions) {
+            if (top.size() == 10) break;
+            top.put(region.region(), count(region.count()));
+        }
+        return top;
     }
 
     private String getTopCarrier(Map<String, Long> carrierCounts) {
@@ -216,60 +178,16 @@ public class DeliveryAnalyticsService {
                 .orElse("N/A");
     }
 
-    private double calculateAverageDeliveryTime(List<Delivery> deliveries) {
-        List<Delivery> completedDeliveries = deliveries.stream()
-                .filter(d -> d.getStatus() == Delivery.Status.DELIVERED && d.getCompletedDate() != null)
-                .collect(Collectors.toList());
-        
-        if (completedDeliveries.isEmpty()) return 0.0;
-        
-        double totalHours = completedDeliveries.stream()
-                .mapToDouble(d -> java.time.Duration.between(d.getCreatedAt(), d.getCompletedDate()).toHours())
-                .sum();
-        
-        return totalHours / completedDeliveries.size();
-    }
-
-    private double calculateSuccessRate(List<Delivery> deliveries) {
-        if (deliveries.isEmpty()) return 0.0;
-        
-        long successCount = countByStatus(deliveries, "DELIVERED");
-        return (double) successCount / deliveries.size() * 100;
+    private double rate(Long part, Long whole) {
+        long total = count(whole);
+        return total > 0 ? (double) count(part) / total * 100 : 0.0;
     }
 
-    private double calculateOnTimeRate(List<Delivery> deliveries) {
-        // 3일 이내 배송을 정시 배송으로 간주
-        List<Delivery> completedDeliveries = deliveries.stream()
-                .filter(d -> d.getStatus() == Delivery.Status.DELIVERED && d.getCompletedDate() != null)
-                .collect(Collectors.toList());
-        
-        if (completedDeliveries.isEmpty()) return 0.0;
-        
-        long onTimeCount = completedDeliveries.stream()
-                .filter(d -> java.time.Duration.between(d.getCreatedAt(), d.getCompletedDate()).toDays() <= 3)
-                .count();
-        
-        return (double) onTimeCount / completedDeliveries.size() * 100;
+    private double hours(Double avgHours) {
+        return avgHours != null ? avgHours : 0.0;
     }
 
-    private String extractRegion(String address) {
-        // 주소에서 시/도 추출 (간단한 로직)
-        if (address.contains("서울")) return "서울";
-        if (address.contains("부산")) return "부산";
-        if (address.contains("대구")) return "대구";
-        if (address.contains("인천")) return "인천";
-        if (address.contains("광주")) return "광주";
-        if (address.contains("대전")) return "대전";
-        if (address.contains("울산")) return "울산";
-        if (address.contains("경기")) return "경기";
-        if (address.contains("강원")) return "강원";
-        if (address.contains("충북")) return "충북";
-        if (address.contains("충남")) return "충남";
-        if (address.contains("전북")) return "전북";
-        if (address.contains("전남")) return "전남";
-        if (address.contains("경북")) return "경북";
-        if (address.contains("경남")) return "경남";
-        if (address.contains("제주")) return "제주";
-        return "기타";
+    private long count(Long value) {
+        return value != null ? value : 0L;
     }
-}
\ No newline at end of file
+}
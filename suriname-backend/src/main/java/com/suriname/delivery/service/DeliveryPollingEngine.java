@@ -0,0 +1,203 @@
+package com.suriname.delivery.service;
+
+import com.suriname.delivery.config.DeliveryPollingProperties;
+import com.suriname.delivery.dto.DeliveryPollTarget;
+import com.suriname.delivery.entity.Delivery;
+import com.suriname.delivery.repository.DeliveryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 택배사별 병렬 배송 조회 엔진
+ * - 택배사마다 가상 스레드로 분리해 느린 택배사가 다른 택배사를 막지 않음
+ * - 택배사별 동시 호출 수 / 초당 호출 수 제한
+ * - 조회 결과는 batchSize 단위로 짧은 트랜잭션에 나누어 커밋
+ * - minInterval 안에 조회한 배송은 건너뜀
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryPollingEngine {
+
+    private static final List<Delivery.Status> ACTIVE_STATUSES = List.of(Delivery.Status.PENDING, Delivery.Status.SHIPPED);
+
+    private final DeliveryRepository deliveryRepository;
+    private final CourierApiService courierApiService;
+    private final DeliveryNotificationService notificationService;
+    private final DeliveryPollingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public record PollSummary(int targets, int polled, int updated, int failed, long elapsedMillis) {
+        public double perSecond() {
+            return elapsedMillis == 0 ? polled : polled * 1000.0 / elapsedMillis;
+        }
+    }
+
+    // 택배사 조회 결과 1건 (newStatus == null 이면 변경 없음)
+    private record PollResult(Long deliveryId, Delivery.Status newStatus) {}
+
+    public PollSummary pollOnce() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 배송 조회 작업이 아직 실행 중이어서 건너뜀");
+            return new PollSummary(0, 0, 0, 0, 0);
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime polledBefore = LocalDateTime.now().minus(properties.getMinInterval());
+            List<DeliveryPollTarget> targets = deliveryRepository.findPollTargets(ACTIVE_STATUSES, polledBefore);
+
+            Map<String, List<DeliveryPollTarget>> byCarrier = targets.stream()
+                    .collect(Collectors.groupingBy(t -> Objects.toString(t.carrierName(), ""), HashMap::new, Collectors.toList()));
+
+            AtomicInteger polled = new AtomicInteger();
+            AtomicInteger updated = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+
+            try (ExecutorService carrierExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (Map.Entry<String, List<DeliveryPollTarget>> entry : byCarrier.entrySet()) {
+                    carrierExecutor.submit(() -> pollCarrier(entry.getKey(), entry.getValue(), polled, updated, failed));
+                }
+            } // 모든 택배사 작업이 끝날 때까지 대기
+
+            PollSummary summary = new PollSummary(targets.size(), polled.get(), updated.get(), failed.get(),
+                    System.currentTimeMillis() - start);
+            log.info("배송 상태 조회 완료 - 대상: {}, 조회: {}, 변경: {}, 실패: {}, {}ms ({}/s)",
+                    summary.targets(), summary.polled(), summary.updated(), summary.failed(),
+                    summary.elapsedMillis(), String.format("%.1f", summary.perSecond()));
+            return summary;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void pollCarrier(String carrierName, List<DeliveryPollTarget> targets,
+                             AtomicInteger polled, AtomicInteger updated, AtomicInteger failed) {
+        Semaphore permits = new Semaphore(Math.max(1, properties.concurrencyOf(carrierName)));
+        CarrierRateLimiter rateLimiter = new CarrierRateLimiter(properties.ratePerSecondOf(carrierName));
+        int batchSize = Math.max(1, properties.getBatchSize());
+
+        try (ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<DeliveryPollTarget> chunk = targets.subList(from, Math.min(from + batchSize, targets.size()));
+
+                List<Future<PollResult>> futures = new ArrayList<>(chunk.size());
+                for (DeliveryPollTarget target : chunk) {
+                    futures.add(callExecutor.submit(() -> {
+                        permits.acquire();
+                        try {
+                            rateLimiter.acquire();
+                            return pollOne(target);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+
+                List<PollResult> results = new ArrayList<>(chunk.size());
+                for (Future<PollResult> future : futures) {
+                    try {
+                        PollResult result = future.get();
+                        if (result != null) {
+                            results.add(result);
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (ExecutionException e) {
+                        failed.incrementAndGet();
+                        log.error("배송 조회 실패 - 택배사: {}", carrierName, e.getCause());
+                    }
+                }
+
+                updated.addAndGet(commitBatch(results));
+                polled.addAndGet(results.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("배송 조회 중단 - 택배사: {}", carrierName);
+        } catch (Exception e) {
+            log.error("택배사 배송 조회 작업 실패 - 택배사: {}", carrierName, e);
+        }
+    }
+
+    // 택배사 API 1건 조회 (실패 시 null)
+    private PollResult pollOne(DeliveryPollTarget target) {
+        Map<String, Object> trackingInfo = courierApiService.getTrackingInfo(target.carrierName(), target.trackingNo());
+
+        if (trackingInfo.containsKey("error")) {
+            log.warn("배송 조회 실패 - ID: {}, 송장번호: {}", target.deliveryId(), target.trackingNo());
+            return null;
+        }
+
+        String normalizedStatus = courierApiService.normalizeDeliveryStatus((String) trackingInfo.get("status"));
+        if ("UNKNOWN".equals(normalizedStatus) || target.status().name().equals(normalizedStatus)) {
+            return new PollResult(target.deliveryId(), null);
+        }
+        return new PollResult(target.deliveryId(), Delivery.Status.valueOf(normalizedStatus));
+    }
+
+    // 조회 결과 한 묶음을 짧은 트랜잭션으로 반영
+    private int commitBatch(List<PollResult> results) {
+        if (results.isEmpty()) return 0;
+
+        Integer changed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            deliveryRepository.markPolled(results.stream().map(PollResult::deliveryId).toList(), now);
+
+            Map<Long, Delivery.Status> changes = results.stream()
+                    .filter(r -> r.newStatus() != null)
+                    .collect(Collectors.toMap(PollResult::deliveryId, PollResult::newStatus));
+            if (changes.isEmpty()) return 0;
+
+            int count = 0;
+            for (Delivery delivery : deliveryRepository.findAllById(changes.keySet())) {
+                Delivery.Status newStatus = changes.get(delivery.getDeliveryId());
+                // 조회하는 동안 다른 경로로 상태가 바뀌었으면 덮어쓰지 않음
+                if (!ACTIVE_STATUSES.contains(delivery.getStatus()) || delivery.getStatus() == newStatus) {
+                    continue;
+                }
+
+                log.info("배송 상태 업데이트 - ID: {}, {} -> {}", delivery.getDeliveryId(), delivery.getStatus(), newStatus);
+                delivery.updateStatus(newStatus);
+                count++;
+
+                // 배송 완료 시 SMS 발송
+                if (newStatus == Delivery.Status.DELIVERED) {
+                    sendDeliveryCompletionNotification(delivery);
+                }
+            }
+            return count;
+        });
+        return changed != null ? changed : 0;
+    }
+
+    /**
+     * 배송 완료 SMS 발송
+     */
+    private void sendDeliveryCompletionNotification(Delivery delivery) {
+        try {
+            notificationService.sendDeliveryCompletionNotification(delivery);
+        } catch (Exception e) {
+            log.error("배송 완료 SMS 발송 실패 - 배송 ID: {}", delivery.getDeliveryId(), e);
+        }
+    }
+}
@@ -57,14 +57,9 @@ public class DeliveryService {
             requestRepository.save(request);
         }
 
-        // 배송 등록 SMS 발송
-        try {
-            if (delivery.getStatus() == Delivery.Status.SHIPPED) {
-                notificationService.sendDeliveryStartNotification(delivery);
-            }
-        } catch (Exception e) {
-            // SMS 발송 실패해도 배송 등록은 성공으로 처리
-            log.warn("배송 등록 SMS 발송 실패 - 배송 ID: {}", delivery.getDeliveryId(), e);
+        // 배송 시작 SMS 등록 (발송은 커밋 후 SmsOutboxDispatcher 가 처리하므로 게이트웨이 실패와 무관)
+        if (delivery.getStatus() == Delivery.Status.SHIPPED) {
+            notificationService.sendDeliveryStartNotification(delivery);
         }
 
         return Map.of("deliveryId", delivery.getDeliveryId());
@@ -8,6 +8,7 @@ import com.suriname.employee.entity.Employee;
 import com.suriname.employee.repository.EmployeeRepository;
 import com.suriname.employee.repository.EmployeeSpecification;
 import com.suriname.employee.service.mapper.EmployeeMapper;
+import com.suriname.global.security.cache.JwtAuthenticationCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,6 +24,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
     private final PasswordEncoder passwordEncoder;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     @Transactional
@@ -62,6 +64,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.changePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         employee.changeEmail(requestDto.getEmail());
         employee.changePhone(requestDto.getPhone());
+        jwtAuthenticationCache.invalidate(employee.getLoginId());
 
         return employeeMapper.toDto(employee);
     }
@@ -71,6 +74,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public void deactivateEmployee(Long employeeId) {
         Employee employee = findEmployee(employeeId);
         employee.inactive();
+        jwtAuthenticationCache.invalidate(employee.getLoginId());
     }
 
     private void validateDuplicateLoginId(String loginId) {
@@ -105,6 +109,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeResponseDto updateRole(Long employeeId, String role) {
         Employee employee = findEmployee(employeeId);
         employee.changeRole(Employee.Role.valueOf(role));
+        jwtAuthenticationCache.invalidate(employee.getLoginId());
         return employeeMapper.toDto(employee);
     }
 
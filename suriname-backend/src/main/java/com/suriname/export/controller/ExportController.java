@@ -0,0 +1,102 @@
+package com.suriname.export.controller;
+
+import com.suriname.customer.dto.CustomerSearchDto;
+import com.suriname.export.service.ExportService;
+import com.suriname.export.writer.ExportFormat;
+import com.suriname.export.writer.ExportWriter;
+import com.suriname.request.dto.RequestSearchDto;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 목록 검색 결과 내보내기. 검색 조건은 각 목록 검색 API 와 같은 형식으로 받는다.
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final ExportService exportService;
+
+    // 고객 목록 (/api/customers/search 와 같은 조건)
+    @PostMapping("/customers")
+    public void exportCustomers(
+            @RequestBody(required = false) CustomerSearchDto dto,
+            @RequestParam(defaultValue = "xlsx") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = resolve(format, response);
+        if (exportFormat == null) return;
+
+        try (ExportWriter writer = open(exportFormat, "customers", "고객", response)) {
+            exportService.exportCustomers(dto != null ? dto : new CustomerSearchDto(), writer);
+        }
+    }
+
+    // 수리 요청 목록 (/api/requests/search 와 같은 조건)
+    @PostMapping("/requests")
+    public void exportRequests(
+            @RequestBody(required = false) RequestSearchDto dto,
+            @RequestParam(defaultValue = "xlsx") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = resolve(format, response);
+        if (exportFormat == null) return;
+
+        try (ExportWriter writer = open(exportFormat, "requests", "수리요청", response)) {
+            exportService.exportRequests(dto != null ? dto : new RequestSearchDto(), writer);
+        }
+    }
+
+    // 입금 목록 (GET /api/payments 와 같은 조건)
+    @GetMapping("/payments")
+    public void exportPayments(
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) String receptionNumber,
+            @RequestParam(required = false) String bankName,
+            @RequestParam(required = false) String paymentAmount,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "xlsx") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = resolve(format, response);
+        if (exportFormat == null) return;
+
+        try (ExportWriter writer = open(exportFormat, "payments", "입금", response)) {
+            exportService.exportPayments(customerName, receptionNumber, bankName, paymentAmount,
+                    status, startDate, endDate, writer);
+        }
+    }
+
+    private ExportFormat resolve(String format, HttpServletResponse response) throws IOException {
+        try {
+            return ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return null;
+        }
+    }
+
+    // 응답 헤더를 먼저 쓰고 본문은 행 단위로 바로 흘려보냄 (Content-Length 없이 chunked 전송)
+    private ExportWriter open(ExportFormat format, String fileName, String sheetName,
+                              HttpServletResponse response) throws IOException {
+        String name = fileName + "_" + LocalDateTime.now().format(FILE_STAMP) + "." + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name, StandardCharsets.UTF_8).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        return format.open(response.getOutputStream(), sheetName);
+    }
+}
@@ -0,0 +1,206 @@
+package com.suriname.export.service;
+
+import com.suriname.customer.dto.CustomerSearchDto;
+import com.suriname.customer.entity.Customer;
+import com.suriname.customer.entity.CustomerSpecification;
+import com.suriname.employee.entity.Employee;
+import com.suriname.export.writer.ExportWriter;
+import com.suriname.global.jdbc.StreamingFetchSize;
+import com.suriname.payment.Payment;
+import com.suriname.payment.PaymentSpecification;
+import com.suriname.product.entity.CustomerProduct;
+import com.suriname.product.entity.Product;
+import com.suriname.request.dto.RequestSearchDto;
+import com.suriname.request.entity.Request;
+import com.suriname.request.entity.RequestSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 목록 검색 조건(Specification)을 그대로 적용해 결과를 스트리밍으로 내보낸다.
+ * 엔티티 대신 필요한 컬럼만 Tuple 로 조회하므로 영속성 컨텍스트에 쌓이지 않고,
+ * fetch size 단위로 커서를 전진시키며 한 행씩 ExportWriter 로 넘긴다.
+ * MySQL 은 StreamingFetchSize 로 이 조회만 스트리밍 결과셋으로 읽는다 (연결 전체 설정은 바꾸지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final EntityManager em;
+    private final StreamingFetchSize streamingFetchSize;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public long exportCustomers(CustomerSearchDto dto, ExportWriter writer) throws IOException {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> root = query.from(Customer.class);
+        where(query, CustomerSpecification.searchWith(dto).toPredicate(root, query, cb));
+
+        query.multiselect(
+                root.get("customerId"),
+                root.get("name"),
+                root.get("phone"),
+                root.get("email"),
+                root.get("address"),
+                root.get("birth"),
+                root.get("status"),
+                root.get("createdAt"));
+        query.orderBy(cb.asc(root.get("customerId")));
+
+        writer.header(List.of("고객ID", "고객명", "전화번호", "이메일", "주소", "생년월일", "상태", "등록일시"));
+        return write(query, t -> new Object[]{
+                t.get(0), t.get(1), t.get(2), t.get(3), t.get(4), t.get(5),
+                customerStatusLabel((Customer.Status) t.get(6)), t.get(7)
+        }, writer);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportRequests(RequestSearchDto dto, ExportWriter writer) throws IOException {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Request> root = query.from(Request.class);
+        where(query, RequestSpecification.search(dto).toPredicate(root, query, cb));
+
+        Join<Request, Customer> customer = join(root, "customer", JoinType.INNER);
+        Join<Request, CustomerProduct> customerProduct = join(root, "customerProduct", JoinType.INNER);
+        Join<CustomerProduct, Product> product = join(customerProduct, "product", JoinType.INNER);
+        Join<Request, Employee> employee = join(root, "employee", JoinType.LEFT);
+
+        query.multiselect(
+                root.get("requestNo"),
+                root.get("createdAt"),
+                root.get("status"),
+                customer.get("name"),
+                customer.get("phone"),
+                product.get("productName"),
+                product.get("modelCode"),
+                customerProduct.get("serialNumber"),
+                employee.get("name"),
+                root.get("completedAt"));
+        query.orderBy(cb.asc(root.get("requestId")));
+
+        writer.header(List.of("접수번호", "접수일시", "상태", "고객명", "전화번호", "제품명", "모델코드",
+                "시리얼번호", "담당자", "완료일시"));
+        return write(query, t -> new Object[]{
+                t.get(0), t.get(1), requestStatusLabel((Request.Status) t.get(2)),
+                t.get(3), t.get(4), t.get(5), t.get(6), t.get(7), t.get(8), t.get(9)
+        }, writer);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportPayments(String customerName, String receptionNumber, String bankName,
+                               String paymentAmount, String status, String startDate, String endDate,
+                               ExportWriter writer) throws IOException {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Payment> root = query.from(Payment.class);
+        where(query, PaymentSpecification.search(customerName, receptionNumber, bankName,
+                paymentAmount, status, startDate, endDate).toPredicate(root, query, cb));
+
+        Join<Payment, Request> request = join(root, "request", JoinType.INNER);
+        Join<Request, Customer> customer = join(request, "customer", JoinType.INNER);
+
+        query.multiselect(
+                root.get("paymentId"),
+                request.get("requestNo"),
+                customer.get("name"),
+                root.get("merchantUid"),
+                root.get("bank"),
+                root.get("account"),
+                root.get("cost"),
+                root.get("status"),
+                root.get("confirmedAt"),
+                root.get("memo"));
+        query.orderBy(cb.asc(root.get("paymentId")));
+
+        writer.header(List.of("결제ID", "접수번호", "고객명", "주문번호", "은행", "계좌번호", "금액", "상태",
+                "입금일시", "메모"));
+        return write(query, t -> new Object[]{
+                t.get(0), t.get(1), t.get(2), t.get(3), t.get(4), t.get(5), t.get(6),
+                paymentStatusLabel((Payment.Status) t.get(7)), t.get(8), t.get(9)
+        }, writer);
+    }
+
+    private long write(CriteriaQuery<Tuple> query, Function<Tuple, Object[]> mapper, ExportWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<Tuple> rows = em.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize.of(fetchSize))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Tuple tuple : (Iterable<Tuple>) rows::iterator) {
+                writer.row(mapper.apply(tuple));
+                count++;
+            }
+        }
+        writer.finish();
+        log.info("내보내기 완료: {}건", count);
+        return count;
+    }
+
+    private static void where(CriteriaQuery<?> query, Predicate predicate) {
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    // Specification 이 이미 만든 조인이 있으면 재사용 (같은 연관을 두 번 조인하지 않도록)
+    @SuppressWarnings("unchecked")
+    private static <X, Y> Join<X, Y> join(From<?, X> from, String attribute, JoinType type) {
+        for (Join<X, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && join.getJoinType() == type) {
+                return (Join<X, Y>) join;
+            }
+        }
+        return from.join(attribute, type);
+    }
+
+    private static String customerStatusLabel(Customer.Status status) {
+        if (status == null) return null;
+        return switch (status) {
+            case ACTIVE -> "활성";
+            case INACTIVE -> "비활성";
+        };
+    }
+
+    private static String requestStatusLabel(Request.Status status) {
+        if (status == null) return null;
+        return switch (status) {
+            case RECEIVED -> "접수";
+            case REPAIRING -> "수리중";
+            case WAITING_FOR_PAYMENT -> "입금대기";
+            case WAITING_FOR_DELIVERY -> "배송대기";
+            case COMPLETED -> "완료";
+        };
+    }
+
+    private static String paymentStatusLabel(Payment.Status status) {
+        if (status == null) return null;
+        return switch (status) {
+            case SUCCESS -> "입금완료";
+            case PENDING -> "입금대기";
+            case FAILED -> "입금실패";
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.suriname.export.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// RFC 4180 CSV. 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙인다.
+public class CsvExportWriter implements ExportWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    public CsvExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        writer.write('\uFEFF');
+        writeLine(columns.toArray());
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+        writeLine(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(format(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    private String format(Object value) {
+        if (value == null) return "";
+        if (value instanceof LocalDateTime dt) return dt.format(DATE_TIME);
+        if (value instanceof LocalDate d) return d.toString();
+        if (value instanceof Number) return value.toString();
+
+        // 엑셀 수식으로 해석되지 않도록 (CSV injection)
+        String s = value.toString();
+        if (!s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+            return "'" + s;
+        }
+        return s;
+    }
+
+    private String escape(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
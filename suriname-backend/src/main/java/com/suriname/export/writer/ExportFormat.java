@@ -0,0 +1,43 @@
+package com.suriname.export.writer;
+
+import java.io.OutputStream;
+
+public enum ExportFormat {
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public ExportWriter open(OutputStream out, String sheetName) {
+        return switch (this) {
+            case XLSX -> new XlsxExportWriter(out, sheetName);
+            case CSV -> new CsvExportWriter(out);
+        };
+    }
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return XLSX;
+        }
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+    }
+}
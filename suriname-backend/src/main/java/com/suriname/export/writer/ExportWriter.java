@@ -0,0 +1,19 @@
+package com.suriname.export.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보내기 행을 한 줄씩 받아 출력 스트림에 바로 쓴다.
+ * 행을 모아두지 않으므로 건수와 관계없이 메모리 사용량이 일정하다.
+ */
+public interface ExportWriter extends Closeable {
+
+    void header(List<String> columns) throws IOException;
+
+    void row(Object[] values) throws IOException;
+
+    // 남은 내용을 출력 스트림으로 내보냄 (출력 스트림 자체는 닫지 않음)
+    void finish() throws IOException;
+}
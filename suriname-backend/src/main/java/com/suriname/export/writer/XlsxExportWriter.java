@@ -0,0 +1,104 @@
+package com.suriname.export.writer;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SXSSF 로 xlsx 를 쓴다. 메모리에는 최근 WINDOW 행만 두고 나머지는 압축 임시 파일로 내려보내며,
+ * 시트당 행 수 제한(1,048,576)을 넘기 전에 다음 시트로 넘어간다.
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+    private static final int WINDOW = 100;
+    static final int MAX_ROWS_PER_SHEET = 1_000_000;
+
+    private final OutputStream out;
+    private final String sheetName;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+
+    private List<String> columns;
+    private Sheet sheet;
+    private int sheetCount;
+    private int rowNum;
+
+    public XlsxExportWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.sheetName = sheetName;
+        this.workbook = new SXSSFWorkbook(WINDOW);
+        this.workbook.setCompressTempFiles(true);
+
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+    }
+
+    @Override
+    public void header(List<String> columns) {
+        this.columns = columns;
+        nextSheet();
+    }
+
+    @Override
+    public void row(Object[] values) {
+        if (rowNum >= MAX_ROWS_PER_SHEET) {
+            nextSheet();
+        }
+        Row row = sheet.createRow(rowNum++);
+        for (int c = 0; c < values.length; c++) {
+            setValue(row.createCell(c), values[c]);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 임시 파일도 함께 삭제됨
+        workbook.close();
+    }
+
+    private void nextSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+        rowNum = 0;
+        Row header = sheet.createRow(rowNum++);
+        for (int c = 0; c < columns.size(); c++) {
+            header.createCell(c).setCellValue(columns.get(c));
+        }
+    }
+
+    private void setValue(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number n) {
+            cell.setCellValue(n.doubleValue());
+        } else if (value instanceof LocalDateTime dt) {
+            cell.setCellValue(dt);
+            cell.setCellStyle(dateTimeStyle);
+        } else if (value instanceof LocalDate d) {
+            cell.setCellValue(d);
+            cell.setCellStyle(dateStyle);
+        } else if (value instanceof Boolean b) {
+            cell.setCellValue(b);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.suriname.global.algolia;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Algolia 반영 대기 변경 (업무 트랜잭션 안에서 AlgoliaChangeLog 가 저장하고 AlgoliaSyncService 가 반영 후 삭제)
+@Entity
+@Table(name = "algolia_change")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AlgoliaChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "algolia_change_id")
+    private Long algoliaChangeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum TargetType {
+        CUSTOMER, PRODUCT, CUSTOMER_PRODUCT
+    }
+}
@@ -0,0 +1,48 @@
+package com.suriname.global.algolia;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 고객/제품/고객제품 변경을 algolia_change 에 기록한다.
+ * 엔티티 콜백(flush 중)에서도 불리므로 JPA 대신 JDBC 로 같은 트랜잭션에 넣는다 (롤백되면 기록도 없어짐).
+ * Algolia 설정이 없으면 기록하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlgoliaChangeLog {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AlgoliaProperties properties;
+
+    public void customersChanged(Collection<Long> customerIds) {
+        record(AlgoliaChange.TargetType.CUSTOMER, customerIds);
+    }
+
+    public void productsChanged(Collection<Long> productIds) {
+        record(AlgoliaChange.TargetType.PRODUCT, productIds);
+    }
+
+    public void customerProductsChanged(Collection<Long> customerProductIds) {
+        record(AlgoliaChange.TargetType.CUSTOMER_PRODUCT, customerProductIds);
+    }
+
+    private void record(AlgoliaChange.TargetType type, Collection<Long> ids) {
+        if (!properties.isConfigured() || ids.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> targets = List.copyOf(ids);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO algolia_change (target_type, target_id, created_at) VALUES (?, ?, ?)",
+                targets, targets.size(), (ps, id) -> {
+                    ps.setString(1, type.name());
+                    ps.setLong(2, id);
+                    ps.setTimestamp(3, now);
+                });
+    }
+}
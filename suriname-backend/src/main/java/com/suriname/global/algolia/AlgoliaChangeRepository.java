@@ -0,0 +1,13 @@
+package com.suriname.global.algolia;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface AlgoliaChangeRepository extends JpaRepository<AlgoliaChange, Long> {
+
+    @Query("SELECT c FROM AlgoliaChange c ORDER BY c.algoliaChangeId")
+    List<AlgoliaChange> findPending(Pageable pageable);
+}
@@ -0,0 +1,92 @@
+package com.suriname.global.algolia;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Algolia Search REST API (v1) 중 동기화에 쓰는 호출만.
+ * 외부 연동 공통 RestTemplate(커넥션 풀, 서킷 브레이커, 지표)을 쓰고, 인덱스 이름은 경로 변수로 넘긴다.
+ */
+@Component
+public class AlgoliaClient {
+
+    private final RestTemplate rest;
+    private final AlgoliaProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public record BrowsePage(List<JsonNode> hits, String cursor) {}
+
+    public AlgoliaClient(@Qualifier("algoliaRestTemplate") RestTemplate rest, AlgoliaProperties properties) {
+        this.rest = rest;
+        this.properties = properties;
+    }
+
+    // requests: {"action": "updateObject" | "deleteObject" | "addObject", "body": {...}} 목록, 반환값은 taskID
+    public long batch(String index, List<Map<String, Object>> requests) {
+        JsonNode response = call(HttpMethod.POST, "/1/indexes/{index}/batch", Map.of("requests", requests), index);
+        return response.path("taskID").asLong();
+    }
+
+    public long setSettings(String index, Map<String, Object> settings) {
+        return call(HttpMethod.PUT, "/1/indexes/{index}/settings", settings, index).path("taskID").asLong();
+    }
+
+    // from 인덱스로 to 인덱스를 원자적으로 교체 (from 은 없어짐)
+    public long moveIndex(String from, String to) {
+        Map<String, Object> body = Map.of("operation", "move", "destination", to);
+        return call(HttpMethod.POST, "/1/indexes/{index}/operation", body, from).path("taskID").asLong();
+    }
+
+    public boolean isPublished(String index, long taskId) {
+        JsonNode response = call(HttpMethod.GET, "/1/indexes/{index}/task/{taskId}", null, index, taskId);
+        return "published".equals(response.path("status").asText());
+    }
+
+    // 인덱스 전체를 커서로 훑음 (없는 인덱스는 빈 결과)
+    public BrowsePage browse(String index, String cursor, List<String> attributes) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("attributesToRetrieve", attributes);
+        body.put("hitsPerPage", properties.getBatchSize());
+        if (cursor != null) {
+            body.put("cursor", cursor);
+        }
+        JsonNode response;
+        try {
+            response = call(HttpMethod.POST, "/1/indexes/{index}/browse", body, index);
+        } catch (HttpClientErrorException.NotFound e) {
+            return new BrowsePage(List.of(), null);
+        }
+        List<JsonNode> hits = new ArrayList<>();
+        response.path("hits").forEach(hits::add);
+        JsonNode next = response.get("cursor");
+        return new BrowsePage(hits, next != null && !next.isNull() ? next.asText() : null);
+    }
+
+    private JsonNode call(HttpMethod method, String path, Object body, Object... uriVariables) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Algolia-Application-Id", properties.getAppId());
+        headers.set("X-Algolia-API-Key", properties.getAdminKey());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String response = rest.exchange(properties.baseUrl() + path, method, new HttpEntity<>(body, headers),
+                String.class, uriVariables).getBody();
+        try {
+            return objectMapper.readTree(response == null ? "{}" : response);
+        } catch (Exception e) {
+            throw new IllegalStateException("Algolia 응답 해석 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.suriname.global.algolia;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "algolia")
+public class AlgoliaProperties {
+
+    private String appId;
+
+    // 인덱싱용 Admin Key
+    private String adminKey;
+
+    // API 주소 (비우면 https://{appId}.algolia.net, 테스트에서는 스텁 서버)
+    private String host;
+
+    private String customerIndex = "customers";
+    private String productIndex = "products";
+
+    // batch 요청 1회에 담을 작업 수
+    private int batchSize = 1000;
+
+    // 전체 재색인 시 작업 반영(task published) 대기 한도
+    private Duration taskTimeout = Duration.ofMinutes(5);
+
+    // 기동 후 백그라운드에서 인덱스 설정 + 정합성 점검
+    private boolean reconcileOnStartup = true;
+
+    public boolean isConfigured() {
+        return appId != null && !appId.isBlank() && adminKey != null && !adminKey.isBlank();
+    }
+
+    public String baseUrl() {
+        return host != null && !host.isBlank() ? host : "https://" + appId + ".algolia.net";
+    }
+}
@@ -0,0 +1,35 @@
+package com.suriname.global.algolia;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Algolia 인덱스 전체 재색인 (임시 인덱스에 만든 뒤 교체, 백그라운드 실행)
+ */
+@RestController
+@RequestMapping("/api/admin/algolia")
+@RequiredArgsConstructor
+public class AlgoliaSyncController {
+
+    private final AlgoliaSyncService algoliaSyncService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        if (!algoliaSyncService.rebuildInBackground()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "status", 409,
+                    "message", "Algolia 설정이 없거나 다른 동기화 작업이 진행 중입니다."
+            ));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "status", 202,
+                "message", "전체 재색인을 시작했습니다."
+        ));
+    }
+}
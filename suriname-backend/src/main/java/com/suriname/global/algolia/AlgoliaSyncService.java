@@ -0,0 +1,345 @@
+package com.suriname.global.algolia;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.suriname.product.repository.CustomerProductRepository;
+import com.suriname.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Algolia 고객/제품 인덱스 동기화.
+ * 1) 변경 반영: algolia_change 에 쌓인 변경만 DB 에서 다시 읽어 batch(updateObject/deleteObject)로 보내고 기록을 지움
+ * 2) 정합성 점검: 인덱스를 browse 로 훑어 문서별 syncChecksum 을 DB 와 비교해 다른 것만 고침 (기동 시, 매일 새벽)
+ * 3) 전체 재색인: 임시 인덱스에 다 넣은 뒤 move 로 교체하므로 재색인 중에도 기존 인덱스로 검색됨
+ * 세 작업은 한 번에 하나만 돌고, 그동안 쌓인 변경은 끝난 뒤 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlgoliaSyncService {
+
+    static final String CHECKSUM = "syncChecksum";
+
+    private static final List<String> RANKING = List.of(
+            "typo", "geo", "words", "filters", "proximity", "attribute", "exact", "custom");
+
+    private final AlgoliaClient client;
+    private final AlgoliaProperties properties;
+    private final AlgoliaChangeRepository changeRepository;
+    private final CustomerProductRepository customerProductRepository;
+    private final ProductRepository productRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 인덱스별 문서 원본 (행의 0번 열이 문서 id)
+    private record IndexSpec(String name, Map<String, Object> settings,
+                             BiFunction<Long, Integer, List<Object[]>> pageAfter,
+                             Function<Collection<Long>, List<Object[]>> byIds,
+                             Function<Object[], Map<String, Object>> toDocument) {}
+
+    // 기동을 막지 않도록 백그라운드에서 인덱스 설정 후 정합성 점검
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isConfigured() || !properties.isReconcileOnStartup()) return;
+        Thread.ofVirtual().name("algolia-startup-sync").start(() -> exclusive("기동 동기화", () -> {
+            for (IndexSpec spec : indexes()) {
+                client.setSettings(spec.name(), spec.settings());
+            }
+            reconcileIndexes();
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${algolia.sync.poll-interval:5000}")
+    public void syncChanges() {
+        if (!properties.isConfigured()) return;
+        exclusive("변경 반영", () -> {
+            // 밀린 변경이 있으면 빈 배치가 나올 때까지 이어서 처리
+            int batchSize = Math.max(1, properties.getBatchSize());
+            while (syncBatch(batchSize) == batchSize) {
+                // 다음 배치
+            }
+        });
+    }
+
+    @Scheduled(cron = "${algolia.sync.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        if (!properties.isConfigured()) return;
+        exclusive("정합성 점검", this::reconcileIndexes);
+    }
+
+    public void rebuild() {
+        if (!properties.isConfigured()) return;
+        exclusive("전체 재색인", this::rebuildIndexes);
+    }
+
+    // 관리자 요청용, 이미 다른 작업이 돌고 있으면 false
+    public boolean rebuildInBackground() {
+        if (!properties.isConfigured() || !running.compareAndSet(false, true)) return false;
+        Thread.ofVirtual().name("algolia-rebuild").start(() -> {
+            try {
+                rebuildIndexes();
+            } catch (RuntimeException e) {
+                log.error("Algolia 전체 재색인 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void exclusive(String job, Runnable work) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Algolia {} 건너뜀: 다른 동기화 작업 진행 중", job);
+            return;
+        }
+        try {
+            work.run();
+        } catch (RuntimeException e) {
+            // 변경 기록은 지우지 않았으므로 다음 주기에 다시 시도
+            log.warn("Algolia {} 실패: {}", job, e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int syncBatch(int batchSize) {
+        List<AlgoliaChange> changes = changeRepository.findPending(PageRequest.of(0, batchSize));
+        if (changes.isEmpty()) return 0;
+
+        Set<Long> customerProductIds = new TreeSet<>();
+        Set<Long> customerIds = new TreeSet<>();
+        Set<Long> productIds = new TreeSet<>();
+        for (AlgoliaChange change : changes) {
+            switch (change.getTargetType()) {
+                case CUSTOMER_PRODUCT -> customerProductIds.add(change.getTargetId());
+                case CUSTOMER -> customerIds.add(change.getTargetId());
+                case PRODUCT -> productIds.add(change.getTargetId());
+            }
+        }
+        // 고객 문서는 고객제품 단위이므로 고객/제품 변경은 해당 고객제품 문서 전체에 반영
+        if (!customerIds.isEmpty()) {
+            customerProductIds.addAll(customerProductRepository.findIdsByCustomerIds(customerIds));
+        }
+        if (!productIds.isEmpty()) {
+            customerProductIds.addAll(customerProductRepository.findIdsByProductIds(productIds));
+        }
+
+        List<IndexSpec> indexes = indexes();
+        push(indexes.get(0), customerProductIds);
+        push(indexes.get(1), productIds);
+
+        changeRepository.deleteAllByIdInBatch(changes.stream().map(AlgoliaChange::getAlgoliaChangeId).toList());
+        return changes.size();
+    }
+
+    // 지정한 문서만 다시 읽어 보냄 (DB 에 없거나 삭제된 문서는 인덱스에서도 삭제)
+    private void push(IndexSpec spec, Set<Long> ids) {
+        if (ids.isEmpty()) return;
+        Writer writer = new Writer(spec.name());
+        List<Long> all = new ArrayList<>(ids);
+        for (int i = 0; i < all.size(); i += properties.getBatchSize()) {
+            List<Long> chunk = all.subList(i, Math.min(all.size(), i + properties.getBatchSize()));
+            Map<Long, Map<String, Object>> documents = new HashMap<>();
+            for (Object[] row : spec.byIds().apply(chunk)) {
+                documents.put(id(row), spec.toDocument().apply(row));
+            }
+            for (Long id : chunk) {
+                Map<String, Object> document = documents.get(id);
+                if (document != null) {
+                    writer.write("updateObject", document);
+                } else {
+                    writer.delete(String.valueOf(id));
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    // 인덱스의 objectID/syncChecksum 과 DB 문서를 비교해 다른 것만 고침
+    private void reconcileIndexes() {
+        for (IndexSpec spec : indexes()) {
+            Map<String, String> remote = new HashMap<>();
+            String cursor = null;
+            do {
+                AlgoliaClient.BrowsePage page = client.browse(spec.name(), cursor, List.of(CHECKSUM));
+                for (JsonNode hit : page.hits()) {
+                    remote.put(hit.path("objectID").asText(), hit.path(CHECKSUM).asText(""));
+                }
+                cursor = page.cursor();
+            } while (cursor != null);
+
+            Writer writer = new Writer(spec.name());
+            forEachDocument(spec, document -> {
+                String checksum = remote.remove((String) document.get("objectID"));
+                if (!document.get(CHECKSUM).equals(checksum)) {
+                    writer.write("updateObject", document);
+                }
+            });
+            remote.keySet().forEach(writer::delete);
+            writer.flush();
+            log.info("Algolia {} 정합성 점검 완료: 갱신 {}건, 삭제 {}건", spec.name(), writer.written, writer.deleted);
+        }
+    }
+
+    // 임시 인덱스에 설정과 문서를 모두 넣고 반영을 기다린 뒤 원래 인덱스로 교체
+    private void rebuildIndexes() {
+        for (IndexSpec spec : indexes()) {
+            String temporary = spec.name() + "_tmp";
+            long start = System.currentTimeMillis();
+
+            Writer writer = new Writer(temporary);
+            writer.lastTaskId = client.setSettings(temporary, spec.settings());
+            forEachDocument(spec, document -> writer.write("addObject", document));
+            writer.flush();
+            waitForTask(temporary, writer.lastTaskId);
+            waitForTask(temporary, client.moveIndex(temporary, spec.name()));
+            log.info("Algolia {} 전체 재색인 완료: {}건 ({} ms)",
+                    spec.name(), writer.written, System.currentTimeMillis() - start);
+        }
+    }
+
+    private void waitForTask(String index, long taskId) {
+        long deadline = System.currentTimeMillis() + properties.getTaskTimeout().toMillis();
+        while (!client.isPublished(index, taskId)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Algolia 작업 대기 시간 초과: " + index + " task " + taskId);
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Algolia 작업 대기 중단", e);
+            }
+        }
+    }
+
+    // id 순으로 batchSize 씩 읽어 문서로 넘김 (전체를 메모리에 올리지 않음)
+    private void forEachDocument(IndexSpec spec, Consumer<Map<String, Object>> consumer) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long after = 0;
+        while (true) {
+            List<Object[]> rows = spec.pageAfter().apply(after, batchSize);
+            for (Object[] row : rows) {
+                consumer.accept(spec.toDocument().apply(row));
+            }
+            if (rows.size() < batchSize) return;
+            after = id(rows.get(rows.size() - 1));
+        }
+    }
+
+    private List<IndexSpec> indexes() {
+        return List.of(
+                new IndexSpec(properties.getCustomerIndex(),
+                        Map.of("searchableAttributes", List.of(
+                                        "customerName", "phone", "email", "address",
+                                        "productName", "productBrand", "modelCode", "serialNumber"),
+                                "attributesForFaceting", List.of("productBrand", "categoryName"),
+                                "ranking", RANKING),
+                        customerProductRepository::findAlgoliaRowsAfter,
+                        customerProductRepository::findAlgoliaRowsByIds,
+                        AlgoliaSyncService::customerDocument),
+                new IndexSpec(properties.getProductIndex(),
+                        Map.of("searchableAttributes", List.of("categoryName", "productName", "productBrand", "modelCode"),
+                                "attributesForFaceting", List.of("productBrand", "categoryName"),
+                                "ranking", RANKING),
+                        productRepository::findSearchRowsAfter,
+                        productRepository::findSearchRowsByIds,
+                        AlgoliaSyncService::productDocument));
+    }
+
+    // findAlgoliaRows* 행 (고객제품 1건 = 문서 1건)
+    private static Map<String, Object> customerDocument(Object[] row) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("objectID", String.valueOf(id(row)));
+        document.put("customerId", ((Number) row[1]).longValue());
+        document.put("customerName", row[2]);
+        document.put("phone", row[3]);
+        document.put("email", row[4]);
+        document.put("birth", row[5] instanceof java.sql.Date date ? date.toLocalDate().toString() : row[5]);
+        document.put("address", row[6]);
+        document.put("productName", row[7]);
+        document.put("categoryName", row[8]);
+        document.put("productBrand", row[9]);
+        document.put("modelCode", row[10]);
+        document.put("serialNumber", row[11]);
+        return withChecksum(document);
+    }
+
+    // findSearchRows* 행
+    private static Map<String, Object> productDocument(Object[] row) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("objectID", String.valueOf(id(row)));
+        document.put("productName", row[1]);
+        document.put("categoryName", row[2]);
+        document.put("productBrand", row[3]);
+        document.put("modelCode", row[4]);
+        return withChecksum(document);
+    }
+
+    static Map<String, Object> withChecksum(Map<String, Object> document) {
+        StringBuilder sb = new StringBuilder();
+        document.forEach((field, value) -> sb.append(field).append('=').append(value).append('\n'));
+        document.put(CHECKSUM, DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        return document;
+    }
+
+    private static long id(Object[] row) {
+        return ((Number) row[0]).longValue();
+    }
+
+    // batchSize 개씩 모아 batch 요청으로 보냄
+    private final class Writer {
+        private final String index;
+        private final List<Map<String, Object>> requests = new ArrayList<>();
+        private long lastTaskId = -1;
+        private int written;
+        private int deleted;
+
+        private Writer(String index) {
+            this.index = index;
+        }
+
+        void write(String action, Map<String, Object> document) {
+            written++;
+            add(action, document);
+        }
+
+        void delete(String objectId) {
+            deleted++;
+            add("deleteObject", Map.of("objectID", objectId));
+        }
+
+        private void add(String action, Map<String, Object> body) {
+            requests.add(Map.of("action", action, "body", body));
+            if (requests.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (requests.isEmpty()) return;
+            lastTaskId = client.batch(index, List.copyOf(requests));
+            requests.clear();
+        }
+    }
+}
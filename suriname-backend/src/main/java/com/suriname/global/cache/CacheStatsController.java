@@ -0,0 +1,28 @@
+package com.suriname.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 대시보드 캐시별 적중/미스/계산 시간 조회
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final DashboardCaches dashboardCaches;
+
+    @GetMapping
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(Map.of(
+                "status", 200,
+                "data", dashboardCaches.stats()
+        ));
+    }
+}
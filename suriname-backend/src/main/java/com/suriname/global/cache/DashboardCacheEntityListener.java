@@ -0,0 +1,36 @@
+package com.suriname.global.cache;
+
+import com.suriname.delivery.entity.Delivery;
+import com.suriname.payment.Payment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배송/결제 엔티티가 저장되면 커밋 후 관련 대시보드 캐시를 비운다.
+ * Hibernate 가 스프링 빈 컨테이너로 생성하므로 생성자 주입을 받는다.
+ * (벌크 UPDATE 쿼리는 엔티티 콜백을 거치지 않으므로 TTL 만료에 맡긴다)
+ */
+@RequiredArgsConstructor
+public class DashboardCacheEntityListener {
+
+    private static final List<String> DELIVERY_DEPENDENT = List.of(DashboardCaches.DELIVERY_DASHBOARD);
+    private static final List<String> PAYMENT_DEPENDENT = List.of(
+            DashboardCaches.ANALYTICS_STATISTICS, DashboardCaches.ANALYTICS_REVENUE_TREND);
+
+    private final DashboardCaches dashboardCaches;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Delivery) {
+            dashboardCaches.invalidateAfterCommit(DELIVERY_DEPENDENT);
+        } else if (entity instanceof Payment) {
+            dashboardCaches.invalidateAfterCommit(PAYMENT_DEPENDENT);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.suriname.global.cache;
+
+import com.suriname.request.entity.RequestStatusChangedEvent;
+import com.suriname.request.entity.RequestsDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 요청 상태 변경/삭제가 커밋된 뒤 대시보드 캐시를 비운다.
+// 일자별 집계(RequestRollupListener, @Order(0))가 먼저 반영된 뒤에 실행되도록 순서는 기본값(가장 나중)으로 둔다.
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheInvalidator {
+
+    private final DashboardCaches dashboardCaches;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RequestStatusChangedEvent e) {
+        dashboardCaches.invalidate(DashboardCaches.REQUEST_DEPENDENT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RequestsDeletedEvent e) {
+        dashboardCaches.invalidate(DashboardCaches.REQUEST_DEPENDENT);
+    }
+}
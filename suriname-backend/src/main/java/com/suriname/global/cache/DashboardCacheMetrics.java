@@ -0,0 +1,48 @@
+package com.suriname.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드 캐시 통계를 Micrometer 캐시 지표 이름(cache.gets, cache.size ...)으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheMetrics implements MeterBinder {
+
+    private final DashboardCaches dashboardCaches;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ResponseCache<Object, Object> cache : dashboardCaches.caches()) {
+            String name = cache.getName();
+            FunctionCounter.builder("cache.gets", cache, c -> c.stats().hitCount())
+                    .tags("cache", name, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, c -> c.stats().missCount())
+                    .tags("cache", name, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictionCount())
+                    .tag("cache", name)
+                    .register(registry);
+            FunctionCounter.builder("cache.load.failures", cache, c -> c.stats().loadFailureCount())
+                    .tag("cache", name)
+                    .register(registry);
+            // 미스 1회 = 계산 1회
+            FunctionTimer.builder("cache.load.duration", cache,
+                            c -> c.stats().missCount(), c -> c.stats().totalLoadTimeNanos(), TimeUnit.NANOSECONDS)
+                    .tag("cache", name)
+                    .register(registry);
+            Gauge.builder("cache.size", cache, c -> c.stats().size())
+                    .tag("cache", name)
+                    .register(registry);
+        }
+    }
+}
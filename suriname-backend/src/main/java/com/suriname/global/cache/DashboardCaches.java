@@ -0,0 +1,95 @@
+package com.suriname.global.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 화면이 주기적으로 폴링하는 대시보드 응답 캐시.
+ * 열려 있는 브라우저마다 같은 집계를 다시 계산하지 않도록 짧은 TTL 동안 결과를 공유하고,
+ * 요청/배송/결제 상태가 바뀌면 DashboardCacheInvalidator 가 관련 캐시를 비운다.
+ */
+@Component
+public class DashboardCaches {
+
+    public static final String MAIN_TODAY = "main.today";
+    public static final String MAIN_WEEK = "main.week";
+    public static final String ANALYTICS_STATISTICS = "analytics.statistics";
+    public static final String ANALYTICS_STATUS_COUNT = "analytics.status-count";
+    public static final String ANALYTICS_CATEGORY_AS_COUNT = "analytics.category-as-count";
+    public static final String ANALYTICS_REVENUE_TREND = "analytics.revenue-trend";
+    public static final String ANALYTICS_EMPLOYEES = "analytics.employees";
+    public static final String DELIVERY_DASHBOARD = "delivery.dashboard";
+
+    // 요청 상태가 바뀌면 함께 달라지는 캐시
+    public static final List<String> REQUEST_DEPENDENT = List.of(
+            MAIN_TODAY, MAIN_WEEK, ANALYTICS_STATISTICS, ANALYTICS_STATUS_COUNT,
+            ANALYTICS_CATEGORY_AS_COUNT, ANALYTICS_REVENUE_TREND, ANALYTICS_EMPLOYEES);
+
+    // 키가 없는 캐시는 이 값 하나로 저장
+    private static final String SINGLE_KEY = "";
+
+    private final Map<String, ResponseCache<Object, Object>> caches = new LinkedHashMap<>();
+
+    public DashboardCaches(@Value("${dashboard.cache.ttl:10s}") Duration ttl,
+                           @Value("${dashboard.cache.max-size:100}") int maxSize) {
+        for (String name : List.of(MAIN_TODAY, MAIN_WEEK, ANALYTICS_STATISTICS, ANALYTICS_STATUS_COUNT,
+                ANALYTICS_CATEGORY_AS_COUNT, ANALYTICS_REVENUE_TREND, ANALYTICS_EMPLOYEES, DELIVERY_DASHBOARD)) {
+            caches.put(name, new ResponseCache<>(name, ttl, maxSize));
+        }
+    }
+
+    public <V> V get(String cacheName, Supplier<V> loader) {
+        return get(cacheName, SINGLE_KEY, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(String cacheName, Object key, Supplier<V> loader) {
+        return (V) cache(cacheName).get(key, (Supplier<Object>) loader);
+    }
+
+    public void invalidate(List<String> cacheNames) {
+        cacheNames.forEach(name -> cache(name).invalidateAll());
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 직후에 비운다.
+     * 커밋 전에 비우면 다른 요청이 아직 커밋되지 않은 이전 값으로 다시 채울 수 있다.
+     */
+    public void invalidateAfterCommit(List<String> cacheNames) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(cacheNames);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(cacheNames);
+            }
+        });
+    }
+
+    public Collection<ResponseCache<Object, Object>> caches() {
+        return caches.values();
+    }
+
+    public List<ResponseCache.Stats> stats() {
+        return caches.values().stream().map(ResponseCache::stats).toList();
+    }
+
+    private ResponseCache<Object, Object> cache(String name) {
+        ResponseCache<Object, Object> cache = caches.get(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("알 수 없는 캐시: " + name);
+        }
+        return cache;
+    }
+}
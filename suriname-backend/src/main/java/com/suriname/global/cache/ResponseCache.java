@@ -0,0 +1,138 @@
+package com.suriname.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 키별 TTL 을 갖는 크기 제한 캐시.
+ * 같은 키로 동시에 미스가 나면 먼저 들어온 요청 하나만 계산하고 나머지는 그 결과를 기다린다.
+ */
+public class ResponseCache<K, V> {
+
+    private final String name;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // 계산 중인 항목은 expiresAt 이 Long.MAX_VALUE
+    private static final class Entry<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long expiresAt = Long.MAX_VALUE;
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    public record Stats(String name, int size, long hitCount, long missCount,
+                        long loadFailureCount, long totalLoadTimeNanos, long evictionCount) {}
+
+    public ResponseCache(String name, Duration ttl, int maxSize) {
+        this.name = name;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long now = System.currentTimeMillis();
+        @SuppressWarnings("unchecked")
+        Entry<V>[] created = new Entry[1];
+        Entry<V> entry = entries.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            created[0] = new Entry<>();
+            return created[0];
+        });
+
+        if (entry != created[0]) {
+            // 계산 중인 항목을 기다리는 경우도 적중으로 센다
+            hits.increment();
+            return await(entry);
+        }
+
+        misses.increment();
+        evictIfFull(key, now);
+        return load(key, entry, loader);
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public Stats stats() {
+        return new Stats(name, entries.size(), hits.sum(), misses.sum(),
+                loadFailures.sum(), loadNanos.sum(), evictions.sum());
+    }
+
+    private V load(K key, Entry<V> entry, Supplier<V> loader) {
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            entry.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 실패한 결과는 캐시하지 않고, 기다리던 요청에도 같은 예외를 전달
+            entries.remove(key, entry);
+            loadFailures.increment();
+            entry.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private V await(Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(K keep, long now) {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+        // 만료된 항목을 지워도 넘치면 방금 넣은 키를 제외하고 임의의 항목을 내보냄
+        Iterator<K> it = entries.keySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            if (!it.next().equals(keep)) {
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
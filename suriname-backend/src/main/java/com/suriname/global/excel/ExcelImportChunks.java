@@ -0,0 +1,45 @@
+package com.suriname.global.excel;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 검증을 통과한 행 묶음을 한 트랜잭션에서 배치로 저장한다.
+ * 묶음 저장이 실패하면 롤백 후 한 행씩 다시 저장해 실패한 행만 보고한다.
+ */
+public final class ExcelImportChunks {
+
+    private ExcelImportChunks() {}
+
+    public static <R> void persist(TransactionTemplate tx,
+                                   List<R> rows,
+                                   ToIntFunction<R> rowIndexOf,
+                                   Consumer<List<R>> insert,
+                                   ExcelImportResult result) {
+        if (rows.isEmpty()) return;
+        try {
+            tx.executeWithoutResult(status -> insert.accept(rows));
+            result.succeeded(rows.size());
+            return;
+        } catch (RuntimeException ignored) {
+            // 행 단위 재시도로 원인 행 식별
+        }
+
+        for (R row : rows) {
+            try {
+                tx.executeWithoutResult(status -> insert.accept(List.of(row)));
+                result.succeeded(1);
+            } catch (DataAccessException e) {
+                result.fail(rowIndexOf.applyAsInt(row), "저장 실패: " + e.getMostSpecificCause().getMessage());
+            } catch (IllegalArgumentException e) {
+                result.fail(rowIndexOf.applyAsInt(row), e.getMessage());
+            } catch (RuntimeException e) {
+                result.fail(rowIndexOf.applyAsInt(row), "알 수 없는 오류");
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.suriname.global.excel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 엑셀 일괄 등록 결과 (행 번호는 엑셀 기준 1-based 로 보고)
+public class ExcelImportResult {
+
+    private int totalCount;
+    private int successCount;
+    private final List<Map<String, String>> failures = new ArrayList<>();
+
+    public void countRow() {
+        totalCount++;
+    }
+
+    public void succeeded(int count) {
+        successCount += count;
+    }
+
+    public void fail(int rowIndex0Based, String reason) {
+        Map<String, String> m = new HashMap<>();
+        m.put("row", String.valueOf(rowIndex0Based + 1));
+        m.put("reason", reason != null ? reason : "알 수 없는 오류");
+        failures.add(m);
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public List<Map<String, String>> getFailures() {
+        return failures;
+    }
+
+    public Map<String, Object> toData() {
+        return Map.of(
+                "totalCount", totalCount,
+                "successCount", successCount,
+                "failureCount", failures.size(),
+                "failures", failures
+        );
+    }
+}
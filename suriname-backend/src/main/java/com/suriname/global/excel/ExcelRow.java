@@ -0,0 +1,17 @@
+package com.suriname.global.excel;
+
+import java.util.List;
+
+// 시트 한 행의 셀 문자열 (rowIndex 는 0-based, 비어 있는 셀은 "")
+public record ExcelRow(int rowIndex, List<String> cells) {
+
+    public String get(int idx) {
+        if (idx < 0 || idx >= cells.size()) return "";
+        String v = cells.get(idx);
+        return v == null ? "" : v;
+    }
+
+    public boolean isEmpty() {
+        return cells.stream().allMatch(v -> v == null || v.isBlank());
+    }
+}
@@ -0,0 +1,162 @@
+package com.suriname.global.excel;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 첫 번째 시트를 한 행씩 읽어 넘긴다.
+ * xlsx 는 XSSF 이벤트(SAX) 모델로 파싱해 시트 전체를 메모리에 올리지 않고,
+ * 구형 xls 만 기존처럼 Workbook 으로 읽는다.
+ * 날짜 서식 셀은 양쪽 모두 yyyy-MM-dd 로 넘긴다.
+ */
+public final class ExcelRowReader {
+
+    private ExcelRowReader() {}
+
+    // 행을 handler 로 넘겨주는 입력 (업로드 파일 / 디스크에 보관한 파일)
+    @FunctionalInterface
+    public interface Source {
+        void read(Consumer<ExcelRow> handler) throws IOException;
+    }
+
+    public static void read(MultipartFile file, int startRow, Consumer<ExcelRow> handler) throws IOException {
+        // 압축(zip) 구조를 파일에서 직접 읽도록 임시 파일로 받음
+        Path temp = Files.createTempFile("excel-import-", ".tmp");
+        try {
+            file.transferTo(temp);
+            read(temp.toFile(), startRow, handler);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static void read(File file, int startRow, Consumer<ExcelRow> handler) throws IOException {
+        if (FileMagic.valueOf(file) == FileMagic.OOXML) {
+            readStreaming(file, startRow, handler);
+        } else {
+            readWorkbook(file, startRow, handler);
+        }
+    }
+
+    private static void readStreaming(File file, int startRow, Consumer<ExcelRow> handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(startRow, handler), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readWorkbook(File file, int startRow, Consumer<ExcelRow> handler) throws IOException {
+        DataFormatter fmt = new DataFormatter();
+        try (Workbook workbook = WorkbookFactory.create(file, null, true)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (int r = startRow; r <= sheet.getLastRowNum(); r++) {
+                Row row = sheet.getRow(r);
+                if (row == null) continue;
+
+                List<String> cells = new ArrayList<>();
+                for (int c = 0; c < Math.max(row.getLastCellNum(), 0); c++) {
+                    cells.add(formatCell(row.getCell(c), fmt));
+                }
+                handler.accept(new ExcelRow(r, cells));
+            }
+        }
+    }
+
+    private static String formatCell(Cell cell, DataFormatter fmt) {
+        if (cell == null) return "";
+        if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
+            return cell.getLocalDateTimeCellValue().toLocalDate().toString();
+        }
+        return fmt.formatCellValue(cell).trim();
+    }
+
+    // SAX 이벤트를 행 단위로 모음 (빈 셀은 이벤트가 없으므로 셀 주소로 열 위치를 맞춤)
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final int startRow;
+        private final Consumer<ExcelRow> handler;
+        private List<String> cells;
+        private int nextCol;
+
+        RowCollector(int startRow, Consumer<ExcelRow> handler) {
+            this.startRow = startRow;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+            nextCol = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum >= startRow) {
+                handler.accept(new ExcelRow(rowNum, cells));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : nextCol;
+            while (cells.size() < col) cells.add("");
+            cells.add(formattedValue == null ? "" : formattedValue.trim());
+            nextCol = col + 1;
+        }
+    }
+
+    // 날짜 서식 숫자는 Workbook 경로와 같게 ISO(yyyy-MM-dd) 로 변환
+    private static class IsoDateFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+        }
+    }
+}
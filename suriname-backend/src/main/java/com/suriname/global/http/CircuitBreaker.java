@@ -0,0 +1,75 @@
+package com.suriname.global.http;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ * CLOSED 에서 failureThreshold 번 연속 실패하면 OPEN 으로 바뀌어 openDuration 동안 호출을 막고,
+ * 그 뒤 한 건만 시험 호출(HALF_OPEN)해서 성공하면 CLOSED, 실패하면 다시 OPEN.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 호출 가능 여부. true 를 받은 호출은 반드시 onSuccess / onFailure 중 하나를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        // 차단 전에 시작된 호출의 결과는 무시
+        if (state == State.OPEN) {
+            return;
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.suriname.global.http;
+
+/**
+ * 서킷 브레이커가 열려 있거나 동시 호출 수를 넘어 외부 호출을 보내지 않고 거절한 경우
+ */
+public class OutboundCallRejectedException extends RuntimeException {
+
+    public OutboundCallRejectedException(String client, String reason) {
+        super("외부 연동 호출 거절: " + client + " (" + reason + ")");
+    }
+}
@@ -0,0 +1,139 @@
+package com.suriname.global.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연동 하나의 HTTP 클라이언트.
+ * 전용 커넥션 풀(keep-alive, 타임아웃)을 쓰고, 인터셉터로 벌크헤드와 서킷 브레이커를 적용한다.
+ * 상대 서버 오류(5xx)와 연결/응답 타임아웃은 실패로, 4xx 는 정상 응답으로 본다.
+ */
+public class OutboundHttpClient implements ClientHttpRequestInterceptor, AutoCloseable {
+
+    private final String name;
+    private final OutboundHttpProperties.Client settings;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+
+    private final LongAdder circuitRejections = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+
+    public OutboundHttpClient(String name, OutboundHttpProperties.Client settings) {
+        this.name = name;
+        this.settings = settings;
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(settings.getReadTimeout().toMillis()))
+                        // 오래 쉰 커넥션은 재사용 전에 끊겼는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        TimeValue keepAlive = TimeValue.ofMilliseconds(settings.getKeepAlive().toMillis());
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(settings.getReadTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+        this.circuitBreaker = new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration());
+        this.bulkhead = new Semaphore(Math.max(1, settings.getMaxConcurrentCalls()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HttpComponentsClientHttpRequestFactory requestFactory() {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        acquireBulkhead();
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                circuitRejections.increment();
+                throw new OutboundCallRejectedException(name, "circuit open");
+            }
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (response.getStatusCode().is5xxServerError()) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquireBulkhead() throws InterruptedIOException {
+        try {
+            if (!bulkhead.tryAcquire(settings.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                bulkheadRejections.increment();
+                throw new OutboundCallRejectedException(name, "too many concurrent calls");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("외부 연동 호출 대기 중 인터럽트: " + name);
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public PoolStats poolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public int activeCalls() {
+        return Math.max(0, settings.getMaxConcurrentCalls() - bulkhead.availablePermits());
+    }
+
+    public long circuitRejections() {
+        return circuitRejections.sum();
+    }
+
+    public long bulkheadRejections() {
+        return bulkheadRejections.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,63 @@
+package com.suriname.global.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 연동별 HTTP 클라이언트 모음. 같은 이름이면 같은 커넥션 풀과 서킷 브레이커를 공유한다.
+ */
+@Slf4j
+public class OutboundHttpClients implements DisposableBean {
+
+    private final OutboundHttpProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final Map<String, OutboundHttpClient> clients = new LinkedHashMap<>();
+
+    // names: 지표 등록 시점에 이미 있도록 미리 만들어 둘 연동
+    public OutboundHttpClients(OutboundHttpProperties properties, RestTemplateBuilder restTemplateBuilder,
+                               String... names) {
+        this.properties = properties;
+        this.restTemplateBuilder = restTemplateBuilder;
+        for (String name : names) {
+            client(name);
+        }
+    }
+
+    public synchronized OutboundHttpClient client(String name) {
+        return clients.computeIfAbsent(name, n -> new OutboundHttpClient(n, properties.clientOf(n)));
+    }
+
+    /**
+     * RestTemplateBuilder 로 만들어 외부 호출 지표(http.client.requests)도 그대로 기록된다.
+     */
+    public RestTemplate restTemplate(String name) {
+        OutboundHttpClient client = client(name);
+        return restTemplateBuilder
+                .requestFactory(client::requestFactory)
+                .additionalInterceptors(client)
+                .build();
+    }
+
+    public synchronized Collection<OutboundHttpClient> clients() {
+        return clients.values();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (OutboundHttpClient client : clients.values()) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("HTTP 클라이언트 종료 실패: {}", client.getName(), e);
+            }
+        }
+        clients.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.suriname.global.http;
+
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 연동(SMS, 토스페이먼츠, 택배사 조회, Algolia)별 RestTemplate.
+ * 연동마다 커넥션 풀과 서킷 브레이커를 따로 두어 한 곳이 느려져도 다른 연동에 영향이 없다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    public static final String SMS = "sms";
+    public static final String TOSS = "toss";
+    public static final String COURIER = "courier";
+    public static final String ALGOLIA = "algolia";
+
+    @Bean
+    public OutboundHttpClients outboundHttpClients(OutboundHttpProperties properties, RestTemplateBuilder builder) {
+        return new OutboundHttpClients(properties, builder, SMS, TOSS, COURIER, ALGOLIA);
+    }
+
+    @Bean
+    public RestTemplate smsRestTemplate(OutboundHttpClients clients) {
+        return clients.restTemplate(SMS);
+    }
+
+    @Bean
+    public RestTemplate tossRestTemplate(OutboundHttpClients clients) {
+        return clients.restTemplate(TOSS);
+    }
+
+    @Bean
+    public RestTemplate courierRestTemplate(OutboundHttpClients clients) {
+        return clients.restTemplate(COURIER);
+    }
+
+    @Bean
+    public RestTemplate algoliaRestTemplate(OutboundHttpClients clients) {
+        return clients.restTemplate(ALGOLIA);
+    }
+}
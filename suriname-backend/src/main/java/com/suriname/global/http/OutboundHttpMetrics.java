@@ -0,0 +1,47 @@
+package com.suriname.global.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연동별 커넥션 풀 / 서킷 브레이커 / 벌크헤드 상태를 client 태그로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpMetrics implements MeterBinder {
+
+    private final OutboundHttpClients outboundHttpClients;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OutboundHttpClient client : outboundHttpClients.clients()) {
+            String name = client.getName();
+            Gauge.builder("http.client.pool.connections", client, c -> c.poolStats().getLeased())
+                    .tags("client", name, "state", "leased")
+                    .register(registry);
+            Gauge.builder("http.client.pool.connections", client, c -> c.poolStats().getAvailable())
+                    .tags("client", name, "state", "idle")
+                    .register(registry);
+            Gauge.builder("http.client.pool.pending", client, c -> c.poolStats().getPending())
+                    .tag("client", name)
+                    .register(registry);
+            Gauge.builder("http.client.bulkhead.active", client, OutboundHttpClient::activeCalls)
+                    .tag("client", name)
+                    .register(registry);
+            // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+            Gauge.builder("http.client.circuit.state", client, c -> c.circuitState().ordinal())
+                    .tag("client", name)
+                    .register(registry);
+            FunctionCounter.builder("http.client.rejected", client, OutboundHttpClient::circuitRejections)
+                    .tags("client", name, "reason", "circuit")
+                    .register(registry);
+            FunctionCounter.builder("http.client.rejected", client, OutboundHttpClient::bulkheadRejections)
+                    .tags("client", name, "reason", "bulkhead")
+                    .register(registry);
+        }
+    }
+}
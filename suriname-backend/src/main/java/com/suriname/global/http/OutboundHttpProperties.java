@@ -0,0 +1,55 @@
+package com.suriname.global.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 연동 HTTP 클라이언트 설정 (outbound.http.clients.{이름}.*)
+ * 설정하지 않은 항목은 아래 기본값을 쓴다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    // key: 연동 이름 (sms, toss, courier)
+    private Map<String, Client> clients = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Client {
+
+        // 커넥션 풀 크기 (연동마다 호스트가 하나라 라우트당 최대값도 같음)
+        private int maxConnections = 20;
+
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        // 풀에서 커넥션을 얻기까지 기다리는 최대 시간
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        // 응답 대기 최대 시간 (느린 상대 서버에 스레드가 묶이지 않도록)
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        // 유휴 커넥션 유지 시간 (지나면 풀에서 정리)
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        // 벌크헤드: 동시 호출 수와 자리가 날 때까지 기다리는 시간
+        private int maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ofMillis(500);
+
+        // 서킷 브레이커: 연속 실패 횟수와 차단 유지 시간
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    public Client clientOf(String name) {
+        return clients.getOrDefault(name, new Client());
+    }
+}
@@ -0,0 +1,41 @@
+package com.suriname.global.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 대량 스트리밍 조회(목록 내보내기, 일일 리포트)에 줄 JDBC fetch size.
+ * MySQL Connector/J 는 fetch size 를 Integer.MIN_VALUE 로 준 문장만 결과를 한 행씩 받아오므로
+ * 연결 전체에 useCursorFetch 를 켜지 않고 해당 조회에만 이 값을 준다.
+ * 스트리밍 중에는 같은 연결로 다른 쿼리를 보낼 수 없으므로 결과를 다 읽을 때까지 다른 조회를 하지 않는 곳에서만 쓴다.
+ * 그 밖의 DB(H2 등)는 설정한 fetch size 를 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class StreamingFetchSize {
+
+    private final boolean mysql;
+
+    public StreamingFetchSize(DataSource dataSource) {
+        this.mysql = isMySql(dataSource);
+    }
+
+    public int of(int configured) {
+        return mysql ? Integer.MIN_VALUE : configured;
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase().contains("mysql");
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류를 확인하지 못해 설정한 fetch size 로 조회합니다", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.suriname.global.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 수집 설정.
+ * HTTP 요청/외부 호출(RestTemplateBuilder)/스케줄러/Spring Data 리포지토리/HikariCP 지표는
+ * Actuator 자동 설정이 기록하고, 여기서는 요청당 SQL 문 수 집계만 추가한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
@@ -0,0 +1,41 @@
+package com.suriname.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Spring Data 리포지토리가 아닌 조회 클래스(QueryDSL 구현체 등)의 실행 시간을
+ * Actuator 가 Spring Data 리포지토리에 기록하는 spring.data.repository.invocations 와 같은 이름/태그로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepositoryInvocationTimer {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String repository, String method, Supplier<T> invocation) {
+        long start = System.nanoTime();
+        String state = "SUCCESS";
+        String exception = "none";
+        try {
+            return invocation.get();
+        } catch (RuntimeException e) {
+            state = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Timer.builder("spring.data.repository.invocations")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("state", state)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.suriname.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate 가 준비한 SQL 문 수를 센다.
+ * RequestStatementMetricsFilter 가 요청 시작 시 start(), 끝날 때 stop() 을 호출한다.
+ * 요청 스레드 밖(비동기 작업 등)의 쿼리는 세지 않는다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 센 개수를 돌려주고 초기화
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.suriname.global.realtime;
+
+import com.suriname.delivery.entity.Delivery;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배송 상태가 바뀌어 저장되면 커밋 후 실시간 구독자에게 전달한다.
+ * 배송 상태는 여러 서비스에서 변경 감지로 바뀌므로 이벤트 대신 엔티티 콜백에서 잡는다.
+ * (엔티티 리스너가 엔티티 자신의 콜백보다 먼저 실행되므로 persistedStatus 는 아직 이전 상태)
+ */
+@RequiredArgsConstructor
+public class DeliveryStatusEntityListener {
+
+    private final RealtimeStatusHub realtimeStatusHub;
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Delivery delivery) {
+        if (delivery.getStatus() == null || delivery.getStatus() == delivery.getPersistedStatus()) return;
+        realtimeStatusHub.publishAfterCommit(StatusDelta.of(StatusDelta.Type.DELIVERY, delivery.getDeliveryId(),
+                delivery.getPersistedStatus(), delivery.getStatus()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.suriname.global.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 배송/요청 상태 변경을 구독 중인 브라우저(SSE)로 내보내는 허브.
+ * 브라우저마다 대시보드 전체를 다시 계산하던 폴링 대신, 구독 시 스냅샷을 한 번 보내고
+ * 이후에는 커밋된 상태 변경만 모아서 보낸다.
+ * <p>
+ * 변경은 연결별 버퍼에 쌓였다가 flush 주기마다 한 번에 전송된다. 같은 대상의 연속 변경은 하나로 합쳐지고,
+ * 전송이 밀린 연결은 그 주기를 건너뛰며, 버퍼가 넘친 연결은 변경 대신 스냅샷을 다시 받는다.
+ */
+@Slf4j
+@Component
+public class RealtimeStatusHub implements DisposableBean {
+
+    private final RealtimeStreamProperties properties;
+    private final TaskExecutor executor;
+    private final Set<RealtimeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public RealtimeStatusHub(RealtimeStreamProperties properties,
+                             @Qualifier("realtimeStreamExecutor") TaskExecutor executor) {
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * 새 구독 연결. snapshot 은 구독 직후와 버퍼가 넘쳤을 때 보낼 현재 집계로, 캐시를 거치지 않고 호출 시점의 커밋된 상태를 읽어야 한다
+     */
+    public SseEmitter subscribe(Supplier<?> snapshot) {
+        return subscribe(new SseEmitter(properties.getConnectionTimeout().toMillis()), snapshot);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Supplier<?> snapshot) {
+        if (subscribers.size() >= properties.getMaxConnections()) {
+            throw new IllegalStateException("실시간 구독 연결 수가 최대치에 도달했습니다.");
+        }
+        RealtimeSubscriber subscriber = new RealtimeSubscriber(emitter, snapshot, properties.getMaxPending());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        dispatch(subscriber);
+        return emitter;
+    }
+
+    public void publish(StatusDelta delta) {
+        subscribers.forEach(subscriber -> subscriber.offer(delta));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 보낸다. (롤백된 변경이 화면에 반영되지 않도록)
+     */
+    public void publishAfterCommit(StatusDelta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(delta);
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.stream.flush-interval:500}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        for (RealtimeSubscriber subscriber : subscribers) {
+            if (subscriber.hasWork(now, heartbeat)) {
+                dispatch(subscriber);
+            }
+        }
+    }
+
+    private void dispatch(RealtimeSubscriber subscriber) {
+        // 이전 전송이 아직 진행 중인 느린 연결은 건너뜀 (그동안의 변경은 버퍼에서 합쳐짐)
+        if (!subscriber.tryStartSending()) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    send(subscriber);
+                } finally {
+                    subscriber.finishSending();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            subscriber.finishSending();
+        }
+    }
+
+    private void send(RealtimeSubscriber subscriber) {
+        RealtimeSubscriber.Batch batch = subscriber.drain();
+        Object payload;
+        if (batch.snapshot()) {
+            try {
+                payload = subscriber.snapshot();
+            } catch (Exception e) {
+                log.warn("실시간 스냅샷 조회 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+                subscriber.requestResync();
+                return;
+            }
+        } else {
+            payload = batch.deltas();
+        }
+
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            if (batch.snapshot()) {
+                emitter.send(SseEmitter.event().name("snapshot").data(payload));
+            } else if (!batch.deltas().isEmpty()) {
+                emitter.send(SseEmitter.event().name("delta").data(payload));
+            } else {
+                emitter.send(SseEmitter.event().comment("ping"));
+            }
+            subscriber.markSent(System.currentTimeMillis());
+        } catch (Exception e) {
+            // 브라우저가 연결을 끊은 경우
+            log.debug("실시간 구독 연결 종료: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> {
+            try {
+                subscriber.emitter().complete();
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+        });
+        subscribers.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package com.suriname.global.realtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 구독 연결로 이벤트를 쓰는 실행기. 연결마다 동시에 하나의 전송만 올라오므로 큐는 연결 수만큼이면 충분하다.
+// 가득 차 거절된 연결은 다음 flush 주기에 다시 시도한다.
+@Configuration
+public class RealtimeStreamExecutorConfig {
+
+    @Bean(name = "realtimeStreamExecutor")
+    public ThreadPoolTaskExecutor realtimeStreamExecutor(@Value("${realtime.stream.workers:4}") int workers,
+                                                         @Value("${realtime.stream.max-connections:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("realtime-stream-");
+        executor.initialize();
+        return executor;
+    }
+}
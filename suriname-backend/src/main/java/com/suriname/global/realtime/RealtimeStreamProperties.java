@@ -0,0 +1,27 @@
+package com.suriname.global.realtime;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "realtime.stream")
+public class RealtimeStreamProperties {
+
+    // 최대 동시 구독 수 (초과 시 503)
+    private int maxConnections = 500;
+
+    // 연결당 쌓아 둘 수 있는 미발송 변경 수 (초과 시 버리고 스냅샷으로 다시 맞춤)
+    private int maxPending = 256;
+
+    // 연결이 유지되는 최대 시간 (만료되면 브라우저 EventSource 가 다시 연결)
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    // 아무 변경이 없을 때 끊긴 연결을 찾기 위한 주석 이벤트 간격
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
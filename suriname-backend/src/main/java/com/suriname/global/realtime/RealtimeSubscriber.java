@@ -0,0 +1,92 @@
+package com.suriname.global.realtime;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 구독 연결 하나의 미발송 변경 버퍼.
+ * 같은 대상의 변경은 합치고, 버퍼가 넘치면 변경을 버린 뒤 다음 전송에서 스냅샷을 다시 보낸다.
+ */
+final class RealtimeSubscriber {
+
+    record Batch(boolean snapshot, List<StatusDelta> deltas) {}
+
+    private final SseEmitter emitter;
+    private final Supplier<?> snapshot;
+    private final int maxPending;
+
+    private final LinkedHashMap<String, StatusDelta> pending = new LinkedHashMap<>();
+    // 구독 직후에는 스냅샷부터 보냄
+    private boolean resync = true;
+    private long lastSentAt = System.currentTimeMillis();
+
+    // 이전 전송이 끝나기 전에는 다음 전송을 시작하지 않음
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    RealtimeSubscriber(SseEmitter emitter, Supplier<?> snapshot, int maxPending) {
+        this.emitter = emitter;
+        this.snapshot = snapshot;
+        this.maxPending = maxPending;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    Object snapshot() {
+        return snapshot.get();
+    }
+
+    synchronized void offer(StatusDelta delta) {
+        // 이미 발행된 변경은 곧 보낼 스냅샷에 반영되므로 쌓지 않음.
+        // 스냅샷은 drain() 뒤에 캐시 없이 읽어야 하며, 그 뒤에 들어온 변경은 스냅샷 다음 delta 로 보낸다.
+        if (resync) return;
+
+        StatusDelta older = pending.remove(delta.key());
+        StatusDelta merged = older != null ? delta.after(older) : delta;
+        if (!merged.isNoop()) {
+            pending.put(merged.key(), merged);
+        }
+        if (pending.size() > maxPending) {
+            pending.clear();
+            resync = true;
+        }
+    }
+
+    synchronized boolean hasWork(long now, long heartbeatMillis) {
+        return resync || !pending.isEmpty() || now - lastSentAt >= heartbeatMillis;
+    }
+
+    synchronized Batch drain() {
+        if (resync) {
+            resync = false;
+            pending.clear();
+            return new Batch(true, List.of());
+        }
+        List<StatusDelta> deltas = new ArrayList<>(pending.values());
+        pending.clear();
+        return new Batch(false, deltas);
+    }
+
+    synchronized void requestResync() {
+        pending.clear();
+        resync = true;
+    }
+
+    synchronized void markSent(long now) {
+        lastSentAt = now;
+    }
+
+    boolean tryStartSending() {
+        return sending.compareAndSet(false, true);
+    }
+
+    void finishSending() {
+        sending.set(false);
+    }
+}
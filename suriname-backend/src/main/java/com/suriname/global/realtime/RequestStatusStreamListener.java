@@ -0,0 +1,21 @@
+package com.suriname.global.realtime;
+
+import com.suriname.request.entity.RequestStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 요청 상태 변경이 커밋되면 실시간 구독자에게 전달
+@Component
+@RequiredArgsConstructor
+public class RequestStatusStreamListener {
+
+    private final RealtimeStatusHub realtimeStatusHub;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(RequestStatusChangedEvent e) {
+        if (e.to() == null || e.to() == e.from()) return;
+        realtimeStatusHub.publish(StatusDelta.of(StatusDelta.Type.REQUEST, e.requestId(), e.from(), e.to()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.suriname.global.realtime;
+
+/**
+ * 실시간 스트림으로 보내는 상태 변경 한 건.
+ * 클라이언트는 구독 시 받은 스냅샷에 previous → status 변화를 반영한다.
+ */
+public record StatusDelta(
+        Type type,
+        Long id,
+        String previous,
+        String status,
+        long at
+) {
+
+    public enum Type {
+        DELIVERY, REQUEST
+    }
+
+    public static StatusDelta of(Type type, Long id, Enum<?> previous, Enum<?> status) {
+        return new StatusDelta(type, id, previous != null ? previous.name() : null, status.name(),
+                System.currentTimeMillis());
+    }
+
+    // 같은 대상의 변경은 최신 것 하나로 합침
+    String key() {
+        return type + ":" + id;
+    }
+
+    // 아직 보내지 않은 이전 변경(older) 뒤에 이 변경이 이어진 것으로 합침 (이전 상태는 처음 것을 유지)
+    StatusDelta after(StatusDelta older) {
+        return new StatusDelta(type, id, older.previous, status, at);
+    }
+
+    // 합친 결과 상태가 그대로면 보낼 필요 없음
+    boolean isNoop() {
+        return status.equals(previous);
+    }
+}
@@ -0,0 +1,63 @@
+package com.suriname.global.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 묶음(고객) 하나에 여러 문서(고객제품)가 딸린 색인.
+ * 조건은 문서 한 건 안에서 모두 맞아야 하고 (DB 검색의 "같은 customer_product 행" 조건과 같음),
+ * 결과는 맞은 문서가 속한 묶음 id 로 돌려준다.
+ */
+public class GroupedIndex {
+
+    private final InvertedIndex entries = new InvertedIndex();
+    // 문서 id → 묶음 id (검색 중에 읽으므로 동시 접근 가능한 맵)
+    private final Map<Long, Long> groupOf = new ConcurrentHashMap<>();
+    // 묶음 id → 문서 id (갱신 시에만 접근)
+    private final Map<Long, Set<Long>> entriesOf = new HashMap<>();
+
+    // 묶음의 문서 전체 교체 (문서가 없으면 묶음만 지움)
+    public synchronized void put(Long groupId, Map<Long, ? extends Map<String, ? extends Collection<String>>> groupEntries) {
+        remove(groupId);
+        if (groupEntries.isEmpty()) return;
+
+        groupEntries.forEach((entryId, fields) -> {
+            Long previousGroup = groupOf.put(entryId, groupId);
+            if (previousGroup != null && !previousGroup.equals(groupId)) {
+                entriesOf.getOrDefault(previousGroup, new HashSet<>()).remove(entryId);
+            }
+            entries.put(entryId, fields);
+        });
+        entriesOf.put(groupId, new HashSet<>(groupEntries.keySet()));
+    }
+
+    public synchronized void remove(Long groupId) {
+        Set<Long> previous = entriesOf.remove(groupId);
+        if (previous == null) return;
+        for (Long entryId : previous) {
+            entries.remove(entryId);
+            groupOf.remove(entryId);
+        }
+    }
+
+    /**
+     * 조건을 모두 만족하는 문서가 하나라도 있는 묶음 id (오름차순).
+     * 필드 간 AND / 필드 안 OR 는 InvertedIndex.search 와 같다.
+     */
+    public List<Long> search(Map<String, ? extends Collection<String>> criteria) {
+        Set<Long> groups = new TreeSet<>();
+        for (Long entryId : entries.search(criteria)) {
+            // 갱신 중 빠진 문서는 건너뜀
+            Long groupId = groupOf.get(entryId);
+            if (groupId != null) groups.add(groupId);
+        }
+        return new ArrayList<>(groups);
+    }
+}
@@ -0,0 +1,129 @@
+package com.suriname.global.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 검색어/색인 값 정규화, n-gram 분해와 일치 판정.
+ * 일치는 음절 단위 부분 문자열이고, 검색어의 마지막 글자만 입력 중인 글자로 보아 자모 접두어로 맞춘다
+ * ("홍기" → 홍길동, "갓" 은 가사와 맞지 않음). 초성열("ㅎㄱㄷ")을 따로 두어 초성 검색을 지원하고,
+ * 공백/기호는 버려 전화번호 하이픈 유무와 상관없이 맞는다.
+ * n-gram 은 자모열로 만들어 후보를 넓게 찾고, 최종 판정은 matches() 로 한다.
+ */
+public final class HangulTokenizer {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 겹모음/겹받침은 입력 순서대로 풀어 둠 (과 = ㄱㅗㅏ, 닭 = ㄷㅏㄹㄱ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ",
+            "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ",
+            "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 단독으로 입력된 겹자모 (호환 자모 ㄳ, ㅘ 등)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulTokenizer() {
+    }
+
+    // 소문자 + 글자/숫자만 남김 (한글 음절은 그대로)
+    public static String fold(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 소문자 + 글자/숫자만 남기고 한글 음절은 자모로 분해 (n-gram 용)
+    public static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(jamo(Character.toLowerCase(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * fold() 한 값 term 에 검색어 query(fold() 한 값)가 들어 있는지.
+     * 마지막 글자 앞까지는 글자가 같아야 하고, 마지막 글자는 자모 접두어면 된다.
+     */
+    public static boolean matches(String term, String query) {
+        int length = query.length();
+        if (length == 0) return true;
+        String last = jamo(query.charAt(length - 1));
+        for (int i = 0; i + length <= term.length(); i++) {
+            if (term.regionMatches(i, query, 0, length - 1)
+                    && jamo(term.charAt(i + length - 1)).startsWith(last)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 초성열 ("홍길동" → "ㅎㄱㄷ"), 한글 음절이 없으면 null
+    public static String choseong(String text) {
+        if (text == null) return null;
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean hangul = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSEONG.charAt((c - SYLLABLE_BEGIN) / (21 * 28)));
+                hangul = true;
+            } else if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return hangul ? sb.toString() : null;
+    }
+
+    // 정규화된 값의 1-gram + 2-gram (1글자 검색어는 1-gram, 그 이상은 2-gram 교집합으로 후보를 찾음)
+    public static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어 후보 조회용 gram (2글자 이상이면 2-gram 만)
+    public static Set<String> queryGrams(String normalized) {
+        if (normalized.length() == 1) return Set.of(normalized);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 한 글자의 자모열 (음절/겹자모는 분해, 그 밖의 글자는 그대로)
+    private static String jamo(char c) {
+        if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+            int offset = c - SYLLABLE_BEGIN;
+            return CHOSEONG.charAt(offset / (21 * 28)) + JUNGSEONG[(offset % (21 * 28)) / 28] + JONGSEONG[offset % 28];
+        }
+        int compound = COMPOUND_JAMO.indexOf(c);
+        return compound >= 0 ? COMPOUND_JAMO_SPLIT[compound] : String.valueOf(c);
+    }
+}
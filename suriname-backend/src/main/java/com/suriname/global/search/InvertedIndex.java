@@ -0,0 +1,151 @@
+package com.suriname.global.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 필드별 n-gram 역색인.
+ * 자모 gram 으로 후보를 좁힌 뒤 저장된 값에 HangulTokenizer.matches() 로 다시 확인한다.
+ * LIKE '%값%' 과 달리 대소문자/공백/기호를 무시하고, 검색어 마지막 글자는 입력 중인 글자로 보며, 초성열도 맞는다.
+ * 문서 하나는 필드마다 여러 값을 가질 수 있다 (고객이 가진 여러 제품 등).
+ */
+public class InvertedIndex {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    // 문서 id → 필드 → 값 (fold 한 값 + 초성열)
+    private final Map<Long, Map<String, List<String>>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 추가/교체 (값이 없는 필드는 건너뜀)
+    public void put(Long id, Map<String, ? extends Collection<String>> fields) {
+        Map<String, List<String>> terms = new HashMap<>();
+        fields.forEach((field, values) -> {
+            Set<String> normalized = new HashSet<>();
+            for (String value : values) {
+                if (value == null) continue;
+                String term = HangulTokenizer.fold(value);
+                if (!term.isEmpty()) normalized.add(term);
+                String choseong = HangulTokenizer.choseong(value);
+                if (choseong != null && !choseong.isEmpty()) normalized.add(choseong);
+            }
+            if (!normalized.isEmpty()) terms.put(field, List.copyOf(normalized));
+        });
+
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            documents.put(id, terms);
+            terms.forEach((field, values) -> {
+                for (String value : values) {
+                    for (String gram : HangulTokenizer.grams(HangulTokenizer.normalize(value))) {
+                        postings.computeIfAbsent(key(field, gram), k -> new HashSet<>()).add(id);
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필드 간에는 AND, 한 필드의 여러 값 사이에는 OR 로 찾는다.
+     * 결과는 문서 id 오름차순.
+     */
+    public List<Long> search(Map<String, ? extends Collection<String>> criteria) {
+        lock.readLock().lock();
+        try {
+            Set<Long> result = null;
+            for (Map.Entry<String, ? extends Collection<String>> criterion : criteria.entrySet()) {
+                Set<Long> matched = new HashSet<>();
+                for (String query : criterion.getValue()) {
+                    matched.addAll(match(criterion.getKey(), HangulTokenizer.fold(query)));
+                }
+                if (result == null) {
+                    result = matched;
+                } else {
+                    result.retainAll(matched);
+                }
+                if (result.isEmpty()) break;
+            }
+            return result == null ? List.of() : new ArrayList<>(new TreeSet<>(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> match(String field, String query) {
+        if (query.isEmpty()) {
+            Set<Long> all = new HashSet<>();
+            documents.forEach((id, terms) -> {
+                if (terms.containsKey(field)) all.add(id);
+            });
+            return all;
+        }
+
+        // 가장 짧은 posting 부터 교집합
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : HangulTokenizer.queryGrams(HangulTokenizer.normalize(query))) {
+            Set<Long> ids = postings.get(key(field, gram));
+            if (ids == null) return Set.of();
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        // gram 이 모두 있어도 순서나 음절 경계가 다를 수 있으므로 저장된 값으로 확인
+        candidates.removeIf(id -> documents.get(id).getOrDefault(field, List.of()).stream()
+                .noneMatch(term -> HangulTokenizer.matches(term, query)));
+        return candidates;
+    }
+
+    private void unlink(Long id) {
+        Map<String, List<String>> previous = documents.remove(id);
+        if (previous == null) return;
+        previous.forEach((field, values) -> {
+            for (String value : values) {
+                for (String gram : HangulTokenizer.grams(HangulTokenizer.normalize(value))) {
+                    String key = key(field, gram);
+                    Set<Long> ids = postings.get(key);
+                    if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                        postings.remove(key);
+                    }
+                }
+            }
+        });
+    }
+
+    private static String key(String field, String gram) {
+        return field + FIELD_SEPARATOR + gram;
+    }
+}
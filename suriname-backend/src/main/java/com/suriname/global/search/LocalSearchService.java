@@ -0,0 +1,332 @@
+package com.suriname.global.search;
+
+import com.suriname.customer.dto.CustomerSearchDto;
+import com.suriname.global.startup.StartupWarmups;
+import com.suriname.product.dto.ProductSearchDto;
+import com.suriname.product.repository.CustomerProductRepository;
+import com.suriname.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 고객/제품 검색용 내장 색인.
+ * Algolia 에 닿지 않는 (폐쇄망) 환경에서도 LIKE 전체 스캔 없이 메모리에서 찾는다.
+ * 기동 후 한 번 DB 에서 전체를 읽어 만들고, 이후에는 커밋된 변경만 반영한다.
+ * 색인이 준비되지 않았거나 색인으로 풀 수 없는 조건이면 빈 값을 돌려주고 호출 측은 기존 DB 검색을 쓴다.
+ */
+@Slf4j
+@Service
+public class LocalSearchService {
+
+    public static final String CUSTOMER_NAME = "customerName";
+    public static final String PHONE = "phone";
+    public static final String EMAIL = "email";
+    public static final String ADDRESS = "address";
+    public static final String PRODUCT_NAME = "productName";
+    public static final String CATEGORY_NAME = "categoryName";
+    public static final String PRODUCT_BRAND = "productBrand";
+    public static final String MODEL_CODE = "modelCode";
+    public static final String SERIAL_NUMBER = "serialNumber";
+
+    private static final int REFRESH_CHUNK = 500;
+
+    private final CustomerProductRepository customerProductRepository;
+    private final ProductRepository productRepository;
+    private final TaskExecutor executor;
+    private final StartupWarmups startupWarmups;
+    private final boolean enabled;
+
+    private volatile InvertedIndex customers = new InvertedIndex();
+    // 고객제품 한 건 = 문서 한 건, 고객 id 로 묶음
+    private volatile GroupedIndex customerProducts = new GroupedIndex();
+    private volatile InvertedIndex products = new InvertedIndex();
+    private volatile boolean ready;
+
+    private final Set<Long> dirtyCustomers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public LocalSearchService(CustomerProductRepository customerProductRepository,
+                              ProductRepository productRepository,
+                              @Qualifier("searchIndexExecutor") TaskExecutor executor,
+                              StartupWarmups startupWarmups,
+                              @Value("${search.local.enabled:true}") boolean enabled) {
+        this.customerProductRepository = customerProductRepository;
+        this.productRepository = productRepository;
+        this.executor = executor;
+        this.startupWarmups = startupWarmups;
+        this.enabled = enabled;
+    }
+
+    // 기동을 막지 않도록 색인 실행기에서 만들고, 다 만들 때까지 readiness 를 보류
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            startupWarmups.track("searchIndex", CompletableFuture.runAsync(this::rebuild, executor));
+        }
+    }
+
+    // 전체 재구성 (새 색인을 다 만든 뒤 교체하므로 만드는 동안에도 이전 색인으로 검색됨)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            InvertedIndex newCustomers = new InvertedIndex();
+            GroupedIndex newCustomerProducts = new GroupedIndex();
+            customerDocuments(customerProductRepository.findCustomerSearchRows()).forEach((id, document) -> {
+                newCustomers.put(id, document.fields());
+                newCustomerProducts.put(id, document.products());
+            });
+            InvertedIndex newProducts = new InvertedIndex();
+            productDocuments(productRepository.findSearchRows()).forEach(newProducts::put);
+
+            customers = newCustomers;
+            customerProducts = newCustomerProducts;
+            products = newProducts;
+            ready = true;
+            log.info("검색 색인 구성 완료: 고객 {}명, 제품 {}건 ({} ms)",
+                    newCustomers.size(), newProducts.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 구성 실패, DB 검색을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 고객 검색 결과 id (오름차순). 문자열 조건이 없거나 카테고리(정확히 일치)가 있으면 빈 값
+     * 제품 조건은 CustomerSpecification 과 같이 고객제품 한 건 안에서 모두 맞아야 한다.
+     */
+    public Optional<List<Long>> searchCustomers(CustomerSearchDto dto) {
+        if (!isReady() || hasText(dto.getCategoryName())) return Optional.empty();
+
+        Map<String, List<String>> criteria = new LinkedHashMap<>();
+        addCriterion(criteria, CUSTOMER_NAME, dto.getCustomerName());
+        addCriterion(criteria, PHONE, dto.getPhone());
+        addCriterion(criteria, EMAIL, dto.getEmail());
+        addCriterion(criteria, ADDRESS, dto.getAddress());
+        Map<String, List<String>> productCriteria = new LinkedHashMap<>();
+        addCriterion(productCriteria, PRODUCT_NAME, dto.getProductName());
+        addCriterion(productCriteria, MODEL_CODE, dto.getModelCode());
+        addAnyOf(productCriteria, PRODUCT_BRAND, dto.getManufacturers());
+        if (criteria.isEmpty() && productCriteria.isEmpty()) return Optional.empty();
+
+        if (productCriteria.isEmpty()) return Optional.of(customers.search(criteria));
+        List<Long> owners = customerProducts.search(productCriteria);
+        if (criteria.isEmpty()) return Optional.of(owners);
+
+        Set<Long> matched = new HashSet<>(customers.search(criteria));
+        return Optional.of(owners.stream().filter(matched::contains).toList());
+    }
+
+    public Optional<List<Long>> autocompleteCustomers(String keyword) {
+        if (!isReady() || !hasText(keyword)) return Optional.empty();
+        return Optional.of(customers.search(Map.of(CUSTOMER_NAME, List.of(keyword))));
+    }
+
+    /**
+     * 제품 검색 결과 id (오름차순). 시리얼번호(정확히 일치)/노출 여부 조건이 있으면 빈 값
+     */
+    public Optional<List<Long>> searchProducts(ProductSearchDto dto) {
+        if (!isReady() || hasText(dto.getSerialNumber()) || dto.getIsVisible() != null) return Optional.empty();
+
+        Map<String, List<String>> criteria = new LinkedHashMap<>();
+        addCriterion(criteria, PRODUCT_NAME, dto.getProductName());
+        addCriterion(criteria, MODEL_CODE, dto.getModelCode());
+        addAnyOf(criteria, CATEGORY_NAME, dto.getCategories());
+        addAnyOf(criteria, PRODUCT_BRAND, dto.getManufacturers());
+        if (criteria.isEmpty()) return Optional.empty();
+
+        return Optional.of(products.search(criteria));
+    }
+
+    // 제품명/모델코드/제조사 중 하나라도 포함
+    public Optional<List<Long>> autocompleteProducts(String keyword) {
+        if (!isReady() || !hasText(keyword)) return Optional.empty();
+        Set<Long> ids = new TreeSet<>();
+        for (String field : List.of(PRODUCT_NAME, MODEL_CODE, PRODUCT_BRAND)) {
+            ids.addAll(products.search(Map.of(field, List.of(keyword))));
+        }
+        return Optional.of(new ArrayList<>(ids));
+    }
+
+    // 커밋 후 해당 고객 문서를 다시 읽어 반영
+    public void customersChanged(Collection<Long> customerIds) {
+        afterCommit(() -> {
+            dirtyCustomers.addAll(customerIds);
+            scheduleDrain();
+        });
+    }
+
+    // 커밋 후 해당 제품 문서와, 그 제품을 가진 고객 문서를 다시 읽어 반영
+    public void productsChanged(Collection<Long> productIds) {
+        afterCommit(() -> {
+            dirtyProducts.addAll(productIds);
+            scheduleDrain();
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 이미 대기 중인 반영 작업이 있으면 거기에 합쳐짐
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            drainScheduled.set(false);
+            log.warn("검색 색인 반영 작업이 거절되었습니다. 다음 변경 때 함께 반영합니다.");
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        List<Long> productIds = take(dirtyProducts);
+        List<Long> customerIds = take(dirtyCustomers);
+        try {
+            for (List<Long> chunk : chunks(productIds)) {
+                Map<Long, Map<String, List<String>>> documents = productDocuments(productRepository.findSearchRowsByIds(chunk));
+                chunk.forEach(id -> apply(products, id, documents.get(id)));
+                customerIds.addAll(customerProductRepository.findCustomerIdsByProductIds(chunk));
+            }
+            for (List<Long> chunk : chunks(new ArrayList<>(new TreeSet<>(customerIds)))) {
+                Map<Long, CustomerDocument> documents =
+                        customerDocuments(customerProductRepository.findCustomerSearchRowsByCustomerIds(chunk));
+                chunk.forEach(id -> applyCustomer(id, documents.get(id)));
+            }
+        } catch (RuntimeException e) {
+            // 실패한 id 는 다음 변경 때 다시 시도
+            dirtyProducts.addAll(productIds);
+            dirtyCustomers.addAll(customerIds);
+            log.warn("검색 색인 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void apply(InvertedIndex index, Long id, Map<String, List<String>> document) {
+        if (document == null) {
+            index.remove(id);
+        } else {
+            index.put(id, document);
+        }
+    }
+
+    private void applyCustomer(Long id, CustomerDocument document) {
+        if (document == null) {
+            customers.remove(id);
+            customerProducts.remove(id);
+        } else {
+            customers.put(id, document.fields());
+            customerProducts.put(id, document.products());
+        }
+    }
+
+    // 고객 필드 문서와 고객제품별 제품 필드 문서
+    private record CustomerDocument(Map<String, List<String>> fields, Map<Long, Map<String, List<String>>> products) {}
+
+    // findCustomerSearchRows 행 (고객 x 고객제품, 제품 없는 고객은 제품 열이 null) → 고객별 문서
+    private static Map<Long, CustomerDocument> customerDocuments(List<Object[]> rows) {
+        Map<Long, CustomerDocument> documents = new HashMap<>();
+        for (Object[] row : rows) {
+            CustomerDocument document = documents.computeIfAbsent(((Number) row[0]).longValue(), id -> {
+                Map<String, List<String>> fields = new HashMap<>();
+                add(fields, CUSTOMER_NAME, row[1]);
+                add(fields, PHONE, row[2]);
+                add(fields, EMAIL, row[3]);
+                add(fields, ADDRESS, row[5]);
+                return new CustomerDocument(fields, new HashMap<>());
+            });
+            if (row[11] == null) continue;
+
+            Map<String, List<String>> product = new HashMap<>();
+            add(product, PRODUCT_NAME, row[6]);
+            add(product, CATEGORY_NAME, row[7]);
+            add(product, PRODUCT_BRAND, row[8]);
+            add(product, MODEL_CODE, row[9]);
+            add(product, SERIAL_NUMBER, row[10]);
+            document.products().put(((Number) row[11]).longValue(), product);
+        }
+        return documents;
+    }
+
+    private static Map<Long, Map<String, List<String>>> productDocuments(List<Object[]> rows) {
+        Map<Long, Map<String, List<String>>> documents = new HashMap<>();
+        for (Object[] row : rows) {
+            Map<String, List<String>> document = new HashMap<>();
+            add(document, PRODUCT_NAME, row[1]);
+            add(document, CATEGORY_NAME, row[2]);
+            add(document, PRODUCT_BRAND, row[3]);
+            add(document, MODEL_CODE, row[4]);
+            documents.put(((Number) row[0]).longValue(), document);
+        }
+        return documents;
+    }
+
+    private static void add(Map<String, List<String>> document, String field, Object value) {
+        if (value != null) {
+            document.computeIfAbsent(field, f -> new ArrayList<>()).add(value.toString());
+        }
+    }
+
+    private static void addCriterion(Map<String, List<String>> criteria, String field, String value) {
+        if (hasText(value)) criteria.put(field, List.of(value));
+    }
+
+    private static void addAnyOf(Map<String, List<String>> criteria, String field, List<String> values) {
+        if (values == null) return;
+        List<String> present = values.stream().filter(LocalSearchService::hasText).toList();
+        if (!present.isEmpty()) criteria.put(field, present);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static List<Long> take(Set<Long> dirty) {
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        return ids;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += REFRESH_CHUNK) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + REFRESH_CHUNK)));
+        }
+        return chunks;
+    }
+}
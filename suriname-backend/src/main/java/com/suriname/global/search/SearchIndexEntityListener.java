@@ -0,0 +1,45 @@
+package com.suriname.global.search;
+
+import com.suriname.customer.entity.Customer;
+import com.suriname.global.algolia.AlgoliaChangeLog;
+import com.suriname.product.entity.CustomerProduct;
+import com.suriname.product.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.List;
+
+/**
+ * 고객/제품/고객제품이 저장되면 커밋 후 내장 검색 색인에 반영하고, 같은 트랜잭션에 Algolia 변경 기록을 남긴다.
+ * (엑셀 가져오기처럼 JDBC 로 넣는 경우는 작성기에서 직접 알린다)
+ */
+public class SearchIndexEntityListener {
+
+    private final LocalSearchService localSearchService;
+    private final AlgoliaChangeLog algoliaChangeLog;
+
+    // 리스너는 EntityManagerFactory 생성 중에 만들어지므로 리포지토리를 쓰는 서비스는 지연 주입
+    public SearchIndexEntityListener(@Lazy LocalSearchService localSearchService,
+                                     @Lazy AlgoliaChangeLog algoliaChangeLog) {
+        this.localSearchService = localSearchService;
+        this.algoliaChangeLog = algoliaChangeLog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Customer customer) {
+            localSearchService.customersChanged(List.of(customer.getCustomerId()));
+            algoliaChangeLog.customersChanged(List.of(customer.getCustomerId()));
+        } else if (entity instanceof CustomerProduct customerProduct) {
+            localSearchService.customersChanged(List.of(customerProduct.getCustomer().getCustomerId()));
+            algoliaChangeLog.customerProductsChanged(List.of(customerProduct.getCustomerProductId()));
+        } else if (entity instanceof Product product) {
+            localSearchService.productsChanged(List.of(product.getProductId()));
+            algoliaChangeLog.productsChanged(List.of(product.getProductId()));
+        }
+    }
+}
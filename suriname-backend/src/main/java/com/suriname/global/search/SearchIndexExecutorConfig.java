@@ -0,0 +1,22 @@
+package com.suriname.global.search;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 검색 색인 재구성/갱신 실행기. 스레드 하나로 순서대로 처리해 재구성 도중의 변경이 새 색인에 덮이지 않게 한다.
+// 변경 반영 작업은 하나로 합쳐 올라오므로 큐는 작아도 된다.
+@Configuration
+public class SearchIndexExecutorConfig {
+
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("search-index-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,112 @@
+package com.suriname.global.security.cache;
+
+import com.suriname.global.security.principal.EmployeeDetails;
+import com.suriname.global.security.provider.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 → 직원 정보 캐시.
+ * 이미 검증한 토큰 문자열과 정확히 같으면 다시 파싱하거나 직원을 조회하지 않는다.
+ * 항목은 ttl 과 토큰 만료 시각 중 이른 쪽에 만료되고, 직원 정보가 바뀌면 invalidate(loginId) 로 지운다.
+ * 가득 차면 가장 오래 쓰지 않은 항목 하나를 내보낸다 (LRU). 캐시하는 EmployeeDetails 는 불변 값이라 요청 간에 공유해도 된다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration ttl;
+
+    // 접근 순서 LinkedHashMap 은 조회도 순서를 바꾸므로 모든 접근을 entries 잠금 안에서 한다
+    private final Map<String, Entry> entries;
+
+    // 조회 도중 무효화가 일어났으면 그 결과는 캐시에 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Entry(EmployeeDetails details, long expiresAt) {}
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  @Value("${jwt.cache.ttl:5m}") Duration ttl,
+                                  @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 유효하지 않은 토큰이면 null
+    public Authentication authenticate(String token) {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(token);
+            if (entry != null && entry.expiresAt() <= now) {
+                entries.remove(token);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            // 요청마다 details 를 따로 붙이므로 인증 객체는 새로 만든다
+            return jwtTokenProvider.toAuthentication(entry.details());
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        long loadedAt = generation.get();
+        EmployeeDetails details = jwtTokenProvider.loadEmployeeDetails(claims.getSubject());
+        long expiresAt = Math.min(now + ttl.toMillis(), claims.getExpiration().getTime());
+        synchronized (entries) {
+            // 세대 확인과 저장을 같은 잠금 안에서 해야 그 사이의 무효화를 놓치지 않음
+            if (generation.get() == loadedAt) {
+                entries.put(token, new Entry(details, expiresAt));
+            }
+        }
+        return jwtTokenProvider.toAuthentication(details);
+    }
+
+    /**
+     * 직원 정보(권한, 상태 등)가 바뀌면 호출.
+     * 트랜잭션 안이면 커밋 전에 다른 요청이 옛 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지운다.
+     */
+    public void invalidate(String loginId) {
+        evict(loginId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(loginId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 직원 정보 변경 때만 불리므로 전체를 훑는다
+    private void evict(String loginId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.values().removeIf(e -> e.details().getUsername().equals(loginId));
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.suriname.global.security.config;
 
+import com.suriname.global.security.cache.JwtAuthenticationCache;
 import com.suriname.global.security.filter.JwtAuthenticationFilter;
 import com.suriname.global.security.provider.JwtTokenProvider;
 import com.suriname.global.security.service.EmployeeDetailsService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +26,7 @@ import org.springframework.web.cors.CorsConfiguration;
 
 import java.util.List;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @EnableMethodSecurity
@@ -30,6 +34,7 @@ public class SecurityConfig {
 
     private final EmployeeDetailsService employeeDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -50,30 +55,38 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(e -> e
                         .authenticationEntryPoint((req, res, ex) -> {
-                            System.out.println("인증 실패: " + ex.getClass().getSimpleName() + " - " + ex.getMessage());
+                            log.debug("인증 실패: {} - {}", ex.getClass().getSimpleName(), ex.getMessage());
                             res.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                             res.setContentType("application/json;charset=UTF-8");
                             res.getWriter().write("{\"error\": \"" + ex.getMessage() + "\"}");
                         })
                         .accessDeniedHandler((req, res, ex) -> {
-                            System.out.println("인가 실패: " + ex.getClass().getSimpleName() + " - " + ex.getMessage());
+                            log.debug("인가 실패: {} - {}", ex.getClass().getSimpleName(), ex.getMessage());
                             res.setStatus(HttpServletResponse.SC_FORBIDDEN);
                             res.setContentType("application/json;charset=UTF-8");
                             res.getWriter().write("{\"error\": \"" + ex.getMessage() + "\"}");
                         })
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 스트림(SSE) 종료 시의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/users", "/api/payments/webhook/toss").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/repair-presets/category/*/active", "/api/images/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/categories/visible").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/users/validate/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // 헬스 체크는 상태(UP/DOWN)만 공개, 메트릭 수집은 관리자 토큰 필요
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/users/**").hasRole("ADMIN")
+                        .requestMatchers("/api/exports/**").hasAnyRole("ADMIN", "STAFF")
+                        .requestMatchers("/api/analytics/reports/**").hasAnyRole("ADMIN", "STAFF")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .userDetailsService(employeeDetailsService);
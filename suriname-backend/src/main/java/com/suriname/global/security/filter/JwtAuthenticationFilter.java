@@ -1,11 +1,13 @@
 package com.suriname.global.security.filter;
 
+import com.suriname.global.security.cache.JwtAuthenticationCache;
 import com.suriname.global.security.provider.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -15,10 +17,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtAuthenticationCache jwtAuthenticationCache;
 
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -33,30 +37,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		boolean shouldSkip = path.equals("/api/auth/login") || path.equals("/api/auth/refresh")
 				|| (path.equals("/api/users") && method.equals("POST"));
 
-		System.out.println("=== JWT FILTER ===");
-		System.out.println("URI: " + path);
-		System.out.println("METHOD: " + method);
-		System.out.println("shouldNotFilter: " + shouldSkip);
-
 		return shouldSkip;
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
-        String authHeader = request.getHeader("Authorization");
         String token = jwtTokenProvider.resolveToken(request);
 
-        System.out.println("=== JWT FILTER doFilterInternal ===");
-        System.out.println("Request URI: " + request.getRequestURI());
-        System.out.println("Authorization Header: " + authHeader);
-        System.out.println("Extracted Token: " + token);
-
-		if (token != null && jwtTokenProvider.validateToken(token)) {
-			Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            System.out.println("Authenticated User: " + authentication.getName());
-            System.out.println("Authorities: " + authentication.getAuthorities());
-
+		// 캐시에 없을 때만 토큰을 한 번 파싱하고 직원을 조회함
+		Authentication authentication = token != null ? jwtAuthenticationCache.authenticate(token) : null;
+		if (authentication != null) {
 			if (authentication instanceof AbstractAuthenticationToken tokenAuth) {
 				tokenAuth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 			}
@@ -65,8 +56,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             context.setAuthentication(authentication);
             SecurityContextHolder.setContext(context);
 		} else {
-            System.out.println("Token invalid or missing");
-        }
+			log.debug("JWT 인증 없음 {} {}", request.getMethod(), request.getRequestURI());
+		}
 
 		filterChain.doFilter(request, response);
 	}
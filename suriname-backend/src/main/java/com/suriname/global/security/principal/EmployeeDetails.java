@@ -2,7 +2,6 @@ package com.suriname.global.security.principal;
 
 import com.suriname.employee.entity.Employee;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,24 +9,44 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-@RequiredArgsConstructor
+// 인증된 직원 정보. 토큰 인증 결과는 요청 간에 공유되므로(JwtAuthenticationCache) 엔티티 대신 값만 복사해 둔다.
 @Getter
 public class EmployeeDetails implements UserDetails {
-    private final Employee employee;
+    private final Long employeeId;
+    private final String loginId;
+    private final String name;
+    private final Employee.Role role;
+    private final Employee.Status status;
+    // 로그인 시 비밀번호 검증에만 쓰임 (토큰 인증에서는 null)
+    private final String password;
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + employee.getRole().name()));
+    private EmployeeDetails(Employee employee, String password) {
+        this.employeeId = employee.getEmployeeId();
+        this.loginId = employee.getLoginId();
+        this.name = employee.getName();
+        this.role = employee.getRole();
+        this.status = employee.getStatus();
+        this.password = password;
+    }
+
+    // 아이디/비밀번호 로그인용
+    public static EmployeeDetails of(Employee employee) {
+        return new EmployeeDetails(employee, employee.getPassword());
+    }
+
+    // 토큰 인증용 (비밀번호는 캐시에 남기지 않음)
+    public static EmployeeDetails withoutPassword(Employee employee) {
+        return new EmployeeDetails(employee, null);
     }
 
     @Override
-    public String getPassword() {
-        return employee.getPassword();
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getUsername() {
-        return employee.getLoginId();
+        return loginId;
     }
 
     //계정 만료 안 함
@@ -48,6 +67,6 @@ public class EmployeeDetails implements UserDetails {
     }
 
     @Override public boolean isEnabled() {
-        return employee.getStatus() == Employee.Status.ACTIVE;
+        return status == Employee.Status.ACTIVE;
     }
 }
@@ -4,15 +4,20 @@ import com.suriname.employee.entity.Employee;
 import com.suriname.employee.repository.EmployeeRepository;
 import com.suriname.global.security.principal.EmployeeDetails;
 import com.suriname.global.security.principal.JwtAuthenticationToken;
+import com.suriname.global.startup.StartupWarmups;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -21,11 +26,13 @@ import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final EmployeeRepository employeeRepository;
+    private final StartupWarmups startupWarmups;
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -34,15 +41,35 @@ public class JwtTokenProvider {
     private long validityInMilliseconds;
 
     private Key key;
+    private volatile JwtParser parser;
 
+    // 키는 설정 오류를 기동 때 알 수 있도록 바로 만듦
     @PostConstruct
     protected void init() {
-        System.out.println("=== INIT JWT PROVIDER ===");
-        System.out.println("secretKey(raw): " + secretKey);
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
     }
 
+    // 파서 생성은 jjwt 구현과 JSON 역직렬화기를 읽어 오므로 기동 후 백그라운드에서
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startupWarmups.run("jwtParser", this::parser);
+    }
+
+    // 파서는 불변이므로 요청마다 새로 만들지 않음
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            synchronized (this) {
+                if (parser == null) {
+                    parser = Jwts.parserBuilder().setSigningKey(key).build();
+                }
+                current = parser;
+            }
+        }
+        return current;
+    }
+
     public String createToken(String loginId, String role) {
         Claims claims = Jwts.claims().setSubject(loginId);
         claims.put("role", role);
@@ -74,31 +101,36 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        String loginId = getLoginId(token);
+        return toAuthentication(loadEmployeeDetails(getLoginId(token)));
+    }
+
+    public EmployeeDetails loadEmployeeDetails(String loginId) {
         Employee employee = employeeRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new RuntimeException("직원을 찾을 수 없습니다: " + loginId));
-        UserDetails userDetails = new EmployeeDetails(employee);
+        return EmployeeDetails.withoutPassword(employee);
+    }
+
+    public Authentication toAuthentication(UserDetails userDetails) {
         JwtAuthenticationToken auth = new JwtAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         auth.setAuthenticated(true);
         return auth;
     }
 
     public String getLoginId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parser().parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser().parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            System.out.println("JWT validation error: " + e.getMessage());
-            return false;
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return null;
         }
     }
 
@@ -31,20 +31,19 @@ public class AuthService {
         );
 
         EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
-        Employee employee = employeeDetails.getEmployee();
 
         String accessToken = jwtTokenProvider.createToken(
-                employee.getLoginId(),
-                employee.getRole().name()
+                employeeDetails.getLoginId(),
+                employeeDetails.getRole().name()
         );
 
-        String refreshToken = jwtTokenProvider.createRefreshToken(employee.getLoginId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(employeeDetails.getLoginId());
 
         return new LoginResponseDto(
                 accessToken,
                 refreshToken,
-                employee.getName(),
-                employee.getRole().name()
+                employeeDetails.getName(),
+                employeeDetails.getRole().name()
         );
     }
 
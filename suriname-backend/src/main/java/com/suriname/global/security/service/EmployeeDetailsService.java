@@ -20,6 +20,6 @@ public class EmployeeDetailsService implements UserDetailsService {
         Employee employee = employeeRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 ID를 가진 직원을 찾을 수 없습니다: " + loginId));
 
-        return new EmployeeDetails(employee);
+        return EmployeeDetails.of(employee);
     }
 }
@@ -1,6 +1,6 @@
 package com.suriname.global.sms;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -17,10 +17,9 @@ import java.util.Map;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class SmsService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     //private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${sms.api.url}")
@@ -35,24 +34,15 @@ public class SmsService {
     @Value("${sms.sender.phone}")
     private String senderPhone;
 
-    public void sendVirtualAccountSms(String customerPhone, String customerName, String bank, String account, String amount) {
-        try {
-            String message = String.format(
-                "[Suriname] %s고객님, 수리남을 이용해주셔서 감사드립니다.\n"+
-                "가상계좌은행: %s\n" +
-                "가상계좌번호: %s\n" +
-                "입금액: %s원\n\n" +
-                "7일 이내 입금 부탁드립니다.",
-                customerName, bank, account, amount
-            );
-
-            sendSms(customerPhone, message);
-            
-        } catch (Exception e) {
-        }
+    public SmsService(@Qualifier("smsRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
-    private void sendSms(String to, String text) {
+    /**
+     * SMS 1건 동기 발송 (실패 시 RuntimeException).
+     * 업무 코드에서는 직접 호출하지 않고 SmsOutboxService 로 등록한다.
+     */
+    public void send(String to, String text) {
         try {
             String salt = UUID.randomUUID().toString().replaceAll("-", "");
             String date = Instant.now().toString();
@@ -73,8 +63,7 @@ public class SmsService {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
-
+            restTemplate.postForEntity(apiUrl, entity, String.class);
         } catch (Exception e) {
             throw new RuntimeException("SMS 발송 실패", e);
         }
@@ -0,0 +1,28 @@
+package com.suriname.global.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization, fast-startup 프로필)에서 제외할 빈.
+ * 스케줄 작업은 빈이 만들어질 때 등록되므로, 아무도 참조하지 않는 스케줄러 빈은 바로 만든다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && Arrays
+                .stream(ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(beanType)))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, Schedules.class));
+    }
+}
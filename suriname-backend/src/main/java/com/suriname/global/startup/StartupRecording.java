@@ -0,0 +1,35 @@
+package com.suriname.global.startup;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * 기동 단계 기록 여부 결정.
+ * fast-startup 프로필이거나 startup.report.enabled=true 일 때만 BufferingApplicationStartup 을 쓰고,
+ * 그 외에는 기록하지 않는 기본 ApplicationStartup 을 쓴다.
+ * application.yml 을 읽기 전에 정해야 하므로 실행 인자, 시스템 속성, 환경 변수만 본다.
+ */
+public final class StartupRecording {
+
+    public static final String PROFILE = "fast-startup";
+
+    // 기록할 기동 단계 최대 개수 (StartupTimelineReporter, /actuator/startup). 넘치면 이후 단계는 버림
+    static final int CAPACITY = 10_000;
+
+    private StartupRecording() {
+    }
+
+    public static ApplicationStartup applicationStartup(String... args) {
+        return enabled(args) ? new BufferingApplicationStartup(CAPACITY) : ApplicationStartup.DEFAULT;
+    }
+
+    static boolean enabled(String... args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return environment.matchesProfiles(PROFILE)
+                || environment.getProperty("startup.report.enabled", Boolean.class, false);
+    }
+}
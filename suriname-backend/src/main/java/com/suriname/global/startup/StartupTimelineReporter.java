@@ -0,0 +1,94 @@
+package com.suriname.global.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 타임라인 요약 (빈별 생성 시간).
+ * SurinameApplication 이 BufferingApplicationStartup 으로 기록한 단계 중 빈 생성만 모아,
+ * 하위 빈 생성 시간을 뺀 자체 시간이 긴 순으로 보여준다. 전체 타임라인은 /actuator/startup.
+ * 기록은 StartupRecording 이 켠 경우에만 있고, 보고 후에는 비운다 (startup.report.keep-timeline=true 면 유지).
+ */
+@Slf4j
+@Component
+public class StartupTimelineReporter {
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final boolean enabled;
+    private final int top;
+    private final boolean keepTimeline;
+
+    public record BeanTiming(String beanName, long totalMillis, long selfMillis) {}
+
+    public StartupTimelineReporter(ApplicationStartup applicationStartup,
+                                   @Value("${startup.report.enabled:false}") boolean enabled,
+                                   @Value("${startup.report.top:20}") int top,
+                                   @Value("${startup.report.keep-timeline:false}") boolean keepTimeline) {
+        this.applicationStartup = applicationStartup;
+        this.enabled = enabled;
+        this.top = top;
+        this.keepTimeline = keepTimeline;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (!enabled) return;
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            log.info("기동 단계가 기록되지 않았습니다. fast-startup 프로필이나 startup.report.enabled 를 실행 인자 또는 환경 변수로 지정하세요");
+            return;
+        }
+        List<BeanTiming> slowest = slowestBeans(top);
+        StringBuilder sb = new StringBuilder();
+        for (BeanTiming timing : slowest) {
+            sb.append(String.format("%n  %6d / %6d  %s", timing.totalMillis(), timing.selfMillis(), timing.beanName()));
+        }
+        log.info("기동 {} ms, 빈 생성 시간 상위 {}개 (전체 / 자체 ms):{}",
+                event.getTimeTaken().toMillis(), slowest.size(), sb);
+        if (!keepTimeline) {
+            buffering.drainBufferedTimeline();
+        }
+    }
+
+    public List<BeanTiming> slowestBeans(int limit) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) return List.of();
+        List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+        return events.stream()
+                .filter(event -> BEAN_INSTANTIATE.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTiming(
+                        beanName(event.getStartupStep()),
+                        event.getDuration().toMillis(),
+                        (event.getDuration().toNanos() - childNanos.getOrDefault(event.getStartupStep().getId(), 0L)) / 1_000_000))
+                .sorted(Comparator.comparingLong(BeanTiming::selfMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) return tag.getValue();
+        }
+        return step.getName();
+    }
+}
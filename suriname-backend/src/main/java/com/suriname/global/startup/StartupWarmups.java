@@ -0,0 +1,55 @@
+package com.suriname.global.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 기동을 막지 않도록 ApplicationReadyEvent 이후 백그라운드에서 하는 준비 작업(검색 색인, JWT 파서 등).
+ * 작업이 끝날 때까지 OUT_OF_SERVICE 이므로 readiness 그룹에 넣으면 준비된 뒤에 트래픽을 받는다.
+ * 준비 작업은 모두 없어도 동작하는(느린 경로가 있는) 것들이라 실패해도 UP 으로 본다.
+ */
+@Slf4j
+@Component
+public class StartupWarmups implements HealthIndicator {
+
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("startup-warmup").start(task);
+
+    // 작업 이름 → 결과 설명
+    private final Map<String, CompletableFuture<String>> warmups = new ConcurrentHashMap<>();
+
+    public void run(String name, Runnable task) {
+        track(name, CompletableFuture.runAsync(task, VIRTUAL_THREADS));
+    }
+
+    public void track(String name, CompletableFuture<?> warmup) {
+        long start = System.currentTimeMillis();
+        warmups.put(name, warmup.handle((result, error) -> {
+            long elapsed = System.currentTimeMillis() - start;
+            if (error != null) {
+                log.warn("기동 후 준비 작업 실패: {} ({} ms) {}", name, elapsed, error.getMessage());
+                return "failed (" + elapsed + " ms)";
+            }
+            log.info("기동 후 준비 작업 완료: {} ({} ms)", name, elapsed);
+            return "done (" + elapsed + " ms)";
+        }));
+    }
+
+    public boolean isWarm() {
+        return warmups.values().stream().allMatch(CompletableFuture::isDone);
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        warmups.forEach((name, warmup) -> details.put(name, warmup.isDone() ? warmup.join() : "running"));
+        return (isWarm() ? Health.up() : Health.outOfService()).withDetails(details).build();
+    }
+}
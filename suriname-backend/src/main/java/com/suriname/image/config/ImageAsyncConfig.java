@@ -0,0 +1,32 @@
+package com.suriname.image.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 썸네일 생성은 CPU 를 쓰므로 작은 고정 풀에서 처리
+// 큐가 가득 차면 버림 (썸네일이 없으면 원본으로 응답)
+@Configuration
+@EnableAsync
+public class ImageAsyncConfig {
+
+    @Bean(name = "imageTaskExecutor")
+    public ThreadPoolTaskExecutor imageTaskExecutor(
+            @Value("${image.thumbnail.threads:2}") int threads,
+            @Value("${image.thumbnail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-thumb-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
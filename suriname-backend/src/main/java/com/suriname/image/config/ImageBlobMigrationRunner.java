@@ -0,0 +1,35 @@
+package com.suriname.image.config;
+
+import com.suriname.image.service.ImageBlobMigrationService;
+import com.suriname.image.thumbnail.ImageThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// image.storage.migrate-blobs=true 로 기동하면 기존 BLOB 이미지를 저장소로 일괄 이관하고,
+// 이전에 이관됐지만 썸네일이 없는 이미지의 썸네일도 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage.migrate-blobs", havingValue = "true")
+public class ImageBlobMigrationRunner {
+    private final ImageBlobMigrationService imageBlobMigrationService;
+    private final ImageThumbnailService imageThumbnailService;
+
+    @Value("${image.storage.migrate-batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        log.info("BLOB 이미지 이관 시작: batchSize={}", batchSize);
+        ImageBlobMigrationService.MigrationResult result = imageBlobMigrationService.migrate(batchSize);
+        log.info("BLOB 이미지 이관 종료: 완료={}, 실패={}", result.migrated(), result.failed());
+
+        int thumbnails = imageThumbnailService.backfill(batchSize);
+        log.info("누락된 썸네일 생성: {}건", thumbnails);
+    }
+}
@@ -2,17 +2,26 @@ package com.suriname.image.controller;
 
 import com.suriname.image.entity.Image;
 import com.suriname.image.service.ImageService;
+import com.suriname.image.thumbnail.ImageThumbnailService;
+import com.suriname.image.thumbnail.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/images")
@@ -21,6 +30,12 @@ import java.util.Map;
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageThumbnailService imageThumbnailService;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
 
     @PostMapping("/upload/{requestId}")
     public ResponseEntity<Map<String, Object>> uploadImage(
@@ -137,28 +152,78 @@ public class ImageController {
     }
 
     @GetMapping("/view/{imageId}")
-    public ResponseEntity<byte[]> getImageBlob(@PathVariable Long imageId) {
+    public ResponseEntity<?> getImage(@PathVariable Long imageId,
+                                      @RequestParam(value = "size", required = false) String size,
+                                      HttpServletRequest request) {
         try {
             Image image = imageService.getImageById(imageId);
-            
-            if (image.getImageData() == null) {
-                log.warn("이미지 데이터가 없습니다: imageId={}", imageId);
+
+            // 썸네일이 아직 없으면 원본으로 응답하되 캐시에 고정되지 않게 함
+            ImageVariant requested = ImageVariant.from(size);
+            ImageVariant variant = image.getStorageKey() != null && image.hasThumbnails() ? requested : ImageVariant.ORIGINAL;
+
+            // 이미지는 업로드 후 바뀌지 않으므로 (id, 실제 응답한 크기) 로 강한 ETag 구성
+            String eTag = "\"" + imageId + "-" + variant.name().toLowerCase() + "\"";
+            CacheControl cacheControl = variant == requested
+                    ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                    : CacheControl.noCache().cachePrivate();
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag(eTag);
+            headers.setCacheControl(cacheControl);
+
+            if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+            }
+
+            headers.setContentType(MediaType.parseMediaType(
+                    imageThumbnailService.contentTypeOf(variant, image.getContentType())));
+            headers.setContentDisposition(ContentDisposition.inline()
+                    .filename(image.getFileName(), StandardCharsets.UTF_8)
+                    .build());
+
+            // 이관 전 이미지는 기존 BLOB 컬럼에서 응답
+            if (image.getStorageKey() == null) {
+                byte[] imageData = imageService.getLegacyImageData(imageId);
+                if (imageData == null) {
+                    log.warn("이미지 데이터가 없습니다: imageId={}", imageId);
+                    return ResponseEntity.notFound().build();
+                }
+                headers.setContentLength(imageData.length);
+                return ResponseEntity.ok().headers(headers).body(imageData);
+            }
+
+            Resource resource = imageService.loadImageResource(image, variant);
+            if (!resource.exists()) {
+                log.warn("저장소에 이미지가 없습니다: imageId={}, key={}", imageId, variant.storageKeyOf(image.getStorageKey()));
                 return ResponseEntity.notFound().build();
             }
+            long length = resource.contentLength();
+            headers.setContentLength(length);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(image.getContentType()));
-            headers.setContentLength(image.getFileSize());
-            headers.setContentDispositionFormData("inline", image.getFileName());
+            // 로컬 파일이면 Tomcat sendfile 로 커널에서 바로 전송 (zero-copy)
+            if (resource.isFile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, resource.getFile().getAbsolutePath());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, length);
+                return ResponseEntity.ok().headers(headers).build();
+            }
 
+            // 그 외에는 Resource 를 스트리밍 (로컬 파일은 FileChannel 기반 복사)
+            return ResponseEntity.ok().headers(headers).body(resource);
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(image.getImageData());
-                    
         } catch (Exception e) {
-            log.error("이미지 BLOB 조회 실패: imageId={}, error={}", imageId, e.getMessage());
+            log.error("이미지 조회 실패: imageId={}, error={}", imageId, e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag)) return true;
+        }
+        return false;
+    }
+}
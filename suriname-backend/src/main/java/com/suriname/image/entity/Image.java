@@ -1,6 +1,5 @@
 package com.suriname.image.entity;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.suriname.request.entity.Request;
 import jakarta.persistence.*;
@@ -33,10 +32,14 @@ public class Image {
     @Column(name = "file_url", length = 255)
     private String fileUrl;
 
-    @Lob
-    @Column(name = "image_data", columnDefinition = "LONGBLOB")
-    @JsonIgnore
-    private byte[] imageData;
+    // 이미지 저장소(ImageStorage) 키
+    // 기존 image_data(LONGBLOB) 컬럼은 엔티티에서 제외해 조회 시 BLOB 이 함께 로딩되지 않게 함 (ImageBlobMigrationService 로 이관)
+    @Column(name = "storage_key", length = 255)
+    private String storageKey;
+
+    // 썸네일(ImageVariant) 생성 완료 여부
+    @Column(name = "thumbnail_ready")
+    private Boolean thumbnailReady;
 
     @Column(name = "content_type", length = 100)
     private String contentType;
@@ -50,16 +53,25 @@ public class Image {
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
+        if (this.thumbnailReady == null) this.thumbnailReady = false;
     }
 
     @Builder
-    public Image(Request request, String fileName, String fileUrl, 
-                 byte[] imageData, String contentType, Long fileSize) {
+    public Image(Request request, String fileName, String fileUrl,
+                 String storageKey, String contentType, Long fileSize) {
         this.request = request;
         this.fileName = fileName;
         this.fileUrl = fileUrl;
-        this.imageData = imageData;
+        this.storageKey = storageKey;
         this.contentType = contentType;
         this.fileSize = fileSize;
     }
+
+    public void assignFileUrl(String fileUrl) {
+        this.fileUrl = fileUrl;
+    }
+
+    public boolean hasThumbnails() {
+        return Boolean.TRUE.equals(thumbnailReady);
+    }
 }
@@ -2,10 +2,13 @@ package com.suriname.image.repository;
 
 import com.suriname.image.entity.Image;
 import com.suriname.request.entity.Request;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,4 +19,16 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     @Query("SELECT i.imageId, i.fileName, i.fileUrl, i.contentType, i.fileSize, i.createdAt " +
            "FROM Image i WHERE i.request.requestId = :requestId ORDER BY i.createdAt ASC")
     List<Object[]> findImageSummaryByRequestId(@Param("requestId") Long requestId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.thumbnailReady = true WHERE i.imageId = :imageId")
+    int markThumbnailReady(@Param("imageId") Long imageId);
+
+    // 저장소에 있지만 썸네일이 없는 이미지 (id 순으로 이어서 조회)
+    // thumbnail_ready 컬럼 추가 전부터 있던 행은 NULL
+    @Query("SELECT i FROM Image i WHERE i.storageKey IS NOT NULL " +
+           "AND (i.thumbnailReady IS NULL OR i.thumbnailReady = false) " +
+           "AND i.imageId > :afterId ORDER BY i.imageId ASC")
+    List<Image> findWithoutThumbnails(@Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.suriname.image.service;
+
+import com.suriname.image.storage.ImageStorage;
+import com.suriname.image.thumbnail.ImageThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * image.image_data(BLOB) 에 남아 있는 기존 이미지를 ImageStorage 로 옮긴다.
+ * 배치 단위로 id 만 먼저 읽고, BLOB 은 한 건씩 스트림으로 저장소에 흘려보낸 뒤
+ * storage_key 기록 + image_data 비우기를 짧은 트랜잭션으로 커밋한다.
+ * 이관한 이미지는 업로드 이벤트를 거치지 않으므로 커밋 후 이 스레드에서 바로 썸네일을 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageBlobMigrationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStorage imageStorage;
+    private final LegacyImageData legacyImageData;
+    private final ImageThumbnailService imageThumbnailService;
+
+    public record MigrationResult(int migrated, int failed) {}
+
+    private record PendingImage(long imageId, long requestId, String fileName, String contentType) {}
+
+    private record MigratedImage(long imageId, String storageKey) {}
+
+    public MigrationResult migrate(int batchSize) {
+        // 처음부터 저장소를 쓰는 스키마에는 image_data 컬럼이 없음 (이관은 드물게 돌므로 매번 다시 확인)
+        if (!legacyImageData.refresh()) {
+            log.info("image_data 컬럼이 없어 BLOB 이관을 건너뜁니다.");
+            return new MigrationResult(0, 0);
+        }
+
+        int migrated = 0;
+        int failed = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<PendingImage> batch = findPending(lastId, batchSize);
+            if (batch.isEmpty()) break;
+            lastId = batch.get(batch.size() - 1).imageId();
+
+            List<MigratedImage> copied = new ArrayList<>(batch.size());
+            for (PendingImage image : batch) {
+                String storageKey = "requests/" + image.requestId() + "/legacy/" + image.imageId() + extensionOf(image.fileName());
+                try {
+                    copyBlob(image, storageKey);
+                    copied.add(new MigratedImage(image.imageId(), storageKey));
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("BLOB 이관 실패: imageId={}, error={}", image.imageId(), e.getMessage());
+                }
+            }
+
+            if (!copied.isEmpty()) {
+                List<Object[]> updates = copied.stream()
+                        .map(m -> new Object[]{m.storageKey(), ImageService.VIEW_URL_PREFIX + m.imageId(), m.imageId()})
+                        .toList();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "UPDATE image SET storage_key = ?, file_url = COALESCE(file_url, ?), image_data = NULL " +
+                                "WHERE image_id = ? AND storage_key IS NULL",
+                        updates));
+                migrated += copied.size();
+                copied.forEach(m -> imageThumbnailService.generate(m.imageId(), m.storageKey()));
+            }
+            log.info("BLOB 이관 진행: 마지막 imageId={}, 완료={}, 실패={}", lastId, migrated, failed);
+        }
+
+        return new MigrationResult(migrated, failed);
+    }
+
+    private List<PendingImage> findPending(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT image_id, request_id, file_name, content_type FROM image " +
+                        "WHERE image_data IS NOT NULL AND storage_key IS NULL AND image_id > ? " +
+                        "ORDER BY image_id LIMIT ?",
+                (rs, rowNum) -> new PendingImage(
+                        rs.getLong("image_id"),
+                        rs.getLong("request_id"),
+                        rs.getString("file_name"),
+                        rs.getString("content_type")),
+                afterId, limit);
+    }
+
+    // 한 건씩 조회해 BLOB 전체를 배치 단위로 힙에 올리지 않음
+    private void copyBlob(PendingImage image, String storageKey) {
+        jdbcTemplate.query(
+                "SELECT OCTET_LENGTH(image_data) AS data_size, image_data FROM image WHERE image_id = ?",
+                rs -> {
+                    try (InputStream in = rs.getBinaryStream("image_data")) {
+                        imageStorage.store(storageKey, in, rs.getLong("data_size"), image.contentType());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                image.imageId());
+    }
+
+    private String extensionOf(String fileName) {
+        String ext = StringUtils.getFilenameExtension(fileName);
+        return StringUtils.hasText(ext) ? "." + ext.toLowerCase() : "";
+    }
+}
@@ -2,17 +2,30 @@ package com.suriname.image.service;
 
 import com.suriname.image.entity.Image;
 import com.suriname.image.repository.ImageRepository;
+import com.suriname.image.storage.ImageStorage;
+import com.suriname.image.thumbnail.ImageUploadedEvent;
+import com.suriname.image.thumbnail.ImageVariant;
 import com.suriname.request.entity.Request;
 import com.suriname.request.repository.RequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -22,36 +35,97 @@ public class ImageService {
 
     private final ImageRepository imageRepository;
     private final RequestRepository requestRepository;
+    private final ImageStorage imageStorage;
+    private final LegacyImageData legacyImageData;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final String VIEW_URL_PREFIX = "/api/images/view/";
 
     public Long uploadImage(Long requestId, MultipartFile file) throws IOException {
-        log.info("=== 이미지 업로드 시작 (BLOB 저장) ===");
-        log.info("Request ID: {}, File: {}, Size: {} bytes", 
+        log.info("Request ID: {}, File: {}, Size: {} bytes",
                 requestId, file.getOriginalFilename(), file.getSize());
-        
+
         Request request = requestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("수리 요청을 찾을 수 없습니다."));
 
         // 파일 검증
         validateImageFile(file);
-        
-        // 파일 데이터를 바이트 배열로 읽기
-        byte[] imageData = file.getBytes();
+
+        Image savedImage = storeAndSave(request, file);
+        log.info("Image saved: requestId={}, imageId={}, fileName={}, size={} bytes",
+                requestId, savedImage.getImageId(), savedImage.getFileName(), savedImage.getFileSize());
+
+        return savedImage.getImageId();
+    }
+
+    // 저장소에 스트리밍 저장 후 메타데이터만 DB에 기록
+    private Image storeAndSave(Request request, MultipartFile file) throws IOException {
+        String storageKey = newStorageKey(request.getRequestId(), file.getOriginalFilename());
+        imageStorage.store(storageKey, file);
+        deleteFromStorageOnRollback(storageKey);
 
         Image image = Image.builder()
                 .request(request)
                 .fileName(file.getOriginalFilename())
-                .fileUrl(null) // BLOB 저장 시에는 URL 불필요
-                .imageData(imageData)
+                .storageKey(storageKey)
                 .contentType(file.getContentType())
                 .fileSize(file.getSize())
                 .build();
 
         Image savedImage = imageRepository.save(image);
-        log.info("=== 이미지 BLOB 저장 완료 ===");
-        log.info("Image saved: requestId={}, imageId={}, fileName={}, size={} bytes", 
-                requestId, savedImage.getImageId(), savedImage.getFileName(), savedImage.getFileSize());
+        savedImage.assignFileUrl(VIEW_URL_PREFIX + savedImage.getImageId());
+        // 커밋 후 썸네일 생성 (ImageThumbnailService)
+        eventPublisher.publishEvent(new ImageUploadedEvent(savedImage.getImageId(), storageKey));
+        return savedImage;
+    }
 
-        return savedImage.getImageId();
+    // requests/{requestId}/{yyyyMMdd}/{uuid}.{ext}
+    private String newStorageKey(Long requestId, String originalFilename) {
+        String ext = StringUtils.getFilenameExtension(originalFilename);
+        return "requests/" + requestId + "/" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "/"
+                + UUID.randomUUID() + (StringUtils.hasText(ext) ? "." + ext.toLowerCase() : "");
+    }
+
+    // DB 저장이 롤백되면 이미 써 둔 파일 정리
+    private void deleteFromStorageOnRollback(String storageKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteQuietly(storageKey);
+                }
+            }
+        });
+    }
+
+    // DB 삭제가 커밋된 뒤 파일 삭제
+    private void deleteFromStorageAfterCommit(List<String> storageKeys) {
+        if (storageKeys.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storageKeys.forEach(this::deleteQuietly);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storageKeys.forEach(ImageService.this::deleteQuietly);
+            }
+        });
+    }
+
+    private List<String> storageKeysWithVariants(String storageKey) {
+        return Arrays.stream(ImageVariant.values())
+                .map(v -> v.storageKeyOf(storageKey))
+                .toList();
+    }
+
+    private void deleteQuietly(String storageKey) {
+        try {
+            imageStorage.delete(storageKey);
+        } catch (Exception e) {
+            log.warn("저장소 이미지 삭제 실패: key={}, error={}", storageKey, e.getMessage());
+        }
     }
 
     private void validateImageFile(MultipartFile file) {
@@ -83,18 +157,7 @@ public class ImageService {
             try {
                 validateImageFile(file);
 
-                byte[] imageData = file.getBytes();
-
-                Image image = Image.builder()
-                        .request(request)
-                        .fileName(file.getOriginalFilename())
-                        .fileUrl(null)
-                        .imageData(imageData)
-                        .contentType(file.getContentType())
-                        .fileSize(file.getSize())
-                        .build();
-
-                Image savedImage = imageRepository.save(image);
+                Image savedImage = storeAndSave(request, file);
                 uploadedImageIds.add(savedImage.getImageId());
                 
                 log.info("Multiple image saved: requestId={}, imageId={}, fileName={}, size={} bytes", 
@@ -119,6 +182,7 @@ public class ImageService {
             data.put("imageId", result[0]);
             data.put("fileName", result[1]);
             data.put("fileUrl", result[2]);
+            data.put("thumbnailUrl", result[2] == null ? null : result[2] + "?size=" + ImageVariant.W128.getMaxEdge());
             data.put("contentType", result[3]);
             data.put("fileSize", result[4]);
             data.put("createdAt", result[5]);
@@ -133,6 +197,17 @@ public class ImageService {
                 .orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
     }
 
+    // 저장소 이관 전 이미지의 BLOB 원본 (ImageBlobMigrationService 이관 완료 전까지만 사용)
+    @Transactional(readOnly = true)
+    public byte[] getLegacyImageData(Long imageId) {
+        return legacyImageData.find(imageId);
+    }
+
+    @Transactional(readOnly = true)
+    public Resource loadImageResource(Image image, ImageVariant variant) throws IOException {
+        return imageStorage.load(variant.storageKeyOf(image.getStorageKey()));
+    }
+
     @Transactional(readOnly = true)
     public List<Image> getAllImages() {
         return imageRepository.findAll();
@@ -142,16 +217,22 @@ public class ImageService {
         Image image = imageRepository.findById(imageId)
                 .orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
 
-        // BLOB 저장 시에는 DB에서만 삭제하면 됨
         imageRepository.delete(image);
-        log.info("Image deleted from BLOB: imageId={}, fileName={}", image.getImageId(), image.getFileName());
+        if (image.getStorageKey() != null) {
+            deleteFromStorageAfterCommit(storageKeysWithVariants(image.getStorageKey()));
+        }
+        log.info("Image deleted: imageId={}, fileName={}", image.getImageId(), image.getFileName());
     }
 
     public void deleteImagesByRequestId(Long requestId) {
         List<Image> images = imageRepository.findByRequestRequestIdOrderByCreatedAtAsc(requestId);
         
-        // BLOB 저장 시에는 DB에서만 삭제하면 됨
         imageRepository.deleteAll(images);
-        log.info("All images deleted from BLOB for requestId={}, count={}", requestId, images.size());
+        deleteFromStorageAfterCommit(images.stream()
+                .map(Image::getStorageKey)
+                .filter(Objects::nonNull)
+                .flatMap(key -> storageKeysWithVariants(key).stream())
+                .toList());
+        log.info("All images deleted for requestId={}, count={}", requestId, images.size());
     }
 }
\ No newline at end of file
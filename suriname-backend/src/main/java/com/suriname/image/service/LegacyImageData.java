@@ -0,0 +1,64 @@
+package com.suriname.image.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * 저장소 이관 전 image.image_data(BLOB) 컬럼 접근
+ * 엔티티가 더 이상 매핑하지 않아 새로 만든 스키마에는 컬럼이 없으므로 존재 여부를 먼저 확인한다.
+ * 확인 결과는 처음 한 번 메타데이터로 조회해 기억하고, 이관 후 컬럼이 삭제되어 조회가 실패하면 다시 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacyImageData {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // null 이면 아직 확인 전
+    private volatile Boolean exists;
+
+    public boolean columnExists() {
+        Boolean cached = exists;
+        return cached != null ? cached : refresh();
+    }
+
+    // 메타데이터로 다시 확인해 기억 (이관 시작 시, 컬럼 삭제 감지 시)
+    public boolean refresh() {
+        boolean found = lookup();
+        exists = found;
+        return found;
+    }
+
+    private boolean lookup() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            boolean upper = meta.storesUpperCaseIdentifiers();
+            try (ResultSet rs = meta.getColumns(con.getCatalog(), null,
+                    upper ? "IMAGE" : "image", upper ? "IMAGE_DATA" : "image_data")) {
+                return rs.next();
+            }
+        }));
+    }
+
+    // 컬럼이 없거나 값이 없으면 null
+    public byte[] find(Long imageId) {
+        if (!columnExists()) return null;
+        List<byte[]> rows;
+        try {
+            rows = jdbcTemplate.query("SELECT image_data FROM image WHERE image_id = ?",
+                    (rs, rowNum) -> rs.getBytes(1), imageId);
+        } catch (BadSqlGrammarException e) {
+            // 기억한 뒤에 컬럼이 삭제됨
+            if (!refresh()) return null;
+            throw e;
+        }
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
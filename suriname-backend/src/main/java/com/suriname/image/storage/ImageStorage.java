@@ -0,0 +1,30 @@
+package com.suriname.image.storage;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 원본 저장소 (image.storage.type = local | s3)
+ * DB에는 storageKey 만 저장하고 바이너리는 저장소에 둔다.
+ */
+public interface ImageStorage {
+
+    // 스트림을 그대로 저장 (size 를 모르면 -1)
+    void store(String key, InputStream in, long size, String contentType) throws IOException;
+
+    // 업로드 파일 저장 (힙에 올리지 않도록 구현체에서 최적화 가능)
+    default void store(String key, MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            store(key, in, file.getSize(), file.getContentType());
+        }
+    }
+
+    Resource load(String key) throws IOException;
+
+    boolean exists(String key);
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,96 @@
+package com.suriname.image.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일시스템 저장소
+ * 임시 파일에 먼저 쓰고 원자적으로 이동해 반쯤 쓰인 파일이 노출되지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(@Value("${image.storage.local.root:./uploads/images}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+        log.info("이미지 로컬 저장소: {}", this.root);
+    }
+
+    @Override
+    public void store(String key, InputStream in, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = prepareTemp(target);
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 멀티파트 임시 파일을 그대로 옮김 (같은 파일시스템이면 복사 없이 rename)
+    @Override
+    public void store(String key, MultipartFile file) throws IOException {
+        Path target = resolve(key);
+        Path temp = prepareTemp(target);
+        try {
+            file.transferTo(temp);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource load(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new FileNotFoundException("이미지 파일이 없습니다: " + key);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private Path prepareTemp(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
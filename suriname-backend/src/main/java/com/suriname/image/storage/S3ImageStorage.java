@@ -0,0 +1,132 @@
+package com.suriname.image.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * S3 저장소 (image.storage.type=s3)
+ * 자격 증명은 기본 자격 증명 체인(환경변수, 프로파일, IAM Role)을 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3")
+public class S3ImageStorage implements ImageStorage {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+
+    public S3ImageStorage(@Value("${image.storage.s3.bucket}") String bucket,
+                          @Value("${image.storage.s3.region:ap-northeast-2}") String region,
+                          @Value("${image.storage.s3.prefix:images/}") String prefix) {
+        this.s3Client = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .build();
+        this.bucket = bucket;
+        this.prefix = prefix;
+        log.info("이미지 S3 저장소: s3://{}/{}", bucket, prefix);
+    }
+
+    @Override
+    public void store(String key, InputStream in, long size, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(prefix + key)
+                .contentType(contentType)
+                .build();
+
+        if (size >= 0) {
+            s3Client.putObject(request, RequestBody.fromInputStream(in, size));
+            return;
+        }
+
+        // 길이를 모르는 스트림은 임시 파일로 받아서 업로드 (힙에 버퍼링하지 않음)
+        Path temp = Files.createTempFile("s3-upload-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            s3Client.putObject(request, RequestBody.fromFile(temp));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new S3ObjectResource(key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(prefix + key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(prefix + key).build());
+    }
+
+    // 응답을 쓸 때 비로소 S3 객체를 여는 리소스
+    private class S3ObjectResource extends AbstractResource {
+        private final String key;
+
+        private S3ObjectResource(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getDescription() {
+            return "s3://" + bucket + "/" + prefix + key;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(prefix + key).build());
+            } catch (NoSuchKeyException e) {
+                throw new FileNotFoundException(getDescription());
+            }
+        }
+
+        // 기본 구현은 스트림을 끝까지 읽어 길이를 세므로 HEAD 로 대체
+        @Override
+        public long contentLength() throws IOException {
+            try {
+                return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(prefix + key).build())
+                        .contentLength();
+            } catch (NoSuchKeyException e) {
+                throw new FileNotFoundException(getDescription());
+            }
+        }
+
+        @Override
+        public boolean exists() {
+            return S3ImageStorage.this.exists(key);
+        }
+    }
+}
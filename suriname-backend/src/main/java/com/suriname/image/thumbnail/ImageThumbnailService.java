@@ -0,0 +1,79 @@
+package com.suriname.image.thumbnail;
+
+import com.suriname.image.entity.Image;
+import com.suriname.image.repository.ImageRepository;
+import com.suriname.image.storage.ImageStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+// 업로드 커밋 후 별도 스레드에서 썸네일 생성 (실패해도 원본 조회에는 영향 없음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageThumbnailService {
+
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final ImageStorage imageStorage;
+    private final ImageRepository imageRepository;
+    private final ThumbnailGenerator thumbnailGenerator = new ThumbnailGenerator();
+
+    @Async("imageTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ImageUploadedEvent e) {
+        generate(e.imageId(), e.storageKey());
+    }
+
+    public boolean generate(Long imageId, String storageKey) {
+        try {
+            Map<ImageVariant, byte[]> thumbnails;
+            try (InputStream in = imageStorage.load(storageKey).getInputStream()) {
+                thumbnails = thumbnailGenerator.generate(in, ImageVariant.derived());
+            }
+            if (thumbnails.isEmpty()) {
+                log.info("썸네일 미지원 포맷: imageId={}, key={}", imageId, storageKey);
+                return false;
+            }
+
+            for (Map.Entry<ImageVariant, byte[]> entry : thumbnails.entrySet()) {
+                byte[] data = entry.getValue();
+                imageStorage.store(entry.getKey().storageKeyOf(storageKey),
+                        new ByteArrayInputStream(data), data.length, THUMBNAIL_CONTENT_TYPE);
+            }
+            imageRepository.markThumbnailReady(imageId);
+            return true;
+        } catch (Exception ex) {
+            log.warn("썸네일 생성 실패: imageId={}, key={}, error={}", imageId, storageKey, ex.getMessage());
+            return false;
+        }
+    }
+
+    // 썸네일 없이 저장소에 있는 이미지(BLOB 이관분, 큐가 가득 차 버려진 작업)를 호출 스레드에서 생성
+    public int backfill(int batchSize) {
+        int generated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Image> batch = imageRepository.findWithoutThumbnails(lastId, PageRequest.ofSize(batchSize));
+            if (batch.isEmpty()) break;
+            lastId = batch.get(batch.size() - 1).getImageId();
+            for (Image image : batch) {
+                if (generate(image.getImageId(), image.getStorageKey())) generated++;
+            }
+        }
+        return generated;
+    }
+
+    public String contentTypeOf(ImageVariant variant, String originalContentType) {
+        return variant.isOriginal() ? originalContentType : THUMBNAIL_CONTENT_TYPE;
+    }
+}
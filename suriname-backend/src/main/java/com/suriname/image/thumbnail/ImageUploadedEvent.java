@@ -0,0 +1,6 @@
+package com.suriname.image.thumbnail;
+
+public record ImageUploadedEvent(
+        Long imageId,
+        String storageKey
+) {}
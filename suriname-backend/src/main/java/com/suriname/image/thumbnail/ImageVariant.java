@@ -0,0 +1,42 @@
+package com.suriname.image.thumbnail;
+
+import java.util.Arrays;
+
+// 조회 시 선택 가능한 이미지 크기 (긴 변 기준 px)
+public enum ImageVariant {
+    ORIGINAL(0),
+    W128(128),
+    W512(512);
+
+    private final int maxEdge;
+
+    ImageVariant(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    public boolean isOriginal() {
+        return this == ORIGINAL;
+    }
+
+    // 원본 키 옆에 파생 이미지를 둔다: requests/1/20250101/uuid.png -> requests/1/20250101/uuid.png.w128.jpg
+    public String storageKeyOf(String originalKey) {
+        return isOriginal() ? originalKey : originalKey + ".w" + maxEdge + ".jpg";
+    }
+
+    // size 파라미터 (128, 512, original) -> 지원하지 않는 값이면 원본
+    public static ImageVariant from(String size) {
+        if (size == null || size.isBlank()) return ORIGINAL;
+        return Arrays.stream(values())
+                .filter(v -> !v.isOriginal() && String.valueOf(v.maxEdge).equals(size.trim()))
+                .findFirst()
+                .orElse(ORIGINAL);
+    }
+
+    public static ImageVariant[] derived() {
+        return new ImageVariant[]{W512, W128};
+    }
+}
@@ -0,0 +1,101 @@
+package com.suriname.image.thumbnail;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JDK ImageIO 만으로 썸네일을 만든다.
+ * 원본은 한 번만 디코딩하며, 가장 큰 파생 크기의 2배 이상만 남도록 서브샘플링해서 읽어
+ * 고해상도 사진도 전체 픽셀을 힙에 올리지 않는다.
+ */
+public class ThumbnailGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    // 지원하지 않는 포맷이면 빈 Map
+    public Map<ImageVariant, byte[]> generate(InputStream source, ImageVariant... variants) throws IOException {
+        Map<ImageVariant, byte[]> result = new EnumMap<>(ImageVariant.class);
+        int largestEdge = 0;
+        for (ImageVariant v : variants) largestEdge = Math.max(largestEdge, v.getMaxEdge());
+
+        BufferedImage decoded = decode(source, largestEdge);
+        if (decoded == null) return result;
+
+        for (ImageVariant v : variants) {
+            result.put(v, encodeJpeg(resize(decoded, v.getMaxEdge())));
+        }
+        return result;
+    }
+
+    private BufferedImage decode(InputStream source, int targetEdge) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (targetEdge * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 maxEdge 에 맞춤 (확대하지 않음), 투명 배경은 흰색으로 채움
+    private BufferedImage resize(BufferedImage src, int maxEdge) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(src.getWidth(), src.getHeight()));
+        int width = Math.max(1, (int) Math.round(src.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(src.getHeight() * scale));
+
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,23 @@
+package com.suriname.importjob.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 대기열은 DB(import_job.status = QUEUED) 가 맡고, 실행기는 동시 실행 수만 제한
+// 자리가 없으면 거절되고 ImportJobService 의 주기 작업이 나중에 다시 넘긴다.
+@Configuration
+public class ImportJobExecutorConfig {
+
+    @Bean(name = "importJobExecutor")
+    public ThreadPoolTaskExecutor importJobExecutor(ImportJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxConcurrent());
+        executor.setMaxPoolSize(properties.getMaxConcurrent());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("import-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
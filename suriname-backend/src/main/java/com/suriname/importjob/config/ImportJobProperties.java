@@ -0,0 +1,25 @@
+package com.suriname.importjob.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "import.jobs")
+public class ImportJobProperties {
+
+    // 동시에 실행할 가져오기 작업 수 (DB 부하 상한)
+    private int maxConcurrent = 2;
+
+    // 대기 가능한 작업 수 (초과 시 업로드 거절)
+    private int maxQueued = 20;
+
+    // 업로드 파일 보관 경로 (재기동 후에도 대기 작업을 이어서 처리)
+    private String spoolDir = "./uploads/import-jobs";
+
+    // 작업에 저장할 실패 행 최대 건수
+    private int failureSampleSize = 1000;
+}
@@ -0,0 +1,40 @@
+package com.suriname.importjob.controller;
+
+import com.suriname.global.security.principal.EmployeeDetails;
+import com.suriname.importjob.dto.ImportJobDto;
+import com.suriname.importjob.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/import-jobs")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    // 가져오기 작업 진행 상황 (처리 행 수, 실패, 처리 속도). 등록한 직원과 ADMIN 만 조회
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable Long jobId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
+
+        try {
+            ImportJobDto job = importJobService.getJob(jobId, employeeDetails.getEmployeeId(), employeeDetails.getRole().name());
+            return ResponseEntity.ok(Map.of("status", 200, "data", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("status", 404, "message", e.getMessage()));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("status", 403, "message", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.suriname.importjob.controller;
+
+import com.suriname.global.security.principal.EmployeeDetails;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.service.ImportJobService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Map;
+
+// 고객/제품 컨트롤러의 비동기 엑셀 업로드 응답 (202 + jobId)
+public final class ImportJobResponses {
+
+    private ImportJobResponses() {}
+
+    public static ResponseEntity<?> submit(ImportJobService importJobService, ImportJob.Type type, MultipartFile file) {
+        try {
+            Long jobId = importJobService.submit(type, file, currentEmployeeId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "status", 202,
+                    "message", "가져오기 작업이 등록되었습니다.",
+                    "data", Map.of("jobId", jobId, "statusUrl", "/api/import-jobs/" + jobId)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", 400, "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(Map.of("status", 429, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("status", 500, "message", "업로드 실패", "error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    private static Long currentEmployeeId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof EmployeeDetails employeeDetails) {
+            return employeeDetails.getEmployeeId();
+        }
+        return null;
+    }
+}
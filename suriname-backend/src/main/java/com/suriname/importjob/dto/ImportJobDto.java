@@ -0,0 +1,54 @@
+package com.suriname.importjob.dto;
+
+import com.suriname.importjob.entity.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class ImportJobDto {
+    private Long jobId;
+    private ImportJob.Type type;
+    private ImportJob.Status status;
+    private String fileName;
+    private int processedCount;
+    private int successCount;
+    private int failureCount;
+    private List<Map<String, String>> failures;
+    private Double rowsPerSecond;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ImportJobDto from(ImportJob job, List<Map<String, String>> failures) {
+        return ImportJobDto.builder()
+                .jobId(job.getImportJobId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .processedCount(job.getProcessedCount())
+                .successCount(job.getSuccessCount())
+                .failureCount(job.getFailureCount())
+                .failures(failures)
+                .rowsPerSecond(rowsPerSecond(job))
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    // 시작 후 경과 시간 기준 처리 속도 (완료된 작업은 종료 시각까지)
+    private static Double rowsPerSecond(ImportJob job) {
+        if (job.getStartedAt() == null) return null;
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Math.max(Duration.between(job.getStartedAt(), end).toMillis(), 1);
+        return Math.round(job.getProcessedCount() * 1000.0 / millis * 10) / 10.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.suriname.importjob.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 엑셀 일괄 등록 비동기 작업 (업로드 파일은 spoolPath 에 보관 후 처리)
+@Entity
+@Table(name = "import_job",
+        indexes = @Index(name = "idx_import_job_status_created", columnList = "status, created_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "import_job_id")
+    private Long importJobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false, length = 255)
+    private String fileName;
+
+    @Column(nullable = false, length = 500)
+    private String spoolPath;
+
+    private Long requestedBy;
+
+    @Column(nullable = false)
+    private int processedCount;
+
+    @Column(nullable = false)
+    private int successCount;
+
+    @Column(nullable = false)
+    private int failureCount;
+
+    // 실패 행 목록 JSON (최대 import.jobs.failure-sample-size 건)
+    @Column(columnDefinition = "TEXT")
+    private String failures;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Type {
+        CUSTOMER, PRODUCT
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public ImportJob(Type type, String fileName, String spoolPath, Long requestedBy) {
+        this.type = type;
+        this.fileName = fileName;
+        this.spoolPath = spoolPath;
+        this.requestedBy = requestedBy;
+        this.status = Status.QUEUED;
+    }
+
+    public void updateProgress(int processedCount, int successCount, int failureCount) {
+        this.processedCount = processedCount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
+
+    public void complete(int processedCount, int successCount, int failureCount, String failures) {
+        updateProgress(processedCount, successCount, failureCount);
+        this.failures = failures;
+        this.status = Status.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500) : errorMessage;
+        this.status = Status.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,30 @@
+package com.suriname.importjob.repository;
+
+import com.suriname.importjob.entity.ImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // 대기 중인 작업을 실행 상태로 선점 (같은 작업이 두 번 실행되지 않도록 조건부 갱신)
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = com.suriname.importjob.entity.ImportJob.Status.RUNNING, " +
+           "j.startedAt = :now, j.updatedAt = :now " +
+           "WHERE j.importJobId = :id AND j.status = com.suriname.importjob.entity.ImportJob.Status.QUEUED")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.importJobId FROM ImportJob j WHERE j.status = :status ORDER BY j.createdAt ASC, j.importJobId ASC")
+    List<Long> findIdsByStatus(@Param("status") ImportJob.Status status, Pageable pageable);
+
+    List<ImportJob> findAllByStatus(ImportJob.Status status);
+
+    long countByStatus(ImportJob.Status status);
+}
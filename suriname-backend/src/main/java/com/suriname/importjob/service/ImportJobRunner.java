@@ -0,0 +1,98 @@
+package com.suriname.importjob.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suriname.customer.service.CustomerExcelService;
+import com.suriname.global.excel.ExcelImportResult;
+import com.suriname.importjob.config.ImportJobProperties;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.repository.ImportJobRepository;
+import com.suriname.product.service.ProductExcelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 가져오기 작업 1건 실행 (importJobExecutor 스레드)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportJobRunner {
+
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final CustomerExcelService customerExcelService;
+    private final ProductExcelService productExcelService;
+    private final ImportJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void run(Long jobId) {
+        Integer claimed = transactionTemplate.execute(status -> importJobRepository.claim(jobId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) return;
+
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        File file = Paths.get(job.getSpoolPath()).toFile();
+        long start = System.nanoTime();
+        try {
+            ExcelImportResult result = switch (job.getType()) {
+                case CUSTOMER -> customerExcelService.importRows(file, progressUpdater(jobId));
+                case PRODUCT -> productExcelService.importRows(file, progressUpdater(jobId));
+            };
+
+            String failures = writeFailures(result.getFailures());
+            transactionTemplate.executeWithoutResult(status -> importJobRepository.findById(jobId).ifPresent(j ->
+                    j.complete(result.getTotalCount(), result.getSuccessCount(), result.getFailureCount(), failures)));
+            log.info("가져오기 작업 완료: jobId={}, total={}, success={}, failure={}, {} ms",
+                    jobId, result.getTotalCount(), result.getSuccessCount(), result.getFailureCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("가져오기 작업 실패: jobId={}", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> importJobRepository.findById(jobId)
+                    .ifPresent(j -> j.fail(e.getMessage() != null ? e.getMessage() : "알 수 없는 오류")));
+        } finally {
+            deleteSpool(job.getSpoolPath());
+        }
+    }
+
+    // 배치마다 불리지만 DB 반영은 1초에 한 번으로 제한
+    private Consumer<ExcelImportResult> progressUpdater(Long jobId) {
+        long[] lastUpdate = {0};
+        return result -> {
+            long now = System.currentTimeMillis();
+            if (now - lastUpdate[0] < PROGRESS_INTERVAL_MILLIS) return;
+            lastUpdate[0] = now;
+            transactionTemplate.executeWithoutResult(status -> importJobRepository.findById(jobId).ifPresent(j ->
+                    j.updateProgress(result.getTotalCount(), result.getSuccessCount(), result.getFailureCount())));
+        };
+    }
+
+    private String writeFailures(List<Map<String, String>> failures) {
+        List<Map<String, String>> sample = failures.size() > properties.getFailureSampleSize()
+                ? failures.subList(0, properties.getFailureSampleSize())
+                : failures;
+        try {
+            return objectMapper.writeValueAsString(sample);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    void deleteSpool(String spoolPath) {
+        try {
+            Files.deleteIfExists(Paths.get(spoolPath));
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패: {}", spoolPath);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.suriname.importjob.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suriname.importjob.config.ImportJobProperties;
+import com.suriname.importjob.dto.ImportJobDto;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.repository.ImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 엑셀 일괄 등록 비동기 작업 관리
+ * 업로드 파일을 디스크에 보관하고 작업을 QUEUED 로 저장한 뒤 바로 jobId 를 돌려준다.
+ * 실행은 importJobExecutor(동시 실행 상한) 에서 하며, 자리가 없으면 주기 작업이 나중에 넘긴다.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobRunner importJobRunner;
+    private final ImportJobProperties properties;
+    private final ThreadPoolTaskExecutor importJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            ImportJobRunner importJobRunner,
+                            ImportJobProperties properties,
+                            @Qualifier("importJobExecutor") ThreadPoolTaskExecutor importJobExecutor,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper) {
+        this.importJobRepository = importJobRepository;
+        this.importJobRunner = importJobRunner;
+        this.properties = properties;
+        this.importJobExecutor = importJobExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public Long submit(ImportJob.Type type, MultipartFile file, Long requestedBy) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (importJobRepository.countByStatus(ImportJob.Status.QUEUED) >= properties.getMaxQueued()) {
+            throw new IllegalStateException("대기 중인 가져오기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Path spoolDir = Paths.get(properties.getSpoolDir()).toAbsolutePath().normalize();
+        Files.createDirectories(spoolDir);
+        String ext = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        Path spoolFile = spoolDir.resolve(UUID.randomUUID() + (StringUtils.hasText(ext) ? "." + ext : ""));
+        file.transferTo(spoolFile);
+
+        Long jobId;
+        try {
+            jobId = transactionTemplate.execute(status -> importJobRepository.save(ImportJob.builder()
+                    .type(type)
+                    .fileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : spoolFile.getFileName().toString())
+                    .spoolPath(spoolFile.toString())
+                    .requestedBy(requestedBy)
+                    .build()).getImportJobId());
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(spoolFile);
+            throw e;
+        }
+
+        log.info("가져오기 작업 등록: jobId={}, type={}, file={}", jobId, type, file.getOriginalFilename());
+        dispatch(jobId);
+        return jobId;
+    }
+
+    // 작업을 등록한 직원과 ADMIN 만 조회 가능
+    public ImportJobDto getJob(Long jobId, Long viewerId, String role) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다."));
+        if (!"ADMIN".equals(role) && !Objects.equals(job.getRequestedBy(), viewerId)) {
+            throw new AccessDeniedException("해당 가져오기 작업에 접근 권한이 없습니다.");
+        }
+        return ImportJobDto.from(job, readFailures(job.getFailures()));
+    }
+
+    // 실행기에 빈자리가 있으면 바로 실행, 없으면 QUEUED 로 남겨 둠
+    private boolean dispatch(Long jobId) {
+        try {
+            importJobExecutor.execute(() -> importJobRunner.run(jobId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.debug("가져오기 실행기 포화, 대기: jobId={}", jobId);
+            return false;
+        }
+    }
+
+    // 대기 작업을 빈자리만큼 넘김
+    @Scheduled(fixedDelayString = "${import.jobs.dispatch-interval:5000}")
+    public void dispatchQueued() {
+        int free = properties.getMaxConcurrent() - importJobExecutor.getActiveCount();
+        if (free <= 0) return;
+
+        for (Long jobId : importJobRepository.findIdsByStatus(ImportJob.Status.QUEUED, PageRequest.of(0, free))) {
+            if (!dispatch(jobId)) break;
+        }
+    }
+
+    // 재기동 시 실행 중이던 작업은 일부 행이 이미 커밋되었으므로 다시 돌리지 않고 실패 처리
+    // (QUEUED 작업은 보관된 파일로 dispatchQueued 가 이어서 처리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterrupted() {
+        List<ImportJob> interrupted = importJobRepository.findAllByStatus(ImportJob.Status.RUNNING);
+        for (ImportJob job : interrupted) {
+            transactionTemplate.executeWithoutResult(status -> importJobRepository.findById(job.getImportJobId())
+                    .ifPresent(j -> j.fail("서버 재시작으로 중단되었습니다. " + j.getProcessedCount() + "행까지 처리된 상태입니다.")));
+            importJobRunner.deleteSpool(job.getSpoolPath());
+            log.warn("중단된 가져오기 작업 실패 처리: jobId={}, processed={}", job.getImportJobId(), job.getProcessedCount());
+        }
+    }
+
+    private List<Map<String, String>> readFailures(String json) {
+        if (json == null || json.isBlank()) return List.of();
+        try {
+            return objectMapper.readValue(json, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.suriname.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sms.outbox")
+public class SmsOutboxProperties {
+
+    // 주기 발송(SmsOutboxScheduler) 사용 여부
+    private boolean enabled = true;
+
+    // 한 번에 꺼내 발송할 건수
+    private int batchSize = 100;
+
+    // 게이트웨이 동시 호출 수
+    private int concurrency = 4;
+
+    // 최대 발송 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간 (시도마다 두 배, max-backoff 까지)
+    private Duration retryBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    // 이 시간 이상 SENDING 으로 남은 건은 중단된 것으로 보고 다시 대기시킴
+    private Duration sendingTimeout = Duration.ofMinutes(5);
+}
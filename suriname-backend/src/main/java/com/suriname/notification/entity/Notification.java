@@ -43,6 +43,11 @@ public class Notification {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    // SMS 발송 결과 (SmsOutboxDispatcher 가 기록, 그 외 알림은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "send_status", length = 10)
+    private SendStatus sendStatus;
+
     @Column(nullable = false)
     private Boolean isRead;
 
@@ -58,7 +63,15 @@ public class Notification {
         REPAIR_IMPOSSIBLE,
         PAYMENT_DELAYED,
         UNPAID,
-        REPAIR_DELAYED
+        REPAIR_DELAYED,
+        VIRTUAL_ACCOUNT_ISSUED,
+        DELIVERY_COMPLETED,
+        DELIVERY_DELAYED
+    }
+
+    public enum SendStatus {
+        SENT,
+        FAILED
     }
 
     @PrePersist
@@ -73,13 +86,15 @@ public class Notification {
                          Request request,
                          String channel,
                          NotificationType eventType,
-                         String content) {
+                         String content,
+                         SendStatus sendStatus) {
         this.employee = employee;
         this.customer = customer;
         this.request = request;
         this.channel = channel;
         this.eventType = eventType;
         this.content = content;
+        this.sendStatus = sendStatus;
     }
 
     public void read() {
@@ -0,0 +1,113 @@
+package com.suriname.notification.entity;
+
+import com.suriname.request.entity.Request;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발송 대기 SMS (업무 트랜잭션 안에서 저장하고 SmsOutboxDispatcher 가 커밋 후 발송)
+@Entity
+@Table(name = "sms_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sms_outbox_dedup_key", columnNames = "dedup_key"),
+        indexes = @Index(name = "idx_sms_outbox_status_next", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class SmsOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sms_outbox_id")
+    private Long smsOutboxId;
+
+    // 같은 키의 메시지는 한 번만 등록/발송 (예: VIRTUAL_ACCOUNT:{merchantUid}), 유니크 제약
+    @Column(name = "dedup_key", nullable = false, length = 100)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private Notification.NotificationType eventType;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "request_id")
+    private Request request;
+
+    @Column(nullable = false, length = 20)
+    private String recipient;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public enum Status {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED,
+        // dedup_key 가 유일해지기 전에 중복으로 건너뛴 건 (기존 행 호환, 새로 쓰지 않음)
+        SKIPPED
+    }
+
+    @Builder
+    public SmsOutbox(String dedupKey, Notification.NotificationType eventType, Request request,
+                     String recipient, String content) {
+        this.dedupKey = dedupKey;
+        this.eventType = eventType;
+        this.request = request;
+        this.recipient = recipient;
+        this.content = content;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // SENDING 동안 nextAttemptAt 은 발송을 시작한 시각 (중단 건 복구 기준)
+    public void markSending() {
+        this.status = Status.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent() {
+        this.status = Status.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 재시도할 수 있으면 PENDING 으로 되돌리고, 아니면 FAILED
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (retryAt == null) {
+            this.status = Status.FAILED;
+        } else {
+            this.status = Status.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    // 발송 도중 서버가 내려가 SENDING 으로 남은 건을 다시 대기시킴
+    public void release() {
+        this.status = Status.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.suriname.notification.repository;
+
+import com.suriname.notification.entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+}
@@ -0,0 +1,32 @@
+package com.suriname.notification.repository;
+
+import com.suriname.notification.entity.SmsOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    // 발송할 차례인 건을 잠금 (다른 인스턴스가 잠근 행은 SKIP LOCKED 로 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT o FROM SmsOutbox o
+        WHERE o.status = 'PENDING'
+          AND o.nextAttemptAt <= :now
+        ORDER BY o.smsOutboxId
+        """)
+    List<SmsOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    List<SmsOutbox> findAllByStatusAndNextAttemptAtBefore(SmsOutbox.Status status, LocalDateTime before);
+}
@@ -0,0 +1,26 @@
+package com.suriname.notification.scheduler;
+
+import com.suriname.notification.service.SmsOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// sms_outbox 주기 발송 (sms.outbox.enabled=false 면 등록하지 않음)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sms.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class SmsOutboxScheduler {
+    private final SmsOutboxDispatcher smsOutboxDispatcher;
+
+    @Scheduled(fixedDelayString = "${sms.outbox.poll-interval:1000}")
+    public void dispatch() {
+        smsOutboxDispatcher.dispatch();
+    }
+
+    // SENDING 상태로 오래 남은 건(발송 중 서버 중단) 복구
+    @Scheduled(fixedDelayString = "${sms.outbox.recover-interval:60000}")
+    public void releaseStuck() {
+        smsOutboxDispatcher.releaseStuck();
+    }
+}
@@ -0,0 +1,193 @@
+package com.suriname.notification.service;
+
+import com.suriname.global.sms.SmsService;
+import com.suriname.notification.config.SmsOutboxProperties;
+import com.suriname.notification.entity.Notification;
+import com.suriname.notification.entity.SmsOutbox;
+import com.suriname.notification.repository.NotificationRepository;
+import com.suriname.notification.repository.SmsOutboxRepository;
+import com.suriname.request.entity.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * sms_outbox 발송기.
+ * 1) 발송할 건을 잠가 SENDING 으로 바꾸고 커밋 (dedup_key 가 유일하므로 같은 키의 다른 행은 없음)
+ * 2) 트랜잭션 밖에서 게이트웨이 호출 (동시 호출 수 제한)
+ * 3) 결과를 반영하고 notification 에 발송 이력 기록 (실패는 지수 백오프로 재시도, 횟수 초과 시 FAILED)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsOutboxDispatcher {
+
+    private final SmsOutboxRepository smsOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final SmsService smsService;
+    private final SmsOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 트랜잭션 밖으로 넘기는 발송 대상 (엔티티 대신 값만)
+    private record Claimed(Long id, String recipient, String content) {}
+
+    private record Batch(int fetched, List<Claimed> claimed) {}
+
+    // error == null 이면 성공
+    private record SendResult(Long id, String error) {}
+
+    // 주기 실행은 SmsOutboxScheduler
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // 밀린 건이 있으면 빈 배치가 나올 때까지 이어서 처리
+            int batchSize = Math.max(1, properties.getBatchSize());
+            while (dispatchBatch(batchSize) == batchSize) {
+                // 다음 배치
+            }
+        } catch (RuntimeException e) {
+            log.error("SMS 발송 처리 중 오류", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // SENDING 상태로 오래 남은 건(발송 중 서버 중단) 복구
+    public void releaseStuck() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getSendingTimeout());
+        transactionTemplate.executeWithoutResult(status -> smsOutboxRepository
+                .findAllByStatusAndNextAttemptAtBefore(SmsOutbox.Status.SENDING, before)
+                .forEach(o -> {
+                    log.warn("발송 중단된 SMS 재대기: id={}", o.getSmsOutboxId());
+                    o.release();
+                }));
+    }
+
+    private int dispatchBatch(int batchSize) {
+        Batch batch = transactionTemplate.execute(status -> claim(batchSize));
+        if (batch == null) {
+            return 0;
+        }
+        if (!batch.claimed().isEmpty()) {
+            List<SendResult> results = send(batch.claimed());
+            transactionTemplate.executeWithoutResult(status -> record(results));
+        }
+        return batch.fetched();
+    }
+
+    private Batch claim(int batchSize) {
+        List<SmsOutbox> due = smsOutboxRepository.findDueForUpdate(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        List<Claimed> claimed = new ArrayList<>(due.size());
+        for (SmsOutbox outbox : due) {
+            outbox.markSending();
+            claimed.add(new Claimed(outbox.getSmsOutboxId(), outbox.getRecipient(), outbox.getContent()));
+        }
+        return new Batch(due.size(), claimed);
+    }
+
+    private List<SendResult> send(List<Claimed> claimed) {
+        Semaphore permits = new Semaphore(Math.max(1, properties.getConcurrency()));
+        List<Future<SendResult>> futures = new ArrayList<>(claimed.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Claimed message : claimed) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        smsService.send(message.recipient(), message.content());
+                        return new SendResult(message.id(), null);
+                    } catch (RuntimeException e) {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        return new SendResult(message.id(), cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<SendResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new SendResult(claimed.get(i).id(), "interrupted"));
+            } catch (ExecutionException e) {
+                results.add(new SendResult(claimed.get(i).id(), e.getCause().toString()));
+            }
+        }
+        return results;
+    }
+
+    private void record(List<SendResult> results) {
+        Map<Long, SmsOutbox> byId = smsOutboxRepository.findAllById(results.stream().map(SendResult::id).toList())
+                .stream().collect(Collectors.toMap(SmsOutbox::getSmsOutboxId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+
+        for (SendResult result : results) {
+            SmsOutbox outbox = byId.get(result.id());
+            if (outbox == null) continue;
+
+            if (result.error() == null) {
+                outbox.markSent();
+                count("sent");
+                saveNotification(outbox, Notification.SendStatus.SENT);
+            } else if (outbox.getAttempts() >= properties.getMaxAttempts()) {
+                outbox.markFailed(result.error(), null);
+                count("failed");
+                saveNotification(outbox, Notification.SendStatus.FAILED);
+                log.error("SMS 발송 최종 실패: id={}, key={}, {}", outbox.getSmsOutboxId(), outbox.getDedupKey(), result.error());
+            } else {
+                outbox.markFailed(result.error(), now.plus(backoff(outbox.getAttempts())));
+                count("retry");
+                log.warn("SMS 발송 실패, 재시도 예정: id={}, attempts={}, {}", outbox.getSmsOutboxId(), outbox.getAttempts(), result.error());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    // 접수와 연결된 문자만 notification 에 남김 (고객/담당자가 필수)
+    private void saveNotification(SmsOutbox outbox, Notification.SendStatus sendStatus) {
+        Request request = outbox.getRequest();
+        if (request == null) return;
+        notificationRepository.save(Notification.builder()
+                .employee(request.getEmployee())
+                .customer(request.getCustomer())
+                .request(request)
+                .channel("SMS")
+                .eventType(outbox.getEventType())
+                .content(outbox.getContent())
+                .sendStatus(sendStatus)
+                .build());
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("sms.outbox.messages", "result", result).increment();
+    }
+}
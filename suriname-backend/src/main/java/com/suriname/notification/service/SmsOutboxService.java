@@ -0,0 +1,55 @@
+package com.suriname.notification.service;
+
+import com.suriname.notification.entity.Notification;
+import com.suriname.notification.entity.SmsOutbox;
+import com.suriname.notification.repository.SmsOutboxRepository;
+import com.suriname.request.entity.Request;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * SMS 발송 요청을 sms_outbox 에 저장.
+ * 호출한 트랜잭션과 함께 커밋되므로 업무 처리가 롤백되면 문자도 나가지 않고,
+ * 실제 발송은 SmsOutboxDispatcher 가 트랜잭션 밖에서 처리한다.
+ * dedup_key 는 유니크 제약이라 동시에 같은 키가 들어오면 하나만 저장되고 나머지는 이미 등록된 것으로 본다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SmsOutboxService {
+
+    private final SmsOutboxRepository smsOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void enqueue(String dedupKey, Notification.NotificationType eventType, Request request,
+                        String recipient, String content) {
+        if (!StringUtils.hasText(recipient)) {
+            log.warn("수신번호가 없어 SMS 를 등록하지 않음: {}", dedupKey);
+            return;
+        }
+        if (smsOutboxRepository.existsByDedupKey(dedupKey)) {
+            log.debug("이미 등록된 SMS: {}", dedupKey);
+            return;
+        }
+        // 중복 키 오류가 호출한 트랜잭션을 롤백 전용으로 만들지 않도록 JPA 를 거치지 않고 저장
+        // (MySQL 은 실패한 문장만 되돌리고 트랜잭션은 유지)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("INSERT INTO sms_outbox (dedup_key, event_type, request_id, recipient, content, "
+                            + "status, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)",
+                    dedupKey, eventType.name(), request != null ? request.getRequestId() : null,
+                    recipient, content, SmsOutbox.Status.PENDING.name(), now, now);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동시에 등록된 SMS: {}", dedupKey);
+        }
+    }
+}
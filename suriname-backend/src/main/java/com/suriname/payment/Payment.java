@@ -1,12 +1,15 @@
 package com.suriname.payment;
 
+import com.suriname.global.cache.DashboardCacheEntityListener;
 import com.suriname.request.entity.Request;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(DashboardCacheEntityListener.class)
 @Table(name = "payment")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -43,6 +46,12 @@ public class Payment {
     @Column(columnDefinition = "TEXT")
     private String memo;
 
+    // 웹훅 처리와 관리자 처리가 동시에 같은 결제를 바꾸지 못하도록 낙관적 잠금
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public enum Status {
         FAILED, PENDING, SUCCESS
     }
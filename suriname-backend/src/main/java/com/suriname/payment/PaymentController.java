@@ -1,7 +1,5 @@
 package com.suriname.payment;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,7 +15,7 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TossWebhookService tossWebhookService;
 
     // 결제 목록 조회 (페이징 및 검색)
     @GetMapping
@@ -89,11 +87,12 @@ public class PaymentController {
                 }
             }
 
-            // JSON 파싱
-            JsonNode webhookData = objectMapper.readTree(payload);
-            paymentService.handleTossWebhook(webhookData);
-            
+            // 저장만 하고 바로 응답 (처리는 TossWebhookService 실행기에서, 중복 수신은 무시)
+            tossWebhookService.receive(payload);
+
             return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(500).build();
         }
@@ -1,7 +1,8 @@
 package com.suriname.payment;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.suriname.global.sms.SmsService;
+import com.suriname.notification.entity.Notification;
+import com.suriname.notification.service.SmsOutboxService;
 import com.suriname.request.entity.Request;
 import com.suriname.request.repository.RequestRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,8 +19,6 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,7 +28,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final RequestRepository requestRepository;
     private final TossPaymentsClient tossPaymentsClient;
-    private final SmsService smsService;
+    private final SmsOutboxService smsOutboxService;
 
     @Value("${toss.secret-key}")
     private String tossSecretKey;
@@ -45,7 +44,8 @@ public class PaymentService {
             // 검색 조건이 있으면 필터링, 없으면 전체 조회
             if (hasSearchCriteria(customerName, receptionNumber, bankName, paymentAmount, status, startDate, endDate)) {
                 paymentPage = paymentRepository.findWithFilters(customerName, receptionNumber, bankName,
-                        parsePaymentAmount(paymentAmount), status, parseDate(startDate), parseDate(endDate), pageable);
+                        PaymentSpecification.parsePaymentAmount(paymentAmount), status,
+                        PaymentSpecification.parseDate(startDate), PaymentSpecification.parseDate(endDate), pageable);
             } else {
                 paymentPage = paymentRepository.findAll(pageable);
             }
@@ -104,30 +104,6 @@ public class PaymentService {
                (endDate != null && !endDate.trim().isEmpty());
     }
 
-    private LocalDateTime parseDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return LocalDateTime.parse(dateStr + "T00:00:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private Integer parsePaymentAmount(String amountStr) {
-        if (amountStr == null || amountStr.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            // 콤마 제거 후 숫자로 변환
-            String cleanAmount = amountStr.replaceAll("[,\\s]", "");
-            return Integer.parseInt(cleanAmount);
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-
     @Transactional
     public VirtualAccountResponseDto issueVirtualAccount(VirtualAccountRequestDto dto) {
         Request request;
@@ -152,12 +128,15 @@ public class PaymentService {
         //String customerPhone = "";
         dto.setCustomerPhone(customerPhone);
 
+        String bankName;
+        String account;
+        String dueDate;
         try {
             JsonNode response = tossPaymentsClient.issueVirtualAccount(uniqueMerchantUid, dto);
 
             // 토스페이먼츠 API 응답에서 가상계좌 정보 추출
             String bankCode = null;
-            String account = null;
+            account = null;
 
             // virtualAccount 객체에서 정보 추출
             if (response.has("virtualAccount") && response.get("virtualAccount") != null) {
@@ -169,59 +148,48 @@ public class PaymentService {
             }
 
             // 은행코드를 은행명으로 변환
-            String bankName = convertBankCodeToBankName(bankCode);
+            bankName = convertBankCodeToBankName(bankCode);
 
-            String dueDate = (response.has("dueDate") && response.get("dueDate") != null) ?
+            dueDate = (response.has("dueDate") && response.get("dueDate") != null) ?
                             response.get("dueDate").asText() : dto.getVbankDue();
 
             payment.setAccountAndBank(account, bankName);
             payment = paymentRepository.save(payment);
-
-            // 가상계좌 발급 성공 시 SMS 발송
-            try {
-                smsService.sendVirtualAccountSms(
-                    customerPhone,
-                    request.getCustomer().getName(),
-                    bankName,
-                    account,
-                    String.format("%,d", dto.getAmount())
-                );
-            } catch (Exception smsException) {
-                // SMS 실패해도 가상계좌 발급은 성공으로 처리
-            }
-
-            return new VirtualAccountResponseDto(bankName, account, dueDate);
         } catch (Exception e) {
             // API 에러가 발생해도 기본값으로 가상계좌 정보 설정
+            bankName = "가상계좌은행";
+            account = uniqueMerchantUid; // merchant_uid 형태로 설정
+            dueDate = dto.getVbankDue();
 
-            // 기본값으로 가상계좌 정보 설정
-            String defaultBank = "가상계좌은행";
-            String defaultAccount = uniqueMerchantUid; // merchant_uid 형태로 설정
-            String defaultDueDate = dto.getVbankDue();
-
-            payment.setAccountAndBank(defaultAccount, defaultBank);
+            payment.setAccountAndBank(account, bankName);
             payment.setStatus(Payment.Status.PENDING); // PENDING 상태 유지
             payment.setMemo("가상계좌 발급");
             payment = paymentRepository.save(payment);
+        }
 
+        // 안내 SMS 는 sms_outbox 에 등록만 하고 커밋 후 발송 (게이트웨이 지연이 응답 시간에 포함되지 않음)
+        smsOutboxService.enqueue("VIRTUAL_ACCOUNT:" + uniqueMerchantUid,
+                Notification.NotificationType.VIRTUAL_ACCOUNT_ISSUED, request, customerPhone,
+                virtualAccountMessage(request.getCustomer().getName(), bankName, account, dto.getAmount()));
 
-            // 기본값으로도 SMS 발송 시도
-            try {
-                smsService.sendVirtualAccountSms(
-                    customerPhone,
-                    request.getCustomer().getName(),
-                    defaultBank,
-                    defaultAccount,
-                    String.format("%,d", dto.getAmount())
-                );
-            } catch (Exception smsException) {
-            }
+        return new VirtualAccountResponseDto(bankName, account, dueDate);
+    }
 
-            // 기본값으로 응답 반환
-            return new VirtualAccountResponseDto(defaultBank, defaultAccount, defaultDueDate);
-        }
+    private String virtualAccountMessage(String customerName, String bank, String account, Integer amount) {
+        return String.format(
+            "[Suriname] %s고객님, 수리남을 이용해주셔서 감사드립니다.\n" +
+            "가상계좌은행: %s\n" +
+            "가상계좌번호: %s\n" +
+            "입금액: %s원\n\n" +
+            "7일 이내 입금 부탁드립니다.",
+            customerName, bank, account, String.format("%,d", amount)
+        );
     }
 
+    /**
+     * 웹훅 1건 반영 (TossWebhookService 가 중복을 걸러 호출).
+     * 이미 입금완료된 결제는 다시 처리하지 않아 접수 상태도 한 번만 바뀐다.
+     */
     @Transactional
     public void handleTossWebhook(JsonNode webhookData) {
 
@@ -240,6 +208,9 @@ public class PaymentService {
             }
 
             if ("DONE".equals(status)) {
+                if (payment.getStatus() == Payment.Status.SUCCESS) {
+                    return;
+                }
                 payment.markCompleted();
                 paymentRepository.save(payment);
 
@@ -306,6 +277,9 @@ public class PaymentService {
                 }
             }
             case "PAYMENT_CONFIRMED" -> {
+                if (payment.getStatus() == Payment.Status.SUCCESS) {
+                    return;
+                }
                 payment.markCompleted();
 
                 // 입금 완료 시 Request 상태를 배송대기로 변경
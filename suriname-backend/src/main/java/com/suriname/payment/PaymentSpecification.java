@@ -0,0 +1,89 @@
+package com.suriname.payment;
+
+import com.suriname.customer.entity.Customer;
+import com.suriname.request.entity.Request;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// PaymentRepository.findWithFilters 와 같은 조건 (목록 검색 파라미터 그대로 사용)
+public class PaymentSpecification {
+
+    public static Specification<Payment> search(String customerName, String receptionNumber, String bankName,
+                                                String paymentAmount, String status, String startDate, String endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            Join<Payment, Request> request = root.join("request", JoinType.INNER);
+            Join<Request, Customer> customer = request.join("customer", JoinType.INNER);
+
+            if (hasText(customerName)) {
+                predicates.add(cb.like(customer.get("name"), "%" + customerName + "%"));
+            }
+            if (hasText(receptionNumber)) {
+                predicates.add(cb.like(request.get("requestNo"), "%" + receptionNumber + "%"));
+            }
+            if (hasText(bankName)) {
+                predicates.add(cb.like(root.get("bank"), "%" + bankName + "%"));
+            }
+            Integer amount = parsePaymentAmount(paymentAmount);
+            if (amount != null) {
+                predicates.add(cb.equal(root.get("cost"), amount));
+            }
+            if (hasText(status)) {
+                Payment.Status statusEnum = switch (status) {
+                    case "입금완료" -> Payment.Status.SUCCESS;
+                    case "입금대기" -> Payment.Status.PENDING;
+                    case "입금실패" -> Payment.Status.FAILED;
+                    default -> null;
+                };
+                if (statusEnum == null) return cb.disjunction();
+                predicates.add(cb.equal(root.get("status"), statusEnum));
+            }
+            LocalDateTime start = parseDate(startDate);
+            if (start != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("confirmedAt"), start));
+            }
+            LocalDateTime end = parseDate(endDate);
+            if (end != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("confirmedAt"), end));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    static LocalDateTime parseDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(dateStr + "T00:00:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static Integer parsePaymentAmount(String amountStr) {
+        if (amountStr == null || amountStr.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            // 콤마 제거 후 숫자로 변환
+            String cleanAmount = amountStr.replaceAll("[,\\s]", "");
+            return Integer.parseInt(cleanAmount);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.trim().isEmpty();
+    }
+}
@@ -2,7 +2,7 @@ package com.suriname.payment;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -14,10 +14,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class TossPaymentsClient {
 
-    private final RestTemplate rest = new RestTemplate();
+    private final RestTemplate rest;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${toss.secret-key}")
@@ -26,6 +25,10 @@ public class TossPaymentsClient {
     private static final String TOSS_API_URL = "https://api.tosspayments.com/v1";
     private static final String API_VERSION = "2022-11-16";
 
+    public TossPaymentsClient(@Qualifier("tossRestTemplate") RestTemplate rest) {
+        this.rest = rest;
+    }
+
     public JsonNode issueVirtualAccount(String orderId, VirtualAccountRequestDto dto) {
         String url = TOSS_API_URL + "/virtual-accounts";
 
@@ -64,7 +67,8 @@ public class TossPaymentsClient {
     public JsonNode cancelPaymentByOrderId(String orderId, String cancelReason) {
         try {
             // 1. orderId로 결제 정보 조회
-            String getUrl = TOSS_API_URL + "/payments/orders/" + orderId;
+            // 지표의 uri 태그가 주문마다 늘어나지 않도록 경로 변수로 호출
+            String getUrl = TOSS_API_URL + "/payments/orders/{orderId}";
             
             HttpHeaders headers = new HttpHeaders();
             String encodedAuth = Base64.getEncoder().encodeToString(
@@ -74,21 +78,21 @@ public class TossPaymentsClient {
             headers.set("TossPayments-API-Version", API_VERSION);
             
             HttpEntity<Void> getEntity = new HttpEntity<>(headers);
-            ResponseEntity<String> getResponse = rest.exchange(getUrl, HttpMethod.GET, getEntity, String.class);
+            ResponseEntity<String> getResponse = rest.exchange(getUrl, HttpMethod.GET, getEntity, String.class, orderId);
             JsonNode paymentInfo = objectMapper.readTree(getResponse.getBody());
             
             // 2. paymentKey 추출
             String paymentKey = paymentInfo.get("paymentKey").asText();
             
             // 3. 결제 취소
-            String cancelUrl = TOSS_API_URL + "/payments/" + paymentKey + "/cancel";
+            String cancelUrl = TOSS_API_URL + "/payments/{paymentKey}/cancel";
             headers.setContentType(MediaType.APPLICATION_JSON);
             
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("cancelReason", cancelReason);
             
             HttpEntity<Map<String, Object>> cancelEntity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> cancelResponse = rest.postForEntity(cancelUrl, cancelEntity, String.class);
+            ResponseEntity<String> cancelResponse = rest.postForEntity(cancelUrl, cancelEntity, String.class, paymentKey);
             
             return objectMapper.readTree(cancelResponse.getBody());
         } catch (Exception e) {
@@ -0,0 +1,83 @@
+package com.suriname.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 수신한 토스페이먼츠 웹훅 (event_key 유니크 제약으로 재전송/동시 전송을 한 건으로 합침)
+@Entity
+@Table(name = "toss_webhook_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_toss_webhook_event_key", columnNames = "event_key"),
+        indexes = @Index(name = "idx_toss_webhook_event_status", columnList = "status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class TossWebhookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "toss_webhook_event_id")
+    private Long tossWebhookEventId;
+
+    // {orderId}:{결제 상태} (예: VIR_..._ab12cd34:DONE)
+    @Column(name = "event_key", nullable = false, length = 120)
+    private String eventKey;
+
+    @Column(name = "order_id", nullable = false, length = 64)
+    private String orderId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 12)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    // 처리 선점 시각 (recoverExpiredClaims 가 리스 만료 판단에 사용)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum Status {
+        RECEIVED, PROCESSING, PROCESSED, FAILED
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.status = Status.RECEIVED;
+        this.receivedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public TossWebhookEvent(String eventKey, String orderId, String payload) {
+        this.eventKey = eventKey;
+        this.orderId = orderId;
+        this.payload = payload;
+    }
+
+    public void markProcessed() {
+        this.status = Status.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // giveUp 이면 FAILED, 아니면 다시 대기
+    public void markFailed(String error, boolean giveUp) {
+        this.status = giveUp ? Status.FAILED : Status.RECEIVED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
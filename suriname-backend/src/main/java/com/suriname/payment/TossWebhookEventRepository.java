@@ -0,0 +1,35 @@
+package com.suriname.payment;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TossWebhookEventRepository extends JpaRepository<TossWebhookEvent, Long> {
+
+    boolean existsByEventKey(String eventKey);
+
+    // 대기 중인 웹훅을 처리 상태로 선점 (같은 웹훅을 두 작업자가 동시에 처리하지 않도록 조건부 갱신)
+    @Modifying
+    @Query("UPDATE TossWebhookEvent e SET e.status = com.suriname.payment.TossWebhookEvent.Status.PROCESSING, " +
+           "e.attempts = e.attempts + 1, e.claimedAt = :now " +
+           "WHERE e.tossWebhookEventId = :id AND e.status = com.suriname.payment.TossWebhookEvent.Status.RECEIVED")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // cutoff 이전에 선점된 채 PROCESSING 으로 남은 건(처리 중 서버가 내려감)을 다시 대기로
+    // 다른 인스턴스가 지금 처리 중인 건은 리스 안이므로 건드리지 않음
+    @Modifying
+    @Query("UPDATE TossWebhookEvent e SET e.status = com.suriname.payment.TossWebhookEvent.Status.RECEIVED " +
+           "WHERE e.status = com.suriname.payment.TossWebhookEvent.Status.PROCESSING " +
+           "AND (e.claimedAt IS NULL OR e.claimedAt < :cutoff)")
+    int releaseExpiredClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT e.tossWebhookEventId FROM TossWebhookEvent e WHERE e.status = :status ORDER BY e.tossWebhookEventId ASC")
+    List<Long> findIdsByStatus(@Param("status") TossWebhookEvent.Status status, Pageable pageable);
+}
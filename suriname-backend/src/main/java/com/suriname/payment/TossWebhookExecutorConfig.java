@@ -0,0 +1,26 @@
+package com.suriname.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 대기열은 DB(toss_webhook_event.status = RECEIVED) 가 맡고, 실행기는 수신 직후 바로 처리만 담당
+// 실행기가 가득 차 거절된 건은 TossWebhookService 의 주기 작업이 나중에 처리한다.
+@Configuration
+public class TossWebhookExecutorConfig {
+
+    @Bean(name = "tossWebhookExecutor")
+    public ThreadPoolTaskExecutor tossWebhookExecutor(@Value("${toss.webhook.workers:2}") int workers,
+                                                      @Value("${toss.webhook.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("toss-webhook-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
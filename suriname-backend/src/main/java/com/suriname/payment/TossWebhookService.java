@@ -0,0 +1,173 @@
+package com.suriname.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 토스페이먼츠 웹훅 수신/처리.
+ * 수신 시에는 toss_webhook_event 에 저장만 하고 바로 응답하며, 처리는 별도 실행기에서 한다.
+ * 같은 주문의 같은 결제 상태는 event_key 유니크 제약으로 한 번만 저장되므로
+ * 재전송이나 동시 전송이 와도 결제/접수 상태는 한 번만 바뀐다.
+ */
+@Slf4j
+@Service
+public class TossWebhookService {
+
+    private final TossWebhookEventRepository tossWebhookEventRepository;
+    private final PaymentService paymentService;
+    private final ThreadPoolTaskExecutor tossWebhookExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${toss.webhook.max-attempts:5}")
+    private int maxAttempts;
+
+    // 이 시간이 지나도 PROCESSING 인 선점은 중단된 것으로 보고 다시 대기로 돌림 (한 건 처리 시간보다 충분히 길게)
+    @Value("${toss.webhook.lease-timeout:5m}")
+    private Duration leaseTimeout;
+
+    // 웹훅 형식이 달라도(입금 콜백 / 이벤트형) 주문번호 + 결제 상태로 같은 키를 만든다
+    private record EventKey(String orderId, String status) {
+        String value() {
+            return orderId + ":" + status;
+        }
+    }
+
+    public TossWebhookService(TossWebhookEventRepository tossWebhookEventRepository,
+                              PaymentService paymentService,
+                              @Qualifier("tossWebhookExecutor") ThreadPoolTaskExecutor tossWebhookExecutor,
+                              TransactionTemplate transactionTemplate) {
+        this.tossWebhookEventRepository = tossWebhookEventRepository;
+        this.paymentService = paymentService;
+        this.tossWebhookExecutor = tossWebhookExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 웹훅 저장 후 처리 예약. 이미 받은 웹훅이면 false.
+     */
+    public boolean receive(String payload) {
+        EventKey key = eventKey(readTree(payload));
+        if (key == null) {
+            log.debug("처리 대상이 아닌 토스 웹훅: {}", payload);
+            return false;
+        }
+        if (tossWebhookEventRepository.existsByEventKey(key.value())) {
+            return false;
+        }
+
+        Long eventId;
+        try {
+            eventId = transactionTemplate.execute(status -> tossWebhookEventRepository.saveAndFlush(TossWebhookEvent.builder()
+                    .eventKey(key.value())
+                    .orderId(key.orderId())
+                    .payload(payload)
+                    .build()).getTossWebhookEventId());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 웹훅이 먼저 저장됨
+            return false;
+        }
+
+        dispatch(eventId);
+        return true;
+    }
+
+    // 실행기에 넘기고, 가득 차 있으면 RECEIVED 로 남겨 dispatchPending 이 처리
+    private boolean dispatch(Long eventId) {
+        try {
+            tossWebhookExecutor.execute(() -> process(eventId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.debug("토스 웹훅 실행기 포화, 대기: eventId={}", eventId);
+            return false;
+        }
+    }
+
+    // 대기 중인 건을 실행기로 넘김 (스케줄러 스레드에서 직접 처리하지 않음)
+    // 실행기 대기열이 비어 있을 때만 넘겨 같은 건이 중복으로 쌓이지 않게 함 (중복돼도 claim 에서 걸러짐)
+    @Scheduled(fixedDelayString = "${toss.webhook.dispatch-interval:5000}")
+    public void dispatchPending() {
+        if (tossWebhookExecutor.getQueueSize() > 0) {
+            return;
+        }
+        for (Long eventId : tossWebhookEventRepository.findIdsByStatus(TossWebhookEvent.Status.RECEIVED, PageRequest.of(0, 100))) {
+            if (!dispatch(eventId)) {
+                break;
+            }
+        }
+    }
+
+    // 처리는 한 트랜잭션이라 중단된 건은 아무것도 반영되지 않은 상태
+    // 리스가 지난 선점만 풀어 다른 인스턴스가 처리 중인 건은 그대로 둠
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${toss.webhook.lease-check-interval:60000}", initialDelayString = "${toss.webhook.lease-check-interval:60000}")
+    public void recoverExpiredClaims() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(leaseTimeout);
+        Integer released = transactionTemplate.execute(status -> tossWebhookEventRepository.releaseExpiredClaims(cutoff));
+        if (released != null && released > 0) {
+            log.warn("처리 중 중단된 토스 웹훅 재대기: {}건", released);
+        }
+    }
+
+    void process(Long eventId) {
+        Integer claimed = transactionTemplate.execute(status -> tossWebhookEventRepository.claim(eventId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                TossWebhookEvent event = tossWebhookEventRepository.findById(eventId).orElseThrow();
+                paymentService.handleTossWebhook(readTree(event.getPayload()));
+                event.markProcessed();
+            });
+        } catch (RuntimeException e) {
+            // 관리자 처리와 겹쳐 낙관적 잠금에 실패한 경우도 다시 시도하면 바뀐 상태를 보고 판단
+            transactionTemplate.executeWithoutResult(status -> tossWebhookEventRepository.findById(eventId)
+                    .ifPresent(event -> event.markFailed(e.toString(), event.getAttempts() >= maxAttempts)));
+            log.warn("토스 웹훅 처리 실패: eventId={}, {}", eventId, e.toString());
+        }
+    }
+
+    private JsonNode readTree(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("웹훅 본문을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private EventKey eventKey(JsonNode webhookData) {
+        // 입금 콜백 (DEPOSIT_CALLBACK)
+        if (webhookData.hasNonNull("orderId") && webhookData.hasNonNull("status")) {
+            return new EventKey(webhookData.get("orderId").asText(), webhookData.get("status").asText());
+        }
+
+        JsonNode data = webhookData.get("data");
+        if (!webhookData.hasNonNull("eventType") || data == null || !data.hasNonNull("orderId")) {
+            return null;
+        }
+        String status = switch (webhookData.get("eventType").asText()) {
+            case "PAYMENT_CONFIRMED" -> "DONE";
+            case "PAYMENT_CANCELED" -> "CANCELED";
+            default -> webhookData.get("eventType").asText();
+        };
+        return new EventKey(data.get("orderId").asText(), status);
+    }
+}
@@ -15,8 +15,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.suriname.product.dto.ProductDto;
 import com.suriname.product.dto.ProductSearchDto;
 import com.suriname.product.entity.Product;
-import com.suriname.product.entity.ProductSpecification;
-import com.suriname.product.repository.ProductRepository;
+import com.suriname.importjob.controller.ImportJobResponses;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.service.ImportJobService;
 import com.suriname.product.service.ProductExcelService;
 import com.suriname.product.service.ProductService;
 import com.suriname.product.service.ProductTemplateService;
@@ -31,8 +32,8 @@ import java.util.Map;
 public class ProductController {
 
 	private final ProductService productService;
-	private final ProductRepository productRepository;
 	private final ProductExcelService productExcelService;
+	private final ImportJobService importJobService;
 	private final ProductTemplateService productTemplateService;
 
 	// 전체 조회
@@ -88,12 +89,7 @@ public class ProductController {
 	// 자동완성
 	@GetMapping("/autocomplete")
 	public ResponseEntity<List<ProductDto>> autocompleteProducts(@RequestParam("keyword") String keyword) {
-		List<Product> products = productRepository
-				.findAll(ProductSpecification.containsKeyword(keyword), PageRequest.of(0, 10)).getContent();
-
-		List<ProductDto> result = products.stream().map(ProductDto::fromEntity).toList();
-
-		return ResponseEntity.ok(result);
+		return ResponseEntity.ok(productService.autocompleteProducts(keyword));
 	}
 
 	// 엑셀
@@ -102,6 +98,12 @@ public class ProductController {
 		return productExcelService.importFromExcel(file);
 	}
 
+	// 엑셀 (비동기 작업, 진행 상황은 /api/import-jobs/{jobId})
+	@PostMapping(value = "/register/excel/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> submitExcelImport(@RequestParam("file") MultipartFile file) {
+		return ImportJobResponses.submit(importJobService, ImportJob.Type.PRODUCT, file);
+	}
+
 	// 엑셀 템플릿
 	@GetMapping(value = "/template", produces = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
 	public ResponseEntity<byte[]> downloadProductTemplate() throws IOException {
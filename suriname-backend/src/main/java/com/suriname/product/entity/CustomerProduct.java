@@ -9,9 +9,13 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 import com.suriname.customer.entity.Customer;
+import com.suriname.global.search.SearchIndexEntityListener;
 
 @Entity
-@Table(name = "customer_product")
+@EntityListeners(SearchIndexEntityListener.class)
+@Table(name = "customer_product", indexes = {
+        @Index(name = "idx_customer_product_customer_created", columnList = "customer_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class CustomerProduct {
@@ -10,8 +10,10 @@ import java.time.LocalDateTime;
 
 import com.suriname.category.entity.Category;
 import com.suriname.product.dto.ProductDto;
+import com.suriname.global.search.SearchIndexEntityListener;
 
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(name = "product")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -9,10 +9,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import com.suriname.customer.entity.Customer;
 import com.suriname.product.entity.CustomerProduct;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerProductRepository extends JpaRepository<CustomerProduct, Long> {
 	Optional<CustomerProduct> findTopByCustomerOrderByCreatedAtDesc(Customer customer);
 
+	// 고객별 가장 최근 고객 제품을 제품/카테고리와 함께 한 번에 조회 (createdAt 이 같으면 id 가 큰 쪽)
+	@Query("""
+		select cp from CustomerProduct cp
+		join fetch cp.product p
+		left join fetch p.category
+		where cp.customer.customerId in :customerIds
+		  and not exists (
+		      select 1 from CustomerProduct newer
+		      where newer.customer = cp.customer
+		        and (newer.createdAt > cp.createdAt
+		             or (newer.createdAt = cp.createdAt and newer.customerProductId > cp.customerProductId))
+		  )
+	""")
+	List<CustomerProduct> findLatestWithProductByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
 	@Query(value = """
 		SELECT 
 		  c.customer_id AS customerId,
@@ -34,5 +50,111 @@ public interface CustomerProductRepository extends JpaRepository<CustomerProduct
 	""", nativeQuery = true)
 	List<Object[]> findCustomerRaw();
 
+	// 검색 색인용 고객 행 (findCustomerRaw 와 같은 열 + 고객제품 id), 제품이 없는 고객도 제품 열을 비워 한 행 포함
+	@Query(value = """
+		SELECT 
+		  c.customer_id AS customerId,
+		  c.name AS customerName,
+		  c.phone AS phone,
+		  c.email AS email,
+		  c.birth AS birth,
+		  c.address AS address,
+		  p.product_name AS productName,
+		  cg.name AS categoryName,
+		  p.product_brand AS productBrand,
+		  p.model_code AS modelCode,
+		  cp.serial_number AS serialNumber,
+		  cp.customer_product_id AS customerProductId
+		FROM customer c
+		LEFT JOIN customer_product cp ON cp.customer_id = c.customer_id
+		LEFT JOIN product p ON cp.product_id = p.product_id
+		LEFT JOIN category cg ON p.category_id = cg.category_id
+		WHERE c.is_deleted = FALSE
+	""", nativeQuery = true)
+	List<Object[]> findCustomerSearchRows();
+
+	// findCustomerSearchRows 와 같은 행, 지정한 고객만 (검색 색인 갱신용)
+	@Query(value = """
+		SELECT 
+		  c.customer_id AS customerId,
+		  c.name AS customerName,
+		  c.phone AS phone,
+		  c.email AS email,
+		  c.birth AS birth,
+		  c.address AS address,
+		  p.product_name AS productName,
+		  cg.name AS categoryName,
+		  p.product_brand AS productBrand,
+		  p.model_code AS modelCode,
+		  cp.serial_number AS serialNumber,
+		  cp.customer_product_id AS customerProductId
+		FROM customer c
+		LEFT JOIN customer_product cp ON cp.customer_id = c.customer_id
+		LEFT JOIN product p ON cp.product_id = p.product_id
+		LEFT JOIN category cg ON p.category_id = cg.category_id
+		WHERE c.is_deleted = FALSE
+		  AND c.customer_id IN (:customerIds)
+	""", nativeQuery = true)
+	List<Object[]> findCustomerSearchRowsByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+	// Algolia 고객 문서 (고객제품 1건 = 문서 1건), 삭제되지 않은 고객만 id 순으로 limit 건씩
+	@Query(value = """
+		SELECT 
+		  cp.customer_product_id AS customerProductId,
+		  c.customer_id AS customerId,
+		  c.name AS customerName,
+		  c.phone AS phone,
+		  c.email AS email,
+		  c.birth AS birth,
+		  c.address AS address,
+		  p.product_name AS productName,
+		  cg.name AS categoryName,
+		  p.product_brand AS productBrand,
+		  p.model_code AS modelCode,
+		  cp.serial_number AS serialNumber
+		FROM customer_product cp
+		JOIN customer c ON cp.customer_id = c.customer_id
+		JOIN product p ON cp.product_id = p.product_id
+		LEFT JOIN category cg ON p.category_id = cg.category_id
+		WHERE c.is_deleted = FALSE
+		  AND cp.customer_product_id > :afterId
+		ORDER BY cp.customer_product_id
+		LIMIT :limit
+	""", nativeQuery = true)
+	List<Object[]> findAlgoliaRowsAfter(@Param("afterId") Long afterId, @Param("limit") Integer limit);
+
+	// findAlgoliaRowsAfter 와 같은 열, 지정한 고객제품만
+	@Query(value = """
+		SELECT 
+		  cp.customer_product_id AS customerProductId,
+		  c.customer_id AS customerId,
+		  c.name AS customerName,
+		  c.phone AS phone,
+		  c.email AS email,
+		  c.birth AS birth,
+		  c.address AS address,
+		  p.product_name AS productName,
+		  cg.name AS categoryName,
+		  p.product_brand AS productBrand,
+		  p.model_code AS modelCode,
+		  cp.serial_number AS serialNumber
+		FROM customer_product cp
+		JOIN customer c ON cp.customer_id = c.customer_id
+		JOIN product p ON cp.product_id = p.product_id
+		LEFT JOIN category cg ON p.category_id = cg.category_id
+		WHERE c.is_deleted = FALSE
+		  AND cp.customer_product_id IN (:customerProductIds)
+	""", nativeQuery = true)
+	List<Object[]> findAlgoliaRowsByIds(@Param("customerProductIds") Collection<Long> customerProductIds);
+
+	@Query("select cp.customerProductId from CustomerProduct cp where cp.customer.customerId in :customerIds")
+	List<Long> findIdsByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+	@Query("select cp.customerProductId from CustomerProduct cp where cp.product.productId in :productIds")
+	List<Long> findIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+	@Query("select distinct cp.customer.customerId from CustomerProduct cp where cp.product.productId in :productIds")
+	List<Long> findCustomerIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
 	List<CustomerProduct> findByCustomerCustomerId(Long customerId);
 }
\ No newline at end of file
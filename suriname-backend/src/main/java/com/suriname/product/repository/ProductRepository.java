@@ -1,5 +1,6 @@
 package com.suriname.product.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.suriname.product.entity.Product;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long>,
 JpaSpecificationExecutor<Product> {
@@ -25,4 +27,49 @@ JpaSpecificationExecutor<Product> {
         JOIN category c ON p.category_id = c.category_id
     """, nativeQuery = true)
     List<Object[]> findProductWithCategoryInfo();
+
+    // 검색 색인용 (삭제되지 않은 제품)
+    @Query(value = """
+        SELECT 
+            p.product_id AS productID,
+            p.product_name AS productName, 
+            c.name AS categoryName, 
+            p.product_brand AS productBrand, 
+            p.model_code AS modelCode
+        FROM product p
+        LEFT JOIN category c ON p.category_id = c.category_id
+        WHERE p.is_deleted = FALSE
+    """, nativeQuery = true)
+    List<Object[]> findSearchRows();
+
+    @Query(value = """
+        SELECT 
+            p.product_id AS productID,
+            p.product_name AS productName, 
+            c.name AS categoryName, 
+            p.product_brand AS productBrand, 
+            p.model_code AS modelCode
+        FROM product p
+        LEFT JOIN category c ON p.category_id = c.category_id
+        WHERE p.is_deleted = FALSE
+          AND p.product_id IN (:productIds)
+    """, nativeQuery = true)
+    List<Object[]> findSearchRowsByIds(@Param("productIds") Collection<Long> productIds);
+
+    // findSearchRows 를 id 순으로 limit 건씩 (Algolia 정합성 점검/재색인용)
+    @Query(value = """
+        SELECT 
+            p.product_id AS productID,
+            p.product_name AS productName, 
+            c.name AS categoryName, 
+            p.product_brand AS productBrand, 
+            p.model_code AS modelCode
+        FROM product p
+        LEFT JOIN category c ON p.category_id = c.category_id
+        WHERE p.is_deleted = FALSE
+          AND p.product_id > :afterId
+        ORDER BY p.product_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, @Param("limit") Integer limit);
 }
@@ -1,116 +1,78 @@
 package com.suriname.product.service;
 
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.suriname.category.entity.Category;
-import com.suriname.category.repository.CategoryRepository;
-import com.suriname.product.entity.Product;
-import com.suriname.product.repository.ProductRepository;
+import com.suriname.global.excel.ExcelImportResult;
+import com.suriname.global.excel.ExcelRowReader;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
-import java.io.InputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ProductExcelService {
 
-    private final ProductRepository productRepository;
-    private final CategoryRepository categoryRepository;
-    private static final DataFormatter FMT = new DataFormatter();
+    private final ProductImportWriter productImportWriter;
 
-    public ResponseEntity<?> importFromExcel(MultipartFile file) throws IOException {
-        List<Map<String, String>> failures = new ArrayList<>();
-        int successCount = 0;
-        int totalCount = 0;
-
-        try (InputStream is = file.getInputStream();
-             Workbook workbook = WorkbookFactory.create(is)) { 
-            Sheet sheet = workbook.getSheetAt(0);
-
-            final int START_ROW = 1; 
-            for (int r = START_ROW; r <= sheet.getLastRowNum(); r++) {
-                Row row = sheet.getRow(r);
-                if (row == null || isRowEmpty(row)) continue;
-
-                totalCount++; 
-
-                try {
-                    String productBrand = getCellValue(row, 0); // 제조사
-                    String categoryName = getCellValue(row, 1); // 제품분류
-                    String productName  = getCellValue(row, 2); // 제품명
-                    String modelCode    = getCellValue(row, 3); // 모델코드
-                    String memo         = getCellValue(row, 4); // 비고
-
-                    if (categoryName.isBlank() || productName.isBlank()) {
-                        throw new IllegalArgumentException("카테고리명과 제품명은 필수입니다.");
-                    }
-
-                    Category category = categoryRepository.findByName(categoryName)
-                        .orElseGet(() -> categoryRepository.saveAndFlush(
-                            Category.builder()
-                                    .name(categoryName)
-                                    .parent(null)
-                                    .isVisible(true)
-                                    .build()
-                        ));
-
-                    Product product = Product.builder()
-                            .category(category)
-                            .productName(productName)
-                            .productBrand(productBrand)
-                            .modelCode(modelCode)
-                            .memo(memo)
-                            .isVisible(true)
-                            .isDeleted(false)
-                            .build();
-
-                    productRepository.save(product);
-                    successCount++;
-
-                } catch (Exception e) {
-                    failures.add(Map.of(
-                        "row", String.valueOf(r + 1),           
-                        "reason", e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"
-                    ));
-                }
-            }
-        }
+    @Value("${excel.import.batch-size:500}")
+    private int batchSize;
 
-        int failureCount = failures.size();
+    private static final int START_ROW = 1;
+
+    // 시트를 한 행씩 읽어 batchSize 단위로 저장 (ProductImportWriter)
+    public ResponseEntity<?> importFromExcel(MultipartFile file) throws IOException {
+        ExcelImportResult result = importRows(file);
 
         return ResponseEntity.ok(Map.of(
             "status", 200,
-            "message", failureCount == 0 ? "제품 등록 성공" : "일부 제품 등록 실패",
-            "data", Map.of(
-                "totalCount", totalCount,     
-                "successCount", successCount,   
-                "failureCount", failureCount,  
-                "failures", failures    
-            )
+            "message", result.getFailureCount() == 0 ? "제품 등록 성공" : "일부 제품 등록 실패",
+            "data", result.toData()
         ));
     }
 
-    private String getCellValue(Row row, int idx) {
-        if (row == null || idx < 0 || idx >= row.getLastCellNum()) return "";
-        Cell cell = row.getCell(idx);
-        return cell == null ? "" : FMT.formatCellValue(cell).trim();
+    public ExcelImportResult importRows(MultipartFile file) throws IOException {
+        return importRows(handler -> ExcelRowReader.read(file, START_ROW, handler), result -> {});
     }
 
-    private boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            Cell cell = row.getCell(i);
-            if (cell != null && !FMT.formatCellValue(cell).trim().isEmpty()) return false;
-        }
-        return true;
+    // 비동기 가져오기 작업용: 디스크에 보관한 파일을 읽고 배치마다 진행 상황을 알림
+    public ExcelImportResult importRows(File file, Consumer<ExcelImportResult> onProgress) throws IOException {
+        return importRows(handler -> ExcelRowReader.read(file, START_ROW, handler), onProgress);
+    }
+
+    private ExcelImportResult importRows(ExcelRowReader.Source source, Consumer<ExcelImportResult> onProgress) throws IOException {
+        ExcelImportResult result = new ExcelImportResult();
+        ProductImportWriter.Session session = productImportWriter.open();
+        List<ProductImportWriter.ImportRow> buffer = new ArrayList<>(batchSize);
+
+        source.read(row -> {
+            if (row.isEmpty()) return;
+
+            result.countRow();
+            buffer.add(new ProductImportWriter.ImportRow(
+                    row.rowIndex(),
+                    row.get(0), // 제조사
+                    row.get(1), // 제품분류
+                    row.get(2), // 제품명
+                    row.get(3), // 모델코드
+                    row.get(4)  // 비고
+            ));
+
+            if (buffer.size() >= batchSize) {
+                session.write(buffer, result);
+                buffer.clear();
+                onProgress.accept(result);
+            }
+        });
+        session.write(buffer, result);
+        onProgress.accept(result);
+
+        return result;
     }
 }
@@ -0,0 +1,148 @@
+package com.suriname.product.service;
+
+import com.suriname.global.algolia.AlgoliaChangeLog;
+import com.suriname.global.excel.ExcelImportChunks;
+import com.suriname.global.excel.ExcelImportResult;
+import com.suriname.global.search.LocalSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제품 엑셀 일괄 등록용 JDBC 배치 저장
+ * 카테고리는 가져오기 시작 시 한 번 읽어 캐시하고, 없는 카테고리는 처음 나올 때 한 번만 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImportWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalSearchService localSearchService;
+    private final AlgoliaChangeLog algoliaChangeLog;
+
+    public record ImportRow(int rowIndex, String productBrand, String categoryName,
+                            String productName, String modelCode, String memo) {}
+
+    public Session open() {
+        Map<String, Long> categoryIds = new HashMap<>();
+        jdbcTemplate.query("SELECT category_id, name FROM category",
+                rs -> { categoryIds.putIfAbsent(rs.getString("name"), rs.getLong("category_id")); });
+        return new Session(categoryIds);
+    }
+
+    // 가져오기 1회 동안 유지되는 카테고리 캐시
+    public class Session {
+        private final Map<String, Long> categoryIds;
+
+        private Session(Map<String, Long> categoryIds) {
+            this.categoryIds = categoryIds;
+        }
+
+        public void write(List<ImportRow> rows, ExcelImportResult result) {
+            List<ImportRow> valid = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                try {
+                    validate(row);
+                    valid.add(row);
+                } catch (IllegalArgumentException e) {
+                    result.fail(row.rowIndex(), e.getMessage());
+                }
+            }
+            ExcelImportChunks.persist(transactionTemplate, valid, ImportRow::rowIndex, this::insert, result);
+        }
+
+        // 기존과 같은 필수값 검사, 길이 등은 DB 제약조건이 판단하고 걸린 행만 실패로 보고됨
+        private void validate(ImportRow row) {
+            if (row.categoryName().isBlank() || row.productName().isBlank()) {
+                throw new IllegalArgumentException("카테고리명과 제품명은 필수입니다.");
+            }
+        }
+
+        private void insert(List<ImportRow> rows) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            // 1. 캐시에 없는 카테고리만 생성
+            Map<String, Long> created = new LinkedHashMap<>();
+            for (ImportRow row : rows) {
+                String name = row.categoryName();
+                if (!categoryIds.containsKey(name) && !created.containsKey(name)) {
+                    created.put(name, insertCategory(name));
+                }
+            }
+
+            // 2. 제품 (새 id 는 검색 색인/Algolia 변경 기록용)
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(
+                            "INSERT INTO product (category_id, product_name, product_brand, model_code, memo, " +
+                                    "is_visible, is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, true, false, ?, ?)",
+                            new String[]{"product_id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ImportRow row = rows.get(i);
+                            ps.setLong(1, categoryIds.getOrDefault(row.categoryName(), created.get(row.categoryName())));
+                            ps.setString(2, row.productName());
+                            ps.setString(3, row.productBrand());
+                            ps.setString(4, row.modelCode());
+                            ps.setString(5, row.memo());
+                            ps.setTimestamp(6, now);
+                            ps.setTimestamp(7, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    },
+                    keyHolder);
+            List<Long> productIds = new ArrayList<>(rows.size());
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                productIds.add(((Number) keys.values().iterator().next()).longValue());
+            }
+
+            // 엔티티 콜백을 거치지 않으므로 검색 색인과 Algolia 변경 기록에 직접 알림
+            localSearchService.productsChanged(productIds);
+            algoliaChangeLog.productsChanged(productIds);
+
+            // 롤백되면 새 카테고리 id 가 무효이므로 커밋 후에만 캐시에 반영
+            if (!created.isEmpty()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        categoryIds.putAll(created);
+                    }
+                });
+            }
+        }
+
+        private Long insertCategory(String name) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "INSERT INTO category (parent_id, name, is_visible) VALUES (NULL, ?, true)",
+                        new String[]{"category_id"});
+                ps.setString(1, name);
+                return ps;
+            }, keyHolder);
+            return ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +14,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.suriname.category.entity.Category;
 import com.suriname.category.repository.CategoryRepository;
+import com.suriname.global.search.LocalSearchService;
 import com.suriname.product.dto.ProductDto;
 import com.suriname.product.dto.ProductSearchDto;
 import com.suriname.product.entity.Product;
@@ -19,6 +22,10 @@ import com.suriname.product.entity.ProductSpecification;
 import com.suriname.product.repository.ProductRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +35,7 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ProductExcelService productExcelService;
     private final CategoryRepository categoryRepository;
+    private final LocalSearchService localSearchService;
 
     // 조회
     public List<ProductDto> getAllProducts() {
@@ -112,11 +120,33 @@ public class ProductService {
 
     // 검색
     public Page<ProductDto> searchProducts(ProductSearchDto dto, Pageable pageable) {
+        // 내장 검색 색인으로 찾을 수 있으면 id 만 받아 해당 페이지만 조회
+        Optional<List<Long>> indexed = pageable.getSort().isUnsorted()
+                ? localSearchService.searchProducts(dto) : Optional.empty();
+        if (indexed.isPresent()) {
+            List<Long> ids = indexed.get();
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            List<ProductDto> content = findAllInOrder(ids.subList(from, Math.min(ids.size(), from + pageable.getPageSize())))
+                    .stream()
+                    .map(ProductDto::fromEntity)
+                    .toList();
+            return new PageImpl<>(content, pageable, ids.size());
+        }
+
         Page<Product> result = productRepository.findAll(ProductSpecification.search(dto), pageable);
         return result.map(ProductDto::fromEntity);
     }
 
     
+    // 자동완성 (제품명/모델코드/제조사, 최대 10건)
+    public List<ProductDto> autocompleteProducts(String keyword) {
+        List<Product> products = localSearchService.autocompleteProducts(keyword)
+                .map(ids -> findAllInOrder(ids.subList(0, Math.min(ids.size(), 10))))
+                .orElseGet(() -> productRepository
+                        .findAll(ProductSpecification.containsKeyword(keyword), PageRequest.of(0, 10)).getContent());
+        return products.stream().map(ProductDto::fromEntity).toList();
+    }
+
     // 자동완성
     public List<ProductDto> autocomplete(String keyword) {
         return productRepository.findByProductNameContainingIgnoreCase(keyword)
@@ -125,5 +155,14 @@ public class ProductService {
                     .collect(Collectors.toList());
     }
 
+    // id 순서대로 제품 조회 (색인 갱신 전 삭제된 제품은 빠짐)
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .filter(product -> !Boolean.TRUE.equals(product.getIsDeleted()))
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
 }
 
@@ -0,0 +1,78 @@
+package com.suriname.quote.entity;
+
+import com.suriname.employee.entity.Employee;
+import com.suriname.request.entity.Request;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "quote")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Quote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "quote_id")
+    private Long quoteId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "request_id", nullable = false, unique = true)
+    private Request request;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id")
+    private Employee employee; // null 허용 (미승인 시)
+
+    @Column(nullable = false)
+    private Long cost;
+
+    @Column(columnDefinition = "TEXT")
+    private String field; // nullable 허용
+
+    @Column(name = "is_approved", nullable = false)
+    private Boolean isApproved;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.isApproved = false;
+    }
+
+    public void approveByEmployee(Employee employee) {
+        this.employee = employee;
+        this.approvedAt = LocalDateTime.now();
+        this.isApproved = true;
+    }
+    
+    public void updateQuote(Long cost, String field, Employee employee) {
+        this.cost = cost;
+        this.field = field;
+        if (employee != null) {
+            this.employee = employee;
+            if (!this.isApproved) {
+                this.approvedAt = LocalDateTime.now();
+                this.isApproved = true;
+            }
+        }
+    }
+
+    @Builder
+    public Quote(Request request, Employee employee, Long cost, String field) {
+        this.request = request;
+        this.employee = employee;
+        this.cost = cost;
+        this.field = field;
+    }
+}
@@ -0,0 +1,163 @@
+package com.suriname.quote.entity;
+
+import com.suriname.customer.entity.Customer;
+import com.suriname.employee.entity.Employee;
+import com.suriname.payment.Payment;
+import com.suriname.product.entity.CustomerProduct;
+import com.suriname.product.entity.Product;
+import com.suriname.request.dto.RequestSearchDto;
+import com.suriname.request.entity.Request;
+import com.suriname.requestlog.entity.RequestLog;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class QuoteSpecification {
+    // 검색
+    public static Specification<Quote> search(RequestSearchDto dto) {
+        return (root, query, cb) -> {
+
+            Predicate predicate = cb.conjunction();
+
+            Join<Quote, Request> requestJoin = root.join("request", JoinType.INNER);
+            Join<Request, CustomerProduct> customerProductJoin = requestJoin.join("customerProduct", JoinType.INNER);
+            Join<CustomerProduct, Product> productJoin = customerProductJoin.join("product", JoinType.INNER);
+
+            Join<Request, Customer> customerJoin = requestJoin.join("customer", JoinType.INNER);
+            Join<Request, Employee> employeeJoin = requestJoin.join("employee", JoinType.INNER);
+
+            if (dto.getRequestNo() != null && !dto.getRequestNo().isBlank()) {
+                predicate = cb.and(predicate, cb.like(requestJoin.get("requestNo"), "%" + dto.getRequestNo() + "%"));
+            }
+
+            if (dto.getCustomerName() != null && !dto.getCustomerName().isBlank()) {
+                predicate = cb.and(predicate, cb.like(customerJoin.get("name"), "%" + dto.getCustomerName() + "%"));
+            }
+
+            if (dto.getProductName() != null && !dto.getProductName().isBlank()) {
+                predicate = cb.and(predicate, cb.like(productJoin.get("productName"), "%" + dto.getProductName() + "%"));
+            }
+
+            if (dto.getModelCode() != null && !dto.getModelCode().isBlank()) {
+                predicate = cb.and(predicate, cb.like(productJoin.get("modelCode"), "%" + dto.getModelCode() + "%"));
+            }
+
+            if (dto.getStartCreateAt() != null && dto.getEndCreateAt() != null) {
+                predicate = cb.and(predicate, cb.between(root.get("createdAt"), dto.getStartCreateAt(), dto.getEndCreateAt()));
+            }
+
+            if (dto.getStatus() != null && !dto.getStatus().isEmpty()) {
+                // 1. 각 request_id의 최신 changed_at 서브쿼리
+                Subquery<LocalDateTime> maxChangedAtSubquery = query.subquery(LocalDateTime.class);
+                Root<RequestLog> rl1 = maxChangedAtSubquery.from(RequestLog.class);
+                maxChangedAtSubquery.select(cb.greatest(rl1.<LocalDateTime>get("changedAt")))
+                        .where(cb.equal(rl1.get("request").get("requestId"), requestJoin.get("requestId")));
+
+                // 2. 최신 로그의 new_status 가 dto.getStatus() 에 있는지 확인
+                Subquery<Long> subquery = query.subquery(Long.class);
+                Root<RequestLog> rl2 = subquery.from(RequestLog.class);
+                subquery.select(rl2.get("request").get("requestId"))
+                        .where(
+                                cb.and(
+                                        cb.equal(rl2.get("request").get("requestId"), requestJoin.get("requestId")),
+                                        cb.equal(rl2.get("changedAt"), maxChangedAtSubquery),
+                                        rl2.get("newStatus").in(dto.getStatus())
+                                )
+                        );
+
+                predicate = cb.and(predicate, cb.exists(subquery));
+            }
+
+            if (dto.getEmployName() != null && !dto.getEmployName().isBlank()) {
+                predicate = cb.and(predicate, cb.like(cb.function("BINARY", String.class, employeeJoin.get("name")),
+                        "%" + dto.getEmployName() + "%"));
+            }
+
+            return predicate;
+        };
+    }
+
+    /**
+     * 견적 목록 검색 (GET /api/quotes).
+     * 진행상태 / 입금상태도 QuoteDto 와 같은 기준으로 조건에 넣어, 페이지와 전체 건수가 필터 결과 기준이 되게 한다.
+     * progressStatuses 가 빈 목록이면 결과 없음, null 이면 조건 없음.
+     */
+    public static Specification<Quote> withFilters(String customerName, String requestNo, String productName,
+                                                   String serialNumber, Boolean isApproved, String employeeName,
+                                                   LocalDateTime startDate, LocalDateTime endDate,
+                                                   List<Request.Status> progressStatuses, String paymentStatus) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            Join<Quote, Request> requestJoin = root.join("request", JoinType.INNER);
+            Join<Request, Customer> customerJoin = requestJoin.join("customer", JoinType.INNER);
+            Join<Request, CustomerProduct> customerProductJoin = requestJoin.join("customerProduct", JoinType.INNER);
+            Join<CustomerProduct, Product> productJoin = customerProductJoin.join("product", JoinType.INNER);
+
+            if (hasText(customerName)) {
+                predicates.add(cb.like(customerJoin.get("name"), "%" + customerName + "%"));
+            }
+            if (hasText(requestNo)) {
+                predicates.add(cb.like(requestJoin.get("requestNo"), "%" + requestNo + "%"));
+            }
+            if (hasText(productName)) {
+                predicates.add(cb.like(productJoin.get("productName"), "%" + productName + "%"));
+            }
+            // 목록의 시리얼번호 컬럼은 모델코드를 보여줌 (QuoteDto)
+            if (hasText(serialNumber)) {
+                predicates.add(cb.like(productJoin.get("modelCode"), "%" + serialNumber + "%"));
+            }
+            if (isApproved != null) {
+                predicates.add(cb.equal(root.get("isApproved"), isApproved));
+            }
+            if (hasText(employeeName)) {
+                Join<Quote, Employee> employeeJoin = root.join("employee", JoinType.LEFT);
+                predicates.add(cb.like(employeeJoin.get("name"), "%" + employeeName + "%"));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
+            }
+
+            if (progressStatuses != null) {
+                if (progressStatuses.isEmpty()) return cb.disjunction();
+                predicates.add(requestJoin.get("status").in(progressStatuses));
+            }
+
+            if (hasText(paymentStatus)) {
+                Predicate paid = requestJoin.get("status")
+                        .in(Request.Status.WAITING_FOR_DELIVERY, Request.Status.COMPLETED);
+
+                // 입금대기 + PENDING 결제 존재 = 가상계좌 발급
+                Subquery<Long> pending = query.subquery(Long.class);
+                Root<Payment> payment = pending.from(Payment.class);
+                pending.select(payment.get("paymentId"))
+                        .where(cb.equal(payment.get("request"), requestJoin),
+                                cb.equal(payment.get("status"), Payment.Status.PENDING));
+                Predicate issued = cb.and(
+                        cb.equal(requestJoin.get("status"), Request.Status.WAITING_FOR_PAYMENT),
+                        cb.exists(pending));
+
+                switch (paymentStatus) {
+                    case "COMPLETED" -> predicates.add(paid);
+                    case "VIRTUAL_ACCOUNT_ISSUED" -> predicates.add(issued);
+                    case "AWAITING_PAYMENT" -> predicates.add(cb.not(cb.or(paid, issued)));
+                    default -> {
+                        return cb.disjunction();
+                    }
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.trim().isEmpty();
+    }
+}
@@ -0,0 +1,20 @@
+package com.suriname.quote.repository;
+
+import com.suriname.quote.entity.Quote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuoteRepository extends JpaRepository<Quote, Long>, JpaSpecificationExecutor<Quote> {
+    
+    // 목록 화면에서 쓰는 연관을 한 번에 조회 (결제 목록은 Request.payments 배치 로딩)
+    @EntityGraph(attributePaths = {"request", "request.customer", "request.customerProduct",
+            "request.customerProduct.product", "employee"})
+    @Override
+    Page<Quote> findAll(Specification<Quote> search, Pageable pageable);
+}
\ No newline at end of file
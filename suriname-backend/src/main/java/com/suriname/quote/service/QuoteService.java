@@ -0,0 +1,272 @@
+package com.suriname.quote.service;
+
+import com.suriname.customer.repository.CustomerRepository;
+import com.suriname.employee.entity.Employee;
+import com.suriname.employee.repository.EmployeeRepository;
+import com.suriname.product.repository.ProductRepository;
+import com.suriname.quote.dto.QuoteCreateDto;
+import com.suriname.quote.dto.QuoteDto;
+import com.suriname.quote.dto.QuotePageResponse;
+import com.suriname.quote.entity.Quote;
+import com.suriname.quote.entity.QuoteSpecification;
+import com.suriname.quote.repository.QuoteRepository;
+import com.suriname.request.dto.RequestSearchDto;
+import com.suriname.request.entity.Request;
+import com.suriname.request.repository.RequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class QuoteService {
+    private final QuoteRepository quoteRepository;
+    private final CustomerRepository customerRepository;
+    private final EmployeeRepository employeeRepository;
+    private final RequestRepository requestRepository;
+    private final ProductRepository productRepository;
+
+    @Transactional(readOnly = true)
+    public QuotePageResponse getQuotesWithSearch(int page, int size, String customerName, 
+            String requestNo, String productName, String serialNumber, String isApproved, 
+            String employeeName, String startDate, String endDate, String progressStatus, String paymentStatus) {
+        
+        try {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("quoteId").descending());
+
+            // 진행상태 / 입금상태까지 쿼리 조건으로 처리해야 페이지 크기와 전체 건수가 맞음
+            Page<Quote> quotePage = quoteRepository.findAll(QuoteSpecification.withFilters(
+                    customerName, requestNo, productName, serialNumber, parseApprovalStatus(isApproved),
+                    employeeName, parseDate(startDate), parseDate(endDate),
+                    parseProgressStatuses(progressStatus), paymentStatus), pageable);
+
+            List<QuoteDto> quoteDtos = quotePage.getContent().stream()
+                    .map(quote -> {
+                        try {
+                            return new QuoteDto(quote);
+                        } catch (Exception e) {
+                            return null;
+                        }
+                    })
+                    .filter(dto -> dto != null)
+                    .collect(Collectors.toList());
+            
+            return new QuotePageResponse(
+                    quoteDtos,
+                    quotePage.getTotalPages(),
+                    quotePage.getTotalElements(),
+                    quotePage.getNumber(),
+                    quotePage.getSize(),
+                    quotePage.isFirst(),
+                    quotePage.isLast()
+            );
+        } catch (Exception e) {
+            
+            return new QuotePageResponse(
+                    java.util.Collections.emptyList(),
+                    0, 0, page, size, true, true
+            );
+        }
+    }
+
+    // 검색
+    public Page<QuoteDto> searchProducts(RequestSearchDto dto, Pageable pageable) {
+        Page<Quote> result = quoteRepository.findAll(QuoteSpecification.search(dto), pageable);
+
+        return result.map(QuoteDto::new);
+    }
+    
+    @Transactional
+    public void deleteQuote(Long quoteId) {
+        Quote quote = quoteRepository.findById(quoteId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 견적이 존재하지 않습니다."));
+        quoteRepository.delete(quote);
+    }
+    
+    @Transactional
+    public void deleteQuotes(List<Long> quoteIds) {
+        List<Quote> quotes = quoteRepository.findAllById(quoteIds);
+        quoteRepository.deleteAll(quotes);
+    }
+    
+    // 견적서 생성
+    @Transactional
+    public Long createQuote(QuoteCreateDto dto) {
+
+        // 접수번호 검증
+        Request request = requestRepository.findById(dto.getRequestId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 접수번호입니다: " + dto.getRequestId()));
+
+        Employee engineer = employeeRepository
+                .findById(request.getEmployee().getEmployeeId())
+                .orElse(null);
+
+        String productName = request.getCustomerProduct().getProduct().getProductName();
+
+        // 수리 항목들을 JSON 형태로 field에 저장하기 위한 문자열 생성
+        StringBuilder fieldContent = new StringBuilder();
+        fieldContent.append("제품명: ").append(productName).append("\n");
+        fieldContent.append("고객동의: ").append("동의").append("\n");
+        fieldContent.append("예상견적: ").append(dto.getEstimatedCost()).append("원\n");
+        fieldContent.append("실제비용: ").append(dto.getActualCost()).append("원\n");
+        fieldContent.append("상태변경: ").append("WAITING_FOR_PAYMENT").append("\n"); // 고정 기록
+        fieldContent.append("수리항목:\n");
+
+        if (dto.getRepairItems() != null) {
+            for (QuoteCreateDto.RepairItemDto item : dto.getRepairItems()) {
+                fieldContent.append("- ").append(item.getItemName())
+                        .append(": ").append(item.getDescription())
+                        .append(" (").append(item.getCost()).append("원)\n");
+            }
+        }
+
+        // Quote 엔티티 생성
+        Quote quote = Quote.builder()
+                .request(request)
+                .employee(engineer)
+                .cost(dto.getActualCost())            // 실제 수리비용
+                .field(fieldContent.toString())       // 기타 정보
+                .build();
+
+        Quote savedQuote = quoteRepository.save(quote);
+
+        request.changeStatus(
+                Request.Status.WAITING_FOR_PAYMENT,
+                request.getEmployee().getEmployeeId().toString(),
+                "수리 완료 -> 입금대기"
+        );
+        requestRepository.saveAndFlush(request);
+
+        return savedQuote.getQuoteId();
+    }
+
+
+    // 견적서 수정
+    @Transactional
+    public Long updateQuote(Long quoteId, QuoteCreateDto dto) {
+
+        // 기존 견적서 조회
+        Quote existingQuote = quoteRepository.findById(quoteId)
+            .orElseThrow(() -> new IllegalArgumentException("견적서를 찾을 수 없습니다: " + quoteId));
+
+        // 접수번호 검증
+        Request request = requestRepository.findById(dto.getRequestId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 접수번호입니다: " + dto.getRequestId()));
+
+        Employee engineer = employeeRepository
+                .findById(existingQuote.getEmployee().getEmployeeId())
+                .orElse(null);
+
+        String productName = request.getCustomerProduct().getProduct().getProductName();
+
+        // 수리 항목들을 JSON 형태로 field에 저장하기 위한 문자열 생성
+        StringBuilder fieldContent = new StringBuilder();
+        fieldContent.append("제품명: ").append(productName).append("\n");
+        fieldContent.append("고객동의: ").append("동의").append("\n");
+        fieldContent.append("예상견적: ").append(dto.getEstimatedCost()).append("원\n");
+        fieldContent.append("실제비용: ").append(dto.getActualCost()).append("원\n");
+        fieldContent.append("수리항목:\n");
+        
+        if (dto.getRepairItems() != null) {
+            for (QuoteCreateDto.RepairItemDto item : dto.getRepairItems()) {
+                fieldContent.append("- ").append(item.getItemName())
+                    .append(": ").append(item.getDescription())
+                    .append(" (").append(item.getCost()).append("원)\n");
+            }
+        }
+        
+        // Quote 엔티티 수정
+        existingQuote.updateQuote(dto.getActualCost(), fieldContent.toString(), engineer);
+        Quote savedQuote = quoteRepository.save(existingQuote);
+
+        return savedQuote.getQuoteId();
+    }
+
+    // Request 상태 업데이트 메서드
+    private void updateRequestStatus(Request request, String statusChange) {
+        if (statusChange == null) return;
+
+        Request.Status newStatus;
+        switch (statusChange) {
+            case "IN_PROGRESS":
+                newStatus = Request.Status.REPAIRING;
+                break;
+            case "AWAITING_PAYMENT":
+                newStatus = Request.Status.WAITING_FOR_PAYMENT;
+                break;
+            case "READY_FOR_DELIVERY":
+                newStatus = Request.Status.WAITING_FOR_DELIVERY;
+                break;
+            case "COMPLETED":
+                newStatus = Request.Status.COMPLETED;
+                break;
+            default:
+                return; // 알 수 없는 상태는 업데이트하지 않음
+        }
+
+        request.changeStatus(newStatus, request.getEmployee().getEmployeeId().toString(), request.getStatus() + " -> " + newStatus);
+        requestRepository.save(request);
+        System.out.println("Request 상태 업데이트: " + request.getRequestNo() + " -> " + newStatus);
+    }
+
+    // 진행상태 값(콤마 구분, 예: "READY_FOR_DELIVERY,COMPLETED") → Request.Status
+    private List<Request.Status> parseProgressStatuses(String progressStatus) {
+        if (progressStatus == null || progressStatus.trim().isEmpty()) {
+            return null;
+        }
+        List<Request.Status> statuses = new ArrayList<>();
+        for (String status : progressStatus.split(",")) {
+            switch (status.trim()) {
+                case "RECEIVED" -> statuses.add(Request.Status.RECEIVED);
+                case "IN_PROGRESS" -> statuses.add(Request.Status.REPAIRING);
+                case "AWAITING_PAYMENT" -> statuses.add(Request.Status.WAITING_FOR_PAYMENT);
+                case "READY_FOR_DELIVERY" -> statuses.add(Request.Status.WAITING_FOR_DELIVERY);
+                case "COMPLETED" -> statuses.add(Request.Status.COMPLETED);
+                default -> { }
+            }
+        }
+        return statuses;
+    }
+
+    private LocalDateTime parseDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(dateStr + "T00:00:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    private Boolean parseApprovalStatus(String isApprovedStr) {
+        if (isApprovedStr == null || isApprovedStr.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            if ("승인".equals(isApprovedStr)) return true;
+            if ("미승인".equals(isApprovedStr)) return false;
+            return Boolean.parseBoolean(isApprovedStr);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public QuoteDto getQuote(Long quoteId) {
+        Quote quote = quoteRepository.findById(quoteId)
+                .orElseThrow(() -> new IllegalArgumentException("견적서를 찾을 수 없습니다. id=" + quoteId));
+
+        return new QuoteDto(quote);
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.suriname.request.config;
 
 import com.suriname.request.entity.RequestAssignmentLog;
 import com.suriname.request.repository.RequestAssignmentLogRepository;
+import com.suriname.request.repository.RequestCurrentAssignmentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -19,6 +20,7 @@ class RequestAssignmentSchedulingConfig {}
 @RequiredArgsConstructor
 public class RequestAssignmentExpire {
     private final RequestAssignmentLogRepository requestAssignmentLogRepository;
+    private final RequestCurrentAssignmentRepository requestCurrentAssignmentRepository;
 
     @Scheduled(cron = "0 */10 * * * *")
     @Transactional
@@ -32,6 +34,14 @@ public class RequestAssignmentExpire {
                 RequestAssignmentLog.AssignmentStatus.EXPIRED,
                 now
         );
+
+        requestCurrentAssignmentRepository.expireAllPendingOlderThan(
+                threshold,
+                RequestAssignmentLog.AssignmentStatus.PENDING,
+                RequestAssignmentLog.AssignmentStatus.EXPIRED,
+                now
+        );
+        requestCurrentAssignmentRepository.syncRequestPriority(RequestAssignmentLog.AssignmentStatus.EXPIRED);
     }
 
 }
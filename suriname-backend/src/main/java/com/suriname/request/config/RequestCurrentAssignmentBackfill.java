@@ -0,0 +1,36 @@
+package com.suriname.request.config;
+
+import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.repository.RequestCurrentAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 배정 로그만 있고 현재 배정 정보가 없는 요청을 기동 시 한 번 채우고,
+// 요청 목록 정렬 순위를 현재 배정 상태에 맞춘다 (정렬 순위 열 추가 전 데이터 포함).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestCurrentAssignmentBackfill {
+    private final RequestCurrentAssignmentRepository requestCurrentAssignmentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int inserted = requestCurrentAssignmentRepository.backfillMissing();
+        if (inserted > 0) {
+            log.info("현재 배정 정보 백필 완료: {}건", inserted);
+        }
+
+        int synced = 0;
+        for (RequestAssignmentLog.AssignmentStatus status : RequestAssignmentLog.AssignmentStatus.values()) {
+            synced += requestCurrentAssignmentRepository.syncRequestPriority(status);
+        }
+        if (synced > 0) {
+            log.info("요청 목록 정렬 순위 백필 완료: {}건", synced);
+        }
+    }
+}
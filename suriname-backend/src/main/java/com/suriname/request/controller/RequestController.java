@@ -9,6 +9,7 @@ import com.suriname.request.service.RequestAssignmentLogService;
 import com.suriname.request.service.RequestService;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
@@ -38,11 +39,21 @@ public class RequestController {
 	public ResponseEntity<?> createReq(@RequestBody RequestCreateRequestDto dto) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
-		Long receiverId = employeeDetails.getEmployee().getEmployeeId();
+		Long receiverId = employeeDetails.getEmployeeId();
 		RequestCreateResponseDto response = requestService.createRequest(receiverId, dto);
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	// AS 요청 일괄 생성 (콜센터 일괄 접수, 최대 1000건)
+	@PostMapping("/bulk")
+	public ResponseEntity<?> createReqBulk(@RequestBody List<RequestCreateRequestDto> dtos) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
+		Long receiverId = employeeDetails.getEmployeeId();
+		List<RequestCreateResponseDto> response = requestService.createRequests(receiverId, dtos);
+		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+	}
+
 	// AS 요청 리스트 조회
 	@GetMapping
 	public ResponseEntity<?> getReqList(@ModelAttribute RequestSearchCondition condition,
@@ -50,21 +61,36 @@ public class RequestController {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
 
-		Long viewerId = employeeDetails.getEmployee().getEmployeeId();
-		String role = employeeDetails.getEmployee().getRole().name();
+		Long viewerId = employeeDetails.getEmployeeId();
+		String role = employeeDetails.getRole().name();
 
 		Page<RequestListResponseDto> response = requestService.getRequestList(condition, pageable, viewerId, role);
 		return ResponseEntity.ok(response);
 	}
 
+	// AS 요청 리스트 조회 (커서 기반, 깊은 페이지도 첫 페이지와 동일한 비용)
+	@GetMapping("/cursor")
+	public ResponseEntity<?> getReqListByCursor(@ModelAttribute RequestSearchCondition condition,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") int size) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
+
+		Long viewerId = employeeDetails.getEmployeeId();
+		String role = employeeDetails.getRole().name();
+
+		RequestCursorPageDto response = requestService.getRequestListByCursor(condition, cursor, size, viewerId, role);
+		return ResponseEntity.ok(response);
+	}
+
 	// AS 요청 단건 조회
 	@GetMapping("/{requestId}")
 	public ResponseEntity<?> getReqDetail(@PathVariable Long requestId) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
 
-		Long viewerId = employeeDetails.getEmployee().getEmployeeId();
-		String role = employeeDetails.getEmployee().getRole().name();
+		Long viewerId = employeeDetails.getEmployeeId();
+		String role = employeeDetails.getRole().name();
 
 		RequestDetailResponseDto response = requestService.getRequestDetail(requestId, viewerId, role);
 		return ResponseEntity.ok(response);
@@ -76,8 +102,8 @@ public class RequestController {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
 
-		Long viewerId = employeeDetails.getEmployee().getEmployeeId();
-		String role = employeeDetails.getEmployee().getRole().name();
+		Long viewerId = employeeDetails.getEmployeeId();
+		String role = employeeDetails.getRole().name();
 
 		RequestCreateResponseDto response = requestService.updateRequest(requestId, dto, viewerId, role);
 		return ResponseEntity.ok(response);
@@ -121,8 +147,8 @@ public class RequestController {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
 
-		Long viewerId = employeeDetails.getEmployee().getEmployeeId();
-		String role = employeeDetails.getEmployee().getRole().name();
+		Long viewerId = employeeDetails.getEmployeeId();
+		String role = employeeDetails.getRole().name();
 
 		requestAssignmentLogService.changeEnginner(requestId, dto, viewerId, role);
 		return ResponseEntity.ok().build();
@@ -276,7 +302,7 @@ public class RequestController {
 	    ) {
 			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 			EmployeeDetails employeeDetails = (EmployeeDetails) authentication.getPrincipal();
-			Long viewerId = employeeDetails.getEmployee().getEmployeeId();
+			Long viewerId = employeeDetails.getEmployeeId();
 
 	        requestService.updateStatus(id, viewerId, status);
 	        return ResponseEntity.noContent().build();
@@ -297,7 +323,7 @@ public class RequestController {
 	    public ResponseEntity<StaffMainDto> getStaffSummary(
 	            @AuthenticationPrincipal EmployeeDetails user
 	    ) {
-	        Long receiverId = user.getEmployee().getEmployeeId();
+	        Long receiverId = user.getEmployeeId();
 	        return ResponseEntity.ok(requestService.getStaffSummary(receiverId));
 	    }
 	    
@@ -0,0 +1,42 @@
+package com.suriname.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 요청 목록 커서 (마지막 행의 정렬 키: 배정상태 우선순위, 접수일시, 요청 ID)
+@Getter
+@AllArgsConstructor
+public class RequestCursor {
+    private static final String DELIMITER = "|";
+
+    private int priority;
+    private LocalDateTime createdAt;
+    private Long requestId;
+
+    public String encode() {
+        String raw = priority + DELIMITER + createdAt + DELIMITER + requestId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RequestCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new RequestCursor(
+                    Integer.parseInt(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.suriname.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RequestCursorPageDto {
+    private List<RequestListResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
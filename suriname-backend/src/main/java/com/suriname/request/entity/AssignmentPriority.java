@@ -0,0 +1,51 @@
+package com.suriname.request.entity;
+
+import java.util.List;
+
+// 요청 목록 정렬용 배정 상태 순위
+// 역할별로 순서가 달라 request 에 두 값을 저장한다 (assignment_priority, engineer_assignment_priority).
+public final class AssignmentPriority {
+
+    // 배정 정보가 없거나 목록에 없는 상태
+    public static final int UNKNOWN = 99;
+
+    private static final List<RequestAssignmentLog.AssignmentStatus> ENGINEER_ORDER = List.of(
+            RequestAssignmentLog.AssignmentStatus.PENDING,
+            RequestAssignmentLog.AssignmentStatus.ACCEPTED,
+            RequestAssignmentLog.AssignmentStatus.REJECTED,
+            RequestAssignmentLog.AssignmentStatus.EXPIRED,
+            RequestAssignmentLog.AssignmentStatus.CANCELLED
+    );
+    private static final List<RequestAssignmentLog.AssignmentStatus> DEFAULT_ORDER = List.of(
+            RequestAssignmentLog.AssignmentStatus.EXPIRED,
+            RequestAssignmentLog.AssignmentStatus.REJECTED,
+            RequestAssignmentLog.AssignmentStatus.CANCELLED,
+            RequestAssignmentLog.AssignmentStatus.PENDING,
+            RequestAssignmentLog.AssignmentStatus.ACCEPTED
+    );
+
+    private AssignmentPriority() {
+    }
+
+    // ENGINEER 는 engineer_assignment_priority, 그 외 역할은 assignment_priority 로 정렬
+    public static boolean usesEngineerOrder(String role) {
+        return "ENGINEER".equals(role);
+    }
+
+    public static int of(String role, RequestAssignmentLog.AssignmentStatus status) {
+        return usesEngineerOrder(role) ? engineer(status) : standard(status);
+    }
+
+    public static int standard(RequestAssignmentLog.AssignmentStatus status) {
+        return indexIn(DEFAULT_ORDER, status);
+    }
+
+    public static int engineer(RequestAssignmentLog.AssignmentStatus status) {
+        return indexIn(ENGINEER_ORDER, status);
+    }
+
+    private static int indexIn(List<RequestAssignmentLog.AssignmentStatus> order, RequestAssignmentLog.AssignmentStatus status) {
+        int index = status == null ? -1 : order.indexOf(status);
+        return index < 0 ? UNKNOWN : index;
+    }
+}
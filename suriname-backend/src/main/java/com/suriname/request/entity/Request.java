@@ -8,6 +8,8 @@ import com.suriname.payment.Payment;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.LocalDateTime;
@@ -15,7 +17,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "request")
+// 목록 정렬 (배정 상태 순위, 접수일시 DESC, 요청 ID DESC) 을 역할별 조회 범위마다 인덱스로 탐색
+@Table(name = "request", indexes = {
+        @Index(name = "idx_request_priority_created", columnList = "assignment_priority, created_at DESC, request_id DESC"),
+        @Index(name = "idx_request_receiver_priority_created",
+                columnList = "receiver_id, assignment_priority, created_at DESC, request_id DESC"),
+        @Index(name = "idx_request_engineer_priority_created",
+                columnList = "employee_id, engineer_assignment_priority, created_at DESC, request_id DESC")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter @Setter
 public class Request extends AbstractAggregateRoot<Request> {
@@ -59,6 +68,20 @@ public class Request extends AbstractAggregateRoot<Request> {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // 현재 배정 상태의 목록 정렬 순위 (AssignmentPriority)
+    // 현재 배정 정보가 바뀔 때 RequestCurrentAssignmentRepository 쿼리로 갱신하므로 엔티티에서는 쓰지 않음
+    @ColumnDefault("99")
+    @Column(name = "assignment_priority", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private int assignmentPriority = AssignmentPriority.UNKNOWN;
+
+    @ColumnDefault("99")
+    @Column(name = "engineer_assignment_priority", nullable = false, insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private int engineerAssignmentPriority = AssignmentPriority.UNKNOWN;
+
+    // 목록 조회 시 요청마다 따로 로딩하지 않고 IN 쿼리로 묶어서 로딩
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "request", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Payment> payments = new ArrayList<>();
 
@@ -0,0 +1,73 @@
+package com.suriname.request.entity;
+
+import com.suriname.employee.entity.Employee;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 요청별 현재(가장 최근) 배정 정보
+// request_assignment_log 의 최신 행을 매번 MAX 서브쿼리로 찾지 않도록 배정 로그 저장 시 함께 갱신한다.
+@Entity
+@Table(name = "request_current_assignment", indexes = {
+        @Index(name = "idx_rca_status_assigned_at", columnList = "status, assigned_at"),
+        @Index(name = "idx_rca_employee", columnList = "employee_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RequestCurrentAssignment {
+
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignment_log_id", nullable = false)
+    private RequestAssignmentLog assignmentLog;
+
+    // 현재 배정 로그의 수리 기사
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    // 가장 최근에 수락한 수리 기사 (재배정 대기 중에도 유지)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "accepted_employee_id")
+    private Employee acceptedEmployee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RequestAssignmentLog.AssignmentStatus status;
+
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    public RequestCurrentAssignment(Long requestId) {
+        this.requestId = requestId;
+    }
+
+    // 현재 배정보다 오래된 로그의 변경은 반영하지 않음
+    public boolean isCurrentOrNewer(RequestAssignmentLog log) {
+        if (this.assignmentLog == null) return true;
+        if (Objects.equals(this.assignmentLog.getAssignmentLogId(), log.getAssignmentLogId())) return true;
+        return !log.getAssignedAt().isBefore(this.assignedAt);
+    }
+
+    public void apply(RequestAssignmentLog log) {
+        this.assignmentLog = log;
+        this.employee = log.getEmployee();
+        this.status = log.getStatus();
+        this.assignedAt = log.getAssignedAt();
+        this.statusChangedAt = log.getStatusChangedAt();
+
+        if (log.getStatus() == RequestAssignmentLog.AssignmentStatus.ACCEPTED) {
+            this.acceptedEmployee = log.getEmployee();
+        }
+    }
+}
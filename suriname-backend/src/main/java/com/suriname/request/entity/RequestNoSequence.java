@@ -0,0 +1,36 @@
+package com.suriname.request.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 일자별 접수번호 순번 (AS-yyyyMMdd-{순번}), RequestNoAllocator 가 블록 단위로 예약
+@Entity
+@Table(name = "request_no_sequence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class RequestNoSequence {
+
+    @Id
+    @Column(name = "seq_date")
+    private LocalDate seqDate;
+
+    // 아직 예약되지 않은 첫 순번
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public RequestNoSequence(LocalDate seqDate, long nextValue) {
+        this.seqDate = seqDate;
+        this.nextValue = nextValue;
+    }
+
+    // size 개를 예약하고 첫 순번을 반환
+    public long reserve(int size) {
+        long first = nextValue;
+        nextValue += size;
+        return first;
+    }
+}
@@ -0,0 +1,8 @@
+package com.suriname.request.entity;
+
+import java.util.List;
+
+// 요청 삭제 (단건/다중), 커밋 후 집계/캐시에서 제외하기 위해 발행
+public record RequestsDeletedEvent(
+        List<Long> requestIds
+) {}
@@ -38,11 +38,9 @@ public interface RequestAssignmentLogRepository extends JpaRepository<RequestAss
             @Param("now") LocalDateTime now
     );
 
-    // 각 request별 최신 assignment log 조회
-    @Query("SELECT ral FROM RequestAssignmentLog ral " +
-           "WHERE ral.request.requestId IN :requestIds " +
-           "AND ral.assignedAt = (SELECT MAX(ral2.assignedAt) " +
-           "                      FROM RequestAssignmentLog ral2 " +
-           "                      WHERE ral2.request.requestId = ral.request.requestId)")
+    // 각 request별 최신 assignment log 조회 (현재 배정 정보 기준)
+    @Query("SELECT ral FROM RequestCurrentAssignment c " +
+           "JOIN c.assignmentLog ral " +
+           "WHERE c.requestId IN :requestIds")
     List<RequestAssignmentLog> findLatestByRequestIds(@Param("requestIds") List<Long> requestIds);
 }
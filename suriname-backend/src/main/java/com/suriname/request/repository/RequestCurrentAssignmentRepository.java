@@ -0,0 +1,91 @@
+package com.suriname.request.repository;
+
+import com.suriname.request.entity.AssignmentPriority;
+import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.entity.RequestCurrentAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RequestCurrentAssignmentRepository extends JpaRepository<RequestCurrentAssignment, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RequestCurrentAssignment c WHERE c.requestId IN :requestIds")
+    void deleteAllByRequestIdIn(@Param("requestIds") List<Long> requestIds);
+
+    // RequestAssignmentLogRepository.expireAllPendingOlderThan 과 같은 기준으로 만료 처리
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update RequestCurrentAssignment c
+           set c.status = :expired,
+               c.statusChangedAt = :now
+         where c.status = :pending
+           and c.assignedAt < :threshold
+    """)
+    int expireAllPendingOlderThan(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("pending") RequestAssignmentLog.AssignmentStatus pending,
+            @Param("expired") RequestAssignmentLog.AssignmentStatus expired,
+            @Param("now") LocalDateTime now
+    );
+
+    // 현재 배정 정보가 없는 요청을 기존 배정 로그로부터 채움 (배포 전 데이터 백필용)
+    @Modifying
+    @Query(value = """
+        INSERT INTO request_current_assignment
+            (request_id, assignment_log_id, employee_id, accepted_employee_id, status, assigned_at, status_changed_at)
+        SELECT l.request_id, l.assignment_log_id, l.employee_id,
+               (SELECT a.employee_id
+                  FROM request_assignment_log a
+                 WHERE a.request_id = l.request_id AND a.status = 'ACCEPTED'
+                 ORDER BY a.assigned_at DESC, a.assignment_log_id DESC
+                 LIMIT 1),
+               l.status, l.assigned_at, l.status_changed_at
+          FROM request_assignment_log l
+         WHERE NOT EXISTS (SELECT 1 FROM request_current_assignment c WHERE c.request_id = l.request_id)
+           AND NOT EXISTS (SELECT 1 FROM request_assignment_log n
+                            WHERE n.request_id = l.request_id
+                              AND (n.assigned_at > l.assigned_at
+                                   OR (n.assigned_at = l.assigned_at AND n.assignment_log_id > l.assignment_log_id)))
+        """, nativeQuery = true)
+    int backfillMissing();
+
+    // 요청 목록 정렬 순위(request.assignment_priority, engineer_assignment_priority)를 현재 배정 상태에 맞춤
+    default void updateRequestPriority(Long requestId, RequestAssignmentLog.AssignmentStatus status) {
+        updateRequestPriority(requestId, AssignmentPriority.standard(status), AssignmentPriority.engineer(status));
+    }
+
+    // 현재 배정 상태가 status 인데 정렬 순위가 다른 요청을 모두 맞춤 (일괄 만료 후, 기동 시 백필)
+    default int syncRequestPriority(RequestAssignmentLog.AssignmentStatus status) {
+        return syncRequestPriority(status.name(), AssignmentPriority.standard(status), AssignmentPriority.engineer(status));
+    }
+
+    @Modifying
+    @Query(value = """
+        UPDATE request
+           SET assignment_priority = :priority,
+               engineer_assignment_priority = :engineerPriority
+         WHERE request_id = :requestId
+        """, nativeQuery = true)
+    void updateRequestPriority(@Param("requestId") Long requestId,
+                               @Param("priority") int priority,
+                               @Param("engineerPriority") int engineerPriority);
+
+    @Modifying
+    @Query(value = """
+        UPDATE request
+           SET assignment_priority = :priority,
+               engineer_assignment_priority = :engineerPriority
+         WHERE request_id IN (SELECT c.request_id FROM request_current_assignment c WHERE c.status = :status)
+           AND (assignment_priority <> :priority OR engineer_assignment_priority <> :engineerPriority)
+        """, nativeQuery = true)
+    int syncRequestPriority(@Param("status") String status,
+                            @Param("priority") int priority,
+                            @Param("engineerPriority") int engineerPriority);
+}
@@ -0,0 +1,26 @@
+package com.suriname.request.repository;
+
+import com.suriname.request.entity.RequestNoSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface RequestNoSequenceRepository extends JpaRepository<RequestNoSequence, LocalDate> {
+
+    // 여러 서버가 같은 블록을 예약하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RequestNoSequence s WHERE s.seqDate = :seqDate")
+    Optional<RequestNoSequence> findForUpdate(@Param("seqDate") LocalDate seqDate);
+
+    // 순번 테이블 도입 전 요청 id 로 만든 번호와 겹치지 않도록 그날의 가장 큰 번호를 찾음
+    @Query("SELECT MAX(CAST(SUBSTRING(r.requestNo, LENGTH(:prefix) + 1) AS Long)) FROM Request r " +
+           "WHERE r.requestNo LIKE CONCAT(:prefix, '%')")
+    Long findMaxRequestNoSuffix(@Param("prefix") String prefix);
+}
@@ -1,5 +1,6 @@
 package com.suriname.request.repository;
 
+import com.suriname.request.dto.RequestCursorPageDto;
 import com.suriname.request.dto.RequestListResponseDto;
 import com.suriname.request.dto.RequestSearchCondition;
 import org.springframework.data.domain.Page;
@@ -7,4 +8,6 @@ import org.springframework.data.domain.Pageable;
 
 public interface RequestQueryRepository {
     Page<RequestListResponseDto> searchRequestList(RequestSearchCondition condition, Pageable pageable, Long viewerId, String role);
+
+    RequestCursorPageDto searchRequestListByCursor(RequestSearchCondition condition, String cursor, int size, Long viewerId, String role);
 }
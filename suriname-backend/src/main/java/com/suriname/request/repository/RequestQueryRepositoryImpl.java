@@ -1,21 +1,24 @@
 package com.suriname.request.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.suriname.category.entity.QCategory;
 import com.suriname.customer.entity.QCustomer;
 import com.suriname.employee.entity.QEmployee;
+import com.suriname.global.metrics.RepositoryInvocationTimer;
 import com.suriname.product.entity.QCustomerProduct;
 import com.suriname.product.entity.QProduct;
+import com.suriname.request.dto.RequestCursor;
+import com.suriname.request.dto.RequestCursorPageDto;
 import com.suriname.request.dto.RequestListResponseDto;
 import com.suriname.request.dto.RequestSearchCondition;
+import com.suriname.request.entity.AssignmentPriority;
 import com.suriname.request.entity.QRequest;
-import com.suriname.request.entity.QRequestAssignmentLog;
-import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.entity.QRequestCurrentAssignment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -24,6 +27,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -31,18 +35,89 @@ import java.util.List;
 public class RequestQueryRepositoryImpl implements RequestQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final RepositoryInvocationTimer invocationTimer;
+
+    private static final QRequest request = QRequest.request;
+    private static final QCustomer customer = QCustomer.customer;
+    private static final QCustomerProduct cp = QCustomerProduct.customerProduct;
+    private static final QProduct product = QProduct.product;
+    private static final QCategory category = QCategory.category;
+    private static final QEmployee employee = QEmployee.employee;
+    private static final QRequestCurrentAssignment current = QRequestCurrentAssignment.requestCurrentAssignment;
 
     @Override
     public Page<RequestListResponseDto> searchRequestList(RequestSearchCondition condition, Pageable pageable, Long viewerId, String role) {
-        QRequest request = QRequest.request;
-        QCustomer customer = QCustomer.customer;
-        QCustomerProduct cp = QCustomerProduct.customerProduct;
-        QProduct product = QProduct.product;
-        QCategory category = QCategory.category;
-        QEmployee employee = QEmployee.employee;
-        QRequestAssignmentLog log = QRequestAssignmentLog.requestAssignmentLog;
-        QRequestAssignmentLog log2 = new QRequestAssignmentLog("log2");
+        return invocationTimer.record("RequestQueryRepository", "searchRequestList",
+                () -> fetchRequestList(condition, pageable, viewerId, role));
+    }
+
+    @Override
+    public RequestCursorPageDto searchRequestListByCursor(RequestSearchCondition condition, String cursor, int size, Long viewerId, String role) {
+        return invocationTimer.record("RequestQueryRepository", "searchRequestListByCursor",
+                () -> fetchRequestListByCursor(condition, cursor, size, viewerId, role));
+    }
+
+    private Page<RequestListResponseDto> fetchRequestList(RequestSearchCondition condition, Pageable pageable, Long viewerId, String role) {
+        BooleanBuilder builder = buildCondition(condition, viewerId, role);
+        NumberPath<Integer> statusPriority = statusPriority(role);
+
+        // 메인 쿼리
+        List<RequestListResponseDto> content = joinedQuery(selectListColumns())
+                .where(builder)
+                .orderBy(statusPriority.asc(), request.createdAt.desc(), request.requestId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // count 쿼리
+        long total = joinedQuery(request.count())
+                .where(builder)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private RequestCursorPageDto fetchRequestListByCursor(RequestSearchCondition condition, String cursor, int size, Long viewerId, String role) {
+        BooleanBuilder builder = buildCondition(condition, viewerId, role);
+        NumberPath<Integer> statusPriority = statusPriority(role);
+
+        // 이전 페이지 마지막 행 이후부터 조회 (offset 없이 정렬 키로 탐색)
+        if (StringUtils.hasText(cursor)) {
+            RequestCursor last = RequestCursor.decode(cursor);
+            builder.and(
+                    statusPriority.gt(last.getPriority())
+                            .or(statusPriority.eq(last.getPriority())
+                                    .and(request.createdAt.lt(last.getCreatedAt())))
+                            .or(statusPriority.eq(last.getPriority())
+                                    .and(request.createdAt.eq(last.getCreatedAt()))
+                                    .and(request.requestId.lt(last.getRequestId())))
+            );
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<RequestListResponseDto> rows = joinedQuery(selectListColumns())
+                .where(builder)
+                .orderBy(statusPriority.asc(), request.createdAt.desc(), request.requestId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<RequestListResponseDto> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RequestListResponseDto lastRow = content.get(content.size() - 1);
+            nextCursor = new RequestCursor(
+                    AssignmentPriority.of(role, lastRow.getAssignmentStatus()),
+                    lastRow.getCreatedAt(),
+                    lastRow.getRequestId()
+            ).encode();
+        }
 
+        return new RequestCursorPageDto(content, size, hasNext, nextCursor);
+    }
+
+    private BooleanBuilder buildCondition(RequestSearchCondition condition, Long viewerId, String role) {
         // 조건 빌더
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -68,7 +143,7 @@ public class RequestQueryRepositoryImpl implements RequestQueryRepository {
             builder.and(request.status.eq(condition.getStatus()));
         }
         if (condition.getAssignmentStatus() != null) {
-            builder.and(log.status.eq(condition.getAssignmentStatus()));
+            builder.and(current.status.eq(condition.getAssignmentStatus()));
         }
         if (condition.getStartDate() != null) {
             builder.and(request.createdAt.goe(condition.getStartDate().atStartOfDay()));
@@ -86,85 +161,42 @@ public class RequestQueryRepositoryImpl implements RequestQueryRepository {
             // 제약 없음
         }
 
-        NumberExpression<Integer> statusPriority =
-                "ENGINEER".equals(role)
-                        ? new CaseBuilder()
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.PENDING)).then(0)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.ACCEPTED)).then(1)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.REJECTED)).then(2)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.EXPIRED)).then(3)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.CANCELLED)).then(4)
-                        .otherwise(99)
-                        : new CaseBuilder()
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.EXPIRED)).then(0)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.REJECTED)).then(1)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.CANCELLED)).then(2)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.PENDING)).then(3)
-                        .when(log.status.eq(RequestAssignmentLog.AssignmentStatus.ACCEPTED)).then(4)
-                        .otherwise(99);
+        return builder;
+    }
 
+    // 역할별 배정 상태 정렬 순위 (request 에 저장된 열이라 정렬/커서 조건을 인덱스로 탐색)
+    private NumberPath<Integer> statusPriority(String role) {
+        return AssignmentPriority.usesEngineerOrder(role) ? request.engineerAssignmentPriority : request.assignmentPriority;
+    }
 
-        // 메인 쿼리
-        List<RequestListResponseDto> content = queryFactory
-
-                .select(
-                        Projections.constructor(
-                                RequestListResponseDto.class,
-                                request.requestId,
-                                request.requestNo,
-                                customer.name,
-                                product.productName,
-                                customer.phone,
-                                customer.address,
-                                product.modelCode,
-                                product.category.name,
-                                request.createdAt,
-                                request.status.stringValue(),
-                                employee.name,
-                                log.status
-                        )
-                )
-                .from(request)
-                .leftJoin(request.customer, customer)
-                .leftJoin(request.customerProduct, cp)
-                .leftJoin(cp.product, product)
-                .leftJoin(product.category, category)
-                .leftJoin(request.employee, employee).leftJoin(log)
-                .on(log.request.eq(request),
-                        log.assignedAt.eq(
-                                JPAExpressions.select(log.assignedAt.max())
-                                        .from(log)
-                                        .where(log.request.eq(request))
-                        )
-                )
-                .where(builder)
-                .orderBy(statusPriority.asc(), request.createdAt.desc(), request.requestId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+    private Expression<RequestListResponseDto> selectListColumns() {
+        return Projections.constructor(
+                RequestListResponseDto.class,
+                request.requestId,
+                request.requestNo,
+                customer.name,
+                product.productName,
+                customer.phone,
+                customer.address,
+                product.modelCode,
+                product.category.name,
+                request.createdAt,
+                request.status.stringValue(),
+                employee.name,
+                current.status
+        );
+    }
 
-        // count 쿼리
-        long total = queryFactory
-                .select(request.count())
+    // 목록/카운트 공통 조인 (현재 배정 정보)
+    private <T> JPAQuery<T> joinedQuery(Expression<T> select) {
+        return queryFactory
+                .select(select)
                 .from(request)
                 .leftJoin(request.customer, customer)
                 .leftJoin(request.customerProduct, cp)
                 .leftJoin(cp.product, product)
                 .leftJoin(product.category, category)
                 .leftJoin(request.employee, employee)
-                .leftJoin(log)
-                .on(
-                        log.request.eq(request),
-                        log.assignedAt.eq(
-                                JPAExpressions.select(log2.assignedAt.max())
-                                        .from(log2)
-                                        .where(log2.request.eq(request))
-                        )
-                )
-                .where(builder)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total);
+                .leftJoin(current).on(current.requestId.eq(request.requestId));
     }
 }
-
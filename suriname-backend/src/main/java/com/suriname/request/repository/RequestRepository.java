@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -126,7 +127,16 @@ public interface RequestRepository extends JpaRepository<Request, Long>, JpaSpec
         	        return page.stream().findFirst();
         	    }
 
-	Page<Request> findAll(Specification<Request> search, Pageable pageable);
+        // 상세 화면에서 쓰는 연관과 접수 이미지를 한 번에 조회
+        @EntityGraph(attributePaths = {"receiver", "employee", "customer", "customerProduct",
+                "customerProduct.product", "customerProduct.product.category", "requestImages"})
+        @Query("select r from Request r where r.requestId = :requestId")
+        Optional<Request> findDetailById(@Param("requestId") Long requestId);
+
+        // 검색 목록에서 쓰는 연관을 한 번에 조회 (요청마다 고객/제품/기사를 따로 로딩하지 않음)
+        @EntityGraph(attributePaths = {"customer", "customerProduct", "customerProduct.product", "employee"})
+        @Override
+        Page<Request> findAll(Specification<Request> search, Pageable pageable);
 
         //최근 한 달간 모델별 수리 건수 집계
         @Query("""
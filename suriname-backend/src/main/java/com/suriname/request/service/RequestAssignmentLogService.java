@@ -6,7 +6,9 @@ import com.suriname.request.dto.RequestAssignmentEngineerUpdateRequestDto;
 import com.suriname.request.dto.RequestAssignmentStatusUpdateRequestDto;
 import com.suriname.request.entity.Request;
 import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.entity.RequestCurrentAssignment;
 import com.suriname.request.repository.RequestAssignmentLogRepository;
+import com.suriname.request.repository.RequestCurrentAssignmentRepository;
 import com.suriname.request.repository.RequestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,15 @@ public class RequestAssignmentLogService {
     private final RequestAssignmentLogRepository requestAssignmentLogRepository;
     private final EmployeeRepository employeeRepository;
     private final RequestRepository requestRepository;
+    private final RequestCurrentAssignmentRepository requestCurrentAssignmentRepository;
+
+    // 배정 로그 저장 (현재 배정 정보도 같은 트랜잭션에서 갱신)
+    @Transactional
+    public RequestAssignmentLog recordAssignment(RequestAssignmentLog log) {
+        RequestAssignmentLog saved = requestAssignmentLogRepository.save(log);
+        syncCurrentAssignment(saved);
+        return saved;
+    }
 
     // 배정 상태 변경
     @Transactional
@@ -31,6 +42,7 @@ public class RequestAssignmentLogService {
 
         log.setStatus(dto.getStatus());
         log.setStatusChangedAt(LocalDateTime.now());
+        syncCurrentAssignment(log);
 
         if (dto.getStatus() == RequestAssignmentLog.AssignmentStatus.REJECTED) {
             log.setRejectionReason(dto.getReason());
@@ -68,6 +80,18 @@ public class RequestAssignmentLogService {
                 .assignedAt(LocalDateTime.now())
                 .build();
 
-        requestAssignmentLogRepository.save(newLog);
+        recordAssignment(newLog);
+    }
+
+    private void syncCurrentAssignment(RequestAssignmentLog log) {
+        Long requestId = log.getRequest().getRequestId();
+        RequestCurrentAssignment current = requestCurrentAssignmentRepository.findById(requestId)
+                .orElseGet(() -> new RequestCurrentAssignment(requestId));
+
+        if (current.isCurrentOrNewer(log)) {
+            current.apply(log);
+            requestCurrentAssignmentRepository.save(current);
+            requestCurrentAssignmentRepository.updateRequestPriority(requestId, current.getStatus());
+        }
     }
 }
@@ -0,0 +1,71 @@
+package com.suriname.request.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 일괄 접수용 JDBC 배치 저장
+ * 요청 id 가 IDENTITY 라 JPA 로는 INSERT 를 묶을 수 없으므로, 접수번호를 미리 발급받아 JDBC 배치로 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestBatchWriter {
+
+    private static final int BATCH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(Long receiverId, Long employeeId, Long customerId, Long customerProductId,
+                      String requestNo, String content) {}
+
+    // 새 요청 id 를 rows 순서대로 반환 (호출한 트랜잭션에 참여)
+    public List<Long> insert(List<Row> rows, LocalDateTime createdAt) {
+        Timestamp now = Timestamp.valueOf(createdAt);
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            List<Row> chunk = rows.subList(from, Math.min(from + BATCH, rows.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement("""
+                            INSERT INTO request (receiver_id, employee_id, customer_id, customer_product_id,
+                                                 request_no, status, content, created_at)
+                            VALUES (?, ?, ?, ?, ?, 'RECEIVED', ?, ?)
+                            """, new String[]{"request_id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Row row = chunk.get(i);
+                            ps.setLong(1, row.receiverId());
+                            ps.setLong(2, row.employeeId());
+                            ps.setLong(3, row.customerId());
+                            ps.setLong(4, row.customerProductId());
+                            ps.setString(5, row.requestNo());
+                            ps.setString(6, row.content());
+                            ps.setTimestamp(7, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+}
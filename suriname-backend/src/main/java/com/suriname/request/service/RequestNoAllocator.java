@@ -0,0 +1,100 @@
+package com.suriname.request.service;
+
+import com.suriname.request.entity.RequestNoSequence;
+import com.suriname.request.repository.RequestNoSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 접수번호(AS-yyyyMMdd-{순번}) 발급기.
+ * 일자별 순번을 request_no_sequence 에서 블록 단위로 예약해 두고 메모리에서 나눠 주므로
+ * 요청을 저장하기 전에 번호가 정해지고, DB 는 블록이 떨어질 때만 접근한다.
+ * 서버가 여러 대면 서버마다 다른 블록을 쓰므로 번호가 생성 순서와 다를 수 있고,
+ * 재시작하면 쓰지 않은 블록 나머지는 건너뛴다.
+ */
+@Component
+public class RequestNoAllocator {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final RequestNoSequenceRepository requestNoSequenceRepository;
+    private final TransactionTemplate requiresNew;
+    private final int blockSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private LocalDate blockDate;
+    private long next;
+    private long limit;
+
+    public RequestNoAllocator(RequestNoSequenceRepository requestNoSequenceRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${request.number.block-size:50}") int blockSize) {
+        this.requestNoSequenceRepository = requestNoSequenceRepository;
+        // 호출한 트랜잭션이 롤백돼도 예약한 블록은 남겨야 다른 요청과 번호가 겹치지 않음
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public String next() {
+        return allocate(1).get(0);
+    }
+
+    public List<String> allocate(int count) {
+        lock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(blockDate)) {
+                blockDate = today;
+                next = limit = 0;
+            }
+
+            String prefix = prefix(today);
+            List<String> numbers = new ArrayList<>(count);
+            while (numbers.size() < count) {
+                if (next >= limit) {
+                    // 대량 발급은 필요한 만큼 한 번에 예약
+                    int size = Math.max(blockSize, count - numbers.size());
+                    next = reserve(today, size);
+                    limit = next + size;
+                }
+                numbers.add(prefix + next++);
+            }
+            return numbers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long reserve(LocalDate date, int size) {
+        try {
+            return requiresNew.execute(status -> reserveBlock(date, size));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 날짜의 순번 행을 먼저 만든 경우 그 행으로 다시 예약
+            return requiresNew.execute(status -> reserveBlock(date, size));
+        }
+    }
+
+    private long reserveBlock(LocalDate date, int size) {
+        RequestNoSequence sequence = requestNoSequenceRepository.findForUpdate(date)
+                .orElseGet(() -> {
+                    Long max = requestNoSequenceRepository.findMaxRequestNoSuffix(prefix(date));
+                    return requestNoSequenceRepository.saveAndFlush(new RequestNoSequence(date, max != null ? max + 1 : 1));
+                });
+        return sequence.reserve(size);
+    }
+
+    private static String prefix(LocalDate date) {
+        return "AS-" + date.format(DATE) + "-";
+    }
+}
@@ -12,10 +12,14 @@ import com.suriname.product.repository.CustomerProductRepository;
 import com.suriname.request.dto.*;
 import com.suriname.request.entity.Request;
 import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.entity.RequestStatusChangedEvent;
+import com.suriname.request.entity.RequestsDeletedEvent;
 import com.suriname.request.repository.RequestAssignmentLogRepository;
+import com.suriname.request.repository.RequestCurrentAssignmentRepository;
 import com.suriname.request.repository.RequestQueryRepository;
 import com.suriname.request.repository.RequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -23,11 +27,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +45,14 @@ public class RequestService {
 	private final CustomerProductRepository customerProductRepository;
 	private final RequestAssignmentLogRepository requestAssignmentLogRepository;
 	private final RequestQueryRepository requestQueryRepository;
+	private final RequestCurrentAssignmentRepository requestCurrentAssignmentRepository;
+	private final RequestAssignmentLogService requestAssignmentLogService;
+	private final RequestNoAllocator requestNoAllocator;
+	private final RequestBatchWriter requestBatchWriter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	// 일괄 접수 1회 최대 건수
+	private static final int MAX_BULK_SIZE = 1000;
 
 	// AS 요청 생성
 	@Transactional
@@ -61,17 +74,15 @@ public class RequestService {
 		CustomerProduct customerProduct = customerProductRepository.findById(dto.getCustomerProductId())
 				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 고객 제품 ID"));
 
+		// 접수번호를 미리 발급받아 INSERT 한 번으로 저장
 		Request request = Request.builder().receiver(receiver).employee(employee).customer(customer)
-				.customerProduct(customerProduct).requestNo(null).content(dto.getContent()).build();
+				.customerProduct(customerProduct).requestNo(requestNoAllocator.next()).content(dto.getContent()).build();
 
 		requestRepository.save(request);
 
-		String createdDate = request.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-		String requestNo = String.format("AS-%s-%d", createdDate, request.getRequestId());
-		request.setRequestNo(requestNo);
-
+		// 이벤트에 요청 id 가 필요하므로 저장 후 등록 (변경 사항이 없어 다시 저장해도 UPDATE 는 나가지 않음)
 		request.publishStatusInitialized(receiver.getEmployeeId().toString(), "요청 생성");
-		requestRepository.saveAndFlush(request);
+		requestRepository.save(request);
 
 		// 수리 담당자 배정 이력
 		RequestAssignmentLog assignmentLog = RequestAssignmentLog.builder().request(request).employee(employee) // 수리 기사
@@ -79,12 +90,82 @@ public class RequestService {
 				.assignmentType(RequestAssignmentLog.AssignmentType.MANUAL)
 				.status(RequestAssignmentLog.AssignmentStatus.PENDING).assignedAt(LocalDateTime.now()).build();
 
-		requestAssignmentLogRepository.save(assignmentLog);
+		requestAssignmentLogService.recordAssignment(assignmentLog);
 
 		return RequestCreateResponseDto.builder().requestId(request.getRequestId()).requestNo(request.getRequestNo())
 				.build();
 	}
 
+	// AS 요청 일괄 생성 (콜센터 일괄 접수)
+	@Transactional
+	public List<RequestCreateResponseDto> createRequests(Long receiverId, List<RequestCreateRequestDto> dtos) {
+		if (receiverId == null) throw new IllegalArgumentException("접수 담당자 ID가 필요합니다.");
+		if (dtos == null || dtos.isEmpty()) throw new IllegalArgumentException("접수할 요청이 없습니다.");
+		if (dtos.size() > MAX_BULK_SIZE)
+			throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 접수할 수 있습니다.");
+
+		for (int i = 0; i < dtos.size(); i++) {
+			RequestCreateRequestDto dto = dtos.get(i);
+			if (dto == null || dto.getEmployeeId() == null || dto.getCustomerId() == null
+					|| dto.getCustomerProductId() == null)
+				throw new IllegalArgumentException((i + 1) + "번째 요청: 수리 담당자, 고객, 고객 제품 ID가 필요합니다.");
+		}
+
+		// 참조 엔티티는 종류별로 한 번에 조회
+		Set<Long> employeeIds = dtos.stream().map(RequestCreateRequestDto::getEmployeeId).collect(Collectors.toSet());
+		employeeIds.add(receiverId);
+		Map<Long, Employee> employees = employeeRepository.findAllById(employeeIds).stream()
+				.collect(Collectors.toMap(Employee::getEmployeeId, e -> e));
+		Set<Long> customerIds = customerRepository.findAllById(
+				dtos.stream().map(RequestCreateRequestDto::getCustomerId).collect(Collectors.toSet())).stream()
+				.map(Customer::getCustomerId).collect(Collectors.toSet());
+		Set<Long> customerProductIds = customerProductRepository.findAllById(
+				dtos.stream().map(RequestCreateRequestDto::getCustomerProductId).collect(Collectors.toSet())).stream()
+				.map(CustomerProduct::getCustomerProductId).collect(Collectors.toSet());
+
+		Employee receiver = employees.get(receiverId);
+		if (receiver == null) throw new IllegalArgumentException("존재하지 않는 접수 담당자 ID");
+		for (int i = 0; i < dtos.size(); i++) {
+			RequestCreateRequestDto dto = dtos.get(i);
+			if (!employees.containsKey(dto.getEmployeeId()))
+				throw new IllegalArgumentException((i + 1) + "번째 요청: 존재하지 않는 수리 담당자 ID");
+			if (!customerIds.contains(dto.getCustomerId()))
+				throw new IllegalArgumentException((i + 1) + "번째 요청: 존재하지 않는 고객 ID");
+			if (!customerProductIds.contains(dto.getCustomerProductId()))
+				throw new IllegalArgumentException((i + 1) + "번째 요청: 존재하지 않는 고객 제품 ID");
+		}
+
+		// 요청 행은 JDBC 배치로 저장
+		List<String> requestNos = requestNoAllocator.allocate(dtos.size());
+		List<RequestBatchWriter.Row> rows = new ArrayList<>(dtos.size());
+		for (int i = 0; i < dtos.size(); i++) {
+			RequestCreateRequestDto dto = dtos.get(i);
+			rows.add(new RequestBatchWriter.Row(receiverId, dto.getEmployeeId(), dto.getCustomerId(),
+					dto.getCustomerProductId(), requestNos.get(i), dto.getContent()));
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> requestIds = requestBatchWriter.insert(rows, now);
+
+		// 상태 이력 / 집계 / 배정 이력은 단건 생성과 같은 경로로 처리
+		List<RequestCreateResponseDto> responses = new ArrayList<>(dtos.size());
+		for (int i = 0; i < dtos.size(); i++) {
+			Long requestId = requestIds.get(i);
+			eventPublisher.publishEvent(new RequestStatusChangedEvent(
+					requestId, null, Request.Status.RECEIVED, receiverId.toString(), "요청 생성"));
+
+			RequestAssignmentLog assignmentLog = RequestAssignmentLog.builder()
+					.request(requestRepository.getReferenceById(requestId))
+					.employee(employees.get(dtos.get(i).getEmployeeId()))
+					.assignedBy(receiver)
+					.assignmentType(RequestAssignmentLog.AssignmentType.MANUAL)
+					.status(RequestAssignmentLog.AssignmentStatus.PENDING).assignedAt(now).build();
+			requestAssignmentLogService.recordAssignment(assignmentLog);
+
+			responses.add(RequestCreateResponseDto.builder().requestId(requestId).requestNo(requestNos.get(i)).build());
+		}
+		return responses;
+	}
+
 	// AS 요청 목록 조회
 	@Transactional(readOnly = true)
 	public Page<RequestListResponseDto> getRequestList(RequestSearchCondition condition, Pageable pageable,
@@ -97,10 +178,25 @@ public class RequestService {
 		return requestQueryRepository.searchRequestList(condition, pageable, viewerId, role);
 	}
 
+	// AS 요청 리스트 조회 (커서 기반)
+	@Transactional(readOnly = true)
+	public RequestCursorPageDto getRequestListByCursor(RequestSearchCondition condition, String cursor, int size,
+			Long viewerId, String role) {
+
+		if (!"ADMIN".equals(role) && !"STAFF".equals(role) && !"ENGINEER".equals(role)) {
+			throw new AccessDeniedException("권한이 없습니다.");
+		}
+		if (size < 1 || size > 100) {
+			throw new IllegalArgumentException("size는 1~100 사이여야 합니다.");
+		}
+
+		return requestQueryRepository.searchRequestListByCursor(condition, cursor, size, viewerId, role);
+	}
+
 	// AS 요청 단건 조회
 	@Transactional(readOnly = true)
 	public RequestDetailResponseDto getRequestDetail(Long requestId, Long viewerId, String role) {
-		Request request = requestRepository.findById(requestId)
+		Request request = requestRepository.findDetailById(requestId)
 				.orElseThrow(() -> new IllegalArgumentException("해당 요청이 존재하지 않습니다."));
 
 		if ("STAFF".equals(role)) {
@@ -199,19 +295,24 @@ public class RequestService {
 	}
 
 	// AS 요청 삭제
+	@Transactional
 	public void deleteRequest(Long requestId) {
 		Request request = requestRepository.findById(requestId)
 				.orElseThrow(() -> new IllegalArgumentException("해당 요청이 존재하지 않습니다."));
 
+		requestCurrentAssignmentRepository.deleteAllByRequestIdIn(List.of(requestId));
 		requestRepository.delete(request);
+		eventPublisher.publishEvent(new RequestsDeletedEvent(List.of(requestId)));
 	}
 
 	// AS 요청 다중 삭제
 	@Transactional
 	public void deleteRequests(List<Long> requestIds) {
+		requestCurrentAssignmentRepository.deleteAllByRequestIdIn(requestIds);
 		requestAssignmentLogRepository.deleteAllByRequestRequestIdIn(requestIds);
 
 		requestRepository.deleteAllByIdInBatch(requestIds);
+		eventPublisher.publishEvent(new RequestsDeletedEvent(List.copyOf(requestIds)));
 	}
 
 	// 검색
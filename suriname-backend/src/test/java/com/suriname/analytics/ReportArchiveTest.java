@@ -0,0 +1,148 @@
+package com.suriname.analytics;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.suriname.analytics.dto.CategoryAsCountDTO;
+import com.suriname.analytics.dto.DailyRevenueDTO;
+import com.suriname.analytics.dto.DailySummaryDTO;
+import com.suriname.analytics.dto.EmployeeStatsDTO;
+import com.suriname.analytics.entity.ReportArchive;
+import com.suriname.analytics.repository.ReportArchiveRepository;
+import com.suriname.analytics.service.AnalyticsService;
+import com.suriname.analytics.service.ReportSchedulerService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "report.archive-dir=build/report-archive-test",
+        "report.flush-rows=50"
+})
+class ReportArchiveTest {
+
+    private static final LocalDate DATE = LocalDate.of(2001, 2, 3);
+    private static final Path ARCHIVE_DIR = Path.of("build/report-archive-test");
+
+    @Autowired
+    private ReportSchedulerService reportSchedulerService;
+
+    @Autowired
+    private ReportArchiveRepository reportArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("RECEIVED", 120, DATE.atStartOfDay());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jdbcTemplate.update("DELETE FROM report_archive WHERE report_date = ?", DATE);
+        jdbcTemplate.update("DELETE FROM request_daily_rollup WHERE stat_date IN (?, ?)", DATE, DATE.plusDays(1));
+        seed.cleanup();
+        FileSystemUtils.deleteRecursively(ARCHIVE_DIR);
+    }
+
+    @Test
+    void archivesReportUnderDatedDirectory() throws IOException {
+        ReportArchive archive = reportSchedulerService.generate(DATE);
+
+        Path file = ARCHIVE_DIR.resolve("2001/02/report_2001-02-03.pdf");
+        assertThat(file).isRegularFile();
+        assertThat(archive.getFilePath()).isEqualTo("2001/02/report_2001-02-03.pdf");
+        assertThat(archive.getRequestCount()).isEqualTo(120);
+        assertThat(archive.getFileSize()).isEqualTo(Files.size(file));
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(file.toFile()))) {
+            assertThat(pdf.getNumberOfPages()).isEqualTo(archive.getPageCount()).isGreaterThan(1);
+        }
+        // 임시 파일이 남지 않음
+        try (var files = Files.list(file.getParent())) {
+            assertThat(files).containsExactly(file);
+        }
+
+        assertThat(reportSchedulerService.findArchivedFile(DATE)).contains(file);
+        assertThat(reportSchedulerService.findArchivedFile(DATE.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void reportAggregatesOnlyRequestsReceivedOnReportDate() {
+        // 다음 날 접수분은 리포트 일자 집계에 섞이지 않아야 함
+        BulkSeed nextDay = new BulkSeed(jdbcTemplate).base();
+        nextDay.requests("RECEIVED", 5, DATE.plusDays(1).atStartOfDay());
+        rollup(DATE, "RECEIVED", 118, 0, 0);
+        rollup(DATE, "COMPLETED", 2, 30_000, 2);
+        rollup(DATE.plusDays(1), "COMPLETED", 5, 99_999, 5);
+        try {
+            DailySummaryDTO summary = analyticsService.getDailySummary(DATE);
+            assertThat(summary.receivedCount()).isEqualTo(120);
+            assertThat(summary.uncompletedCount()).isEqualTo(118);
+            assertThat(summary.revenue()).isEqualTo(30_000);
+            assertThat(summary.averageRepairCost()).isEqualTo(15_000.0);
+
+            assertThat(analyticsService.getDailyRevenue(DATE.minusDays(29), DATE))
+                    .containsExactly(new DailyRevenueDTO(DATE, 30_000));
+            assertThat(analyticsService.getCategoryAsCount(DATE))
+                    .extracting(CategoryAsCountDTO::count).containsExactly(120L);
+            assertThat(analyticsService.getEmployeeStats(DATE))
+                    .extracting(EmployeeStatsDTO::employeeId, EmployeeStatsDTO::assignedCount)
+                    .containsExactly(tuple(seed.employeeId(), 120L));
+        } finally {
+            nextDay.cleanup();
+        }
+    }
+
+    @Test
+    void regeneratingSameDateReplacesArchive() {
+        ReportArchive first = reportSchedulerService.generate(DATE);
+        ReportArchive second = reportSchedulerService.generate(DATE);
+
+        assertThat(second.getReportId()).isEqualTo(first.getReportId());
+        assertThat(reportArchiveRepository.findAllByOrderByReportDateDesc())
+                .filteredOn(archive -> archive.getReportDate().equals(DATE))
+                .hasSize(1);
+    }
+
+    @Test
+    void dailyScheduleArchivesPreviousDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            ReportArchive archive = reportSchedulerService.createStatisticsReportPdf();
+
+            assertThat(archive.getReportDate()).isEqualTo(yesterday);
+            assertThat(reportSchedulerService.findArchivedFile(yesterday)).isPresent();
+        } finally {
+            jdbcTemplate.update("DELETE FROM report_archive WHERE report_date = ?", yesterday);
+        }
+    }
+
+    private void rollup(LocalDate date, String status, long count, long revenue, long revenueRequests) {
+        jdbcTemplate.update("INSERT INTO request_daily_rollup (stat_date, status, request_count, revenue, revenue_request_count) "
+                + "VALUES (?, ?, ?, ?, ?)", date, status, count, revenue, revenueRequests);
+    }
+}
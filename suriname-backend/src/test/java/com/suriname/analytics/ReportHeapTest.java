@@ -0,0 +1,86 @@
+package com.suriname.analytics;
+
+import com.suriname.analytics.entity.ReportArchive;
+import com.suriname.analytics.service.ReportSchedulerService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 하루 5만 건 접수 목록이 담긴 리포트가 고정 힙(256MB) 안에서 생성되는지 확인한다.
+ * ./gradlew reportHeapTest 로 실행 (-Xmx256m, -Dbenchmark=true).
+ * 시드 데이터가 힙을 차지하지 않도록 H2 를 파일 모드로 띄운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/report-heap-test/db;CACHE_SIZE=8192",
+        "spring.jpa.show-sql=false",
+        "report.archive-dir=build/report-heap-test/reports"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReportHeapTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportHeapTest.class);
+
+    private static final int ROWS = 50_000;
+    private static final long HEAP_LIMIT = 256L * 1024 * 1024;
+    private static final LocalDate DATE = LocalDate.of(2001, 2, 3);
+
+    @Autowired
+    private ReportSchedulerService reportSchedulerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("RECEIVED", ROWS, DATE.atStartOfDay());
+        // 1분 간격으로 시드되므로 모두 같은 일자로 모음
+        jdbcTemplate.update("UPDATE request SET created_at = ? WHERE request_no LIKE ?",
+                Timestamp.valueOf(DATE.atTime(9, 0)), seed.requestNoPrefix() + "%");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jdbcTemplate.update("DELETE FROM report_archive WHERE report_date = ?", DATE);
+        seed.cleanup();
+        FileSystemUtils.deleteRecursively(Path.of("build/report-heap-test/reports"));
+    }
+
+    @Test
+    void rendersFiftyThousandRowReportWithinFixedHeap() {
+        assumeTrue(Runtime.getRuntime().maxMemory() <= HEAP_LIMIT, "-Xmx256m 이하에서만 의미가 있음");
+
+        long start = System.nanoTime();
+        ReportArchive archive = reportSchedulerService.generate(DATE);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("report: {} rows, {} pages, {} bytes in {} ms (max heap {} MB)",
+                archive.getRequestCount(), archive.getPageCount(), archive.getFileSize(), elapsedMillis,
+                Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        assertThat(archive.getRequestCount()).isEqualTo(ROWS);
+        assertThat(archive.getPageCount()).isGreaterThan(ROWS / 100);
+    }
+}
@@ -0,0 +1,141 @@
+package com.suriname.analytics;
+
+import com.suriname.analytics.listener.RequestRollupListener;
+import com.suriname.analytics.service.RequestRollupService;
+import com.suriname.request.entity.Request;
+import com.suriname.request.entity.RequestStatusChangedEvent;
+import com.suriname.request.service.RequestService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 반영값(request_rollup_entry)으로 일자별 집계를 맞추는지 검증.
+ * 집계는 커밋 이후 별도 트랜잭션에서 반영되므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestRollupTest {
+
+    // 다른 테스트의 요청과 섞이지 않는 접수일
+    private static final LocalDate DATE = LocalDate.of(2002, 3, 4);
+
+    @Autowired
+    private RequestRollupService requestRollupService;
+
+    @Autowired
+    private RequestRollupListener requestRollupListener;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("COMPLETED", 8, DATE.atTime(9, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM request_rollup_entry WHERE stat_date = ?", DATE);
+        jdbcTemplate.update("DELETE FROM request_daily_rollup WHERE stat_date = ?", DATE);
+        seed.cleanup(
+                "DELETE FROM request_detail WHERE requests_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void leavingCompletedRemovesTheRevenueThatWasAdded() {
+        Long requestId = requestIds().get(0);
+        addRepairCost(requestId, 1000);
+        requestRollupService.reconcile(requestId);
+        assertThat(row("COMPLETED")).containsEntry("request_count", 1L).containsEntry("revenue", 1000L);
+
+        // 완료 후 수리비가 바뀐 뒤 완료에서 빠져도 더했던 1000 만 뺌
+        addRepairCost(requestId, 4000);
+        jdbcTemplate.update("UPDATE request SET status = 'WAITING_FOR_DELIVERY' WHERE request_id = ?", requestId);
+        requestRollupService.reconcile(requestId);
+
+        assertThat(row("COMPLETED")).containsEntry("request_count", 0L).containsEntry("revenue", 0L)
+                .containsEntry("revenue_request_count", 0L);
+        assertThat(row("WAITING_FOR_DELIVERY")).containsEntry("request_count", 1L).containsEntry("revenue", 0L);
+
+        // 같은 상태로 다시 맞춰도 변하지 않음
+        requestRollupService.reconcile(requestId);
+        assertThat(row("WAITING_FOR_DELIVERY")).containsEntry("request_count", 1L);
+    }
+
+    @Test
+    void deletingRequestsRemovesThemFromRollup() {
+        List<Long> requestIds = requestIds();
+        requestIds.forEach(requestRollupService::reconcile);
+        assertThat(row("COMPLETED")).containsEntry("request_count", 8L);
+
+        requestService.deleteRequest(requestIds.get(0));
+        requestService.deleteRequests(requestIds.subList(1, 3));
+
+        assertThat(row("COMPLETED")).containsEntry("request_count", 5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM request_rollup_entry WHERE stat_date = ?",
+                Long.class, DATE)).isEqualTo(5);
+    }
+
+    @Test
+    void concurrentFirstInsertsForSameDayAreAllCounted() throws Exception {
+        List<Long> requestIds = requestIds();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(requestIds.size())) {
+            for (Long requestId : requestIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    requestRollupListener.on(new RequestStatusChangedEvent(
+                            requestId, null, Request.Status.COMPLETED, "test", null));
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertThat(row("COMPLETED")).containsEntry("request_count", (long) requestIds.size());
+    }
+
+    private List<Long> requestIds() {
+        return jdbcTemplate.queryForList("SELECT request_id FROM request WHERE request_no LIKE ? ORDER BY request_id",
+                Long.class, seed.requestNoPrefix() + "%");
+    }
+
+    private void addRepairCost(Long requestId, int cost) {
+        jdbcTemplate.update("INSERT INTO request_detail (requests_id, employee_id, content, cost, created_at) " +
+                "VALUES (?, ?, '수리', ?, CURRENT_TIMESTAMP)", requestId, seed.employeeId(), cost);
+    }
+
+    private Map<String, Object> row(String status) {
+        return jdbcTemplate.queryForMap("SELECT CAST(COALESCE(SUM(request_count), 0) AS BIGINT) AS request_count, " +
+                "CAST(COALESCE(SUM(revenue), 0) AS BIGINT) AS revenue, " +
+                "CAST(COALESCE(SUM(revenue_request_count), 0) AS BIGINT) AS revenue_request_count " +
+                "FROM request_daily_rollup WHERE stat_date = ? AND status = ?", DATE, status);
+    }
+}
@@ -0,0 +1,142 @@
+package com.suriname.customer;
+
+import com.suriname.customer.service.CustomerExcelService;
+import com.suriname.global.excel.ExcelImportResult;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고객 엑셀 일괄 등록 (SAX 스트리밍 + JDBC 배치)
+ * 배치마다 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CustomerExcelImportTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerExcelImportTest.class);
+
+    private static final String[] HEADER = {"고객명", "생년월일", "연락처", "이메일", "주소", "제품분류", "제품명", "제조사", "모델코드", "시리얼번호"};
+
+    @Autowired
+    private CustomerExcelService customerExcelService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String tag = UUID.randomUUID().toString().substring(0, 8);
+    private String category;
+
+    @BeforeEach
+    void setUp() {
+        category = "import-" + tag;
+        jdbcTemplate.update("INSERT INTO category (name, is_visible) VALUES (?, true)", category);
+    }
+
+    @AfterEach
+    void tearDown() {
+        String emailLike = "%@" + tag + ".test";
+        jdbcTemplate.update("DELETE FROM customer_product WHERE customer_id IN (SELECT customer_id FROM customer WHERE email LIKE ?)", emailLike);
+        jdbcTemplate.update("DELETE FROM customer WHERE email LIKE ?", emailLike);
+        jdbcTemplate.update("DELETE FROM product WHERE category_id IN (SELECT category_id FROM category WHERE name = ?)", category);
+        jdbcTemplate.update("DELETE FROM category WHERE name = ?", category);
+    }
+
+    @Test
+    void reportsFailedRowsAndRegistersProductPerRow() throws IOException {
+        List<String[]> rows = List.of(
+                row("홍길동", "1990-01-01", category, "MODEL-A", "SN-1"),
+                row("김철수", "생일아님", category, "MODEL-A", "SN-2"),
+                row("이영희", "1991/2/3", "없는분류-" + tag, "MODEL-A", "SN-3"),
+                row("박민수", "19920304", category, "MODEL-A", "SN-4"),
+                row("이름이열글자를넘는고객입니다", "1993-01-01", category, "MODEL-B", "SN-5"),
+                row("최지우", "", category, "MODEL-C", "SN-6")
+        );
+
+        ExcelImportResult result = customerExcelService.importRows(workbook(rows));
+
+        assertThat(result.getTotalCount()).isEqualTo(6);
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        // 생년월일 형식 오류 / 없는 카테고리 / 고객명 길이·생년월일 누락(DB 제약조건)
+        assertThat(result.getFailures()).extracting(f -> f.get("row")).containsExactly("3", "4", "6", "7");
+        assertThat(countCustomers()).isEqualTo(2);
+
+        // registerCustomer 와 같이 같은 제품 정보라도 행마다 제품을 등록하고 시리얼번호는 행별로 저장
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product p JOIN category c ON c.category_id = p.category_id WHERE c.name = ?",
+                Integer.class, category)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT cp.serial_number FROM customer_product cp JOIN customer c ON c.customer_id = cp.customer_id " +
+                        "WHERE c.email LIKE ? ORDER BY cp.serial_number",
+                String.class, "%@" + tag + ".test")).containsExactly("SN-1", "SN-4");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void import100kRows() throws IOException {
+        int count = 100_000;
+        List<String[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row("고객" + (i % 10_000), "1990-01-01", category, "MODEL-" + (i % 100), "SN-" + i));
+        }
+        MockMultipartFile file = workbook(rows);
+        rows.clear();
+
+        long start = System.nanoTime();
+        ExcelImportResult result = customerExcelService.importRows(file);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("customer excel import: {} rows in {} ms ({} rows/s)",
+                result.getSuccessCount(), elapsedMillis, result.getSuccessCount() * 1000L / Math.max(elapsedMillis, 1));
+        assertThat(result.getSuccessCount()).isEqualTo(count);
+        assertThat(countCustomers()).isEqualTo(count);
+    }
+
+    private String[] row(String name, String birth, String categoryName, String modelCode, String serial) {
+        return new String[]{name, birth, "010-1234-5678", name.hashCode() + "@" + tag + ".test", "서울시 강남구",
+                categoryName, "테스트 제품", "SURI", modelCode, serial};
+    }
+
+    private int countCustomers() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer WHERE email LIKE ?", Integer.class, "%@" + tag + ".test");
+    }
+
+    private MockMultipartFile workbook(List<String[]> rows) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1000)) {
+            Sheet sheet = workbook.createSheet("고객");
+            writeRow(sheet.createRow(0), HEADER);
+            for (int i = 0; i < rows.size(); i++) {
+                writeRow(sheet.createRow(i + 1), rows.get(i));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return new MockMultipartFile("file", "customers.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    private void writeRow(Row row, String[] values) {
+        for (int c = 0; c < values.length; c++) {
+            row.createCell(c).setCellValue(values[c]);
+        }
+    }
+}
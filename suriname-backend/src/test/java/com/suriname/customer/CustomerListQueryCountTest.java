@@ -0,0 +1,111 @@
+package com.suriname.customer;
+
+import com.suriname.customer.dto.CustomerDetailDto;
+import com.suriname.customer.dto.CustomerListDto;
+import com.suriname.customer.service.CustomerService;
+import com.suriname.global.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CustomerListQueryCountTest {
+
+    private static final int CUSTOMERS = 30;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String tag = UUID.randomUUID().toString().substring(0, 8);
+    private final List<Long> customerIds = new ArrayList<>();
+
+    // 고객마다 고객 제품 2건 (제품은 모두 다름), 나중에 등록한 제품이 최근 제품
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Long categoryId = insert("category", "category_id", Map.of("name", "list-" + tag, "is_visible", true));
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Long customerId = insert("customer", "customer_id", Map.of(
+                    "name", "목록고객" + i, "email", i + "@" + tag + ".test", "phone", "010-0000-0000",
+                    "address", "서울시", "birth", LocalDate.of(1990, 1, 1), "created_at", now, "updated_at", now,
+                    "status", "ACTIVE", "is_deleted", false));
+            customerIds.add(customerId);
+            for (String kind : List.of("old", "new")) {
+                Long productId = insert("product", "product_id", Map.of(
+                        "category_id", categoryId, "product_name", kind + "-" + i, "product_brand", "SEED",
+                        "model_code", kind + "-" + tag + "-" + i, "created_at", now, "updated_at", now,
+                        "is_visible", true, "is_deleted", false));
+                LocalDateTime createdAt = "old".equals(kind) ? now.minusDays(1) : now;
+                insert("customer_product", "customer_product_id", Map.of(
+                        "customer_id", customerId, "product_id", productId, "serial_number", kind + "-" + i,
+                        "created_at", createdAt, "updated_at", createdAt));
+            }
+        }
+    }
+
+    @Test
+    void listLoadsLatestProductsInOneQuery() {
+        AtomicReference<Page<CustomerListDto>> page = new AtomicReference<>();
+        long small = countStatements(() -> customerService.getAll(pageOf(5)));
+        long large = countStatements(() -> page.set(customerService.getAll(pageOf(CUSTOMERS))));
+
+        assertThat(page.get().getContent()).hasSize(CUSTOMERS)
+                .allSatisfy(dto -> assertThat(dto.getProductName()).startsWith("new-"))
+                .allSatisfy(dto -> assertThat(dto.getCategoryName()).isEqualTo("list-" + tag));
+        // 목록 + 건수 + 최근 고객 제품
+        assertThat(large).isEqualTo(small).isEqualTo(3);
+    }
+
+    @Test
+    void detailUsesLatestProduct() {
+        AtomicReference<CustomerDetailDto> detail = new AtomicReference<>();
+        long statements = countStatements(() -> detail.set(customerService.getDetailDto(customerIds.get(0))));
+
+        assertThat(detail.get().getProduct().getProductName()).isEqualTo("new-0");
+        // 고객 + 최근 고객 제품(제품/카테고리 포함)
+        assertThat(statements).isEqualTo(2);
+    }
+
+    private PageRequest pageOf(int size) {
+        // 방금 넣은 고객이 앞에 오도록 최신 id 순
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "customerId"));
+    }
+
+    // 이 스레드의 SQL 만 센다 (스케줄러 등 다른 스레드의 쿼리는 제외)
+    private long countStatements(Runnable action) {
+        SqlStatementCounter.start();
+        action.run();
+        return SqlStatementCounter.stop();
+    }
+
+    private Long insert(String table, String keyColumn, Map<String, Object> values) {
+        return new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName(table)
+                .usingGeneratedKeyColumns(keyColumn)
+                .executeAndReturnKey(values)
+                .longValue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.suriname.delivery;
+
+import com.suriname.delivery.service.DeliveryAnalyticsService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DeliveryAnalyticsServiceTest {
+
+    @Autowired
+    private DeliveryAnalyticsService deliveryAnalyticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void aggregatesPerCarrierInDatabase() {
+        String carrier = "택배-" + UUID.randomUUID().toString().substring(0, 8);
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        BulkSeed seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("WAITING_FOR_DELIVERY", 4, now.minusDays(20));
+        List<Long> requestIds = jdbcTemplate.queryForList(
+                "SELECT request_id FROM request WHERE request_no LIKE ? ORDER BY request_id",
+                Long.class, seed.requestNoPrefix() + "%");
+
+        Map<String, Object> before = deliveryAnalyticsService.getDeliveryDashboard();
+
+        // 30시간(정시), 100시간(4일 초과) 배송완료 + 배송중 + 대기
+        insertDelivery(requestIds.get(0), carrier, "서울시 강남구", "DELIVERED", now.minusDays(5), now.minusDays(5).plusHours(30));
+        insertDelivery(requestIds.get(1), carrier, "부산시 해운대구", "DELIVERED", now.minusDays(10), now.minusDays(10).plusHours(100));
+        insertDelivery(requestIds.get(2), carrier, "서울시 마포구", "SHIPPED", now.minusDays(2), null);
+        insertDelivery(requestIds.get(3), carrier, "제주시", "PENDING", now.minusDays(40), null);
+
+        Map<String, Object> carrierData = (Map<String, Object>) deliveryAnalyticsService
+                .getCarrierPerformanceAnalysis().get(carrier);
+        assertThat(carrierData).containsEntry("totalCount", 4L)
+                .containsEntry("deliveredCount", 2L)
+                .containsEntry("averageDeliveryTime", 65.0)
+                .containsEntry("successRate", 50.0);
+
+        Map<String, Object> after = deliveryAnalyticsService.getDeliveryDashboard();
+        assertThat(delta(after, before, "totalDeliveries")).isEqualTo(4);
+        assertThat(delta(after, before, "recentDeliveries")).isEqualTo(3);
+        assertThat(delta(after, before, "deliveredCount")).isEqualTo(2);
+        assertThat(delta(after, before, "pendingCount")).isEqualTo(1);
+        Map<String, Long> distribution = (Map<String, Long>) ((Map<String, Object>) after.get("carrierStats")).get("distribution");
+        assertThat(distribution).containsEntry(carrier, 4L);
+        assertThat((Map<String, Long>) after.get("regionStats")).containsKeys("서울", "부산");
+
+        String month = now.minusDays(5).format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        assertThat(deliveryAnalyticsService.getMonthlyTrends()).containsKey(month);
+    }
+
+    private long delta(Map<String, Object> after, Map<String, Object> before, String key) {
+        return ((Number) after.get(key)).longValue() - ((Number) before.get(key)).longValue();
+    }
+
+    private void insertDelivery(Long requestId, String carrier, String address, String status,
+                                LocalDateTime createdAt, LocalDateTime completedAt) {
+        jdbcTemplate.update("INSERT INTO delivery (request_id, name, phone, zipcode, address, carrier_name, status, " +
+                        "created_at, updated_at, completed_date) VALUES (?, '시드고객', '010-0000-0000', '06000', ?, ?, ?, ?, ?, ?)",
+                requestId, address, carrier, status, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt),
+                completedAt != null ? Timestamp.valueOf(completedAt) : null);
+    }
+}
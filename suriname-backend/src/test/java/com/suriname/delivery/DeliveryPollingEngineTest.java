@@ -0,0 +1,158 @@
+package com.suriname.delivery;
+
+import com.suriname.delivery.config.DeliveryPollingProperties;
+import com.suriname.delivery.service.DeliveryPollingEngine;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배송 조회 엔진을 로컬 스텁 택배사 서버에 붙여 검증.
+ * 엔진이 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class DeliveryPollingEngineTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryPollingEngineTest.class);
+
+    private static final List<String> CARRIERS = List.of("CJ대한통운", "롯데택배", "한진택배", "로젠택배", "우체국택배");
+
+    private static StubCourierServer stub;
+
+    @Autowired
+    private DeliveryPollingEngine deliveryPollingEngine;
+
+    @Autowired
+    private DeliveryPollingProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @DynamicPropertySource
+    static void courierProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = new StubCourierServer();
+        registry.add("courier.api.base-url", stub::baseUrl);
+        registry.add("delivery.polling.initial-delay", () -> "3600000"); // 스케줄러가 테스트 도중 끼어들지 않도록
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stub.reset();
+        seed = new BulkSeed(jdbcTemplate).base();
+        properties.setMinInterval(Duration.ofMinutes(20));
+        properties.setBatchSize(50);
+        properties.setConcurrency(4);
+        properties.setRatePerSecond(1000);
+        properties.getCarriers().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seed.cleanup("DELETE FROM delivery WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void pollsAllCarriersWithinLimitsAndSkipsRecentlyPolled() {
+        seedShipments(500);
+        stub.latency("한진택배", 50);
+
+        DeliveryPollingEngine.PollSummary first = deliveryPollingEngine.pollOnce();
+
+        assertThat(first.targets()).isEqualTo(500);
+        assertThat(first.polled()).isEqualTo(500);
+        assertThat(first.updated()).isEqualTo(500);
+        assertThat(countByStatus("DELIVERED")).isEqualTo(500);
+        // 택배사별 동시 호출 제한 준수
+        CARRIERS.forEach(carrier -> assertThat(stub.maxInFlight(carrier)).isLessThanOrEqualTo(4));
+
+        // 방금 조회한 배송은 다시 호출하지 않음
+        jdbcTemplate.update("UPDATE delivery SET status = 'SHIPPED' WHERE request_id IN "
+                + "(SELECT request_id FROM request WHERE request_no LIKE ?)", seed.requestNoPrefix() + "%");
+        int callsBefore = stub.totalRequests();
+        DeliveryPollingEngine.PollSummary second = deliveryPollingEngine.pollOnce();
+
+        assertThat(second.targets()).isZero();
+        assertThat(stub.totalRequests()).isEqualTo(callsBefore);
+    }
+
+    @Test
+    void perCarrierRateLimitIsApplied() {
+        seedShipments(50); // 택배사당 10건
+        DeliveryPollingProperties.CarrierLimit limit = new DeliveryPollingProperties.CarrierLimit();
+        limit.setRatePerSecond(20.0);
+        properties.getCarriers().put("CJ대한통운", limit);
+
+        DeliveryPollingEngine.PollSummary summary = deliveryPollingEngine.pollOnce();
+
+        // 10건을 초당 20건으로 제한하면 최소 약 450ms
+        assertThat(summary.polled()).isEqualTo(50);
+        assertThat(summary.elapsedMillis()).isGreaterThanOrEqualTo(400);
+    }
+
+    /**
+     * 활성 배송 10,000건 기준 초당 조회 건수 측정 (-Dbenchmark=true 일 때만 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void throughputAt10kActiveShipments() {
+        seedShipments(10_000);
+        CARRIERS.forEach(carrier -> stub.latency(carrier, 20));
+        properties.setConcurrency(32);
+        properties.setRatePerSecond(2000);
+        properties.setBatchSize(200);
+
+        DeliveryPollingEngine.PollSummary summary = deliveryPollingEngine.pollOnce();
+
+        log.info("[benchmark] active={} polled={} elapsed={}ms throughput={} deliveries/s",
+                summary.targets(), summary.polled(), summary.elapsedMillis(), String.format("%.1f", summary.perSecond()));
+        assertThat(summary.polled()).isEqualTo(10_000);
+    }
+
+    private void seedShipments(int count) {
+        seed.requests("WAITING_FOR_DELIVERY", count, LocalDateTime.now().minusDays(1));
+        jdbcTemplate.update("""
+                INSERT INTO delivery (request_id, name, phone, zipcode, address, tracking_no, carrier_name,
+                                      status, created_at, updated_at)
+                SELECT r.request_id, '시드고객', '010-0000-0000', '00000', '서울시', CONCAT('TRK', r.request_id),
+                       CASE MOD(r.request_id, 5)
+                            WHEN 0 THEN 'CJ대한통운' WHEN 1 THEN '롯데택배' WHEN 2 THEN '한진택배'
+                            WHEN 3 THEN '로젠택배' ELSE '우체국택배' END,
+                       'SHIPPED', r.created_at, r.created_at
+                FROM request r
+                WHERE r.request_no LIKE ?
+                """, seed.requestNoPrefix() + "%");
+    }
+
+    private long countByStatus(String status) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM delivery d JOIN request r ON r.request_id = d.request_id
+                WHERE r.request_no LIKE ? AND d.status = ?
+                """, Long.class, seed.requestNoPrefix() + "%", status);
+    }
+}
@@ -0,0 +1,133 @@
+package com.suriname.delivery;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suriname.global.security.provider.JwtTokenProvider;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실시간 스트림은 다른 API 와 같이 Authorization 헤더로 구독하고,
+ * 스냅샷에 요청 상태별 건수가 있어 REQUEST 변경을 반영할 수 있는지,
+ * 스냅샷이 캐시된 집계가 아니라 구독 시점의 커밋된 상태를 읽는지 검증.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DeliveryRealtimeStreamTest {
+
+    private static final String STREAM = "/api/delivery/analytics/realtime/stream";
+    private static final String REALTIME = "/api/delivery/analytics/realtime";
+    // 다른 테스트 데이터와 겹치지 않는 집계 날짜
+    private static final LocalDate ROLLUP_DATE = LocalDate.of(2001, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("RECEIVED", 1, LocalDateTime.now());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM request_daily_rollup WHERE stat_date = ?", ROLLUP_DATE);
+        seed.cleanup();
+    }
+
+    @Test
+    void rejectsSubscriptionWithoutToken() throws Exception {
+        mockMvc.perform(get(STREAM).accept(MediaType.TEXT_EVENT_STREAM)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bearerSubscriptionReceivesSnapshotWithRequestStatusCounts() throws Exception {
+        String token = token();
+
+        MvcResult result = mockMvc.perform(get(STREAM)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 이벤트 이름과 데이터가 나뉘어 쓰일 수 있으므로 데이터 끝(빈 줄)까지 기다림
+        String body = awaitBody(result.getResponse(), "}\n\n");
+        assertThat(body).startsWith("event:snapshot").contains("\"requestStatusCounts\"").contains("\"RECEIVED\":");
+    }
+
+    @Test
+    void snapshotReadsCommittedCountsInsteadOfCachedDashboard() throws Exception {
+        String token = token();
+
+        // 폴링 응답으로 집계를 캐시에 올려 둠
+        String polled = mockMvc.perform(get(REALTIME).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long cached = objectMapper.readTree(polled).at("/data/requestStatusCounts/RECEIVED").asLong();
+
+        // 캐시 무효화 없이 집계가 바뀐 상황 (무효화보다 먼저 구독한 경우)
+        jdbcTemplate.update("INSERT INTO request_daily_rollup (stat_date, status, request_count, revenue, revenue_request_count) "
+                + "VALUES (?, 'RECEIVED', 5, 0, 0)", ROLLUP_DATE);
+
+        MvcResult result = mockMvc.perform(get(STREAM)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBody(result.getResponse(), "}\n\n");
+        String data = body.substring(body.indexOf("data:") + "data:".length(), body.indexOf("\n\n"));
+        JsonNode snapshot = objectMapper.readTree(data);
+        assertThat(snapshot.at("/requestStatusCounts/RECEIVED").asLong()).isEqualTo(cached + 5);
+    }
+
+    private String token() {
+        String loginId = jdbcTemplate.queryForObject("SELECT login_id FROM employee WHERE employee_id = ?",
+                String.class, seed.employeeId());
+        return jwtTokenProvider.createToken(loginId, "ENGINEER");
+    }
+
+    private String awaitBody(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            String body = response.getContentAsString();
+            if (body.contains(expected)) {
+                return body;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("스트림에 " + expected + " 가 오지 않았습니다: " + response.getContentAsString());
+    }
+}
@@ -0,0 +1,100 @@
+package com.suriname.delivery;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 택배사 배송 조회 게이트웨이 스텁
+ * GET /carriers/{carrier}/tracking/{trackingNo} -> {"status": ...}
+ * 택배사별 응답 지연과 최대 동시 요청 수를 기록한다.
+ */
+public class StubCourierServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Long> latencyMillis = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger totalRequests = new AtomicInteger();
+    private volatile String status = "배송완료";
+
+    public StubCourierServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/carriers/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void latency(String carrier, long millis) {
+        latencyMillis.put(carrier, millis);
+    }
+
+    public void status(String status) {
+        this.status = status;
+    }
+
+    public int maxInFlight(String carrier) {
+        AtomicInteger max = maxInFlight.get(carrier);
+        return max == null ? 0 : max.get();
+    }
+
+    public int totalRequests() {
+        return totalRequests.get();
+    }
+
+    public void reset() {
+        latencyMillis.clear();
+        inFlight.clear();
+        maxInFlight.clear();
+        totalRequests.set(0);
+        status = "배송완료";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // /carriers/{carrier}/tracking/{trackingNo}
+        String[] parts = exchange.getRequestURI().getRawPath().split("/");
+        String carrier = URLDecoder.decode(parts[2], StandardCharsets.UTF_8);
+        String trackingNo = URLDecoder.decode(parts[4], StandardCharsets.UTF_8);
+
+        totalRequests.incrementAndGet();
+        int current = inFlight.computeIfAbsent(carrier, k -> new AtomicInteger()).incrementAndGet();
+        maxInFlight.computeIfAbsent(carrier, k -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+        try {
+            long delay = latencyMillis.getOrDefault(carrier, 0L);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            byte[] body = ("{\"carrierName\":\"" + carrier + "\",\"trackingNo\":\"" + trackingNo
+                    + "\",\"status\":\"" + status + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            inFlight.get(carrier).decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.suriname.export;
+
+import com.suriname.customer.dto.CustomerSearchDto;
+import com.suriname.export.service.ExportService;
+import com.suriname.export.writer.ExportFormat;
+import com.suriname.export.writer.ExportWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 50만 건 내보내기가 고정 힙(256MB) 안에서 끝나는지 확인한다.
+ * ./gradlew exportHeapTest 로 실행 (-Xmx256m, -Dbenchmark=true).
+ * 시드 데이터가 힙을 차지하지 않도록 H2 를 파일 모드로 띄운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/export-heap-test/db;CACHE_SIZE=8192",
+        "spring.jpa.show-sql=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExportHeapTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportHeapTest.class);
+
+    private static final int ROWS = 500_000;
+    private static final long HEAP_LIMIT = 256L * 1024 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String tag = UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date birth = Date.valueOf(LocalDate.of(1990, 1, 1));
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{"고객" + (i % 10_000), i + "@" + tag + ".test", "010-1234-5678",
+                    "서울시 강남구 테헤란로 " + i, birth, now, now});
+            if (batch.size() == 1000 || i == ROWS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO customer (name, email, phone, address, birth, status, " +
+                        "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 'ACTIVE', false, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM customer WHERE email LIKE ?", "%@" + tag + ".test");
+    }
+
+    @Test
+    void exportsHalfMillionRowsWithinFixedHeap() throws IOException {
+        assumeTrue(Runtime.getRuntime().maxMemory() <= HEAP_LIMIT, "-Xmx256m 이하에서만 의미가 있음");
+
+        CustomerSearchDto dto = new CustomerSearchDto();
+        dto.setEmail("@" + tag + ".test");
+
+        for (ExportFormat format : ExportFormat.values()) {
+            CountingOutputStream out = new CountingOutputStream();
+            long start = System.nanoTime();
+            long count;
+            try (ExportWriter writer = format.open(out, "고객")) {
+                count = exportService.exportCustomers(dto, writer);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            log.info("{} export: {} rows, {} bytes in {} ms (max heap {} MB)",
+                    format, count, out.bytes, elapsedMillis, Runtime.getRuntime().maxMemory() / 1024 / 1024);
+            assertThat(count).isEqualTo(ROWS);
+            if (format == ExportFormat.CSV) {
+                // 헤더 + 데이터 행
+                assertThat(out.lines).isEqualTo(ROWS + 1);
+            }
+        }
+    }
+
+    // 결과를 보관하지 않고 크기만 센다
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+        long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') lines++;
+            }
+        }
+    }
+}
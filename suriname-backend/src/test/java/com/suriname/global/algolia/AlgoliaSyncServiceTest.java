@@ -0,0 +1,172 @@
+package com.suriname.global.algolia;
+
+import com.suriname.customer.dto.CustomerRegisterDto;
+import com.suriname.customer.service.CustomerService;
+import com.suriname.product.dto.CustomerProductDto;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Algolia 동기화를 로컬 스텁 Algolia 서버에 붙여 검증.
+ * 주기 실행은 사실상 끄고 (poll-interval 1시간) 테스트에서 직접 호출한다.
+ */
+@SpringBootTest(properties = {
+        "algolia.app-id=test-app",
+        "algolia.admin-key=test-admin-key",
+        "algolia.reconcile-on-startup=false",
+        "algolia.sync.poll-interval=3600000",
+        "algolia.batch-size=2"
+})
+@ActiveProfiles("test")
+class AlgoliaSyncServiceTest {
+
+    private static StubAlgoliaServer stub;
+
+    @Autowired
+    private AlgoliaSyncService algoliaSyncService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+    private final List<Long> registered = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void algoliaProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = new StubAlgoliaServer();
+        registry.add("algolia.host", stub::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        // 이전 테스트의 변경 기록은 비우고 시작
+        algoliaSyncService.syncChanges();
+        stub.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long customerId : registered) {
+            jdbcTemplate.update("DELETE FROM customer_product WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM customer WHERE customer_id = ?", customerId);
+        }
+        seed.cleanup();
+        jdbcTemplate.update("DELETE FROM algolia_change");
+    }
+
+    @Test
+    void pushesOnlyRecordedChanges() {
+        Long customerId = register("동기화테스트");
+        Long customerProductId = jdbcTemplate.queryForObject(
+                "SELECT customer_product_id FROM customer_product WHERE customer_id = ?", Long.class, customerId);
+        assertThat(pendingChanges()).isPositive();
+
+        algoliaSyncService.syncChanges();
+
+        assertThat(stub.object("customers", customerProductId.toString()).path("customerName").asText())
+                .isEqualTo("동기화테스트");
+        assertThat(stub.object("customers", customerProductId.toString()).path(AlgoliaSyncService.CHECKSUM).asText())
+                .isNotBlank();
+        // JDBC 로 넣은 시드 고객은 변경 기록이 없으므로 보내지 않음
+        assertThat(stub.operations()).containsExactly("customers updateObject " + customerProductId);
+        assertThat(pendingChanges()).isZero();
+
+        customerService.softDelete(customerId);
+        algoliaSyncService.syncChanges();
+
+        assertThat(stub.object("customers", customerProductId.toString())).isNull();
+        assertThat(stub.operations()).endsWith("customers deleteObject " + customerProductId);
+    }
+
+    @Test
+    void reconcileFixesOnlyDriftedDocuments() {
+        String seedObjectId = seed.customerProductId().toString();
+
+        algoliaSyncService.reconcile();
+        assertThat(stub.object("customers", seedObjectId).path("customerName").asText()).isEqualTo("시드고객");
+        assertThat(stub.object("products", seedProductId().toString())).isNotNull();
+
+        // 변경 기록 없이 바뀐 DB 값과 DB 에 없는 문서
+        jdbcTemplate.update("UPDATE customer SET name = ? WHERE customer_id = ?", "시드고객변경", seed.customerId());
+        stub.put("customers", "999999999", Map.of("customerName", "지워진고객", AlgoliaSyncService.CHECKSUM, "x"));
+        stub.clearOperations();
+
+        algoliaSyncService.reconcile();
+
+        assertThat(stub.object("customers", seedObjectId).path("customerName").asText()).isEqualTo("시드고객변경");
+        assertThat(stub.object("customers", "999999999")).isNull();
+        assertThat(stub.operations()).containsExactlyInAnyOrder(
+                "customers updateObject " + seedObjectId,
+                "customers deleteObject 999999999");
+
+        // 이미 같으면 보내지 않음
+        stub.clearOperations();
+        algoliaSyncService.reconcile();
+        assertThat(stub.operations()).isEmpty();
+    }
+
+    @Test
+    void rebuildSwapsTemporaryIndex() {
+        stub.put("customers", "999999999", Map.of("customerName", "지워진고객"));
+
+        algoliaSyncService.rebuild();
+
+        assertThat(stub.operations())
+                .filteredOn(op -> op.contains("Object "))
+                .allMatch(op -> op.startsWith("customers_tmp ") || op.startsWith("products_tmp "));
+        assertThat(stub.operations()).contains("customers_tmp move customers", "products_tmp move products");
+        assertThat(stub.exists("customers_tmp")).isFalse();
+        assertThat(stub.object("customers", seed.customerProductId().toString())).isNotNull();
+        assertThat(stub.object("customers", "999999999")).isNull();
+    }
+
+    private Long register(String name) {
+        CustomerRegisterDto dto = new CustomerRegisterDto();
+        dto.setName(name);
+        dto.setPhone("010-2468-1357");
+        dto.setEmail("algolia@example.com");
+        dto.setAddress("서울시");
+        dto.setBirth(LocalDate.of(1990, 1, 1));
+        dto.setProduct(CustomerProductDto.builder().productId(seedProductId()).serialNumber("SN-ALGOLIA").build());
+
+        Long customerId = customerService.registerCustomer(dto).get("customerId");
+        registered.add(customerId);
+        return customerId;
+    }
+
+    private Long seedProductId() {
+        return jdbcTemplate.queryForObject(
+                "SELECT product_id FROM customer_product WHERE customer_product_id = ?", Long.class,
+                seed.customerProductId());
+    }
+
+    private int pendingChanges() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM algolia_change", Integer.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.suriname.global.algolia;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Algolia Search API 스텁 (인덱스를 메모리에 둠)
+ * POST /1/indexes/{index}/batch, PUT .../settings, POST .../operation (move), POST .../browse (커서), GET .../task/{id}
+ * batch 로 받은 작업은 "인덱스 action objectID" 형태로 기록한다.
+ */
+public class StubAlgoliaServer implements AutoCloseable {
+
+    private static final String PREFIX = "/1/indexes/";
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, JsonNode>> indexes = new ConcurrentHashMap<>();
+    private final List<String> operations = new CopyOnWriteArrayList<>();
+    private final AtomicLong taskIds = new AtomicLong();
+
+    public StubAlgoliaServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PREFIX, this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public JsonNode object(String index, String objectId) {
+        return indexes.getOrDefault(index, Map.of()).get(objectId);
+    }
+
+    public boolean exists(String index) {
+        return indexes.containsKey(index);
+    }
+
+    public void put(String index, String objectId, Map<String, Object> attributes) {
+        ObjectNode node = objectMapper.valueToTree(attributes);
+        node.put("objectID", objectId);
+        indexes.computeIfAbsent(index, i -> new ConcurrentHashMap<>()).put(objectId, node);
+    }
+
+    // 기록된 batch 작업과 move
+    public List<String> operations() {
+        return operations;
+    }
+
+    public void clearOperations() {
+        operations.clear();
+    }
+
+    public void reset() {
+        indexes.clear();
+        operations.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String[] path = exchange.getRequestURI().getPath().substring(PREFIX.length()).split("/");
+            String index = path[0];
+            String command = path.length > 1 ? path[1] : "";
+            JsonNode body = objectMapper.readTree(in.readAllBytes());
+
+            switch (exchange.getRequestMethod() + " " + command) {
+                case "POST batch" -> respond(exchange, 200, batch(index, body));
+                case "PUT settings" -> {
+                    indexes.computeIfAbsent(index, i -> new ConcurrentHashMap<>());
+                    respond(exchange, 200, task());
+                }
+                case "POST operation" -> respond(exchange, 200, move(index, body));
+                case "POST browse" -> {
+                    if (!indexes.containsKey(index)) {
+                        respond(exchange, 404, objectMapper.createObjectNode().put("message", "Index does not exist"));
+                    } else {
+                        respond(exchange, 200, browse(index, body));
+                    }
+                }
+                case "GET task" -> respond(exchange, 200, objectMapper.createObjectNode().put("status", "published"));
+                default -> respond(exchange, 404, objectMapper.createObjectNode().put("message", "Not found"));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ObjectNode batch(String index, JsonNode body) {
+        Map<String, JsonNode> objects = indexes.computeIfAbsent(index, i -> new ConcurrentHashMap<>());
+        for (JsonNode request : body.path("requests")) {
+            String action = request.path("action").asText();
+            String objectId = request.path("body").path("objectID").asText();
+            operations.add(index + " " + action + " " + objectId);
+            if ("deleteObject".equals(action)) {
+                objects.remove(objectId);
+            } else {
+                objects.put(objectId, request.path("body"));
+            }
+        }
+        return task();
+    }
+
+    private ObjectNode move(String index, JsonNode body) {
+        String destination = body.path("destination").asText();
+        operations.add(index + " move " + destination);
+        Map<String, JsonNode> source = indexes.remove(index);
+        indexes.put(destination, source != null ? source : new ConcurrentHashMap<>());
+        return task();
+    }
+
+    // 커서는 다음 시작 위치 (objectID 순)
+    private ObjectNode browse(String index, JsonNode body) {
+        List<String> ids = new ArrayList<>(indexes.get(index).keySet());
+        ids.sort(null);
+        int from = body.hasNonNull("cursor") ? Integer.parseInt(body.get("cursor").asText()) : 0;
+        int to = Math.min(ids.size(), from + body.path("hitsPerPage").asInt(1000));
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode hits = response.putArray("hits");
+        for (String id : ids.subList(from, to)) {
+            hits.add(indexes.get(index).get(id));
+        }
+        if (to < ids.size()) {
+            response.put("cursor", String.valueOf(to));
+        }
+        return response;
+    }
+
+    private ObjectNode task() {
+        return objectMapper.createObjectNode().put("taskID", taskIds.incrementAndGet());
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] response = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.suriname.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseCacheTest {
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        ResponseCache<String, Integer> cache = new ResponseCache<>("test", Duration.ofMinutes(1), 10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("k", () -> {
+                        sleep(200);
+                        return loads.incrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        ResponseCache.Stats stats = cache.stats();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(15);
+        assertThat(stats.totalLoadTimeNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void reloadsAfterTtlOrInvalidation() {
+        ResponseCache<String, Integer> cache = new ResponseCache<>("test", Duration.ofMillis(50), 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.get("k", loads::incrementAndGet)).isEqualTo(1);
+        sleep(80);
+        assertThat(cache.get("k", loads::incrementAndGet)).isEqualTo(2);
+        cache.invalidateAll();
+        assertThat(cache.get("k", loads::incrementAndGet)).isEqualTo(3);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        ResponseCache<String, Integer> cache = new ResponseCache<>("test", Duration.ofMinutes(1), 10);
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("집계 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("k", () -> 7)).isEqualTo(7);
+        assertThat(cache.stats().loadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void boundsNumberOfKeys() {
+        ResponseCache<Integer, Integer> cache = new ResponseCache<>("test", Duration.ofMinutes(1), 3);
+        for (int i = 0; i < 10; i++) {
+            cache.get(i, () -> 0);
+        }
+
+        assertThat(cache.stats().size()).isEqualTo(3);
+        assertThat(cache.stats().evictionCount()).isEqualTo(7);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.suriname.global.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpClientTest {
+
+    private HttpServer server;
+    private volatile long latencyMillis;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+
+    private OutboundHttpClients clients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (clients != null) {
+            clients.destroy();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void slowUpstreamTimesOutAndOpensCircuit() throws InterruptedException {
+        OutboundHttpProperties.Client settings = new OutboundHttpProperties.Client();
+        settings.setReadTimeout(Duration.ofMillis(200));
+        settings.setFailureThreshold(2);
+        settings.setOpenDuration(Duration.ofMillis(500));
+        RestTemplate rest = restTemplate(settings);
+        latencyMillis = 2000;
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> rest.getForObject(url(), String.class)).isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+
+        // 차단 중에는 상대 서버로 요청을 보내지 않음
+        assertThatThrownBy(() -> rest.getForObject(url(), String.class)).isInstanceOf(OutboundCallRejectedException.class);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(clients.client("test").circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 차단 시간이 지나면 시험 호출이 성공하면서 다시 닫힘
+        latencyMillis = 0;
+        Thread.sleep(600);
+        assertThat(rest.getForObject(url(), String.class)).isEqualTo("pong");
+        assertThat(clients.client("test").circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(clients.client("test").circuitRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void sequentialCallsReusePooledConnection() {
+        RestTemplate rest = restTemplate(new OutboundHttpProperties.Client());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(rest.getForObject(url(), String.class)).isEqualTo("pong");
+        }
+
+        assertThat(requests.get()).isEqualTo(20);
+        assertThat(remotePorts).hasSize(1);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() throws Exception {
+        OutboundHttpProperties.Client settings = new OutboundHttpProperties.Client();
+        settings.setMaxConcurrentCalls(2);
+        settings.setMaxWait(Duration.ofMillis(50));
+        RestTemplate rest = restTemplate(settings);
+        latencyMillis = 500;
+
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 5; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        return rest.getForObject(url(), String.class);
+                    } catch (OutboundCallRejectedException e) {
+                        return "rejected";
+                    }
+                }));
+            }
+        }
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get());
+        }
+        assertThat(results).filteredOn("pong"::equals).hasSize(2);
+        assertThat(results).filteredOn("rejected"::equals).hasSize(3);
+        assertThat(clients.client("test").bulkheadRejections()).isEqualTo(3);
+    }
+
+    private RestTemplate restTemplate(OutboundHttpProperties.Client settings) {
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.getClients().put("test", settings);
+        clients = new OutboundHttpClients(properties, new RestTemplateBuilder());
+        return clients.restTemplate("test");
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        remotePorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.suriname.global.realtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RealtimeStatusHubTest {
+
+    private ThreadPoolTaskExecutor pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sendsSnapshotOnSubscribe() {
+        RealtimeStatusHub hub = hub(new SyncTaskExecutor(), 100);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        hub.subscribe(emitter, () -> Map.of("pendingCount", 3));
+
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0).name()).isEqualTo("snapshot");
+        assertThat(emitter.events.get(0).data()).isEqualTo(Map.of("pendingCount", 3));
+    }
+
+    @Test
+    void coalescesBurstIntoOneDelta() {
+        RealtimeStatusHub hub = hub(new SyncTaskExecutor(), 100);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(emitter, Map::of);
+
+        hub.publish(delta(StatusDelta.Type.REQUEST, 1L, "RECEIVED", "REPAIRING"));
+        hub.publish(delta(StatusDelta.Type.DELIVERY, 5L, "PENDING", "SHIPPED"));
+        hub.publish(delta(StatusDelta.Type.REQUEST, 1L, "REPAIRING", "WAITING_FOR_PAYMENT"));
+        // 되돌아간 변경은 보내지 않음
+        hub.publish(delta(StatusDelta.Type.REQUEST, 2L, "RECEIVED", "REPAIRING"));
+        hub.publish(delta(StatusDelta.Type.REQUEST, 2L, "REPAIRING", "RECEIVED"));
+        hub.flush();
+
+        assertThat(emitter.events).extracting(Event::name).containsExactly("snapshot", "delta");
+        List<?> deltas = (List<?>) emitter.events.get(1).data();
+        assertThat(deltas).hasSize(2).anySatisfy(d -> {
+            StatusDelta delta = (StatusDelta) d;
+            assertThat(delta.type()).isEqualTo(StatusDelta.Type.REQUEST);
+            assertThat(delta.id()).isEqualTo(1L);
+            assertThat(delta.previous()).isEqualTo("RECEIVED");
+            assertThat(delta.status()).isEqualTo("WAITING_FOR_PAYMENT");
+        }).anySatisfy(d -> assertThat(((StatusDelta) d).type()).isEqualTo(StatusDelta.Type.DELIVERY));
+
+        // 보낼 변경이 없으면 아무것도 보내지 않음
+        hub.flush();
+        assertThat(emitter.events).hasSize(2);
+    }
+
+    @Test
+    void overflowingConnectionGetsSnapshotInsteadOfDeltas() {
+        RealtimeStatusHub hub = hub(new SyncTaskExecutor(), 3);
+        RecordingEmitter emitter = new RecordingEmitter();
+        AtomicInteger snapshots = new AtomicInteger();
+        hub.subscribe(emitter, snapshots::incrementAndGet);
+
+        for (long id = 0; id < 10; id++) {
+            hub.publish(delta(StatusDelta.Type.DELIVERY, id, "PENDING", "SHIPPED"));
+        }
+        hub.flush();
+
+        assertThat(emitter.events).extracting(Event::name).containsExactly("snapshot", "snapshot");
+        assertThat(snapshots).hasValue(2);
+    }
+
+    @Test
+    void slowConnectionDoesNotHoldBackOthers() throws InterruptedException {
+        pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(2);
+        pool.initialize();
+        RealtimeStatusHub hub = hub(pool, 100);
+
+        RecordingEmitter fast = new RecordingEmitter();
+        RecordingEmitter slow = new RecordingEmitter();
+        hub.subscribe(fast, Map::of);
+        hub.subscribe(slow, Map::of);
+        awaitUntil(() -> fast.events.size() == 1 && slow.events.size() == 1);
+
+        CountDownLatch release = new CountDownLatch(1);
+        slow.block = release;
+        hub.publish(delta(StatusDelta.Type.DELIVERY, 7L, "PENDING", "SHIPPED"));
+        awaitUntil(() -> {
+            hub.flush();
+            return fast.events.size() == 2 && slow.attempts.get() == 2;
+        });
+        hub.publish(delta(StatusDelta.Type.DELIVERY, 7L, "SHIPPED", "DELIVERED"));
+        awaitUntil(() -> {
+            hub.flush();
+            return fast.events.size() == 3;
+        });
+
+        // 막힌 연결은 첫 전송만 진행 중이고 이후 변경은 버퍼에 남아 있음
+        assertThat(slow.attempts).hasValue(2);
+        release.countDown();
+        awaitUntil(() -> {
+            hub.flush();
+            return slow.events.size() == 3;
+        });
+
+        StatusDelta last = (StatusDelta) ((List<?>) slow.events.get(2).data()).get(0);
+        assertThat(last.status()).isEqualTo("DELIVERED");
+        assertThat(fast.events).extracting(Event::name).containsExactly("snapshot", "delta", "delta");
+    }
+
+    @Test
+    void dropsDisconnectedConnection() {
+        RealtimeStatusHub hub = hub(new SyncTaskExecutor(), 100);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(emitter, Map::of);
+        assertThat(hub.connectionCount()).isEqualTo(1);
+
+        emitter.broken = true;
+        hub.publish(delta(StatusDelta.Type.REQUEST, 1L, "RECEIVED", "REPAIRING"));
+        hub.flush();
+
+        assertThat(hub.connectionCount()).isZero();
+    }
+
+    // 조건이 맞을 때까지 대기 (조건 안에서 flush 를 다시 호출)
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).as("대기 조건").isTrue();
+    }
+
+    private static RealtimeStatusHub hub(TaskExecutor executor, int maxPending) {
+        RealtimeStreamProperties properties = new RealtimeStreamProperties();
+        properties.setMaxPending(maxPending);
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        return new RealtimeStatusHub(properties, executor);
+    }
+
+    private static StatusDelta delta(StatusDelta.Type type, Long id, String previous, String status) {
+        return new StatusDelta(type, id, previous, status, System.currentTimeMillis());
+    }
+
+    private record Event(String name, Object data) {}
+
+    // 보낸 이벤트를 기록하는 emitter (응답에 쓰지 않음)
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<Event> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        volatile CountDownLatch block;
+        volatile boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts.incrementAndGet();
+            if (broken) throw new IOException("연결 끊김");
+            CountDownLatch latch = block;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new HttpMessageNotWritableException("중단됨");
+                }
+            }
+
+            String name = null;
+            Object data = null;
+            for (var part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    if (text.startsWith("event:")) name = text.substring(6, text.indexOf('\n'));
+                    if (text.startsWith(":")) name = "comment";
+                } else {
+                    data = part.getData();
+                }
+            }
+            events.add(new Event(name, data));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.suriname.global.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void matchesPartialSyllableAndChoseong() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("name", List.of("홍길동")));
+        index.put(2L, Map.of("name", List.of("홍수아")));
+        index.put(3L, Map.of("name", List.of("김과장")));
+
+        assertThat(index.search(Map.of("name", List.of("홍")))).containsExactly(1L, 2L);
+        // 입력 중인 글자 (길 → 기)
+        assertThat(index.search(Map.of("name", List.of("홍기")))).containsExactly(1L);
+        // 겹모음 입력 중 (과 → 고)
+        assertThat(index.search(Map.of("name", List.of("김고")))).containsExactly(3L);
+        assertThat(index.search(Map.of("name", List.of("ㅎㄱㄷ")))).containsExactly(1L);
+        assertThat(index.search(Map.of("name", List.of("ㄱㄷ")))).containsExactly(1L);
+        assertThat(index.search(Map.of("name", List.of("길동홍")))).isEmpty();
+    }
+
+    @Test
+    void matchesWholeSyllablesExceptTheLastOne() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("name", List.of("가사")));
+        index.put(2L, Map.of("name", List.of("기미")));
+        index.put(3L, Map.of("name", List.of("김미")));
+
+        // 자모가 음절 경계를 넘어 맞지 않음
+        assertThat(index.search(Map.of("name", List.of("갓")))).isEmpty();
+        assertThat(index.search(Map.of("name", List.of("김")))).containsExactly(3L);
+        assertThat(index.search(Map.of("name", List.of("기")))).containsExactly(2L, 3L);
+        // 앞 글자는 음절이 같아야 함
+        assertThat(index.search(Map.of("name", List.of("기ㅁ")))).containsExactly(2L);
+        assertThat(index.search(Map.of("name", List.of("김ㅁ")))).containsExactly(3L);
+    }
+
+    @Test
+    void ignoresCaseAndPunctuation() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("phone", List.of("010-1234-5678"), "modelCode", List.of("SM-G991N")));
+
+        assertThat(index.search(Map.of("phone", List.of("01012345678")))).containsExactly(1L);
+        assertThat(index.search(Map.of("phone", List.of("1234 56")))).containsExactly(1L);
+        assertThat(index.search(Map.of("modelCode", List.of("g991")))).containsExactly(1L);
+        assertThat(index.search(Map.of("modelCode", List.of("1234")))).isEmpty();
+    }
+
+    @Test
+    void combinesFieldsWithAndAndValuesWithOr() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("name", List.of("홍길동"), "brand", List.of("삼성", "LG")));
+        index.put(2L, Map.of("name", List.of("홍수아"), "brand", List.of("애플")));
+        index.put(3L, Map.of("name", List.of("김철수"), "brand", List.of("애플")));
+
+        assertThat(index.search(Map.of("name", List.of("홍"), "brand", List.of("애플")))).containsExactly(2L);
+        assertThat(index.search(Map.of("brand", List.of("lg", "애플")))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("name", List.of("홍길동")));
+        index.put(1L, Map.of("name", List.of("임꺽정")));
+
+        assertThat(index.search(Map.of("name", List.of("홍길동")))).isEmpty();
+        assertThat(index.search(Map.of("name", List.of("꺽정")))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search(Map.of("name", List.of("꺽정")))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
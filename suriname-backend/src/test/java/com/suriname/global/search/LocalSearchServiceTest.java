@@ -0,0 +1,182 @@
+package com.suriname.global.search;
+
+import com.suriname.customer.dto.CustomerListDto;
+import com.suriname.customer.dto.CustomerRegisterDto;
+import com.suriname.customer.dto.CustomerSearchDto;
+import com.suriname.customer.service.CustomerService;
+import com.suriname.product.dto.CustomerProductDto;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LocalSearchServiceTest {
+
+    @Autowired
+    private LocalSearchService localSearchService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+    private final List<Long> registered = new ArrayList<>();
+    private final List<Long> extraProducts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        // JDBC 시드는 엔티티 콜백을 거치지 않으므로 전체 재구성
+        localSearchService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long customerId : registered) {
+            jdbcTemplate.update("DELETE FROM customer_product WHERE customer_id = ?", customerId);
+            jdbcTemplate.update("DELETE FROM customer WHERE customer_id = ?", customerId);
+        }
+        for (Long productId : extraProducts) {
+            jdbcTemplate.update("DELETE FROM customer_product WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        }
+        seed.cleanup();
+    }
+
+    @Test
+    void searchesCustomersFromIndex() {
+        CustomerSearchDto byChoseong = new CustomerSearchDto();
+        byChoseong.setCustomerName("ㅅㄷㄱ");
+        byChoseong.setPhone("0100000");
+
+        assertThat(localSearchService.isReady()).isTrue();
+        assertThat(localSearchService.searchCustomers(byChoseong)).hasValueSatisfying(ids ->
+                assertThat(ids).contains(seed.customerId()));
+
+        Page<CustomerListDto> page = customerService.searchCustomerDtos(byChoseong, PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(CustomerListDto::getCustomerId).contains(seed.customerId());
+        assertThat(page.getContent()).filteredOn(dto -> dto.getCustomerId().equals(seed.customerId()))
+                .extracting(CustomerListDto::getProductName).containsExactly("시드 제품");
+
+        // 카테고리 정확히 일치 조건은 DB 검색으로
+        byChoseong.setCategoryName("seed");
+        assertThat(localSearchService.searchCustomers(byChoseong)).isEmpty();
+    }
+
+    @Test
+    void indexesCustomersWithoutProducts() {
+        LocalDateTime now = LocalDateTime.now();
+        Long customerId = new SimpleJdbcInsert(jdbcTemplate).withTableName("customer")
+                .usingGeneratedKeyColumns("customer_id")
+                .executeAndReturnKey(Map.of("name", "무제품고객", "email", "none@example.com", "phone", "010-5555-0000",
+                        "address", "부산시", "birth", LocalDate.of(1990, 1, 1), "created_at", now, "updated_at", now,
+                        "status", "ACTIVE", "is_deleted", false))
+                .longValue();
+        registered.add(customerId);
+        localSearchService.rebuild();
+
+        assertThat(localSearchService.autocompleteCustomers("무제품")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactly(customerId));
+        CustomerSearchDto byPhone = new CustomerSearchDto();
+        byPhone.setPhone("01055550000");
+        assertThat(localSearchService.searchCustomers(byPhone)).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactly(customerId));
+    }
+
+    @Test
+    void matchesProductCriteriaWithinOneCustomerProduct() {
+        // 시드 고객에 두 번째 제품 추가 (시드 제품: 시드 제품 / SEED / SEED-...)
+        LocalDateTime now = LocalDateTime.now();
+        Long categoryId = jdbcTemplate.queryForObject(
+                "SELECT p.category_id FROM product p JOIN customer_product cp ON cp.product_id = p.product_id "
+                        + "WHERE cp.customer_product_id = ?", Long.class, seed.customerProductId());
+        Long productId = new SimpleJdbcInsert(jdbcTemplate).withTableName("product")
+                .usingGeneratedKeyColumns("product_id")
+                .executeAndReturnKey(Map.of("category_id", categoryId, "product_name", "두번째 제품", "product_brand", "OTHER",
+                        "model_code", "OTHER-1", "created_at", now, "updated_at", now, "is_visible", true, "is_deleted", false))
+                .longValue();
+        extraProducts.add(productId);
+        new SimpleJdbcInsert(jdbcTemplate).withTableName("customer_product")
+                .usingGeneratedKeyColumns("customer_product_id")
+                .executeAndReturnKey(Map.of("customer_id", seed.customerId(), "product_id", productId, "serial_number", "SN-OTHER",
+                        "created_at", now, "updated_at", now));
+        localSearchService.rebuild();
+
+        CustomerSearchDto sameProduct = new CustomerSearchDto();
+        sameProduct.setProductName("두번째");
+        sameProduct.setModelCode("OTHER-1");
+        assertThat(localSearchService.searchCustomers(sameProduct)).hasValueSatisfying(ids ->
+                assertThat(ids).contains(seed.customerId()));
+
+        // 제품명은 두 번째 제품, 모델코드/제조사는 시드 제품에만 맞으면 DB 검색과 같이 제외
+        CustomerSearchDto acrossProducts = new CustomerSearchDto();
+        acrossProducts.setProductName("두번째");
+        acrossProducts.setModelCode("SEED-");
+        assertThat(localSearchService.searchCustomers(acrossProducts)).hasValueSatisfying(ids ->
+                assertThat(ids).doesNotContain(seed.customerId()));
+        acrossProducts.setModelCode(null);
+        acrossProducts.setManufacturers(List.of("SEED"));
+        assertThat(localSearchService.searchCustomers(acrossProducts)).hasValueSatisfying(ids ->
+                assertThat(ids).doesNotContain(seed.customerId()));
+
+        // 고객 조건과 제품 조건은 고객 단위로 AND
+        sameProduct.setCustomerName("시드고객");
+        assertThat(localSearchService.searchCustomers(sameProduct)).hasValueSatisfying(ids ->
+                assertThat(ids).contains(seed.customerId()));
+    }
+
+    @Test
+    void reflectsCommittedCustomerChanges() throws InterruptedException {
+        Long productId = jdbcTemplate.queryForObject(
+                "SELECT product_id FROM customer_product WHERE customer_product_id = ?", Long.class,
+                seed.customerProductId());
+        CustomerRegisterDto dto = new CustomerRegisterDto();
+        dto.setName("색인테스트");
+        dto.setPhone("010-9876-5432");
+        dto.setEmail("index@example.com");
+        dto.setAddress("서울시");
+        dto.setBirth(LocalDate.of(1990, 1, 1));
+        dto.setProduct(CustomerProductDto.builder().productId(productId).serialNumber("SN-INDEX").build());
+
+        Long customerId = customerService.registerCustomer(dto).get("customerId");
+        registered.add(customerId);
+        awaitUntil(() -> localSearchService.autocompleteCustomers("색인테")
+                .map(ids -> ids.contains(customerId)).orElse(false));
+
+        customerService.softDelete(customerId);
+        awaitUntil(() -> localSearchService.autocompleteCustomers("색인테")
+                .map(ids -> !ids.contains(customerId)).orElse(false));
+    }
+
+    // 커밋 후 색인 실행기에서 반영되므로 조건이 맞을 때까지 대기
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).as("대기 조건").isTrue();
+    }
+}
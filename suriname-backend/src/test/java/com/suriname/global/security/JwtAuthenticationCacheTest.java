@@ -0,0 +1,100 @@
+package com.suriname.global.security;
+
+import com.suriname.employee.entity.Employee;
+import com.suriname.employee.repository.EmployeeRepository;
+import com.suriname.employee.service.EmployeeService;
+import com.suriname.global.security.cache.JwtAuthenticationCache;
+import com.suriname.global.security.principal.EmployeeDetails;
+import com.suriname.global.security.provider.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationCacheTest {
+
+    @Autowired
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "cache-" + UUID.randomUUID().toString().substring(0, 8);
+        employee = employeeRepository.save(Employee.builder()
+                .loginId(loginId).password("pw").name("캐시").email("cache@suriname.com")
+                .address("서울시").phone("010-0000-0000").birth(LocalDate.of(1990, 1, 1))
+                .role(Employee.Role.STAFF)
+                .build());
+        token = jwtTokenProvider.createToken(loginId, Employee.Role.STAFF.name());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwtAuthenticationCache.invalidate(employee.getLoginId());
+        employeeRepository.deleteById(employee.getEmployeeId());
+    }
+
+    @Test
+    void servesCachedAuthenticationUntilEmployeeChanges() {
+        Authentication first = jwtAuthenticationCache.authenticate(token);
+        Authentication second = jwtAuthenticationCache.authenticate(token);
+
+        assertThat(first.getName()).isEqualTo(employee.getLoginId());
+        // 요청 간에 공유되는 값이므로 엔티티나 비밀번호 없이 식별 정보만 담음
+        EmployeeDetails details = (EmployeeDetails) first.getPrincipal();
+        assertThat(details.getEmployeeId()).isEqualTo(employee.getEmployeeId());
+        assertThat(details.getRole()).isEqualTo(Employee.Role.STAFF);
+        assertThat(details.getPassword()).isNull();
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second).isNotSameAs(first);
+
+        employeeService.updateRole(employee.getEmployeeId(), Employee.Role.ADMIN.name());
+
+        Authentication afterUpdate = jwtAuthenticationCache.authenticate(token);
+        assertThat(afterUpdate.getPrincipal()).isNotSameAs(first.getPrincipal());
+        assertThat(afterUpdate.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTokenWhenFull() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, Duration.ofMinutes(5), 2);
+        String admin = jwtTokenProvider.createToken(employee.getLoginId(), Employee.Role.ADMIN.name());
+        String engineer = jwtTokenProvider.createToken(employee.getLoginId(), Employee.Role.ENGINEER.name());
+
+        Object first = cache.authenticate(token).getPrincipal();
+        Object second = cache.authenticate(admin).getPrincipal();
+        cache.authenticate(token);
+        cache.authenticate(engineer);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.authenticate(token).getPrincipal()).isSameAs(first);
+        assertThat(cache.authenticate(admin).getPrincipal()).isNotSameAs(second);
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        assertThat(jwtAuthenticationCache.authenticate(token + "x")).isNull();
+    }
+}
@@ -0,0 +1,22 @@
+package com.suriname.global.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupRecordingTest {
+
+    @Test
+    void recordsOnlyWithFastStartupProfileOrReportProperty() {
+        assertThat(StartupRecording.applicationStartup()).isSameAs(ApplicationStartup.DEFAULT);
+        assertThat(StartupRecording.applicationStartup("--spring.profiles.active=demo")).isSameAs(ApplicationStartup.DEFAULT);
+        assertThat(StartupRecording.applicationStartup("--startup.report.enabled=false")).isSameAs(ApplicationStartup.DEFAULT);
+
+        assertThat(StartupRecording.applicationStartup("--spring.profiles.active=demo,fast-startup"))
+                .isInstanceOf(BufferingApplicationStartup.class);
+        assertThat(StartupRecording.applicationStartup("--startup.report.enabled=true"))
+                .isInstanceOf(BufferingApplicationStartup.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.suriname.global.startup;
+
+import com.suriname.SurinameApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데모 H2 프로필 + fast-startup 프로필로 애플리케이션을 띄워 기동 완료(ApplicationReady)와
+ * 기동 후 준비 작업(readiness)까지 걸린 시간을 잰다.
+ * ./gradlew startupTimeTest 로 실행 (-Dbenchmark=true), 한도는 -Dstartup.budget-ms (기본 30초).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupTimeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    private static final long BUDGET_MILLIS = Long.getLong("startup.budget-ms", 30_000);
+
+    @Test
+    void measuresTimeToReadyWithDemoProfile() throws InterruptedException {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SurinameApplication.class)
+                .profiles("demo", "fast-startup")
+                .applicationStartup(StartupRecording.applicationStartup("--spring.profiles.active=demo,fast-startup"))
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:startup-" + UUID.randomUUID(),
+                        "--spring.jpa.show-sql=false",
+                        "--algolia.app-id=")) {
+            long startedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            StartupWarmups warmups = context.getBean(StartupWarmups.class);
+            awaitUntil(() -> warmups.health().getStatus().equals(Status.UP));
+            long readyMillis = (System.nanoTime() - start) / 1_000_000;
+
+            log.info("time-to-started: {} ms, time-to-ready: {} ms, warmups: {}",
+                    startedMillis, readyMillis, warmups.health().getDetails());
+            context.getBean(StartupTimelineReporter.class).slowestBeans(10).forEach(timing ->
+                    log.info("  {} / {} ms  {}", timing.totalMillis(), timing.selfMillis(), timing.beanName()));
+
+            // 스케줄 작업이 있는 빈은 바로, 요청 처리용 빈은 처음 쓰일 때 만들어짐
+            assertThat(context.getBeanFactory().containsSingleton("smsOutboxScheduler")).isTrue();
+            assertThat(context.getBeanFactory().containsSingleton("customerController")).isFalse();
+            assertThat(context.getBean(StartupTimelineReporter.class).slowestBeans(10)).isNotEmpty();
+            assertThat(readyMillis).isLessThan(BUDGET_MILLIS);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + BUDGET_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).as("준비 작업 완료").isTrue();
+    }
+}
@@ -0,0 +1,177 @@
+package com.suriname.image;
+
+import com.suriname.image.service.ImageBlobMigrationService;
+import com.suriname.image.service.ImageService;
+import com.suriname.image.service.LegacyImageData;
+import com.suriname.image.storage.ImageStorage;
+import com.suriname.image.thumbnail.ImageThumbnailService;
+import com.suriname.image.thumbnail.ImageVariant;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 BLOB(image_data) 이미지의 저장소 이관.
+ * 엔티티가 image_data 를 매핑하지 않으므로 테스트 스키마에는 컬럼이 없고, 이관 케이스는 컬럼을 직접 추가해 재현한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageBlobMigrationTest {
+
+    @Autowired
+    private ImageBlobMigrationService imageBlobMigrationService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private LegacyImageData legacyImageData;
+
+    @Autowired
+    private ImageThumbnailService imageThumbnailService;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+    private Long requestId;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("RECEIVED", 1, LocalDateTime.now());
+        requestId = jdbcTemplate.queryForObject("SELECT request_id FROM request WHERE request_no LIKE ?",
+                Long.class, seed.requestNoPrefix() + "%");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (String key : jdbcTemplate.queryForList(
+                "SELECT storage_key FROM image WHERE request_id = ? AND storage_key IS NOT NULL", String.class, requestId)) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                imageStorage.delete(variant.storageKeyOf(key));
+            }
+        }
+        jdbcTemplate.update("DELETE FROM image WHERE request_id = ?", requestId);
+        jdbcTemplate.execute("ALTER TABLE image DROP COLUMN IF EXISTS image_data");
+        seed.cleanup();
+    }
+
+    @Test
+    void freshSchemaWithoutBlobColumnSkipsLegacyPaths() {
+        Long imageId = insertImage("a.png", null);
+
+        assertThat(imageBlobMigrationService.migrate(10)).isEqualTo(new ImageBlobMigrationService.MigrationResult(0, 0));
+        assertThat(imageService.getLegacyImageData(imageId)).isNull();
+    }
+
+    @Test
+    void movesBlobsToStorageAndClearsColumn() throws IOException {
+        jdbcTemplate.execute("ALTER TABLE image ADD COLUMN image_data BLOB");
+        // 컬럼 존재 여부를 기억하므로 기동 후 추가한 컬럼은 다시 확인
+        legacyImageData.refresh();
+        byte[] png = png(600, 400);
+        List<byte[]> blobs = List.of(png, new byte[]{4, 5}, new byte[]{6});
+        Long first = insertImage("a.png", blobs.get(0));
+        insertImage("b.JPG", blobs.get(1));
+        insertImage("c.png", blobs.get(2));
+
+        assertThat(imageService.getLegacyImageData(first)).isEqualTo(png);
+
+        // 배치 크기보다 많은 행도 모두 이관
+        assertThat(imageBlobMigrationService.migrate(2)).isEqualTo(new ImageBlobMigrationService.MigrationResult(3, 0));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT image_id, storage_key, file_url, image_data, thumbnail_ready FROM image WHERE request_id = ? ORDER BY image_id", requestId);
+        assertThat(rows).hasSize(3);
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            String key = (String) row.get("storage_key");
+            assertThat(key).startsWith("requests/" + requestId + "/legacy/" + row.get("image_id"));
+            assertThat(row.get("file_url")).isEqualTo(ImageService.VIEW_URL_PREFIX + row.get("image_id"));
+            assertThat(row.get("image_data")).isNull();
+            try (InputStream in = imageStorage.load(key).getInputStream()) {
+                assertThat(in.readAllBytes()).isEqualTo(blobs.get(i));
+            }
+        }
+        assertThat(rows.get(1).get("storage_key")).asString().endsWith(".jpg");
+
+        // 이관한 이미지도 썸네일 생성 (이미지가 아닌 데이터는 원본으로만 응답)
+        assertThat(rows.get(0).get("thumbnail_ready")).isEqualTo(true);
+        assertThat(rows.subList(1, 3)).extracting(row -> row.get("thumbnail_ready")).doesNotContain(true);
+        String firstKey = (String) rows.get(0).get("storage_key");
+        assertThat(imageStorage.exists(ImageVariant.W128.storageKeyOf(firstKey))).isTrue();
+        assertThat(imageStorage.exists(ImageVariant.W512.storageKeyOf(firstKey))).isTrue();
+
+        // 다시 실행해도 이미 옮긴 행은 건드리지 않음
+        assertThat(imageBlobMigrationService.migrate(2)).isEqualTo(new ImageBlobMigrationService.MigrationResult(0, 0));
+    }
+
+    @Test
+    void detectsBlobColumnDroppedAfterCheck() {
+        jdbcTemplate.execute("ALTER TABLE image ADD COLUMN image_data BLOB");
+        legacyImageData.refresh();
+        Long imageId = insertImage("a.png", new byte[]{1, 2});
+        assertThat(imageService.getLegacyImageData(imageId)).isEqualTo(new byte[]{1, 2});
+
+        // 이관 후 컬럼 삭제: 기억한 값으로 읽다가 실패하면 다시 확인하고 null
+        jdbcTemplate.execute("ALTER TABLE image DROP COLUMN image_data");
+        assertThat(imageService.getLegacyImageData(imageId)).isNull();
+        assertThat(legacyImageData.columnExists()).isFalse();
+    }
+
+    @Test
+    void backfillsThumbnailsForStoredImagesWithoutThem() throws IOException {
+        String key = "requests/" + requestId + "/legacy/backfill.png";
+        byte[] png = png(300, 200);
+        imageStorage.store(key, new ByteArrayInputStream(png), png.length, "image/png");
+        Long imageId = insertImage("backfill.png", null);
+        // thumbnail_ready 컬럼 추가 전부터 있던 행처럼 NULL
+        jdbcTemplate.update("UPDATE image SET storage_key = ?, thumbnail_ready = NULL WHERE image_id = ?", key, imageId);
+
+        assertThat(imageThumbnailService.backfill(10)).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT thumbnail_ready FROM image WHERE image_id = ?", Boolean.class, imageId))
+                .isTrue();
+        assertThat(imageStorage.exists(ImageVariant.W128.storageKeyOf(key))).isTrue();
+        // 이미 만든 이미지는 다시 처리하지 않음
+        assertThat(imageThumbnailService.backfill(10)).isZero();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private Long insertImage(String fileName, byte[] blob) {
+        if (blob == null) {
+            jdbcTemplate.update("INSERT INTO image (request_id, file_name, content_type, file_size, created_at) " +
+                    "VALUES (?, ?, 'image/png', 0, CURRENT_TIMESTAMP)", requestId, fileName);
+        } else {
+            jdbcTemplate.update("INSERT INTO image (request_id, file_name, content_type, file_size, image_data, created_at) " +
+                    "VALUES (?, ?, 'image/png', ?, ?, CURRENT_TIMESTAMP)", requestId, fileName, blob.length, blob);
+        }
+        return jdbcTemplate.queryForObject("SELECT MAX(image_id) FROM image WHERE request_id = ?", Long.class, requestId);
+    }
+}
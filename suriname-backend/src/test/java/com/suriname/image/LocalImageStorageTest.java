@@ -0,0 +1,66 @@
+package com.suriname.image;
+
+import com.suriname.image.storage.LocalImageStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storesLoadsAndDeletesByKey() throws IOException {
+        LocalImageStorage storage = new LocalImageStorage(root.toString());
+        byte[] data = "image-bytes".getBytes(StandardCharsets.UTF_8);
+
+        storage.store("requests/1/a.png", new ByteArrayInputStream(data), data.length, "image/png");
+
+        assertThat(storage.exists("requests/1/a.png")).isTrue();
+        Resource resource = storage.load("requests/1/a.png");
+        assertThat(resource.isFile()).isTrue();
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        // 임시 파일이 남지 않음
+        try (var files = Files.list(root.resolve("requests/1"))) {
+            assertThat(files).containsExactly(root.resolve("requests/1/a.png"));
+        }
+
+        storage.delete("requests/1/a.png");
+        assertThat(storage.exists("requests/1/a.png")).isFalse();
+        assertThatThrownBy(() -> storage.load("requests/1/a.png")).isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void storesMultipartUpload() throws IOException {
+        LocalImageStorage storage = new LocalImageStorage(root.toString());
+        MockMultipartFile file = new MockMultipartFile("file", "b.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        storage.store("requests/2/b.jpg", file);
+
+        assertThat(Files.readAllBytes(root.resolve("requests/2/b.jpg"))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void rejectsKeysOutsideRoot() throws IOException {
+        LocalImageStorage storage = new LocalImageStorage(root.resolve("images").toString());
+
+        assertThatThrownBy(() -> storage.store("../escape.png", new ByteArrayInputStream(new byte[]{1}), 1, "image/png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.exists(root.resolve("escape.png"))).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.suriname.image;
+
+import com.suriname.image.thumbnail.ImageVariant;
+import com.suriname.image.thumbnail.ThumbnailGenerator;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailGeneratorTest {
+
+    private final ThumbnailGenerator generator = new ThumbnailGenerator();
+
+    @Test
+    void scalesLongestEdgeToJpegVariants() throws IOException {
+        byte[] png = png(4000, 3000, BufferedImage.TYPE_INT_ARGB);
+
+        Map<ImageVariant, byte[]> result = generator.generate(new ByteArrayInputStream(png), ImageVariant.derived());
+
+        BufferedImage w512 = ImageIO.read(new ByteArrayInputStream(result.get(ImageVariant.W512)));
+        BufferedImage w128 = ImageIO.read(new ByteArrayInputStream(result.get(ImageVariant.W128)));
+        assertThat(w512.getWidth()).isEqualTo(512);
+        assertThat(w512.getHeight()).isEqualTo(384);
+        assertThat(w128.getWidth()).isEqualTo(128);
+        assertThat(w128.getHeight()).isEqualTo(96);
+    }
+
+    @Test
+    void doesNotUpscaleSmallImages() throws IOException {
+        byte[] png = png(100, 50, BufferedImage.TYPE_INT_RGB);
+
+        Map<ImageVariant, byte[]> result = generator.generate(new ByteArrayInputStream(png), ImageVariant.W512);
+
+        BufferedImage w512 = ImageIO.read(new ByteArrayInputStream(result.get(ImageVariant.W512)));
+        assertThat(w512.getWidth()).isEqualTo(100);
+        assertThat(w512.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void returnsEmptyForUnsupportedFormat() throws IOException {
+        byte[] notImage = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(generator.generate(new ByteArrayInputStream(notImage), ImageVariant.derived())).isEmpty();
+    }
+
+    @Test
+    void parsesSizeParameter() {
+        assertThat(ImageVariant.from("128")).isEqualTo(ImageVariant.W128);
+        assertThat(ImageVariant.from("512")).isEqualTo(ImageVariant.W512);
+        assertThat(ImageVariant.from(null)).isEqualTo(ImageVariant.ORIGINAL);
+        assertThat(ImageVariant.from("999")).isEqualTo(ImageVariant.ORIGINAL);
+        assertThat(ImageVariant.W128.storageKeyOf("requests/1/a.png")).isEqualTo("requests/1/a.png.w128.jpg");
+    }
+
+    private byte[] png(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,138 @@
+package com.suriname.importjob;
+
+import com.suriname.importjob.dto.ImportJobDto;
+import com.suriname.importjob.entity.ImportJob;
+import com.suriname.importjob.repository.ImportJobRepository;
+import com.suriname.importjob.service.ImportJobService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 엑셀 가져오기 작업
+ * 작업 스레드가 직접 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImportJobServiceTest {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final Long OWNER_ID = 1L;
+
+    private final String tag = UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product WHERE model_code LIKE ?", tag + "%");
+        jdbcTemplate.update("DELETE FROM category WHERE name = ?", "job-" + tag);
+        importJobRepository.deleteAll();
+    }
+
+    @Test
+    void importsInBackgroundAndReportsProgress() throws Exception {
+        Long jobId = importJobService.submit(ImportJob.Type.PRODUCT, productWorkbook(1_000), OWNER_ID);
+
+        ImportJobDto job = awaitFinished(jobId);
+
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedCount()).isEqualTo(1_001);
+        assertThat(job.getSuccessCount()).isEqualTo(1_000);
+        assertThat(job.getFailureCount()).isEqualTo(1);
+        assertThat(job.getFailures()).extracting(f -> f.get("row")).containsExactly("1002");
+        assertThat(job.getRowsPerSecond()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE model_code LIKE ?",
+                Integer.class, tag + "%")).isEqualTo(1_000);
+    }
+
+    @Test
+    void interruptedJobsAreFailedOnRestart() {
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .type(ImportJob.Type.CUSTOMER)
+                .fileName("customers.xlsx")
+                .spoolPath("/tmp/missing-" + tag + ".xlsx")
+                .build());
+        transactionTemplate.executeWithoutResult(status -> importJobRepository.claim(job.getImportJobId(), LocalDateTime.now()));
+
+        importJobService.recoverInterrupted();
+
+        assertThat(importJobService.getJob(job.getImportJobId(), null, "ADMIN").getStatus()).isEqualTo(ImportJob.Status.FAILED);
+    }
+
+    @Test
+    void onlyOwnerOrAdminCanReadJob() {
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .type(ImportJob.Type.CUSTOMER)
+                .fileName("customers.xlsx")
+                .spoolPath("/tmp/missing-" + tag + ".xlsx")
+                .requestedBy(OWNER_ID)
+                .build());
+        Long jobId = job.getImportJobId();
+
+        assertThat(importJobService.getJob(jobId, OWNER_ID, "STAFF").getJobId()).isEqualTo(jobId);
+        assertThat(importJobService.getJob(jobId, OWNER_ID + 1, "ADMIN").getJobId()).isEqualTo(jobId);
+        assertThatThrownBy(() -> importJobService.getJob(jobId, OWNER_ID + 1, "STAFF"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private ImportJobDto awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        ImportJobDto job = importJobService.getJob(jobId, OWNER_ID, "STAFF");
+        while (job.getStatus() != ImportJob.Status.COMPLETED && job.getStatus() != ImportJob.Status.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            job = importJobService.getJob(jobId, OWNER_ID, "STAFF");
+        }
+        return job;
+    }
+
+    // 제조사, 제품분류, 제품명, 모델코드, 비고 (마지막 행은 제품명 누락)
+    private MockMultipartFile productWorkbook(int rows) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(500)) {
+            Sheet sheet = workbook.createSheet("제품");
+            write(sheet.createRow(0), "제조사", "제품분류", "제품명", "모델코드", "비고");
+            for (int i = 1; i <= rows; i++) {
+                write(sheet.createRow(i), "SURI", "job-" + tag, "제품 " + i, tag + "-" + i, "");
+            }
+            write(sheet.createRow(rows + 1), "SURI", "job-" + tag, "", tag + "-x", "");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return new MockMultipartFile("file", "products.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+        }
+    }
+
+    private void write(Row row, String... values) {
+        for (int c = 0; c < values.length; c++) {
+            row.createCell(c).setCellValue(values[c]);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.suriname.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suriname.notification.entity.Notification;
+import com.suriname.notification.service.SmsOutboxDispatcher;
+import com.suriname.notification.service.SmsOutboxService;
+import com.suriname.payment.PaymentService;
+import com.suriname.payment.TossPaymentsClient;
+import com.suriname.payment.VirtualAccountRequestDto;
+import com.suriname.payment.VirtualAccountResponseDto;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 발송기를 로컬 스텁 SMS 게이트웨이에 붙여 검증.
+ * 테스트 프로필은 주기 발송(SmsOutboxScheduler)을 끄므로 dispatch() 를 직접 호출한다.
+ * 발송기가 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SmsOutboxDispatcherTest {
+
+    private static StubSmsServer stub;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private SmsOutboxService smsOutboxService;
+
+    @Autowired
+    private SmsOutboxDispatcher smsOutboxDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private TossPaymentsClient tossPaymentsClient;
+
+    private BulkSeed seed;
+
+    @DynamicPropertySource
+    static void smsProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = new StubSmsServer();
+        registry.add("sms.api.url", stub::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub.reset();
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("WAITING_FOR_PAYMENT", 3, LocalDateTime.now().minusHours(1));
+        when(tossPaymentsClient.issueVirtualAccount(anyString(), any())).thenReturn(new ObjectMapper().readTree(
+                "{\"virtualAccount\":{\"bankCode\":\"88\",\"accountNumber\":\"X1234567890\"},\"dueDate\":\"2030-01-01T00:00:00\"}"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM sms_outbox WHERE dedup_key LIKE ?", "TEST:" + seed.requestNoPrefix() + "%");
+        seed.cleanup(
+                "DELETE FROM payment WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void issuingVirtualAccountDoesNotWaitForSmsGateway() {
+        stub.latency(1000);
+        List<Long> requestIds = requestIds();
+
+        for (Long requestId : requestIds) {
+            long start = System.nanoTime();
+            VirtualAccountResponseDto response = paymentService.issueVirtualAccount(virtualAccountRequest(requestId));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(response.getAccountNumber()).isEqualTo("X1234567890");
+            assertThat(elapsedMillis).isLessThan(500);
+        }
+
+        smsOutboxDispatcher.dispatch();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sms_outbox WHERE status = 'SENT' AND request_id IN (" +
+                "SELECT request_id FROM request WHERE request_no LIKE ?)", Long.class, seed.requestNoPrefix() + "%"))
+                .isEqualTo(requestIds.size());
+        assertThat(stub.delivered()).hasSize(requestIds.size())
+                .allSatisfy(body -> assertThat(body).contains("X1234567890", "010-0000-0000"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification WHERE send_status = 'SENT' AND event_type = ? AND requests_id IN (" +
+                        "SELECT request_id FROM request WHERE request_no LIKE ?)",
+                Long.class, Notification.NotificationType.VIRTUAL_ACCOUNT_ISSUED.name(), seed.requestNoPrefix() + "%"))
+                .isEqualTo(requestIds.size());
+    }
+
+    @Test
+    void retriesFailedSendAndDeduplicatesByKey() throws InterruptedException {
+        stub.failNext(2);
+        String dedupKey = "TEST:" + seed.requestNoPrefix() + "retry";
+
+        smsOutboxService.enqueue(dedupKey, Notification.NotificationType.DELIVERY_DELAYED, null, "010-0000-0000", "재시도");
+        smsOutboxService.enqueue(dedupKey, Notification.NotificationType.DELIVERY_DELAYED, null, "010-0000-0000", "재시도");
+
+        Map<String, Object> row = dispatchUntil(dedupKey, "SENT");
+        assertThat(((Number) row.get("attempts")).intValue()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sms_outbox WHERE dedup_key = ?", Long.class, dedupKey)).isEqualTo(1);
+        assertThat(stub.totalRequests()).isEqualTo(3);
+        assertThat(stub.delivered()).hasSize(1);
+    }
+
+    @Test
+    void concurrentEnqueueKeepsOneRowAndCallerTransactionsCommit() throws Exception {
+        String dedupKey = "TEST:" + seed.requestNoPrefix() + "race";
+        Long requestId = requestIds().get(0);
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> futures = IntStream.range(0, callers)
+                    .mapToObj(i -> pool.submit(() -> {
+                        start.await();
+                        // 같은 트랜잭션의 다른 변경이 중복 등록 때문에 롤백되지 않아야 함
+                        return transactionTemplate.execute(status -> {
+                            smsOutboxService.enqueue(dedupKey, Notification.NotificationType.DELIVERY_DELAYED,
+                                    null, "010-0000-0000", "동시 등록");
+                            return jdbcTemplate.update("UPDATE request SET content = ? WHERE request_id = ?",
+                                    "동시 등록 " + i, requestId);
+                        });
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sms_outbox WHERE dedup_key = ?", Long.class, dedupKey)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT content FROM request WHERE request_id = ?", String.class, requestId)).startsWith("동시 등록");
+    }
+
+    private List<Long> requestIds() {
+        return jdbcTemplate.queryForList("SELECT request_id FROM request WHERE request_no LIKE ? ORDER BY request_id",
+                Long.class, seed.requestNoPrefix() + "%");
+    }
+
+    private VirtualAccountRequestDto virtualAccountRequest(Long requestId) {
+        VirtualAccountRequestDto dto = new VirtualAccountRequestDto();
+        dto.setRequestId(requestId);
+        dto.setAmount(35000);
+        dto.setVbankHolder("수리남");
+        dto.setVbankDue("2030-01-01T00:00:00");
+        return dto;
+    }
+
+    // 재시도 대기(retry-backoff)가 지날 때마다 다시 발송
+    private Map<String, Object> dispatchUntil(String dedupKey, String status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        Map<String, Object> row = Map.of();
+        while (System.currentTimeMillis() < deadline) {
+            smsOutboxDispatcher.dispatch();
+            row = jdbcTemplate.queryForMap("SELECT status, attempts FROM sms_outbox WHERE dedup_key = ?", dedupKey);
+            if (status.equals(row.get("status"))) {
+                return row;
+            }
+            Thread.sleep(100);
+        }
+        assertThat(row.get("status")).isEqualTo(status);
+        return row;
+    }
+}
@@ -0,0 +1,93 @@
+package com.suriname.notification;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SMS 게이트웨이 스텁
+ * POST /messages/v4/send -> {"statusCode": "2000"}
+ * 응답 지연과 처음 N 번의 실패(500)를 설정할 수 있고, 정상 처리한 요청 본문을 기록한다.
+ */
+public class StubSmsServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger totalRequests = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    public StubSmsServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/messages/v4/send", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/messages/v4/send";
+    }
+
+    public void latency(long millis) {
+        this.latencyMillis = millis;
+    }
+
+    public void failNext(int count) {
+        failuresLeft.set(count);
+    }
+
+    public List<String> delivered() {
+        return delivered;
+    }
+
+    public int totalRequests() {
+        return totalRequests.get();
+    }
+
+    public void reset() {
+        delivered.clear();
+        totalRequests.set(0);
+        failuresLeft.set(0);
+        latencyMillis = 0;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        totalRequests.incrementAndGet();
+        try (InputStream in = exchange.getRequestBody()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            delivered.add(body);
+            byte[] response = "{\"statusCode\":\"2000\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,130 @@
+package com.suriname.payment;
+
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 입금 웹훅을 100번 동시에 보내도 결제/접수 상태가 한 번만 바뀌는지, 중단된 선점만 다시 대기로 돌리는지 검증.
+ * 웹훅 처리가 자체 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TossWebhookConcurrencyTest {
+
+    @Autowired
+    private TossWebhookService tossWebhookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+    private Long requestId;
+    private String orderId;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("WAITING_FOR_PAYMENT", 1, LocalDateTime.now().minusHours(1));
+        requestId = jdbcTemplate.queryForObject("SELECT request_id FROM request WHERE request_no LIKE ?",
+                Long.class, seed.requestNoPrefix() + "%");
+        orderId = "VIR_" + seed.requestNoPrefix() + "0";
+        jdbcTemplate.update("INSERT INTO payment (request_id, merchant_uid, cost, status) VALUES (?, ?, 35000, 'PENDING')",
+                requestId, orderId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM toss_webhook_event WHERE order_id = ?", orderId);
+        seed.cleanup(
+                "DELETE FROM request_status_log WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)",
+                "DELETE FROM payment WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void parallelDuplicateWebhooksTransitionOnce() throws Exception {
+        // 입금 콜백과 이벤트형 웹훅이 섞여 와도 같은 주문/상태면 한 건
+        String depositCallback = "{\"orderId\":\"" + orderId + "\",\"status\":\"DONE\",\"secret\":\"s\"}";
+        String paymentConfirmed = "{\"eventType\":\"PAYMENT_CONFIRMED\",\"data\":{\"orderId\":\"" + orderId + "\"}}";
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < 100; i++) {
+                String payload = i % 2 == 0 ? depositCallback : paymentConfirmed;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return tossWebhookService.receive(payload);
+                }));
+            }
+            start.countDown();
+        }
+
+        // 저장에 성공한 한 건만 처리 예약
+        int accepted = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) accepted++;
+        }
+        assertThat(accepted).isEqualTo(1);
+
+        awaitProcessed();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM toss_webhook_event WHERE order_id = ?",
+                Long.class, orderId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForMap("SELECT status, version FROM payment WHERE merchant_uid = ?", orderId))
+                .containsEntry("status", "SUCCESS")
+                .containsEntry("version", 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM request WHERE request_id = ?", String.class, requestId))
+                .isEqualTo("WAITING_FOR_DELIVERY");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM request_status_log WHERE request_id = ? AND new_status = 'WAITING_FOR_DELIVERY'",
+                Long.class, requestId)).isEqualTo(1);
+    }
+
+    @Test
+    void recoveryReleasesOnlyExpiredClaims() {
+        insertProcessing(orderId + ":DONE", LocalDateTime.now());
+        insertProcessing(orderId + ":CANCELED", LocalDateTime.now().minusHours(1));
+
+        tossWebhookService.recoverExpiredClaims();
+
+        // 방금 선점된 건은 다른 작업자가 처리 중일 수 있으므로 그대로
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM toss_webhook_event WHERE event_key = ?",
+                String.class, orderId + ":DONE")).isEqualTo("PROCESSING");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM toss_webhook_event WHERE event_key = ?",
+                String.class, orderId + ":CANCELED")).isEqualTo("RECEIVED");
+    }
+
+    private void insertProcessing(String eventKey, LocalDateTime claimedAt) {
+        jdbcTemplate.update("INSERT INTO toss_webhook_event (event_key, order_id, payload, status, attempts, received_at, claimed_at) " +
+                "VALUES (?, ?, '{}', 'PROCESSING', 1, ?, ?)", eventKey, orderId, claimedAt, claimedAt);
+    }
+
+    private void awaitProcessed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            Long processed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM toss_webhook_event WHERE order_id = ? AND status = 'PROCESSED'", Long.class, orderId);
+            if (processed != null && processed > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("웹훅이 처리되지 않았습니다: " + orderId);
+    }
+}
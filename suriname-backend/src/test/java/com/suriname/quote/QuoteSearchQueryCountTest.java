@@ -0,0 +1,91 @@
+package com.suriname.quote;
+
+import com.suriname.global.metrics.SqlStatementCounter;
+import com.suriname.quote.dto.QuotePageResponse;
+import com.suriname.quote.service.QuoteService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QuoteSearchQueryCountTest {
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+    private int issuedCount;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("WAITING_FOR_PAYMENT", 80, LocalDateTime.now().minusDays(1));
+        String prefix = seed.requestNoPrefix() + "%";
+
+        // 20건은 완료, 나머지 입금대기 중 짝수 id 에만 PENDING 결제(가상계좌 발급)
+        jdbcTemplate.update("UPDATE request SET status = 'COMPLETED' WHERE request_no IN " +
+                "(SELECT request_no FROM request WHERE request_no LIKE ? ORDER BY request_id LIMIT 20)", prefix);
+        jdbcTemplate.update("INSERT INTO quote (request_id, cost, is_approved, created_at) " +
+                "SELECT request_id, 10000, false, created_at FROM request WHERE request_no LIKE ?", prefix);
+        issuedCount = jdbcTemplate.update("INSERT INTO payment (request_id, merchant_uid, cost, status) " +
+                "SELECT request_id, CONCAT('M-', request_no), 10000, 'PENDING' FROM request " +
+                "WHERE request_no LIKE ? AND status = 'WAITING_FOR_PAYMENT' AND MOD(request_id, 2) = 0", prefix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seed.cleanup(
+                "DELETE FROM payment WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)",
+                "DELETE FROM quote WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void filtersProgressAndPaymentStatusInQuery() {
+        QuotePageResponse completed = search(0, 50, "COMPLETED", null);
+        assertThat(completed.getTotalElements()).isEqualTo(20);
+        assertThat(completed.getContent()).hasSize(20)
+                .allSatisfy(dto -> assertThat(dto.getStatusChange()).isEqualTo("COMPLETED"));
+
+        QuotePageResponse issued = search(0, 5, null, "VIRTUAL_ACCOUNT_ISSUED");
+        assertThat(issued.getTotalElements()).isEqualTo(issuedCount);
+        assertThat(issued.getContent()).hasSize(5)
+                .allSatisfy(dto -> assertThat(dto.getPaymentStatus()).isEqualTo("입금대기"));
+
+        QuotePageResponse awaiting = search(0, 100, null, "AWAITING_PAYMENT");
+        assertThat(awaiting.getTotalElements()).isEqualTo(60 - issuedCount);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        long small = countStatements(() -> search(0, 5, "AWAITING_PAYMENT", null));
+        long large = countStatements(() -> search(0, 50, "AWAITING_PAYMENT", null));
+
+        // 목록 + 건수 + 결제 배치 로딩
+        assertThat(large).isEqualTo(small).isEqualTo(3);
+    }
+
+    private QuotePageResponse search(int page, int size, String progressStatus, String paymentStatus) {
+        return quoteService.getQuotesWithSearch(page, size, null, seed.requestNoPrefix(), null, null, null,
+                null, null, null, progressStatus, paymentStatus);
+    }
+
+    // 이 스레드의 SQL 만 센다 (스케줄러 등 다른 스레드의 쿼리는 제외)
+    private long countStatements(Runnable action) {
+        SqlStatementCounter.start();
+        action.run();
+        return SqlStatementCounter.stop();
+    }
+}
@@ -0,0 +1,153 @@
+package com.suriname.request;
+
+import com.suriname.employee.repository.EmployeeRepository;
+import com.suriname.request.config.RequestAssignmentExpire;
+import com.suriname.request.config.RequestCurrentAssignmentBackfill;
+import com.suriname.request.dto.RequestCursorPageDto;
+import com.suriname.request.dto.RequestListResponseDto;
+import com.suriname.request.dto.RequestSearchCondition;
+import com.suriname.request.entity.AssignmentPriority;
+import com.suriname.request.entity.RequestAssignmentLog;
+import com.suriname.request.repository.RequestQueryRepository;
+import com.suriname.request.repository.RequestRepository;
+import com.suriname.request.service.RequestAssignmentLogService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 목록 정렬 순위는 request 에 저장된 열로 정렬되므로,
+ * 배정 상태가 바뀌는 경로마다 열이 현재 배정 상태와 맞는지와 커서 페이지가 offset 목록과 같은지 검증.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestAssignmentPriorityTest {
+
+    private static final int REQUESTS = 25;
+
+    @Autowired
+    private RequestQueryRepository requestQueryRepository;
+
+    @Autowired
+    private RequestCurrentAssignmentBackfill requestCurrentAssignmentBackfill;
+
+    @Autowired
+    private RequestAssignmentLogService requestAssignmentLogService;
+
+    @Autowired
+    private RequestAssignmentExpire requestAssignmentExpire;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        // 배정 만료 대상이 되도록 3일 전 접수
+        seed.requests("RECEIVED", REQUESTS, LocalDateTime.now().minusDays(3));
+
+        // 요청마다 배정 로그 1건, 상태를 골고루 섞음
+        jdbcTemplate.update("""
+                INSERT INTO request_assignment_log (request_id, employee_id, assignment_type, status, assigned_at)
+                SELECT r.request_id, r.employee_id, 'MANUAL',
+                       CASE MOD(r.request_id, 5)
+                            WHEN 0 THEN 'PENDING' WHEN 1 THEN 'ACCEPTED' WHEN 2 THEN 'REJECTED'
+                            WHEN 3 THEN 'EXPIRED' ELSE 'CANCELLED' END,
+                       r.created_at
+                FROM request r
+                WHERE r.request_no LIKE ?
+                """, seed.requestNoPrefix() + "%");
+        requestCurrentAssignmentBackfill.backfill();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seed.cleanup(
+                "DELETE FROM request_current_assignment WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)",
+                "DELETE FROM request_assignment_log WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void backfillStoresPriorityOfCurrentAssignment() {
+        assertStoredPriorityMatchesCurrentAssignment();
+    }
+
+    @Test
+    void cursorPagesFollowStoredPriorityForEachRole() {
+        for (String role : List.of("ADMIN", "ENGINEER")) {
+            RequestSearchCondition condition = new RequestSearchCondition();
+            List<Long> offsetIds = requestQueryRepository
+                    .searchRequestList(condition, PageRequest.of(0, 1_000), seed.employeeId(), role)
+                    .getContent().stream().map(RequestListResponseDto::getRequestId).toList();
+
+            List<RequestListResponseDto> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                RequestCursorPageDto page = requestQueryRepository
+                        .searchRequestListByCursor(condition, cursor, 4, seed.employeeId(), role);
+                walked.addAll(page.getContent());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertThat(walked).extracting(RequestListResponseDto::getRequestId).containsExactlyElementsOf(offsetIds);
+            assertThat(walked).extracting(row -> AssignmentPriority.of(role, row.getAssignmentStatus())).isSorted();
+        }
+    }
+
+    @Test
+    void assignmentChangesUpdateStoredPriority() {
+        Long requestId = jdbcTemplate.queryForObject("SELECT request_id FROM request WHERE request_no = ?",
+                Long.class, seed.requestNoPrefix() + 0);
+        requestAssignmentLogService.recordAssignment(RequestAssignmentLog.builder()
+                .request(requestRepository.findById(requestId).orElseThrow())
+                .employee(employeeRepository.findById(seed.employeeId()).orElseThrow())
+                .assignmentType(RequestAssignmentLog.AssignmentType.MANUAL)
+                .status(RequestAssignmentLog.AssignmentStatus.PENDING)
+                .assignedAt(LocalDateTime.now())
+                .build());
+        assertStoredPriorityMatchesCurrentAssignment();
+
+        // 3일 전 PENDING 배정은 일괄 만료되고 정렬 순위도 함께 바뀜
+        requestAssignmentExpire.expireUnacceptedAssignment();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM request_current_assignment c JOIN request r ON r.request_id = c.request_id
+                WHERE r.request_no LIKE ? AND c.status = 'EXPIRED'
+                """, Integer.class, seed.requestNoPrefix() + "%")).isGreaterThan(REQUESTS / 5);
+        assertStoredPriorityMatchesCurrentAssignment();
+    }
+
+    private void assertStoredPriorityMatchesCurrentAssignment() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT r.assignment_priority, r.engineer_assignment_priority, c.status
+                FROM request r JOIN request_current_assignment c ON c.request_id = r.request_id
+                WHERE r.request_no LIKE ?
+                """, seed.requestNoPrefix() + "%");
+        assertThat(rows).hasSize(REQUESTS).allSatisfy(row -> {
+            RequestAssignmentLog.AssignmentStatus status =
+                    RequestAssignmentLog.AssignmentStatus.valueOf((String) row.get("STATUS"));
+            assertThat(((Number) row.get("ASSIGNMENT_PRIORITY")).intValue()).isEqualTo(AssignmentPriority.standard(status));
+            assertThat(((Number) row.get("ENGINEER_ASSIGNMENT_PRIORITY")).intValue()).isEqualTo(AssignmentPriority.engineer(status));
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.suriname.request;
+
+import com.suriname.analytics.service.RequestRollupService;
+import com.suriname.request.dto.RequestCreateRequestDto;
+import com.suriname.request.dto.RequestCreateResponseDto;
+import com.suriname.request.service.RequestService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 생성 반복과 일괄 생성의 초당 요청 생성 건수 비교.
+ * 건마다 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 정리한다.
+ * -Dbenchmark=true 일 때만 실행한다. (-Dbenchmark.rows 로 건수 조정)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RequestBulkCreateBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestBulkCreateBenchmarkTest.class);
+
+    private static final int CHUNK = 500;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private RequestRollupService requestRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void singleVsBulk() {
+        int rows = Integer.getInteger("benchmark.rows", 2_000);
+        BulkSeed seed = new BulkSeed(jdbcTemplate).base();
+        List<Long> created = new ArrayList<>();
+        try {
+            List<RequestCreateRequestDto> dtos = IntStream.range(0, rows).mapToObj(i -> RequestCreateRequestDto.builder()
+                    .employeeId(seed.employeeId())
+                    .customerId(seed.customerId())
+                    .customerProductId(seed.customerProductId())
+                    .content("벤치마크 " + i)
+                    .build()).toList();
+
+            long start = System.nanoTime();
+            for (RequestCreateRequestDto dto : dtos) {
+                created.add(requestService.createRequest(seed.employeeId(), dto).getRequestId());
+            }
+            double singleSeconds = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            for (int from = 0; from < rows; from += CHUNK) {
+                requestService.createRequests(seed.employeeId(), dtos.subList(from, Math.min(from + CHUNK, rows)))
+                        .stream().map(RequestCreateResponseDto::getRequestId).forEach(created::add);
+            }
+            double bulkSeconds = (System.nanoTime() - start) / 1e9;
+
+            log.info("[benchmark] rows={} single={} req/s bulk(chunk={})={} req/s",
+                    rows, Math.round(rows / singleSeconds), CHUNK, Math.round(rows / bulkSeconds));
+            assertThat(created).hasSize(rows * 2).doesNotHaveDuplicates();
+        } finally {
+            cleanup(created);
+            seed.cleanup();
+        }
+    }
+
+    // 커밋 후 집계 리스너가 남긴 요청별 반영값까지 지우고, 일자별 집계를 남은 반영값으로 다시 맞춤
+    private void cleanup(List<Long> requestIds) {
+        for (Long requestId : requestIds) {
+            for (String table : List.of("request_current_assignment", "request_assignment_log", "request_status_log",
+                    "request_rollup_entry")) {
+                jdbcTemplate.update("DELETE FROM " + table + " WHERE request_id = ?", requestId);
+            }
+            jdbcTemplate.update("DELETE FROM request WHERE request_id = ?", requestId);
+        }
+        requestRollupService.rebuild();
+    }
+}
@@ -0,0 +1,112 @@
+package com.suriname.request;
+
+import com.suriname.request.dto.RequestCreateRequestDto;
+import com.suriname.request.dto.RequestCreateResponseDto;
+import com.suriname.request.service.RequestService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상태 이력은 커밋 직전(BEFORE_COMMIT)에 기록되므로 테스트 트랜잭션 없이 실제로 커밋하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestBulkCreateTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 서비스로 만든 접수는 시드 접수번호가 아니므로 시드 고객 기준으로 정리
+        for (String table : List.of("request_current_assignment", "request_assignment_log", "request_status_log")) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE request_id IN "
+                    + "(SELECT request_id FROM request WHERE customer_id = ?)", seed.customerId());
+        }
+        jdbcTemplate.update("DELETE FROM request WHERE customer_id = ?", seed.customerId());
+        seed.cleanup();
+    }
+
+    @Test
+    void allocatesRequestNumbersBeforeInsert() {
+        String prefix = "AS-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "-";
+
+        RequestCreateResponseDto single = requestService.createRequest(seed.employeeId(), dto(seed, "단건"));
+        List<RequestCreateResponseDto> bulk = requestService.createRequests(seed.employeeId(),
+                IntStream.range(0, 30).mapToObj(i -> dto(seed, "일괄 " + i)).toList());
+
+        List<RequestCreateResponseDto> all = new ArrayList<>(bulk);
+        all.add(single);
+        assertThat(all).extracting(RequestCreateResponseDto::getRequestNo)
+                .doesNotHaveDuplicates()
+                .allSatisfy(no -> assertThat(no).startsWith(prefix).matches(".*-\\d+$"));
+        // 같은 블록에서 이어서 발급
+        long first = suffix(bulk.get(0).getRequestNo());
+        assertThat(bulk).extracting(r -> suffix(r.getRequestNo()))
+                .containsExactlyElementsOf(IntStream.range(0, 30).mapToObj(i -> first + i).toList());
+
+        for (RequestCreateResponseDto created : all) {
+            assertThat(jdbcTemplate.queryForObject("SELECT request_no FROM request WHERE request_id = ?",
+                    String.class, created.getRequestId())).isEqualTo(created.getRequestNo());
+            assertThat(count("request_status_log", created.getRequestId())).isEqualTo(1);
+            assertThat(count("request_assignment_log", created.getRequestId())).isEqualTo(1);
+            assertThat(count("request_current_assignment", created.getRequestId())).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rejectsBulkWithUnknownReference() {
+        RequestCreateRequestDto unknown = RequestCreateRequestDto.builder()
+                .employeeId(seed.employeeId()).customerId(-1L)
+                .customerProductId(seed.customerProductId()).content("x").build();
+
+        assertThatThrownBy(() -> requestService.createRequests(seed.employeeId(), List.of(dto(seed, "a"), unknown)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째 요청");
+        // 전체가 롤백되어 첫 번째 요청도 남지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM request WHERE customer_id = ?",
+                Long.class, seed.customerId())).isZero();
+    }
+
+    private RequestCreateRequestDto dto(BulkSeed seed, String content) {
+        return RequestCreateRequestDto.builder()
+                .employeeId(seed.employeeId())
+                .customerId(seed.customerId())
+                .customerProductId(seed.customerProductId())
+                .content(content)
+                .build();
+    }
+
+    private long count(String table, Long requestId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE request_id = ?", Long.class, requestId);
+    }
+
+    private static long suffix(String requestNo) {
+        return Long.parseLong(requestNo.substring(requestNo.lastIndexOf('-') + 1));
+    }
+}
@@ -0,0 +1,174 @@
+package com.suriname.request;
+
+import com.suriname.category.entity.Category;
+import com.suriname.category.repository.CategoryRepository;
+import com.suriname.customer.entity.Customer;
+import com.suriname.customer.repository.CustomerRepository;
+import com.suriname.employee.entity.Employee;
+import com.suriname.employee.repository.EmployeeRepository;
+import com.suriname.product.entity.CustomerProduct;
+import com.suriname.product.entity.Product;
+import com.suriname.product.repository.CustomerProductRepository;
+import com.suriname.product.repository.ProductRepository;
+import com.suriname.request.config.RequestCurrentAssignmentBackfill;
+import com.suriname.request.dto.RequestCursorPageDto;
+import com.suriname.request.dto.RequestListResponseDto;
+import com.suriname.request.dto.RequestSearchCondition;
+import com.suriname.request.repository.RequestQueryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * offset 페이지네이션과 커서 페이지네이션의 페이지 깊이별 응답 시간 비교.
+ * 대량 데이터를 적재하므로 -Dbenchmark=true 일 때만 실행한다. (-Dbenchmark.rows 로 건수 조정)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RequestCursorPaginationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCursorPaginationBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGES = {1, 100, 1000};
+    private static final int RUNS = 5;
+
+    @Autowired
+    private RequestQueryRepository requestQueryRepository;
+
+    @Autowired
+    private RequestCurrentAssignmentBackfill requestCurrentAssignmentBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerProductRepository customerProductRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void offsetVsCursor() {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+        seed(rows);
+
+        RequestSearchCondition condition = new RequestSearchCondition();
+
+        for (int page : PAGES) {
+            // 커서 모드는 N 페이지 직전까지 커서를 따라간 뒤 N 페이지만 측정
+            String cursor = null;
+            for (int i = 1; i < page; i++) {
+                cursor = requestQueryRepository
+                        .searchRequestListByCursor(condition, cursor, PAGE_SIZE, null, "ADMIN")
+                        .getNextCursor();
+            }
+            final String cursorAtPage = cursor;
+
+            List<RequestListResponseDto> offsetRows = requestQueryRepository
+                    .searchRequestList(condition, PageRequest.of(page - 1, PAGE_SIZE), null, "ADMIN")
+                    .getContent();
+            RequestCursorPageDto cursorPage = requestQueryRepository
+                    .searchRequestListByCursor(condition, cursorAtPage, PAGE_SIZE, null, "ADMIN");
+
+            // 두 방식의 결과가 같아야 비교 의미가 있음
+            assertThat(cursorPage.getContent())
+                    .extracting(RequestListResponseDto::getRequestId)
+                    .containsExactlyElementsOf(offsetRows.stream().map(RequestListResponseDto::getRequestId).toList());
+
+            double offsetMs = medianMillis(() -> requestQueryRepository
+                    .searchRequestList(condition, PageRequest.of(page - 1, PAGE_SIZE), null, "ADMIN"));
+            double cursorMs = medianMillis(() -> requestQueryRepository
+                    .searchRequestListByCursor(condition, cursorAtPage, PAGE_SIZE, null, "ADMIN"));
+
+            log.info("[benchmark] rows={} page={} offset={}ms cursor={}ms",
+                    rows, page, String.format("%.2f", offsetMs), String.format("%.2f", cursorMs));
+        }
+    }
+
+    private double medianMillis(Supplier<?> query) {
+        query.get(); // warm-up
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    private void seed(int rows) {
+        Category category = categoryRepository.saveAndFlush(new Category(null, "벤치마크", true));
+        Product product = productRepository.saveAndFlush(Product.builder()
+                .category(category).productName("벤치마크 제품").productBrand("BENCH").modelCode("BM-001").build());
+        Customer customer = customerRepository.saveAndFlush(Customer.builder()
+                .name("벤치고객").email("bench@example.com").phone("010-0000-0000")
+                .address("서울시").birth(LocalDate.of(1990, 1, 1)).build());
+        CustomerProduct customerProduct = customerProductRepository.saveAndFlush(
+                new CustomerProduct(customer, product, "SN-BENCH"));
+        Employee employee = employeeRepository.saveAndFlush(Employee.builder()
+                .loginId("bench").password("bench").name("벤치기사").email("bench@suriname.com")
+                .address("서울시").phone("010-0000-0000").birth(LocalDate.of(1990, 1, 1))
+                .role(Employee.Role.ENGINEER).build());
+
+        LocalDateTime base = LocalDateTime.now().minusDays(rows / 1000 + 1);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{
+                    employee.getEmployeeId(), employee.getEmployeeId(), customer.getCustomerId(),
+                    customerProduct.getCustomerProductId(), "BENCH-" + i, "RECEIVED", "benchmark",
+                    Timestamp.valueOf(base.plusMinutes(i))
+            });
+            if (batch.size() == 1000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO request (receiver_id, employee_id, customer_id, customer_product_id,
+                                             request_no, status, content, created_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+
+        // 요청마다 배정 로그 1건 (상태를 골고루 분포시켜 정렬 우선순위가 섞이도록)
+        jdbcTemplate.update("""
+                INSERT INTO request_assignment_log (request_id, employee_id, assignment_type, status, assigned_at)
+                SELECT r.request_id, r.employee_id, 'MANUAL',
+                       CASE MOD(r.request_id, 5)
+                            WHEN 0 THEN 'PENDING' WHEN 1 THEN 'ACCEPTED' WHEN 2 THEN 'REJECTED'
+                            WHEN 3 THEN 'EXPIRED' ELSE 'CANCELLED' END,
+                       r.created_at
+                FROM request r
+                WHERE r.request_no LIKE 'BENCH-%'
+                """);
+        requestCurrentAssignmentBackfill.backfill();
+    }
+}
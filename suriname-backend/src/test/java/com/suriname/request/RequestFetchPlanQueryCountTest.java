@@ -0,0 +1,102 @@
+package com.suriname.request;
+
+import com.suriname.global.metrics.SqlStatementCounter;
+import com.suriname.request.dto.RequestDetailResponseDto;
+import com.suriname.request.dto.RequestDto;
+import com.suriname.request.dto.RequestSearchDto;
+import com.suriname.request.service.RequestService;
+import com.suriname.support.BulkSeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestFetchPlanQueryCountTest {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BulkSeed seed;
+
+    @BeforeEach
+    void setUp() {
+        seed = new BulkSeed(jdbcTemplate).base();
+        seed.requests("RECEIVED", 60, LocalDateTime.now().minusDays(1));
+        String prefix = seed.requestNoPrefix() + "%";
+
+        jdbcTemplate.update("INSERT INTO request_assignment_log (request_id, employee_id, assignment_type, status, assigned_at) " +
+                "SELECT request_id, employee_id, 'MANUAL', 'PENDING', created_at FROM request WHERE request_no LIKE ?", prefix);
+        jdbcTemplate.update("INSERT INTO request_current_assignment (request_id, assignment_log_id, employee_id, status, assigned_at) " +
+                "SELECT l.request_id, l.assignment_log_id, l.employee_id, l.status, l.assigned_at " +
+                "FROM request_assignment_log l JOIN request r ON r.request_id = l.request_id WHERE r.request_no LIKE ?", prefix);
+        jdbcTemplate.update("INSERT INTO image (request_id, file_name, file_url, created_at) " +
+                "SELECT request_id, 'a.jpg', '/images/a.jpg', created_at FROM request WHERE request_no = ?", seed.requestNoPrefix() + 0);
+        jdbcTemplate.update("INSERT INTO image (request_id, file_name, file_url, created_at) " +
+                "SELECT request_id, 'b.jpg', '/images/b.jpg', created_at FROM request WHERE request_no = ?", seed.requestNoPrefix() + 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seed.cleanup(
+                "DELETE FROM image WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)",
+                "DELETE FROM request_current_assignment WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)",
+                "DELETE FROM request_assignment_log WHERE request_id IN (SELECT request_id FROM request WHERE request_no LIKE ?)");
+    }
+
+    @Test
+    void searchStatementCountDoesNotGrowWithPageSize() {
+        AtomicReference<Page<RequestDto>> page = new AtomicReference<>();
+        long small = countStatements(() -> search(5));
+        long large = countStatements(() -> page.set(search(50)));
+
+        assertThat(page.get().getContent()).hasSize(50)
+                .allSatisfy(dto -> assertThat(dto.getAssignmentStatus()).isEqualTo("PENDING"));
+        // 목록 + 건수 + 최신 배정 상태
+        assertThat(large).isEqualTo(small).isEqualTo(3);
+    }
+
+    @Test
+    void detailLoadsInFixedStatements() {
+        Long requestId = jdbcTemplate.queryForObject("SELECT request_id FROM request WHERE request_no = ?",
+                Long.class, seed.requestNoPrefix() + 0);
+        AtomicReference<RequestDetailResponseDto> detail = new AtomicReference<>();
+
+        long statements = countStatements(() -> detail.set(requestService.getRequestDetail(requestId, seed.employeeId(), "ADMIN")));
+
+        assertThat(detail.get().getRequestImages()).containsExactlyInAnyOrder("/images/a.jpg", "/images/b.jpg");
+        assertThat(detail.get().getCategoryName()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT c.name FROM category c JOIN product p ON p.category_id = c.category_id " +
+                "JOIN customer_product cp ON cp.product_id = p.product_id WHERE cp.customer_product_id = ?",
+                String.class, seed.customerProductId()));
+        // 요청(연관 + 이미지) + 최신 배정 이력
+        assertThat(statements).isEqualTo(2);
+    }
+
+    private Page<RequestDto> search(int size) {
+        RequestSearchDto dto = new RequestSearchDto();
+        dto.setRequestNo(seed.requestNoPrefix());
+        return requestService.searchProducts(dto, PageRequest.of(0, size));
+    }
+
+    // 이 스레드의 SQL 만 센다 (스케줄러 등 다른 스레드의 쿼리는 제외)
+    private long countStatements(Runnable action) {
+        SqlStatementCounter.start();
+        action.run();
+        return SqlStatementCounter.stop();
+    }
+}
@@ -0,0 +1,119 @@
+package com.suriname.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 데이터 테스트용 JDBC 시드 (JPA 영속성 컨텍스트를 거치지 않음)
+ * 테스트 트랜잭션 밖에서 커밋되므로 사용 후 cleanup() 으로 정리한다.
+ */
+public class BulkSeed {
+
+    private static final int BATCH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tag = UUID.randomUUID().toString().substring(0, 8);
+
+    private Long categoryId;
+    private Long productId;
+    private Long customerId;
+    private Long customerProductId;
+    private Long employeeId;
+
+    public BulkSeed(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 카테고리 / 제품 / 고객 / 고객제품 / 직원 1건씩
+    public BulkSeed base() {
+        LocalDateTime now = LocalDateTime.now();
+        categoryId = insert("category", "category_id", Map.of("name", "seed-" + tag, "is_visible", true));
+        productId = insert("product", "product_id", Map.of(
+                "category_id", categoryId, "product_name", "시드 제품", "product_brand", "SEED",
+                "model_code", "SEED-" + tag, "created_at", now, "updated_at", now,
+                "is_visible", true, "is_deleted", false));
+        customerId = insert("customer", "customer_id", Map.of(
+                "name", "시드고객", "email", "seed@example.com", "phone", "010-0000-0000",
+                "address", "서울시", "birth", LocalDate.of(1990, 1, 1), "created_at", now, "updated_at", now,
+                "status", "ACTIVE", "is_deleted", false));
+        customerProductId = insert("customer_product", "customer_product_id", Map.of(
+                "customer_id", customerId, "product_id", productId, "serial_number", "SN-" + tag,
+                "created_at", now, "updated_at", now));
+        employeeId = insert("employee", "employee_id", Map.ofEntries(
+                Map.entry("login_id", "seed-" + tag), Map.entry("password", "seed"), Map.entry("name", "시드기사"),
+                Map.entry("email", "seed@suriname.com"), Map.entry("address", "서울시"),
+                Map.entry("phone", "010-0000-0000"), Map.entry("birth", LocalDate.of(1990, 1, 1)),
+                Map.entry("created_at", now), Map.entry("updated_at", now),
+                Map.entry("status", "ACTIVE"), Map.entry("role", "ENGINEER")));
+        return this;
+    }
+
+    // 요청 count 건 (request_no = requestNoPrefix + 순번, created_at 은 1분 간격)
+    public void requests(String status, int count, LocalDateTime firstCreatedAt) {
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{
+                    employeeId, employeeId, customerId, customerProductId,
+                    requestNoPrefix() + i, status, "seed", Timestamp.valueOf(firstCreatedAt.plusMinutes(i))
+            });
+            if (batch.size() == BATCH || i == count - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO request (receiver_id, employee_id, customer_id, customer_product_id,
+                                             request_no, status, content, created_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    public String requestNoPrefix() {
+        return "SEED-" + tag + "-";
+    }
+
+    public Long employeeId() {
+        return employeeId;
+    }
+
+    public Long customerId() {
+        return customerId;
+    }
+
+    public Long customerProductId() {
+        return customerProductId;
+    }
+
+    // 시드한 요청을 참조하는 행(deleteDependentsSql, 문자 발송 대기/이력)부터 지운 뒤 기본 데이터까지 정리
+    public void cleanup(String... deleteDependentsSql) {
+        for (String sql : deleteDependentsSql) {
+            jdbcTemplate.update(sql, requestNoPrefix() + "%");
+        }
+        // 상태 변경 알림으로 생긴 문자 발송 대기/이력
+        jdbcTemplate.update("DELETE FROM sms_outbox WHERE request_id IN "
+                + "(SELECT request_id FROM request WHERE request_no LIKE ?)", requestNoPrefix() + "%");
+        jdbcTemplate.update("DELETE FROM notification WHERE requests_id IN "
+                + "(SELECT request_id FROM request WHERE request_no LIKE ?)", requestNoPrefix() + "%");
+        jdbcTemplate.update("DELETE FROM request WHERE request_no LIKE ?", requestNoPrefix() + "%");
+        jdbcTemplate.update("DELETE FROM customer_product WHERE customer_product_id = ?", customerProductId);
+        jdbcTemplate.update("DELETE FROM customer WHERE customer_id = ?", customerId);
+        jdbcTemplate.update("DELETE FROM product WHERE product_id = ?", productId);
+        jdbcTemplate.update("DELETE FROM category WHERE category_id = ?", categoryId);
+        jdbcTemplate.update("DELETE FROM employee WHERE employee_id = ?", employeeId);
+    }
+
+    private Long insert(String table, String keyColumn, Map<String, Object> values) {
+        return new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName(table)
+                .usingGeneratedKeyColumns(keyColumn)
+                .executeAndReturnKey(values)
+                .longValue();
+    }
+}
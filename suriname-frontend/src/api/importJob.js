@@ -0,0 +1,36 @@
+import api from "./api";
+
+const POLL_INTERVAL_MS = 1000;
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// 엑셀 일괄 등록을 비동기 작업으로 올리고 끝날 때까지 진행 상황을 조회
+// 결과는 기존 동기 업로드 응답과 같은 형태({ data: { data: { totalCount, ... } } })로 돌려줌
+export const runImportJob = async (url, formData, onProgress) => {
+  const submitted = await api.post(url, formData);
+  const jobId = submitted?.data?.data?.jobId;
+
+  while (true) {
+    await sleep(POLL_INTERVAL_MS);
+    const resp = await api.get(`/api/import-jobs/${jobId}`);
+    const job = resp?.data?.data ?? {};
+
+    if (job.status === "COMPLETED") {
+      return {
+        data: {
+          status: 200,
+          data: {
+            totalCount: job.processedCount,
+            successCount: job.successCount,
+            failureCount: job.failureCount,
+            failures: job.failures ?? [],
+          },
+        },
+      };
+    }
+    if (job.status === "FAILED") {
+      throw new Error(job.errorMessage || "가져오기 작업이 실패했습니다.");
+    }
+    if (onProgress) onProgress(job);
+  }
+};
@@ -0,0 +1,109 @@
+import api from "./api";
+
+// 실시간 배송/요청 상태 스트림 (SSE)
+// EventSource 는 Authorization 헤더를 보낼 수 없으므로 fetch 로 스트림을 읽어 이벤트를 나눈다.
+const STREAM_URL = "/api/delivery/analytics/realtime/stream";
+const RETRY_MIN_MS = 1000;
+const RETRY_MAX_MS = 30000;
+
+const DELIVERY_COUNT_KEYS = {
+  PENDING: "pendingCount",
+  SHIPPED: "shippedCount",
+  DELIVERED: "deliveredCount",
+};
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// "event:delta\ndata:[...]" 한 블록 -> { event, data } (ping 같은 주석만 있으면 null)
+const parseEvent = (block) => {
+  let event = "message";
+  const data = [];
+  for (const line of block.split("\n")) {
+    if (!line || line.startsWith(":")) continue;
+    const idx = line.indexOf(":");
+    const field = idx === -1 ? line : line.slice(0, idx);
+    let value = idx === -1 ? "" : line.slice(idx + 1);
+    if (value.startsWith(" ")) value = value.slice(1);
+    if (field === "event") event = value;
+    else if (field === "data") data.push(value);
+  }
+  return data.length ? { event, data: data.join("\n") } : null;
+};
+
+// 스냅샷에 상태 변경 목록을 반영 (previous 가 없으면 새로 생긴 건)
+export const applyDeltas = (snapshot, deltas) => {
+  const next = {
+    ...snapshot,
+    requestStatusCounts: { ...(snapshot.requestStatusCounts ?? {}) },
+  };
+  for (const delta of deltas) {
+    if (delta.type === "DELIVERY") {
+      const from = DELIVERY_COUNT_KEYS[delta.previous];
+      const to = DELIVERY_COUNT_KEYS[delta.status];
+      if (from) next[from] = (next[from] ?? 0) - 1;
+      if (to) next[to] = (next[to] ?? 0) + 1;
+      if (!delta.previous) next.recentDeliveries = (next.recentDeliveries ?? 0) + 1;
+    } else if (delta.type === "REQUEST") {
+      const counts = next.requestStatusCounts;
+      if (delta.previous) counts[delta.previous] = (counts[delta.previous] ?? 0) - 1;
+      counts[delta.status] = (counts[delta.status] ?? 0) + 1;
+    }
+  }
+  return next;
+};
+
+// 구독 시작. 연결이 끊기면 점점 길게 기다렸다가 다시 구독하고, 다시 받은 스냅샷으로 맞춘다.
+// 반환한 함수를 호출하면 구독 종료
+export const subscribeRealtime = ({ onSnapshot, onDelta, onError }) => {
+  const controller = new AbortController();
+
+  const run = async () => {
+    let retryMs = RETRY_MIN_MS;
+    while (!controller.signal.aborted) {
+      try {
+        const token = localStorage.getItem("accessToken");
+        const resp = await fetch(`${api.defaults.baseURL}${STREAM_URL}`, {
+          headers: {
+            Accept: "text/event-stream",
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          credentials: "include",
+          signal: controller.signal,
+        });
+        // 인증 문제는 다시 시도해도 같으므로 중단
+        if (resp.status === 401 || resp.status === 403) {
+          onError?.(new Error(`실시간 구독 인증 실패 (${resp.status})`));
+          return;
+        }
+        if (!resp.ok || !resp.body) {
+          throw new Error(`실시간 구독 실패 (${resp.status})`);
+        }
+
+        retryMs = RETRY_MIN_MS;
+        const reader = resp.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = "";
+        while (true) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          let end;
+          while ((end = buffer.indexOf("\n\n")) !== -1) {
+            const parsed = parseEvent(buffer.slice(0, end));
+            buffer = buffer.slice(end + 2);
+            if (!parsed) continue;
+            if (parsed.event === "snapshot") onSnapshot?.(JSON.parse(parsed.data));
+            else if (parsed.event === "delta") onDelta?.(JSON.parse(parsed.data));
+          }
+        }
+      } catch (e) {
+        if (controller.signal.aborted) return;
+        onError?.(e);
+      }
+      await sleep(retryMs);
+      retryMs = Math.min(retryMs * 2, RETRY_MAX_MS);
+    }
+  };
+
+  run();
+  return () => controller.abort();
+};
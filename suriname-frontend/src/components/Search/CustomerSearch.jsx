@@ -168,7 +168,7 @@ const CustomerSearch = ({
     ];
 
     const excelData = data.map((item) => [
-      item.objectID || "", // objectID를 고객 ID로 사용
+      item.customerId || "", // objectID 는 고객-제품 단위이므로 customerId 사용
       item.customerName || "",
       item.birth || "",
       item.phone || "",
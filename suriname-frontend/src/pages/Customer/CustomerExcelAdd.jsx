@@ -3,6 +3,7 @@ import { useNavigate } from "react-router-dom";
 import ExcelUploadBox from "../../components/ExcelUploadBox";
 import styles from "../../css/Customer/CustomerExcelAdd.module.css";
 import api from "../../api/api";
+import { runImportJob } from "../../api/importJob";
 
 const CustomerExcelAdd = () => {
   const [selectedTab, setSelectedTab] = useState("excel");
@@ -48,7 +49,7 @@ const CustomerExcelAdd = () => {
     const formData = new FormData();
     formData.append("file", uploadedFiles[0]);
 
-    const resp = await api.post("/api/customers/register/excel", formData);
+    const resp = await runImportJob("/api/customers/register/excel/jobs", formData);
     const body = resp?.data?.data ?? resp?.data ?? {};
     const { totalCount, successCount, failureCount, failures = [] } = body;
 
@@ -4,11 +4,15 @@ import { BarChart, Bar, XAxis, YAxis, CartesianGrid, Tooltip, Legend, Responsive
 import { TrendingUp, Package, Truck, CheckCircle, Clock, AlertCircle } from 'lucide-react';
 import styles from '../../css/Delivery/DeliveryAnalytics.module.css';
 import axios from "axios";
+import { subscribeRealtime, applyDeltas } from "../../api/realtimeStream";
+import { REQUEST_LABEL } from "../../components/Request/StatusMeta";
 
 const DeliveryAnalytics = () => {
     const [dashboardData, setDashboardData] = useState(null);
     const [loading, setLoading] = useState(true);
     const [selectedTimeframe, setSelectedTimeframe] = useState('30days');
+    // 실시간 현황 (스트림 스냅샷 + 이후 상태 변경)
+    const [realtime, setRealtime] = useState(null);
 
 
     useEffect(() => {
@@ -41,6 +45,13 @@ const DeliveryAnalytics = () => {
         fetchDashboardData();
     }, [selectedTimeframe]);
 
+    // 실시간 현황은 폴링 대신 스트림으로 받음 (화면을 벗어나면 구독 종료)
+    useEffect(() => subscribeRealtime({
+        onSnapshot: setRealtime,
+        onDelta: (deltas) => setRealtime((prev) => (prev ? applyDeltas(prev, deltas) : prev)),
+        onError: (error) => console.warn('실시간 현황 구독 오류:', error),
+    }), []);
+
     if (loading) {
         return (
             <div className={styles.loadingContainer}>
@@ -103,6 +114,9 @@ const DeliveryAnalytics = () => {
 
     const COLORS = ['#10B981', '#3B82F6', '#F59E0B', '#EF4444', '#8B5CF6'];
 
+    // 스트림 연결 전에는 대시보드 집계로 표시
+    const live = realtime ?? dashboardData;
+
     return (
         <div className={styles.container}>
             <div className={styles.header}>
@@ -291,21 +305,31 @@ const DeliveryAnalytics = () => {
                 <div className={styles.realtimeStats}>
                     <div className={styles.realtimeItem}>
                         <TrendingUp size={16} />
-                        <span>오늘 신규 배송: {dashboardData.recentDeliveries}건</span>
+                        <span>오늘 신규 배송: {live.recentDeliveries}건</span>
                     </div>
                     <div className={styles.realtimeItem}>
                         <Package size={16} />
-                        <span>처리 대기: {dashboardData.pendingCount}건</span>
+                        <span>처리 대기: {live.pendingCount}건</span>
                     </div>
                     <div className={styles.realtimeItem}>
                         <Truck size={16} />
-                        <span>배송중: {dashboardData.shippedCount}건</span>
+                        <span>배송중: {live.shippedCount}건</span>
                     </div>
                     <div className={styles.realtimeItem}>
                         <CheckCircle size={16} />
-                        <span>완료: {dashboardData.deliveredCount}건</span>
+                        <span>완료: {live.deliveredCount}건</span>
                     </div>
                 </div>
+                {realtime?.requestStatusCounts && (
+                    <div className={styles.realtimeStats}>
+                        {Object.entries(REQUEST_LABEL).map(([status, label]) => (
+                            <div key={status} className={styles.realtimeItem}>
+                                <Clock size={16} />
+                                <span>수리 {label}: {realtime.requestStatusCounts[status] ?? 0}건</span>
+                            </div>
+                        ))}
+                    </div>
+                )}
             </div>
         </div>
     );
@@ -3,6 +3,7 @@ import { useNavigate } from "react-router-dom";
 import ExcelUploadBox from "../../components/ExcelUploadBox";
 import styles from "../../css/Customer/CustomerExcelAdd.module.css";
 import api from "../../api/api";
+import { runImportJob } from "../../api/importJob";
 
 const ProductExcelAdd = () => {
   const [selectedTab, setSelectedTab] = useState("excel");
@@ -51,7 +52,7 @@ const ProductExcelAdd = () => {
     formData.append("file", uploadedFiles[0]);
 
     try {
-      const resp = await api.post("/api/products/register/excel", formData);
+      const resp = await runImportJob("/api/products/register/excel/jobs", formData);
       const payload = resp?.data;
       const data = payload?.data;
 
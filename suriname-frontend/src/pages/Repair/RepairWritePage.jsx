@@ -629,7 +629,7 @@ const RepairWritePage = () => {
                           src={
                             image.url ||
                             (image.imageId
-                              ? `/api/images/view/${image.imageId}`
+                              ? `/api/images/view/${image.imageId}?size=128`
                               : "")
                           }
                           alt={image.fileName || image.name}
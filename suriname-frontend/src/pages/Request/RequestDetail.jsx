@@ -356,7 +356,7 @@ export default function RequestDetail() {
                 <div className={styles.imagesGrid}>
                   {detail.requestImages.map((src, i) => (
                     <a key={i} href={src} target="_blank" rel="noreferrer" className={styles.imageLink}>
-                      <img src={src} alt={`req-img-${i}`} className={styles.imageThumb} />
+                      <img src={`${src}?size=512`} alt={`req-img-${i}`} className={styles.imageThumb} />
                     </a>
                   ))}
                 </div>